@@ -560,6 +560,8 @@ public interface RaftServer {
 
     private static final Duration DEFAULT_ELECTION_TIMEOUT = Duration.ofMillis(750);
     private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
+    private static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
+    private static final int DEFAULT_MAX_APPEND_BATCH_SIZE = 32 * 1024;
     private static final ThreadModel DEFAULT_THREAD_MODEL = ThreadModel.SHARED_THREAD_POOL;
     private static final int DEFAULT_THREAD_POOL_SIZE =
         Math.max(Math.min(Runtime.getRuntime().availableProcessors() * 2, 8), 4);
@@ -571,6 +573,8 @@ public interface RaftServer {
     protected RaftStorage storage;
     protected Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
     protected Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+    protected int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+    protected int maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
     protected ThreadModel threadModel = DEFAULT_THREAD_MODEL;
     protected int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
     protected ThreadContextFactory threadContextFactory;
@@ -679,6 +683,32 @@ public interface RaftServer {
       return this;
     }
 
+    /**
+     * Sets the max count of append requests which are in flight to a follower at the same time.
+     *
+     * @param maxAppendsPerFollower The max count of in flight append requests per follower.
+     * @return The server builder.
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public Builder withMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+      checkArgument(maxAppendsPerFollower > 0, "maxAppendsPerFollower must be positive");
+      this.maxAppendsPerFollower = maxAppendsPerFollower;
+      return this;
+    }
+
+    /**
+     * Sets the max size in bytes of the entries which are sent to a follower in one append request.
+     *
+     * @param maxAppendBatchSize The max size of an append batch.
+     * @return The server builder.
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public Builder withMaxAppendBatchSize(final int maxAppendBatchSize) {
+      checkArgument(maxAppendBatchSize > 0, "maxAppendBatchSize must be positive");
+      this.maxAppendBatchSize = maxAppendBatchSize;
+      return this;
+    }
+
     /**
      * Sets the server thread pool size.
      *
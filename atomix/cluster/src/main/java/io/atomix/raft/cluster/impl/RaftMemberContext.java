@@ -24,14 +24,20 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.storage.journal.JournalReader.Mode;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
 /** Cluster member state. */
 public final class RaftMemberContext {
 
-  private static final int MAX_APPENDS = 2;
+  /** The size of the first append batch, the batches are never shrunk below this size. */
+  static final int MIN_APPEND_BATCH_SIZE = 32 * 1024;
+
   private static final int APPEND_WINDOW_SIZE = 8;
+  // an append is slow if it takes longer than this factor times the mean of the recent appends
+  private static final int SLOW_APPEND_FACTOR = 2;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private long term;
@@ -39,12 +45,14 @@ public final class RaftMemberContext {
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private Map<ByteBuffer, Long> reusableSnapshotChunks = Collections.emptyMap();
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
   private int appending;
   private boolean appendSucceeded;
   private long appendTime;
+  private int appendBatchSize = MIN_APPEND_BATCH_SIZE;
   private boolean configuring;
   private boolean installing;
   private int failures;
@@ -60,6 +68,7 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    reusableSnapshotChunks = Collections.emptyMap();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
@@ -68,6 +77,7 @@ public final class RaftMemberContext {
     configuring = false;
     installing = false;
     appendSucceeded = false;
+    appendBatchSize = MIN_APPEND_BATCH_SIZE;
     failures = 0;
     failureTime = 0;
 
@@ -89,13 +99,58 @@ public final class RaftMemberContext {
   /**
    * Returns a boolean indicating whether an append request can be sent to the member.
    *
+   * @param maxAppends The max count of append requests which are in flight at the same time.
    * @return Indicates whether an append request can be sent to the member.
    */
-  public boolean canAppend() {
+  public boolean canAppend(final int maxAppends) {
     return appending == 0
         || (appendSucceeded
-            && appending < MAX_APPENDS
-            && System.currentTimeMillis() - (timeStats.getMean() / MAX_APPENDS) >= appendTime);
+            && appending < maxAppends
+            && System.currentTimeMillis() - (timeStats.getMean() / maxAppends) >= appendTime);
+  }
+
+  /**
+   * Returns the count of append requests which are in flight to the member.
+   *
+   * @return The count of in flight append requests.
+   */
+  public int getAppending() {
+    return appending;
+  }
+
+  /**
+   * Returns the size of the next batch of entries which is sent to the member.
+   *
+   * @param maxBatchSize The max size of an append batch.
+   * @return The size of the next append batch.
+   */
+  public int getAppendBatchSize(final int maxBatchSize) {
+    return Math.min(appendBatchSize, maxBatchSize);
+  }
+
+  /**
+   * Adapts the size of the append batches after a batch of entries was appended by the member. The
+   * size is halved if the append was slow compared to the recent appends, and it is doubled up to
+   * the given max size if the member still lags behind the leader. It must be called before the
+   * append is completed, so that the latency is not part of the recent appends yet.
+   *
+   * @param latency The time in milliseconds for the append.
+   * @param lagging Whether the member still lags behind the leader.
+   * @param maxBatchSize The max size of an append batch.
+   */
+  public void adaptAppendBatchSize(
+      final long latency, final boolean lagging, final int maxBatchSize) {
+    if (timeStats.getN() > 0 && latency > SLOW_APPEND_FACTOR * timeStats.getMean()) {
+      appendBatchSize = Math.max(MIN_APPEND_BATCH_SIZE, appendBatchSize / 2);
+    } else if (lagging) {
+      final long doubledBatchSize = Math.min(maxBatchSize, 2L * appendBatchSize);
+      appendBatchSize = (int) Math.max(MIN_APPEND_BATCH_SIZE, doubledBatchSize);
+    }
+  }
+
+  /** Resets the size of the append batches after an append to the member failed. */
+  public void resetAppendBatchSize() {
+    appendBatchSize = MIN_APPEND_BATCH_SIZE;
   }
 
   /**
@@ -370,6 +425,26 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns the snapshot chunks which the member advertised as reusable, mapped by their ID to
+   * their checksum.
+   *
+   * @return The member's reusable snapshot chunks.
+   */
+  public Map<ByteBuffer, Long> getReusableSnapshotChunks() {
+    return reusableSnapshotChunks;
+  }
+
+  /**
+   * Sets the snapshot chunks which the member advertised as reusable.
+   *
+   * @param reusableSnapshotChunks The member's reusable snapshot chunks; may be null
+   */
+  public void setReusableSnapshotChunks(final Map<ByteBuffer, Long> reusableSnapshotChunks) {
+    this.reusableSnapshotChunks =
+        reusableSnapshotChunks != null ? reusableSnapshotChunks : Collections.emptyMap();
+  }
+
   /**
    * Returns the member response time.
    *
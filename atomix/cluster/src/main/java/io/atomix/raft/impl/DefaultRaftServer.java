@@ -318,6 +318,8 @@ public class DefaultRaftServer implements RaftServer {
               stateMachineFactory);
       raft.setElectionTimeout(electionTimeout);
       raft.setHeartbeatInterval(heartbeatInterval);
+      raft.setMaxAppendsPerFollower(maxAppendsPerFollower);
+      raft.setMaxAppendBatchSize(maxAppendBatchSize);
 
       return new DefaultRaftServer(raft);
     }
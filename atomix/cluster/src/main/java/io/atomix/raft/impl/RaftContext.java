@@ -67,6 +67,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 
@@ -91,11 +92,13 @@ public class RaftContext implements AutoCloseable {
   private final Set<Consumer<RaftMember>> electionListeners = new CopyOnWriteArraySet<>();
   private final Set<RaftCommitListener> commitListeners = new CopyOnWriteArraySet<>();
   private final Set<Runnable> failureListeners = new CopyOnWriteArraySet<>();
+  private final Set<LongConsumer> flushListeners = new CopyOnWriteArraySet<>();
   private final RaftRoleMetrics raftRoleMetrics;
   private final MetaStore meta;
   private final RaftLog raftLog;
   private final RaftLogWriter logWriter;
   private final RaftLogReader logReader;
+  private final RaftLogFlusher logFlusher;
   private final SnapshotStore snapshotStore;
   private final RaftStateMachine stateMachine;
   private final ThreadContextFactory threadContextFactory;
@@ -106,6 +109,8 @@ public class RaftContext implements AutoCloseable {
   private RaftRole role = new InactiveRole(this);
   private Duration electionTimeout = Duration.ofMillis(500);
   private Duration heartbeatInterval = Duration.ofMillis(150);
+  private int maxAppendsPerFollower = 2;
+  private int maxAppendBatchSize = 32 * 1024;
   private volatile MemberId leader;
   private volatile long term;
   private MemberId lastVotedFor;
@@ -160,6 +165,15 @@ public class RaftContext implements AutoCloseable {
     this.raftLog = storage.openLog();
     this.logWriter = raftLog.writer();
     this.logReader = raftLog.openReader(1, RaftLogReader.Mode.ALL);
+    this.logFlusher =
+        new RaftLogFlusher(
+            name,
+            logWriter,
+            threadContext,
+            storage.isFlushOnCommit(),
+            storage.groupCommitWindow(),
+            storage.groupCommitMaxBytes(),
+            index -> flushListeners.forEach(listener -> listener.accept(index)));
 
     // Open the snapshot store.
     this.snapshotStore = storage.getSnapshotStore();
@@ -351,7 +365,9 @@ public class RaftContext implements AutoCloseable {
     final long previousCommitIndex = this.commitIndex;
     if (commitIndex > previousCommitIndex) {
       this.commitIndex = commitIndex;
-      logWriter.commit(Math.min(commitIndex, logWriter.getLastIndex()));
+      final long lastCommittedEntry = Math.min(commitIndex, logWriter.getLastIndex());
+      logWriter.commit(lastCommittedEntry);
+      logFlusher.commit(lastCommittedEntry);
       final long configurationIndex = cluster.getConfiguration().index();
       if (configurationIndex > previousCommitIndex && configurationIndex <= commitIndex) {
         cluster.commit();
@@ -361,6 +377,39 @@ public class RaftContext implements AutoCloseable {
     return previousCommitIndex;
   }
 
+  /**
+   * Returns the index up to which the committed entries are flushed to disk. With group commit,
+   * this may lag behind the commit index until the group commit is flushed.
+   *
+   * @return the index up to which the committed entries are flushed
+   */
+  public long getFlushedIndex() {
+    return logFlusher.getFlushedIndex();
+  }
+
+  /** Flushes the committed entries of a pending group commit immediately. */
+  public void flushCommits() {
+    logFlusher.flush();
+  }
+
+  /**
+   * Adds a listener which is called with the flushed index whenever committed entries are flushed.
+   *
+   * @param listener the listener to add
+   */
+  public void addFlushListener(final LongConsumer listener) {
+    flushListeners.add(listener);
+  }
+
+  /**
+   * Removes a flush listener.
+   *
+   * @param listener the listener to remove
+   */
+  public void removeFlushListener(final LongConsumer listener) {
+    flushListeners.remove(listener);
+  }
+
   /**
    * Sets the last applied index.
    *
@@ -601,6 +650,7 @@ public class RaftContext implements AutoCloseable {
 
     // Close the log.
     try {
+      logFlusher.close();
       raftLog.close();
     } catch (final Exception e) {
       log.error("Failed to close raft log", e);
@@ -728,6 +778,43 @@ public class RaftContext implements AutoCloseable {
     this.heartbeatInterval = checkNotNull(heartbeatInterval, "heartbeatInterval cannot be null");
   }
 
+  /**
+   * Returns the max count of append requests which are in flight to a follower at the same time.
+   *
+   * @return The max count of in flight append requests per follower.
+   */
+  public int getMaxAppendsPerFollower() {
+    return maxAppendsPerFollower;
+  }
+
+  /**
+   * Sets the max count of append requests which are in flight to a follower at the same time.
+   *
+   * @param maxAppendsPerFollower The max count of in flight append requests per follower.
+   */
+  public void setMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+    this.maxAppendsPerFollower = maxAppendsPerFollower;
+  }
+
+  /**
+   * Returns the max size in bytes of the entries which are sent to a follower in one append
+   * request.
+   *
+   * @return The max size of an append batch.
+   */
+  public int getMaxAppendBatchSize() {
+    return maxAppendBatchSize;
+  }
+
+  /**
+   * Sets the max size in bytes of the entries which are sent to a follower in one append request.
+   *
+   * @param maxAppendBatchSize The max size of an append batch.
+   */
+  public void setMaxAppendBatchSize(final int maxAppendBatchSize) {
+    this.maxAppendBatchSize = maxAppendBatchSize;
+  }
+
   /**
    * Returns the last applied index.
    *
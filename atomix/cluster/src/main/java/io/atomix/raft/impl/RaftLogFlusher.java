@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.impl;
+
+import io.atomix.raft.metrics.LogFlushMetrics;
+import io.atomix.raft.storage.log.RaftLogWriter;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks up to which index the committed entries of the Raft log are flushed, i.e. may be
+ * acknowledged.
+ *
+ * <p>Without group commit, the log flushes itself on every commit and committed entries are flushed
+ * immediately. With group commit, the commits within the group commit window are coalesced: the log
+ * is flushed once the window elapsed, or earlier if the unflushed entries exceed the max bytes, and
+ * all commits of the group are acknowledged together afterwards.
+ *
+ * <p>Must only be accessed from the Raft thread context.
+ */
+final class RaftLogFlusher implements AutoCloseable {
+
+  private final RaftLogWriter writer;
+  private final ThreadContext threadContext;
+  private final boolean flushOnCommit;
+  private final boolean groupCommit;
+  private final Duration groupCommitWindow;
+  private final long groupCommitMaxBytes;
+  private final LongConsumer flushListener;
+  private final LogFlushMetrics metrics;
+
+  private long flushedIndex;
+  private long pendingIndex;
+  private long pendingSince;
+  private Scheduled scheduledFlush;
+
+  RaftLogFlusher(
+      final String name,
+      final RaftLogWriter writer,
+      final ThreadContext threadContext,
+      final boolean flushOnCommit,
+      final Duration groupCommitWindow,
+      final long groupCommitMaxBytes,
+      final LongConsumer flushListener) {
+    this.writer = writer;
+    this.threadContext = threadContext;
+    this.flushOnCommit = flushOnCommit;
+    this.groupCommit = flushOnCommit && !groupCommitWindow.isZero();
+    this.groupCommitWindow = groupCommitWindow;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    this.flushListener = flushListener;
+    this.metrics = new LogFlushMetrics(name);
+  }
+
+  /**
+   * Notifies the flusher that the entries up to the given index are committed.
+   *
+   * @param commitIndex the new commit index
+   */
+  void commit(final long commitIndex) {
+    if (commitIndex <= pendingIndex) {
+      return;
+    }
+
+    if (!groupCommit) {
+      // the log was already flushed by the writer on commit, if at all
+      if (flushOnCommit) {
+        metrics.countFlush();
+      }
+      pendingIndex = commitIndex;
+      onFlushed();
+      return;
+    }
+
+    if (pendingIndex == flushedIndex) {
+      pendingSince = System.nanoTime();
+    }
+    pendingIndex = commitIndex;
+
+    if (writer.getUnflushedBytes() >= groupCommitMaxBytes) {
+      flush();
+    } else if (scheduledFlush == null) {
+      scheduledFlush = threadContext.schedule(groupCommitWindow, this::flush);
+    }
+  }
+
+  /** Flushes the log if there are committed entries which are not flushed yet. */
+  void flush() {
+    cancelScheduledFlush();
+
+    if (pendingIndex > flushedIndex) {
+      writer.flush();
+      metrics.countFlush();
+      metrics.observeGroupCommit(pendingIndex - flushedIndex, System.nanoTime() - pendingSince);
+      onFlushed();
+    }
+  }
+
+  /**
+   * Returns the index up to which the committed entries are flushed.
+   *
+   * @return the flushed index
+   */
+  long getFlushedIndex() {
+    return flushedIndex;
+  }
+
+  @Override
+  public void close() {
+    // the log is flushed when it is closed
+    cancelScheduledFlush();
+  }
+
+  private void onFlushed() {
+    flushedIndex = pendingIndex;
+    flushListener.accept(flushedIndex);
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+  }
+}
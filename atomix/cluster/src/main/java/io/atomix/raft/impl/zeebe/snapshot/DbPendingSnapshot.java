@@ -9,24 +9,34 @@ package io.atomix.raft.impl.zeebe.snapshot;
 
 import io.atomix.raft.storage.snapshot.PendingSnapshot;
 import io.atomix.utils.time.WallClockTimestamp;
+import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.ZbLogger;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
-import org.agrona.concurrent.UnsafeBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import org.slf4j.Logger;
 
 /**
  * Represents a pending snapshot, that is a snapshot in the process of being written and has not yet
  * been committed to the store.
+ *
+ * <p>Chunks are ranges of the files of the snapshot, and are received in order; each chunk is
+ * appended to its partially written file, such that an interrupted installation can resume after
+ * the last written chunk.
  */
 public final class DbPendingSnapshot implements PendingSnapshot {
   private static final Logger LOGGER = new ZbLogger(DbPendingSnapshot.class);
+  private static final String UNLINKED_FILE_SUFFIX = ".unlinked";
 
   private final long index;
   private final long term;
@@ -34,8 +44,16 @@ public final class DbPendingSnapshot implements PendingSnapshot {
 
   private final Path directory;
   private final DbSnapshotStore snapshotStore;
+  // the checksums of the written chunks by ID, which are handed over to the committed snapshot
+  private final Map<String, Long> checksums = new HashMap<>();
 
   private ByteBuffer expectedId;
+  private DbSnapshotChunkId lastChunkId;
+
+  // the file which is currently written; if it's linked, it's shared with the previous snapshot
+  private String currentFileName;
+  private boolean currentFileLinked;
+  private long currentFileLength;
 
   /**
    * @param index the snapshot's index
@@ -74,7 +92,8 @@ public final class DbPendingSnapshot implements PendingSnapshot {
 
   @Override
   public boolean containsChunk(final ByteBuffer chunkId) {
-    return Files.exists(directory.resolve(getFile(chunkId)));
+    // chunks are written in order, so every chunk up to the last written one is complete
+    return lastChunkId != null && DbSnapshotChunkId.decode(chunkId).compareTo(lastChunkId) <= 0;
   }
 
   @Override
@@ -87,40 +106,79 @@ public final class DbPendingSnapshot implements PendingSnapshot {
   }
 
   @Override
-  public void write(final ByteBuffer chunkId, final ByteBuffer chunkData) {
-    final var filename = getFile(chunkId);
-    final var path = directory.resolve(filename);
+  public boolean write(final ByteBuffer chunkId, final ByteBuffer chunkData, final long checksum) {
+    final var id = DbSnapshotChunkId.decode(chunkId);
+    final var path = directory.resolve(id.getFileName());
+    final var length = chunkData.remaining();
+    final var actualChecksum = ChecksumUtil.createChecksum(chunkData);
+    if (actualChecksum != checksum) {
+      LOGGER.warn(
+          "Expected chunk {} of snapshot {} to have checksum {}, but it has checksum {}",
+          id,
+          this,
+          checksum,
+          actualChecksum);
+      return false;
+    }
+
+    ensureDirectoryExists();
 
     try {
-      FileUtil.ensureDirectoryExists(directory);
+      switchToFile(id.getFileName());
+      if (currentFileLinked) {
+        // the file diverges from the one of the previous snapshot, which must not be modified
+        unlink(path, id.getOffset());
+        currentFileLinked = false;
+      }
+
+      writeAt(path, id.getOffset(), chunkData);
     } catch (final IOException e) {
-      LOGGER.error("Failed to ensure pending snapshot directory {} exists", directory, e);
       throw new UncheckedIOException(e);
     }
 
-    try (final var channel =
-        Files.newByteChannel(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-      final var expectedToWrite = chunkData.remaining();
-      long actualWrittenBytes = 0L;
-      while (chunkData.hasRemaining()) {
-        actualWrittenBytes += channel.write(chunkData);
+    onChunkApplied(id, length, checksum);
+    return true;
+  }
+
+  @Override
+  public boolean reuseChunk(final ByteBuffer chunkId, final long checksum) {
+    final var id = DbSnapshotChunkId.decode(chunkId);
+    final var optionalPrevious = snapshotStore.getLatestSnapshot();
+    if (optionalPrevious.isEmpty()) {
+      return false;
+    }
+
+    final var previous = optionalPrevious.get();
+    final var source = previous.getDirectory().resolve(id.getFileName());
+    final var path = directory.resolve(id.getFileName());
+    final int length;
+
+    try {
+      if (previous.getChecksum(id) != checksum) {
+        LOGGER.debug(
+            "Expected to reuse chunk {} of snapshot {}, but its checksum differs", id, previous);
+        return false;
       }
 
-      if (actualWrittenBytes != expectedToWrite) {
-        throw new IllegalStateException(
-            "Expected to write "
-                + expectedToWrite
-                + " bytes of the given snapshot chunk with id "
-                + chunkId
-                + ", but only "
-                + actualWrittenBytes
-                + " bytes were written");
+      length = previous.getChunkLength(id);
+      ensureDirectoryExists();
+      switchToFile(id.getFileName());
+
+      if (id.getOffset() == 0) {
+        // optimistically reuse the whole file; it's unlinked again as soon as it diverges
+        linkOrCopy(source, path);
+        currentFileLinked = true;
+      } else if (!currentFileLinked) {
+        copyRange(source, path, id.getOffset(), length);
       }
-    } catch (final FileAlreadyExistsException e) {
-      LOGGER.debug("Chunk {} of pending snapshot {} already exists at {}", filename, this, path, e);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
+    } catch (final IOException | UncheckedIOException e) {
+      // the previous snapshot may have been deleted in the meantime
+      LOGGER.debug("Failed to reuse chunk {} of snapshot {}", id, previous, e);
+      return false;
     }
+
+    onChunkApplied(id, length, checksum);
+    return true;
   }
 
   @Override
@@ -128,9 +186,20 @@ public final class DbPendingSnapshot implements PendingSnapshot {
     expectedId = nextChunkId;
   }
 
+  @Override
+  public ByteBuffer nextExpected() {
+    return expectedId;
+  }
+
   @Override
   public void commit() {
-    snapshotStore.newSnapshot(index, term, timestamp, directory).close();
+    try {
+      finishCurrentFile();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    snapshotStore.newSnapshot(index, term, timestamp, directory, checksums).close();
   }
 
   @Override
@@ -161,8 +230,108 @@ public final class DbPendingSnapshot implements PendingSnapshot {
         + '}';
   }
 
-  private String getFile(final ByteBuffer chunkId) {
-    final var view = new UnsafeBuffer(chunkId);
-    return view.getStringWithoutLengthAscii(0, chunkId.remaining());
+  private void ensureDirectoryExists() {
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      LOGGER.error("Failed to ensure pending snapshot directory {} exists", directory, e);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void onChunkApplied(final DbSnapshotChunkId id, final int length, final long checksum) {
+    // only full chunks are aligned with the chunks of the committed snapshot
+    if (length == snapshotStore.getChunkSize()) {
+      checksums.put(id.toString(), checksum);
+    }
+
+    currentFileLength = id.getOffset() + length;
+    lastChunkId = id;
+  }
+
+  private void switchToFile(final String fileName) throws IOException {
+    if (fileName.equals(currentFileName)) {
+      return;
+    }
+
+    finishCurrentFile();
+    currentFileName = fileName;
+    currentFileLinked = false;
+    currentFileLength = 0;
+  }
+
+  private void finishCurrentFile() throws IOException {
+    if (currentFileName == null || !currentFileLinked) {
+      return;
+    }
+
+    // the reused file of the previous snapshot may be longer than the received one
+    final var path = directory.resolve(currentFileName);
+    if (Files.size(path) != currentFileLength) {
+      unlink(path, currentFileLength);
+    }
+
+    currentFileLinked = false;
+  }
+
+  private void linkOrCopy(final Path source, final Path target) throws IOException {
+    // the files of a snapshot are never modified, so the snapshots can share them
+    try {
+      Files.createLink(target, source);
+    } catch (final FileAlreadyExistsException e) {
+      throw e;
+    } catch (final UnsupportedOperationException | FileSystemException e) {
+      // e.g. the snapshots are on different file systems or links are not permitted
+      LOGGER.trace("Failed to create hard link to {}, copying it instead", source, e);
+      Files.copy(source, target);
+    }
+  }
+
+  /** Replaces the given file by a copy of its first bytes, which can then be safely modified. */
+  private void unlink(final Path path, final long length) throws IOException {
+    final var copy = path.resolveSibling(path.getFileName() + UNLINKED_FILE_SUFFIX);
+    Files.deleteIfExists(copy);
+    copyRange(path, copy, 0, length);
+    Files.move(copy, path, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static void copyRange(
+      final Path source, final Path target, final long offset, final long length)
+      throws IOException {
+    try (final var sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+        final var targetChannel =
+            FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      targetChannel.position(offset);
+      long copied = 0;
+      while (copied < length) {
+        final var transferred =
+            sourceChannel.transferTo(offset + copied, length - copied, targetChannel);
+        if (transferred <= 0) {
+          throw new IOException(
+              "Expected to copy "
+                  + length
+                  + " bytes at offset "
+                  + offset
+                  + " of "
+                  + source
+                  + ", but only "
+                  + copied
+                  + " bytes could be copied");
+        }
+
+        copied += transferred;
+      }
+    }
+  }
+
+  private static void writeAt(final Path path, final long offset, final ByteBuffer data)
+      throws IOException {
+    try (final var channel =
+        FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      long position = offset;
+      while (data.hasRemaining()) {
+        position += channel.write(data, position);
+      }
+    }
   }
 }
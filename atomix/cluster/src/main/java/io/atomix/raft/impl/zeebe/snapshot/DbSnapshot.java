@@ -14,24 +14,43 @@ import io.zeebe.util.FileUtil;
 import io.zeebe.util.ZbLogger;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 
 public final class DbSnapshot implements Snapshot {
   // version currently hardcoded, could be used for backwards compatibility
   private static final int VERSION = 1;
   private static final Logger LOGGER = new ZbLogger(DbSnapshot.class);
+  // SST files are immutable, and consecutive snapshots of the same database share most of them
+  private static final String REUSABLE_CHUNK_SUFFIX = ".sst";
 
   private final Path directory;
   private final DbSnapshotMetadata metadata;
+  private final int chunkSize;
+  // the checksums of the chunks by ID, which are computed lazily as the files never change
+  private final Map<String, Long> checksums;
 
   DbSnapshot(final Path directory, final DbSnapshotMetadata metadata) {
+    this(directory, metadata, DbSnapshotChunkReader.DEFAULT_CHUNK_SIZE, Map.of());
+  }
+
+  DbSnapshot(
+      final Path directory,
+      final DbSnapshotMetadata metadata,
+      final int chunkSize,
+      final Map<String, Long> knownChecksums) {
     this.directory = directory;
     this.metadata = metadata;
+    this.chunkSize = chunkSize;
+    this.checksums = new ConcurrentHashMap<>(knownChecksums);
   }
 
   public DbSnapshotMetadata getMetadata() {
@@ -65,12 +84,64 @@ public final class DbSnapshot implements Snapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new DbSnapshotChunkReader(directory, collectChunks(directory));
+      return new DbSnapshotChunkReader(
+          directory, collectChunks(directory), chunkSize, this::getChecksum);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
+  @Override
+  public Map<ByteBuffer, Long> reusableChunks() {
+    final Map<ByteBuffer, Long> reusableChunks = new HashMap<>();
+    try {
+      for (final var file : collectChunks(directory)) {
+        final var name = file.toString();
+        if (name.endsWith(REUSABLE_CHUNK_SUFFIX)) {
+          final var size = Files.size(directory.resolve(name));
+          long offset = 0;
+          do {
+            final var chunkId = new DbSnapshotChunkId(name, offset);
+            reusableChunks.put(chunkId.encode(), getChecksum(chunkId));
+            offset += chunkSize;
+          } while (offset < size);
+        }
+      }
+    } catch (final IOException | UncheckedIOException e) {
+      // it's only an optimization, so nothing is reused if the snapshot can't be read anymore
+      LOGGER.warn("Failed to collect reusable chunks of snapshot {}", this, e);
+      reusableChunks.clear();
+    }
+
+    return reusableChunks;
+  }
+
+  /**
+   * Returns the checksum of the given chunk, i.e. of the range of the file in the snapshot
+   * directory which the chunk identifies.
+   *
+   * @param chunkId the ID of the chunk
+   * @return the checksum of the chunk
+   * @throws UncheckedIOException if the chunk can't be read
+   */
+  long getChecksum(final DbSnapshotChunkId chunkId) {
+    return checksums.computeIfAbsent(
+        chunkId.toString(), id -> DbSnapshotChunkReader.checksumOf(directory, chunkId, chunkSize));
+  }
+
+  /**
+   * Returns the length of the given chunk, which is 0 if the chunk's file is shorter than its
+   * offset.
+   *
+   * @param chunkId the ID of the chunk
+   * @return the length of the chunk
+   * @throws IOException if the chunk's file can't be read
+   */
+  int getChunkLength(final DbSnapshotChunkId chunkId) throws IOException {
+    final var size = Files.size(directory.resolve(chunkId.getFileName()));
+    return DbSnapshotChunkReader.getChunkLength(size, chunkId.getOffset(), chunkSize);
+  }
+
   @Override
   public void close() {
     // nothing to be done
@@ -8,16 +8,48 @@
 package io.atomix.raft.impl.zeebe.snapshot;
 
 import io.atomix.raft.storage.snapshot.SnapshotChunk;
+import io.zeebe.protocol.Protocol;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 
+/**
+ * A chunk of a {@link DbSnapshot}, i.e. a range of a single file of the snapshot. The data of the
+ * chunk is only read when it is accessed, since it doesn't need to be sent if the receiver already
+ * holds the chunk; at most one chunk worth of data is then kept in memory.
+ */
 public final class DbSnapshotChunk implements SnapshotChunk {
   private final ByteBuffer id;
-  private final ByteBuffer data;
+  private final Path path;
+  private final long offset;
+  private final int length;
+  private final LongSupplier checksumSupplier;
+
+  private ByteBuffer data;
 
-  public DbSnapshotChunk(final ByteBuffer id, final ByteBuffer data) {
+  /**
+   * @param id the ID of the chunk
+   * @param path the file which contains the chunk
+   * @param offset the offset of the chunk in the file
+   * @param length the length of the chunk
+   * @param checksumSupplier supplies the checksum of the chunk's data
+   */
+  public DbSnapshotChunk(
+      final ByteBuffer id,
+      final Path path,
+      final long offset,
+      final int length,
+      final LongSupplier checksumSupplier) {
     this.id = id;
-    this.data = data;
+    this.path = path;
+    this.offset = offset;
+    this.length = length;
+    this.checksumSupplier = checksumSupplier;
   }
 
   @Override
@@ -27,12 +59,33 @@ public final class DbSnapshotChunk implements SnapshotChunk {
 
   @Override
   public ByteBuffer data() {
+    if (data == null) {
+      data = readData();
+    }
+
     return data;
   }
 
+  @Override
+  public long checksum() {
+    return checksumSupplier.getAsLong();
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  public long getOffset() {
+    return offset;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(id, data);
+    return Objects.hash(id, path, offset, length);
   }
 
   @Override
@@ -46,11 +99,47 @@ public final class DbSnapshotChunk implements SnapshotChunk {
     }
 
     final DbSnapshotChunk that = (DbSnapshotChunk) o;
-    return id.equals(that.id) && data.equals(that.data);
+    return offset == that.offset
+        && length == that.length
+        && id.equals(that.id)
+        && path.equals(that.path);
   }
 
   @Override
   public String toString() {
-    return "DbSnapshotChunk{" + "id=" + id + ", data=" + data + '}';
+    return "DbSnapshotChunk{"
+        + "id="
+        + id
+        + ", path="
+        + path
+        + ", offset="
+        + offset
+        + ", length="
+        + length
+        + '}';
+  }
+
+  private ByteBuffer readData() {
+    final var buffer = ByteBuffer.allocate(length).order(Protocol.ENDIANNESS);
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, offset + buffer.position()) < 0) {
+          throw new IllegalStateException(
+              "Expected to read "
+                  + length
+                  + " bytes at offset "
+                  + offset
+                  + " of "
+                  + path
+                  + ", but the file ended after "
+                  + buffer.position()
+                  + " bytes");
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return buffer.flip();
   }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.atomix.raft.impl.zeebe.snapshot;
+
+import io.zeebe.protocol.Protocol;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Identifies a chunk of a {@link DbSnapshot}, which is a range of a single file of the snapshot.
+ * The ID is encoded as the ASCII string {@code <file name>/<offset>}; the separator can't be part
+ * of a file name. IDs without offset identify the start of a file.
+ */
+public final class DbSnapshotChunkId implements Comparable<DbSnapshotChunkId> {
+  private static final char SEPARATOR = '/';
+
+  private final String fileName;
+  private final long offset;
+
+  public DbSnapshotChunkId(final String fileName, final long offset) {
+    this.fileName = fileName;
+    this.offset = offset;
+  }
+
+  public static DbSnapshotChunkId decode(final ByteBuffer id) {
+    final var bytes = new byte[id.remaining()];
+    id.duplicate().get(bytes);
+    final var value = new String(bytes, DbSnapshotChunkReader.ID_CHARSET);
+
+    final var separatorIndex = value.lastIndexOf(SEPARATOR);
+    if (separatorIndex < 0) {
+      return new DbSnapshotChunkId(value, 0);
+    }
+
+    return new DbSnapshotChunkId(
+        value.substring(0, separatorIndex), Long.parseLong(value.substring(separatorIndex + 1)));
+  }
+
+  public ByteBuffer encode() {
+    return ByteBuffer.wrap(toString().getBytes(DbSnapshotChunkReader.ID_CHARSET))
+        .order(Protocol.ENDIANNESS);
+  }
+
+  /** @return the name of the file which contains the chunk */
+  public String getFileName() {
+    return fileName;
+  }
+
+  /** @return the offset of the chunk in its file */
+  public long getOffset() {
+    return offset;
+  }
+
+  @Override
+  public int compareTo(final DbSnapshotChunkId other) {
+    final var result = CharSequence.compare(fileName, other.fileName);
+    return result != 0 ? result : Long.compare(offset, other.offset);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fileName, offset);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final DbSnapshotChunkId that = (DbSnapshotChunkId) o;
+    return offset == that.offset && fileName.equals(that.fileName);
+  }
+
+  @Override
+  public String toString() {
+    return fileName + SEPARATOR + offset;
+  }
+}
@@ -9,7 +9,7 @@ package io.atomix.raft.impl.zeebe.snapshot;
 
 import io.atomix.raft.storage.snapshot.SnapshotChunk;
 import io.atomix.raft.storage.snapshot.SnapshotChunkReader;
-import io.zeebe.protocol.Protocol;
+import io.zeebe.util.ChecksumUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -19,28 +19,59 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
-import org.agrona.AsciiSequenceView;
-import org.agrona.DirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
+import java.util.function.ToLongFunction;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each file in a root directory is split into chunks of a fixed
+ * size (the last chunk of a file may be smaller, and an empty file is a single empty chunk). Files
+ * are ordered lexicographically, and chunks of a file by their offset. The files are assumed to be
+ * immutable, i.e. no more are added to the directory once this is created.
+ *
+ * <p>Only the chunk which is currently sent is held in memory, such that large files don't need to
+ * be loaded into the heap at once.
  */
 public final class DbSnapshotChunkReader implements SnapshotChunkReader {
   public static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
   private final Path directory;
-  private final NavigableSet<CharSequence> chunks;
-  private final CharSequenceView chunkIdView;
+  private final NavigableSet<CharSequence> files;
+  private final int chunkSize;
+  private final ToLongFunction<DbSnapshotChunkId> checksums;
+
+  private NavigableSet<CharSequence> filesView;
+  private long offset;
+
+  public DbSnapshotChunkReader(final Path directory, final NavigableSet<CharSequence> files) {
+    this(directory, files, DEFAULT_CHUNK_SIZE);
+  }
 
-  private NavigableSet<CharSequence> chunksView;
+  public DbSnapshotChunkReader(
+      final Path directory, final NavigableSet<CharSequence> files, final int chunkSize) {
+    this(directory, files, chunkSize, id -> checksumOf(directory, id, chunkSize));
+  }
+
+  /**
+   * @param directory the directory of the snapshot
+   * @param files the files of the snapshot
+   * @param chunkSize the max size of a chunk
+   * @param checksums returns the checksum of the chunk with the given ID
+   */
+  public DbSnapshotChunkReader(
+      final Path directory,
+      final NavigableSet<CharSequence> files,
+      final int chunkSize,
+      final ToLongFunction<DbSnapshotChunkId> checksums) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected chunk size to be greater than 0, but was " + chunkSize);
+    }
 
-  public DbSnapshotChunkReader(final Path directory, final NavigableSet<CharSequence> chunks) {
     this.directory = directory;
-    this.chunks = chunks;
-    this.chunksView = this.chunks;
-    this.chunkIdView = new CharSequenceView();
+    this.files = files;
+    this.chunkSize = chunkSize;
+    this.checksums = checksums;
+    this.filesView = this.files;
   }
 
   @Override
@@ -49,17 +80,28 @@ public final class DbSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var chunkId = DbSnapshotChunkId.decode(id);
+    filesView = files.tailSet(chunkId.getFileName(), true);
+    offset = 0;
+
+    if (!filesView.isEmpty()
+        && CharSequence.compare(filesView.first(), chunkId.getFileName()) == 0) {
+      offset = chunkId.getOffset();
+      if (offset > 0 && offset >= fileSize(filesView.first())) {
+        // the file is shorter than expected, so there is nothing left to read from it
+        filesView.pollFirst();
+        offset = 0;
+      }
+    }
   }
 
   @Override
   public ByteBuffer nextId() {
-    if (chunksView.isEmpty()) {
+    if (filesView.isEmpty()) {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return new DbSnapshotChunkId(filesView.first().toString(), offset).encode();
   }
 
   @Override
@@ -69,41 +111,55 @@ public final class DbSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public boolean hasNext() {
-    return !chunksView.isEmpty();
+    return !filesView.isEmpty();
   }
 
   @Override
   public SnapshotChunk next() {
-    final var id = chunksView.pollFirst();
-    if (id == null) {
+    if (filesView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(id.toString());
-
-    try {
-      final var data = ByteBuffer.wrap(Files.readAllBytes(path)).order(Protocol.ENDIANNESS);
-      return new DbSnapshotChunk(encodeChunkId(id), data);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
+    final var name = filesView.first().toString();
+    final var path = directory.resolve(name);
+    final var size = fileSize(name);
+    final var chunkId = new DbSnapshotChunkId(name, offset);
+    final var length = getChunkLength(size, offset, chunkSize);
+    final var chunk =
+        new DbSnapshotChunk(
+            chunkId.encode(), path, offset, length, () -> checksums.applyAsLong(chunkId));
+
+    offset += length;
+    if (offset >= size) {
+      filesView.pollFirst();
+      offset = 0;
     }
-  }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+    return chunk;
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
-    return chunkIdView.wrap(id);
+  /**
+   * @return the length of the chunk at the given offset of a file with the given size, or 0 if the
+   *     offset is beyond the end of the file
+   */
+  static int getChunkLength(final long fileSize, final long offset, final int chunkSize) {
+    return (int) Math.max(0, Math.min(chunkSize, fileSize - offset));
   }
 
-  private static final class CharSequenceView {
-    private final DirectBuffer wrapper = new UnsafeBuffer();
-    private final AsciiSequenceView view = new AsciiSequenceView();
+  static long checksumOf(final Path directory, final DbSnapshotChunkId id, final int chunkSize) {
+    try {
+      return ChecksumUtil.createChecksum(
+          directory.resolve(id.getFileName()), id.getOffset(), chunkSize);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-    private CharSequence wrap(final ByteBuffer buffer) {
-      wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
+  private long fileSize(final CharSequence name) {
+    try {
+      return Files.size(directory.resolve(name.toString()));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
   }
 }
@@ -22,6 +22,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
@@ -44,14 +45,25 @@ public final class DbSnapshotStore implements SnapshotStore {
   // a pair of mutable snapshot ID for index-only lookups
   private final ReusableSnapshotId lowerBoundId;
   private final ReusableSnapshotId upperBoundId;
+  // the max size of the chunks in which the files of the snapshots are replicated
+  private final int chunkSize;
 
   public DbSnapshotStore(
       final Path snapshotsDirectory,
       final Path pendingDirectory,
       final ConcurrentNavigableMap<DbSnapshotId, DbSnapshot> snapshots) {
+    this(snapshotsDirectory, pendingDirectory, snapshots, DbSnapshotChunkReader.DEFAULT_CHUNK_SIZE);
+  }
+
+  public DbSnapshotStore(
+      final Path snapshotsDirectory,
+      final Path pendingDirectory,
+      final ConcurrentNavigableMap<DbSnapshotId, DbSnapshot> snapshots,
+      final int chunkSize) {
     this.snapshotsDirectory = snapshotsDirectory;
     this.pendingDirectory = pendingDirectory;
     this.snapshots = snapshots;
+    this.chunkSize = chunkSize;
 
     this.lowerBoundId = new ReusableSnapshotId(WallClockTimestamp.from(0));
     this.upperBoundId = new ReusableSnapshotId(WallClockTimestamp.from(Long.MAX_VALUE));
@@ -123,7 +135,24 @@ public final class DbSnapshotStore implements SnapshotStore {
   @Override
   public Snapshot newSnapshot(
       final long index, final long term, final WallClockTimestamp timestamp, final Path directory) {
-    return put(directory, new DbSnapshotMetadata(index, term, timestamp));
+    return newSnapshot(index, term, timestamp, directory, Map.of());
+  }
+
+  /**
+   * Creates a new snapshot, whose chunk checksums are already known, e.g. because its chunks were
+   * just received.
+   */
+  Snapshot newSnapshot(
+      final long index,
+      final long term,
+      final WallClockTimestamp timestamp,
+      final Path directory,
+      final Map<String, Long> checksums) {
+    return put(directory, new DbSnapshotMetadata(index, term, timestamp), checksums);
+  }
+
+  int getChunkSize() {
+    return chunkSize;
   }
 
   @Override
@@ -193,7 +222,8 @@ public final class DbSnapshotStore implements SnapshotStore {
     return snapshot;
   }
 
-  private DbSnapshot put(final Path directory, final DbSnapshotMetadata metadata) {
+  private DbSnapshot put(
+      final Path directory, final DbSnapshotMetadata metadata, final Map<String, Long> checksums) {
     if (snapshots.containsKey(metadata)) {
       LOGGER.debug("Snapshot {} already exists", metadata);
       return snapshots.get(metadata);
@@ -212,7 +242,7 @@ public final class DbSnapshotStore implements SnapshotStore {
       throw new UncheckedIOException(e);
     }
 
-    return put(new DbSnapshot(destination, metadata));
+    return put(new DbSnapshot(destination, metadata, chunkSize, checksums));
   }
 
   private void tryAtomicDirectoryMove(final Path directory, final Path destination)
@@ -224,7 +254,7 @@ public final class DbSnapshotStore implements SnapshotStore {
     }
   }
 
-  private Optional<DbSnapshot> getLatestSnapshot() {
+  Optional<DbSnapshot> getLatestSnapshot() {
     return Optional.ofNullable(snapshots.lastEntry()).map(Entry::getValue);
   }
 
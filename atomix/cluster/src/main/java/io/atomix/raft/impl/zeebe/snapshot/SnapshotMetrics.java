@@ -35,6 +35,13 @@ public final class SnapshotMetrics {
           .name("snapshot_duration_milliseconds")
           .help("Approximate duration of snapshot operation")
           .register();
+  private static final Gauge SNAPSHOT_RECOVERY_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_recovery_duration_milliseconds")
+          .help("Duration of the last recovery of the runtime state from a snapshot")
+          .register();
   private static final Histogram SNAPSHOT_FILE_SIZE =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -76,6 +83,10 @@ public final class SnapshotMetrics {
     SNAPSHOT_DURATION.labels(partitionId).set(elapsedMillis);
   }
 
+  public void observeSnapshotRecovery(final long elapsedMillis) {
+    SNAPSHOT_RECOVERY_DURATION.labels(partitionId).set(elapsedMillis);
+  }
+
   public SnapshotReplicationMetrics getReplication() {
     return replication;
   }
@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LeaderMetrics extends RaftMetrics {
@@ -28,6 +29,31 @@ public class LeaderMetrics extends RaftMetrics {
           .labelNames("follower", "partitionGroupName", "partition")
           .register();
 
+  private static final Gauge INFLIGHT_APPENDS =
+      Gauge.build()
+          .namespace("atomix")
+          .name("append_entries_inflight")
+          .help("Count of append requests which are in flight to a follower")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
+  private static final Histogram APPEND_BATCH_SIZE =
+      Histogram.build()
+          .namespace("atomix")
+          .name("append_entries_batch_size_in_bytes")
+          .help("Size of the entries which are sent to a follower in one append request")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .exponentialBuckets(1024, 4, 8)
+          .register();
+
+  private static final Gauge REPLICATION_LAG =
+      Gauge.build()
+          .namespace("atomix")
+          .name("replication_lag")
+          .help("Count of entries which are not yet replicated to a follower")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
   public LeaderMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -35,4 +61,16 @@ public class LeaderMetrics extends RaftMetrics {
   public void appendComplete(final long latencyms, final String memberId) {
     APPEND_LATENCY.labels(memberId, partitionGroupName, partition).observe(latencyms / 1000f);
   }
+
+  public void setInflightAppends(final String memberId, final int count) {
+    INFLIGHT_APPENDS.labels(memberId, partitionGroupName, partition).set(count);
+  }
+
+  public void observeAppendBatchSize(final String memberId, final int bytes) {
+    APPEND_BATCH_SIZE.labels(memberId, partitionGroupName, partition).observe(bytes);
+  }
+
+  public void setReplicationLag(final String memberId, final long entries) {
+    REPLICATION_LAG.labels(memberId, partitionGroupName, partition).set(entries);
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public class LogFlushMetrics extends RaftMetrics {
+
+  private static final Counter FLUSH_COUNT =
+      Counter.build()
+          .namespace("atomix")
+          .name("log_flush_count")
+          .help("Count of flushes of the Raft log on commit")
+          .labelNames("partitionGroupName", "partition")
+          .register();
+
+  private static final Histogram COMMIT_ACK_LATENCY =
+      Histogram.build()
+          .namespace("atomix")
+          .name("commit_ack_latency_in_s")
+          .help("Time between the first commit of a group commit and its flush")
+          .labelNames("partitionGroupName", "partition")
+          .buckets(.0001, .0005, .001, .0025, .005, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+
+  private static final Histogram GROUP_COMMIT_ENTRIES =
+      Histogram.build()
+          .namespace("atomix")
+          .name("group_commit_entries")
+          .help("Count of committed entries which are flushed together")
+          .labelNames("partitionGroupName", "partition")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+
+  public LogFlushMetrics(final String partitionName) {
+    super(partitionName);
+  }
+
+  public void countFlush() {
+    FLUSH_COUNT.labels(partitionGroupName, partition).inc();
+  }
+
+  public void observeGroupCommit(final long entries, final long latencyNanos) {
+    GROUP_COMMIT_ENTRIES.labels(partitionGroupName, partition).observe(entries);
+    COMMIT_ACK_LATENCY.labels(partitionGroupName, partition).observe(latencyNanos / 1e9);
+  }
+}
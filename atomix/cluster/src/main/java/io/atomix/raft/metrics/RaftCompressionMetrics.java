@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+
+public class RaftCompressionMetrics extends RaftMetrics {
+
+  private static final Histogram COMPRESSION_RATIO =
+      Histogram.build()
+          .namespace("atomix")
+          .name("raft_compression_ratio")
+          .help("Ratio of the compressed to the raw size of the replicated raft requests")
+          .labelNames("type", "partitionGroupName", "partition")
+          .buckets(.1, .2, .3, .4, .5, .6, .7, .8, .9, 1)
+          .register();
+
+  private static final Histogram COMPRESSION_TIME =
+      Histogram.build()
+          .namespace("atomix")
+          .name("raft_compression_time_in_s")
+          .help("Time to compress or decompress a replicated raft request")
+          .labelNames("operation", "partitionGroupName", "partition")
+          .buckets(.00001, .00005, .0001, .0005, .001, .005, .01, .05)
+          .register();
+
+  public RaftCompressionMetrics(final String partitionName) {
+    super(partitionName);
+  }
+
+  public void observeCompression(
+      final String type, final int rawBytes, final int compressedBytes, final long nanos) {
+    COMPRESSION_RATIO
+        .labels(type, partitionGroupName, partition)
+        .observe(compressedBytes / (double) rawBytes);
+    COMPRESSION_TIME.labels("compress", partitionGroupName, partition).observe(nanos / 1e9);
+  }
+
+  public void observeDecompression(final long nanos) {
+    COMPRESSION_TIME.labels("decompress", partitionGroupName, partition).observe(nanos / 1e9);
+  }
+}
@@ -374,6 +374,66 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the max count of append requests which are in flight to a follower at the same time.
+     *
+     * @param maxAppendsPerFollower the max count of in flight append requests per follower
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+      config.setMaxAppendsPerFollower(maxAppendsPerFollower);
+      return this;
+    }
+
+    /**
+     * Sets the max size of the entries which are sent to a follower in one append request. The
+     * leader grows the batches of a lagging follower up to this size.
+     *
+     * @param maxAppendBatchSize the max size of an append batch
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxAppendBatchSize(final MemorySize maxAppendBatchSize) {
+      config.setMaxAppendBatchSize((int) maxAppendBatchSize.bytes());
+      return this;
+    }
+
+    /**
+     * Enables the compression of the append and install requests. Every member can receive
+     * compressed requests, but only members which enable it compress the requests they send.
+     *
+     * @param replicationCompression whether the replicated requests are compressed
+     * @return the Raft partition group builder
+     */
+    public Builder withReplicationCompression(final boolean replicationCompression) {
+      config.setReplicationCompression(replicationCompression);
+      return this;
+    }
+
+    /**
+     * Sets the min size of a replicated request to be compressed, smaller requests are sent as they
+     * are.
+     *
+     * @param threshold the compression threshold
+     * @return the Raft partition group builder
+     */
+    public Builder withReplicationCompressionThreshold(final MemorySize threshold) {
+      config.setReplicationCompressionThreshold((int) threshold.bytes());
+      return this;
+    }
+
+    /**
+     * Enables the reuse of snapshot chunks, i.e. the leader omits the chunks which a follower holds
+     * in its latest snapshot. Every member can receive the requests to reuse chunks, but only
+     * members which enable it send them.
+     *
+     * @param snapshotChunkReuse whether snapshot chunks are reused
+     * @return the Raft partition group builder
+     */
+    public Builder withSnapshotChunkReuse(final boolean snapshotChunkReuse) {
+      config.setSnapshotChunkReuse(snapshotChunkReuse);
+      return this;
+    }
+
     /**
      * Sets the storage level.
      *
@@ -460,6 +520,29 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the window in which commits are coalesced into a single flush of the log.
+     *
+     * @param groupCommitWindow the group commit window, zero to flush every commit on its own
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      config.getStorageConfig().setGroupCommitWindow(groupCommitWindow);
+      return this;
+    }
+
+    /**
+     * Sets the amount of unflushed log data after which a commit is flushed before the group commit
+     * window elapsed.
+     *
+     * @param groupCommitMaxBytes the max unflushed bytes of a group commit
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommitMaxBytes(final MemorySize groupCommitMaxBytes) {
+      config.getStorageConfig().setGroupCommitMaxBytes(groupCommitMaxBytes);
+      return this;
+    }
+
     /**
      * Sets the Raft state machine factory to use.
      *
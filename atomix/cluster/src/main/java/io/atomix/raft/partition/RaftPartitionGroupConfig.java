@@ -31,11 +31,19 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
   private static final int DEFAULT_PARTITIONS = 7;
   private static final Duration DEFAULT_ELECTION_TIMEOUT = Duration.ofMillis(2500);
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
+  private static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
+  private static final int DEFAULT_MAX_APPEND_BATCH_SIZE = 32 * 1024;
+  private static final int DEFAULT_REPLICATION_COMPRESSION_THRESHOLD = 4 * 1024;
 
   private Set<String> members = new HashSet<>();
   private int partitionSize;
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+  private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+  private int maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+  private boolean replicationCompression;
+  private int replicationCompressionThreshold = DEFAULT_REPLICATION_COMPRESSION_THRESHOLD;
+  private boolean snapshotChunkReuse;
   private RaftStorageConfig storageConfig = new RaftStorageConfig();
   private RaftCompactionConfig compactionConfig = new RaftCompactionConfig();
 
@@ -112,6 +120,109 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
     return this;
   }
 
+  /**
+   * Returns the max count of append requests which are in flight to a follower at the same time.
+   *
+   * @return the max count of in flight append requests per follower
+   */
+  public int getMaxAppendsPerFollower() {
+    return maxAppendsPerFollower;
+  }
+
+  /**
+   * Sets the max count of append requests which are in flight to a follower at the same time.
+   *
+   * @param maxAppendsPerFollower the max count of in flight append requests per follower
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+    this.maxAppendsPerFollower = maxAppendsPerFollower;
+    return this;
+  }
+
+  /**
+   * Returns the max size in bytes of the entries which are sent to a follower in one append
+   * request.
+   *
+   * @return the max size of an append batch
+   */
+  public int getMaxAppendBatchSize() {
+    return maxAppendBatchSize;
+  }
+
+  /**
+   * Sets the max size in bytes of the entries which are sent to a follower in one append request.
+   *
+   * @param maxAppendBatchSize the max size of an append batch
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setMaxAppendBatchSize(final int maxAppendBatchSize) {
+    this.maxAppendBatchSize = maxAppendBatchSize;
+    return this;
+  }
+
+  /**
+   * Returns whether the append and install requests are compressed before they are sent.
+   *
+   * @return whether the replicated requests are compressed
+   */
+  public boolean isReplicationCompression() {
+    return replicationCompression;
+  }
+
+  /**
+   * Sets whether the append and install requests are compressed before they are sent.
+   *
+   * @param replicationCompression whether the replicated requests are compressed
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setReplicationCompression(final boolean replicationCompression) {
+    this.replicationCompression = replicationCompression;
+    return this;
+  }
+
+  /**
+   * Returns the min size in bytes of a replicated request to be compressed.
+   *
+   * @return the compression threshold
+   */
+  public int getReplicationCompressionThreshold() {
+    return replicationCompressionThreshold;
+  }
+
+  /**
+   * Sets the min size in bytes of a replicated request to be compressed, smaller requests are sent
+   * as they are.
+   *
+   * @param replicationCompressionThreshold the compression threshold
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setReplicationCompressionThreshold(
+      final int replicationCompressionThreshold) {
+    this.replicationCompressionThreshold = replicationCompressionThreshold;
+    return this;
+  }
+
+  /**
+   * Returns whether the leader omits the snapshot chunks which a follower already holds.
+   *
+   * @return whether snapshot chunks are reused
+   */
+  public boolean isSnapshotChunkReuse() {
+    return snapshotChunkReuse;
+  }
+
+  /**
+   * Sets whether the leader omits the snapshot chunks which a follower already holds.
+   *
+   * @param snapshotChunkReuse whether snapshot chunks are reused
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setSnapshotChunkReuse(final boolean snapshotChunkReuse) {
+    this.snapshotChunkReuse = snapshotChunkReuse;
+    return this;
+  }
+
   /**
    * Returns the set of members in the partition group.
    *
@@ -23,6 +23,7 @@ import io.atomix.raft.impl.zeebe.snapshot.DbSnapshotStoreFactory;
 import io.atomix.raft.storage.snapshot.SnapshotStoreFactory;
 import io.atomix.storage.StorageLevel;
 import io.atomix.utils.memory.MemorySize;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -32,6 +33,8 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+  private static final long DEFAULT_GROUP_COMMIT_WINDOW = 0;
+  private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024 * 1024 * 4;
   private static final SnapshotStoreFactory DEFAULT_SNAPSHOT_STORE_FACTORY =
       new DbSnapshotStoreFactory();
 
@@ -40,6 +43,8 @@ public class RaftStorageConfig {
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+  private long groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
 
   @Optional("SnapshotStoreFactory")
   private SnapshotStoreFactory snapshotStoreFactory = DEFAULT_SNAPSHOT_STORE_FACTORY;
@@ -136,6 +141,49 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns the window in which commits are coalesced into a single flush of the log.
+   *
+   * @return the group commit window, zero if every commit is flushed on its own
+   */
+  public Duration getGroupCommitWindow() {
+    return Duration.ofMillis(groupCommitWindow);
+  }
+
+  /**
+   * Sets the window in which commits are coalesced into a single flush of the log. Only applies if
+   * flush on commit is enabled.
+   *
+   * @param groupCommitWindow the group commit window, zero to flush every commit on its own
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow.toMillis();
+    return this;
+  }
+
+  /**
+   * Returns the amount of unflushed log data after which a commit is flushed before the group
+   * commit window elapsed.
+   *
+   * @return the max unflushed bytes of a group commit
+   */
+  public MemorySize getGroupCommitMaxBytes() {
+    return new MemorySize(groupCommitMaxBytes);
+  }
+
+  /**
+   * Sets the amount of unflushed log data after which a commit is flushed before the group commit
+   * window elapsed.
+   *
+   * @param groupCommitMaxBytes the max unflushed bytes of a group commit
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setGroupCommitMaxBytes(final MemorySize groupCommitMaxBytes) {
+    this.groupCommitMaxBytes = groupCommitMaxBytes.bytes();
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
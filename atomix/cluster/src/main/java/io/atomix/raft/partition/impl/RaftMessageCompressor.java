@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses the payload of raft messages with deflate. The compressed payload is prefixed with the
+ * length of the raw payload, so that it can be inflated in one pass.
+ *
+ * <p>The deflaters and inflaters are reused per thread, as their native state is expensive to
+ * allocate for every message.
+ */
+final class RaftMessageCompressor {
+
+  private static final ThreadLocal<Deflater> DEFLATER =
+      ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+  private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+  private RaftMessageCompressor() {}
+
+  /**
+   * Compresses the given payload.
+   *
+   * @param payload the raw payload
+   * @return the compressed payload, or null if it is not smaller than the raw payload
+   */
+  static byte[] compress(final byte[] payload) {
+    final Deflater deflater = DEFLATER.get();
+    deflater.reset();
+    deflater.setInput(payload);
+    deflater.finish();
+
+    final byte[] buffer = new byte[Integer.BYTES + payload.length];
+    ByteBuffer.wrap(buffer).putInt(payload.length);
+    final int length = deflater.deflate(buffer, Integer.BYTES, payload.length);
+    if (!deflater.finished() || compressedLength(length) >= payload.length) {
+      return null;
+    }
+
+    final byte[] compressed = new byte[compressedLength(length)];
+    System.arraycopy(buffer, 0, compressed, 0, compressed.length);
+    return compressed;
+  }
+
+  private static int compressedLength(final int deflatedLength) {
+    return Integer.BYTES + deflatedLength;
+  }
+
+  /**
+   * Decompresses the given payload, which was compressed by {@link #compress(byte[])}.
+   *
+   * @param compressed the compressed payload
+   * @return the raw payload
+   * @throws IllegalStateException if the payload is corrupted
+   */
+  static byte[] decompress(final byte[] compressed) {
+    final int length = ByteBuffer.wrap(compressed).getInt();
+    final byte[] payload = new byte[length];
+
+    final Inflater inflater = INFLATER.get();
+    inflater.reset();
+    inflater.setInput(compressed, Integer.BYTES, compressed.length - Integer.BYTES);
+    try {
+      final int inflated = inflater.inflate(payload);
+      if (inflated != length || !inflater.finished()) {
+        throw new IllegalStateException(
+            String.format(
+                "Expected to inflate %d bytes of the compressed message, but inflated %d",
+                length, inflated));
+      }
+    } catch (final DataFormatException e) {
+      throw new IllegalStateException("Failed to inflate the compressed message", e);
+    }
+    return payload;
+  }
+}
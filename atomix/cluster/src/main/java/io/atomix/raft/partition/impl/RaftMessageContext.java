@@ -35,6 +35,10 @@ class RaftMessageContext {
   final String pollSubject;
   final String voteSubject;
   final String appendSubject;
+  final String compressedInstallSubject;
+  final String compressedAppendSubject;
+  final String chunkReuseInstallSubject;
+  final String compressedChunkReuseInstallSubject;
   final String leaderHeartbeatSubject;
   private final String prefix;
 
@@ -56,6 +60,10 @@ class RaftMessageContext {
     this.pollSubject = getSubject(prefix, "poll");
     this.voteSubject = getSubject(prefix, "vote");
     this.appendSubject = getSubject(prefix, "append");
+    this.compressedInstallSubject = getSubject(prefix, "install-compressed");
+    this.compressedAppendSubject = getSubject(prefix, "append-compressed");
+    this.chunkReuseInstallSubject = getSubject(prefix, "install-reuse");
+    this.compressedChunkReuseInstallSubject = getSubject(prefix, "install-reuse-compressed");
     this.leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
@@ -22,6 +22,8 @@ import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ChunkReuseInstallRequest;
+import io.atomix.raft.protocol.ChunkReuseInstallResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
@@ -41,6 +43,7 @@ import io.atomix.raft.storage.log.entry.ConfigurationEntry;
 import io.atomix.raft.storage.log.entry.InitializeEntry;
 import io.atomix.raft.storage.system.Configuration;
 import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.raft.zeebe.ZeebeEntrySerializer;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 import java.time.Instant;
@@ -88,6 +91,10 @@ public final class RaftNamespaces {
           .register(Instant.class)
           .register(Configuration.class)
           .register(ZeebeEntry.class)
+          // only sent on the chunk reuse subjects, so they are registered last to keep the IDs of
+          // the types which older versions know
+          .register(ChunkReuseInstallRequest.class)
+          .register(ChunkReuseInstallResponse.class)
           .build("RaftProtocol");
 
   /**
@@ -95,6 +102,10 @@ public final class RaftNamespaces {
    *
    * <p>*Be aware* we use the Void type for replaced/removed types to keep the id's of used types,
    * otherwise we break compatibility.
+   *
+   * <p>{@link ZeebeEntry} is registered twice: new entries are written with the {@link
+   * ZeebeEntrySerializer}, which is registered last, while entries of existing segments, which were
+   * written with the default field serializer, can still be read via the first registration.
    */
   public static final Namespace RAFT_STORAGE =
       Namespace.builder()
@@ -119,7 +130,8 @@ public final class RaftNamespaces {
           .register(RaftMember.Type.class)
           .register(Instant.class)
           .register(Configuration.class)
-          .register(ZeebeEntry.class)
+          .register(ZeebeEntry.class) // legacy format, only used to read old entries
+          .register(new ZeebeEntrySerializer(), ZeebeEntry.class)
           .build("RaftStorage");
 
   private RaftNamespaces() {}
@@ -159,6 +159,8 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withProtocol(createServerProtocol())
         .withHeartbeatInterval(config.getHeartbeatInterval())
         .withElectionTimeout(config.getElectionTimeout())
+        .withMaxAppendsPerFollower(config.getMaxAppendsPerFollower())
+        .withMaxAppendBatchSize(config.getMaxAppendBatchSize())
         .withStorage(createRaftStorage())
         .withThreadContextFactory(threadContextFactory)
         .withStateMachineFactory(config.getStateMachineFactory())
@@ -300,6 +302,8 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withMaxSegmentSize((int) storageConfig.getSegmentSize().bytes())
         .withMaxEntrySize((int) storageConfig.getMaxEntrySize().bytes())
         .withFlushOnCommit(storageConfig.isFlushOnCommit())
+        .withGroupCommitWindow(storageConfig.getGroupCommitWindow())
+        .withGroupCommitMaxBytes(storageConfig.getGroupCommitMaxBytes().bytes())
         .withDynamicCompaction(compactionConfig.isDynamic())
         .withFreeDiskBuffer(compactionConfig.getFreeDiskBuffer())
         .withFreeMemoryBuffer(compactionConfig.getFreeMemoryBuffer())
@@ -310,8 +314,18 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
   }
 
   private RaftServerCommunicator createServerProtocol() {
+    final Serializer serializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+    final int compressionThreshold =
+        config.isReplicationCompression()
+            ? config.getReplicationCompressionThreshold()
+            : RaftServerCommunicator.COMPRESSION_DISABLED;
+
     return new RaftServerCommunicator(
-        partition.name(), Serializer.using(RaftNamespaces.RAFT_PROTOCOL), clusterCommunicator);
+        partition.name(),
+        serializer,
+        clusterCommunicator,
+        compressionThreshold,
+        config.isSnapshotChunkReuse());
   }
 
   public CompletableFuture<Void> stepDown() {
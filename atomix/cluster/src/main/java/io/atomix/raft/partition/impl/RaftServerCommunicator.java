@@ -19,9 +19,12 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.raft.metrics.RaftCompressionMetrics;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ChunkReuseInstallRequest;
+import io.atomix.raft.protocol.ChunkReuseInstallResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
@@ -44,25 +47,61 @@ import io.atomix.utils.serializer.Serializer;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
-/** Raft server protocol that uses a {@link ClusterCommunicationService}. */
+/**
+ * Raft server protocol that uses a {@link ClusterCommunicationService}.
+ *
+ * <p>If compression is enabled, append and install requests which are at least as large as the
+ * compression threshold are compressed and sent on separate subjects. The handlers are always
+ * registered for the compressed subjects too, so that a member can receive compressed requests
+ * regardless of its own configuration.
+ *
+ * <p>If the reuse of snapshot chunks is enabled, install requests are sent wrapped in a {@link
+ * ChunkReuseInstallRequest} on separate subjects, such that the fields to reuse chunks are only
+ * sent to members which can read them. Like the compressed subjects, these are always subscribed.
+ */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  static final int COMPRESSION_DISABLED = -1;
+
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
   private final String partitionName;
   private final RaftRequestMetrics metrics;
+  private final RaftCompressionMetrics compressionMetrics;
+  private final int compressionThreshold;
+  private final boolean snapshotChunkReuse;
 
   public RaftServerCommunicator(
       final String prefix,
       final Serializer serializer,
       final ClusterCommunicationService clusterCommunicator) {
+    this(prefix, serializer, clusterCommunicator, COMPRESSION_DISABLED);
+  }
+
+  public RaftServerCommunicator(
+      final String prefix,
+      final Serializer serializer,
+      final ClusterCommunicationService clusterCommunicator,
+      final int compressionThreshold) {
+    this(prefix, serializer, clusterCommunicator, compressionThreshold, false);
+  }
+
+  public RaftServerCommunicator(
+      final String prefix,
+      final Serializer serializer,
+      final ClusterCommunicationService clusterCommunicator,
+      final int compressionThreshold,
+      final boolean snapshotChunkReuse) {
     this.context = new RaftMessageContext(prefix);
     this.partitionName = prefix;
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
     this.clusterCommunicator =
         Preconditions.checkNotNull(clusterCommunicator, "clusterCommunicator cannot be null");
     this.metrics = new RaftRequestMetrics(partitionName);
+    this.compressionMetrics = new RaftCompressionMetrics(partitionName);
+    this.compressionThreshold = compressionThreshold;
+    this.snapshotChunkReuse = snapshotChunkReuse;
   }
 
   @Override
@@ -91,7 +130,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<InstallResponse> install(
       final MemberId memberId, final InstallRequest request) {
-    return sendAndReceive(context.installSubject, request, memberId);
+    if (snapshotChunkReuse) {
+      return this.<ChunkReuseInstallRequest, ChunkReuseInstallResponse>sendAndReceiveCompressed(
+              context.chunkReuseInstallSubject,
+              context.compressedChunkReuseInstallSubject,
+              new ChunkReuseInstallRequest(request),
+              memberId)
+          .thenApply(ChunkReuseInstallResponse::response);
+    }
+
+    return sendAndReceiveCompressed(
+        context.installSubject, context.compressedInstallSubject, request, memberId);
   }
 
   @Override
@@ -113,7 +162,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final AppendRequest request) {
-    return sendAndReceive(context.appendSubject, request, memberId);
+    return sendAndReceiveCompressed(
+        context.appendSubject, context.compressedAppendSubject, request, memberId);
   }
 
   @Override
@@ -199,11 +249,36 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<InstallRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.subscribe(
+        context.compressedInstallSubject,
+        this::decompress,
+        handler.<InstallRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
+
+    final Function<ChunkReuseInstallRequest, CompletableFuture<ChunkReuseInstallResponse>>
+        chunkReuseHandler =
+            request ->
+                handler
+                    .apply(recordReceivedMetrics(request.request()))
+                    .thenApply(ChunkReuseInstallResponse::new);
+    clusterCommunicator.subscribe(
+        context.chunkReuseInstallSubject,
+        serializer::decode,
+        chunkReuseHandler,
+        serializer::encode);
+    clusterCommunicator.subscribe(
+        context.compressedChunkReuseInstallSubject,
+        this::decompress,
+        chunkReuseHandler,
+        serializer::encode);
   }
 
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.compressedInstallSubject);
+    clusterCommunicator.unsubscribe(context.chunkReuseInstallSubject);
+    clusterCommunicator.unsubscribe(context.compressedChunkReuseInstallSubject);
   }
 
   @Override
@@ -244,11 +319,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<AppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.subscribe(
+        context.compressedAppendSubject,
+        this::decompress,
+        handler.<AppendRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendSubject);
+    clusterCommunicator.unsubscribe(context.compressedAppendSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -258,6 +339,48 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         subject, request, serializer::encode, serializer::decode, MemberId.from(memberId.id()));
   }
 
+  private <T, U> CompletableFuture<U> sendAndReceiveCompressed(
+      final String subject,
+      final String compressedSubject,
+      final T request,
+      final MemberId memberId) {
+    if (compressionThreshold == COMPRESSION_DISABLED) {
+      return sendAndReceive(subject, request, memberId);
+    }
+
+    final byte[] payload = serializer.encode(request);
+    if (payload.length >= compressionThreshold) {
+      final String type = request.getClass().getSimpleName();
+      final long start = System.nanoTime();
+      final byte[] compressed = RaftMessageCompressor.compress(payload);
+      final long compressionTime = System.nanoTime() - start;
+
+      if (compressed != null) {
+        compressionMetrics.observeCompression(
+            type, payload.length, compressed.length, compressionTime);
+        return sendAndReceiveEncoded(compressedSubject, type, compressed, memberId);
+      }
+      // the payload is not compressible, e.g. a snapshot chunk of compressed files
+      compressionMetrics.observeCompression(type, payload.length, payload.length, compressionTime);
+    }
+
+    return sendAndReceiveEncoded(subject, request.getClass().getSimpleName(), payload, memberId);
+  }
+
+  private <U> CompletableFuture<U> sendAndReceiveEncoded(
+      final String subject, final String type, final byte[] payload, final MemberId memberId) {
+    metrics.sendMessage(memberId.id(), type);
+    return clusterCommunicator.send(
+        subject, payload, Function.identity(), serializer::decode, MemberId.from(memberId.id()));
+  }
+
+  private <T> T decompress(final byte[] compressed) {
+    final long start = System.nanoTime();
+    final byte[] payload = RaftMessageCompressor.decompress(compressed);
+    compressionMetrics.observeDecompression(System.nanoTime() - start);
+    return serializer.decode(payload);
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+/**
+ * Wraps an {@link InstallRequest} together with its fields to reuse the chunks of a previous
+ * snapshot of the receiver, which are not part of the serialized request.
+ *
+ * <p>It is only sent on separate subjects, which older versions don't subscribe to, if the sender
+ * enabled the reuse of snapshot chunks.
+ */
+public final class ChunkReuseInstallRequest {
+
+  private final InstallRequest request;
+  private final boolean reuseChunk;
+
+  public ChunkReuseInstallRequest(final InstallRequest request) {
+    this.request = request;
+    this.reuseChunk = request.reuseChunk();
+  }
+
+  /**
+   * Returns the wrapped request, including the fields to reuse chunks.
+   *
+   * @return The wrapped install request.
+   */
+  public InstallRequest request() {
+    return request.withChunkReuse(reuseChunk);
+  }
+}
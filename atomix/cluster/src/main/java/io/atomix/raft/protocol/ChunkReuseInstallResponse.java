@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+
+/**
+ * Wraps an {@link InstallResponse} together with the reusable chunks of the responding node, which
+ * are not part of the serialized response. It is sent in response to a {@link
+ * ChunkReuseInstallRequest}.
+ */
+public final class ChunkReuseInstallResponse {
+
+  private final InstallResponse response;
+  private final HashMap<ByteBuffer, Long> reusableChunks;
+
+  public ChunkReuseInstallResponse(final InstallResponse response) {
+    this.response = response;
+    this.reusableChunks =
+        response.reusableChunks() != null ? new HashMap<>(response.reusableChunks()) : null;
+  }
+
+  /**
+   * Returns the wrapped response, including the reusable chunks.
+   *
+   * @return The wrapped install response.
+   */
+  public InstallResponse response() {
+    return response.withReusableChunks(reusableChunks);
+  }
+}
@@ -34,6 +34,10 @@ import java.util.Objects;
  * received by the follower, the snapshot is reconstructed based on the provided {@link #chunkId()}
  * and other metadata. The last install request will be sent with {@link #complete()} being {@code
  * true} to indicate that all chunks of the snapshot have been sent.
+ *
+ * <p>The fields to reuse the chunks of a previous snapshot are transient, so they are not part of
+ * the serialized request, which older versions can still read. They are only sent wrapped in a
+ * {@link ChunkReuseInstallRequest}.
  */
 public class InstallRequest extends AbstractRaftRequest {
 
@@ -55,6 +59,12 @@ public class InstallRequest extends AbstractRaftRequest {
   private final ByteBuffer nextChunkId;
   // the data of the chunk
   private final ByteBuffer data;
+  // the checksum of the chunk data
+  private final long chunkChecksum;
+  // true if the data is omitted, because the receiver holds the same chunk in a previous snapshot
+  private final transient boolean reuseChunk;
+  // true if the sender can reuse chunks, i.e. the receiver should advertise its reusable chunks
+  private final transient boolean chunkReuse;
   // true if this is the first chunk
   private final boolean initial;
   // true if this is the last chunk
@@ -70,8 +80,42 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer chunkId,
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
+      final long chunkChecksum,
+      final boolean reuseChunk,
       final boolean initial,
       final boolean complete) {
+    this(
+        currentTerm,
+        leader,
+        index,
+        term,
+        timestamp,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        chunkChecksum,
+        reuseChunk,
+        initial,
+        complete,
+        false);
+  }
+
+  private InstallRequest(
+      final long currentTerm,
+      final MemberId leader,
+      final long index,
+      final long term,
+      final long timestamp,
+      final int version,
+      final ByteBuffer chunkId,
+      final ByteBuffer nextChunkId,
+      final ByteBuffer data,
+      final long chunkChecksum,
+      final boolean reuseChunk,
+      final boolean initial,
+      final boolean complete,
+      final boolean chunkReuse) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +124,9 @@ public class InstallRequest extends AbstractRaftRequest {
     this.chunkId = chunkId;
     this.nextChunkId = nextChunkId;
     this.data = data;
+    this.chunkChecksum = chunkChecksum;
+    this.reuseChunk = reuseChunk;
+    this.chunkReuse = chunkReuse;
     this.initial = initial;
     this.complete = complete;
     this.term = term;
@@ -171,6 +218,57 @@ public class InstallRequest extends AbstractRaftRequest {
     return data;
   }
 
+  /**
+   * Returns the checksum of the chunk data, which the receiver verifies before it writes the data.
+   *
+   * @return The checksum of the chunk data.
+   */
+  public long chunkChecksum() {
+    return chunkChecksum;
+  }
+
+  /**
+   * Returns whether the receiver should reuse the chunk of a previous snapshot, which it advertised
+   * before. The data of a reused chunk is omitted.
+   *
+   * @return Indicates whether the chunk of a previous snapshot should be reused.
+   */
+  public boolean reuseChunk() {
+    return reuseChunk;
+  }
+
+  /**
+   * Returns whether the sender can reuse the chunks of a previous snapshot of the receiver, such
+   * that the receiver should advertise them in response to the first chunk.
+   *
+   * @return Indicates whether the sender can reuse the chunks of a previous snapshot.
+   */
+  public boolean isChunkReuse() {
+    return chunkReuse;
+  }
+
+  /**
+   * Returns a copy of this request as received wrapped in a {@link ChunkReuseInstallRequest}, i.e.
+   * from a sender which can reuse chunks.
+   */
+  InstallRequest withChunkReuse(final boolean reuseChunk) {
+    return new InstallRequest(
+        currentTerm,
+        leader,
+        index,
+        term,
+        timestamp,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        chunkChecksum,
+        reuseChunk,
+        initial,
+        complete,
+        true);
+  }
+
   /**
    * Returns a boolean value indicating whether this is the last chunk of the snapshot.
    *
@@ -192,7 +290,9 @@ public class InstallRequest extends AbstractRaftRequest {
         nextChunkId,
         complete,
         initial,
-        data);
+        data,
+        chunkChecksum,
+        reuseChunk);
   }
 
   @Override
@@ -207,7 +307,9 @@ public class InstallRequest extends AbstractRaftRequest {
           && request.initial == initial
           && request.term == term
           && request.nextChunkId.equals(nextChunkId)
-          && request.data.equals(data);
+          && request.data.equals(data)
+          && request.chunkChecksum == chunkChecksum
+          && request.reuseChunk == reuseChunk;
     }
     return false;
   }
@@ -224,6 +326,8 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("chunkId", StringUtils.printShortBuffer(chunkId))
         .add("nextChunkId", StringUtils.printShortBuffer(nextChunkId))
         .add("data", StringUtils.printShortBuffer(data))
+        .add("chunkChecksum", chunkChecksum)
+        .add("reuseChunk", reuseChunk)
         .add("initial", initial)
         .add("complete", complete)
         .toString();
@@ -240,6 +344,8 @@ public class InstallRequest extends AbstractRaftRequest {
     private ByteBuffer chunkId;
     private ByteBuffer nextChunkId;
     private ByteBuffer data;
+    private long chunkChecksum;
+    private boolean reuseChunk;
     private boolean complete;
     private boolean initial;
     private long term;
@@ -345,6 +451,28 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the checksum of the chunk data.
+     *
+     * @param chunkChecksum The checksum of the chunk data.
+     * @return The request builder.
+     */
+    public Builder withChunkChecksum(final long chunkChecksum) {
+      this.chunkChecksum = chunkChecksum;
+      return this;
+    }
+
+    /**
+     * Sets whether the receiver should reuse the chunk of a previous snapshot.
+     *
+     * @param reuseChunk Whether the chunk of a previous snapshot should be reused.
+     * @return The request builder.
+     */
+    public Builder withReuseChunk(final boolean reuseChunk) {
+      this.reuseChunk = reuseChunk;
+      return this;
+    }
+
     /**
      * Sets whether the request is complete.
      *
@@ -382,6 +510,8 @@ public class InstallRequest extends AbstractRaftRequest {
           chunkId,
           nextChunkId,
           data,
+          chunkChecksum,
+          reuseChunk,
           initial,
           complete);
     }
@@ -16,19 +16,40 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+
 import io.atomix.raft.RaftError;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. In response to the first chunk of a snapshot, the receiver advertises the reusable
+ * chunks of its latest snapshot, such that the leader can omit the data of chunks which the
+ * receiver already holds. If the receiver already holds the requested chunk of a partially
+ * installed snapshot, it responds with the chunk it expects next, such that the leader can resume
+ * the installation from there.
+ *
+ * <p>The reusable chunks are transient, so they are not part of the serialized response, which
+ * older versions can still read. They are only sent wrapped in a {@link ChunkReuseInstallResponse}.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  private final transient HashMap<ByteBuffer, Long> reusableChunks;
+  private final ByteBuffer nextChunkId;
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final HashMap<ByteBuffer, Long> reusableChunks,
+      final ByteBuffer nextChunkId) {
     super(status, error);
+    this.reusableChunks = reusableChunks;
+    this.nextChunkId = nextChunkId;
   }
 
   /**
@@ -40,13 +61,93 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the reusable chunks of the latest snapshot of the responding node, mapped by their ID
+   * to their checksum. Only set in response to the first chunk of a snapshot.
+   *
+   * @return The reusable chunks of the responding node; may be null
+   */
+  public Map<ByteBuffer, Long> reusableChunks() {
+    return reusableChunks;
+  }
+
+  /**
+   * Returns the ID of the chunk which the responding node expects next, if it already held the
+   * requested chunk.
+   *
+   * @return The ID of the next expected chunk; may be null
+   */
+  public ByteBuffer nextChunkId() {
+    return nextChunkId;
+  }
+
+  /** Returns a copy of this response as received wrapped in a {@link ChunkReuseInstallResponse}. */
+  InstallResponse withReusableChunks(final HashMap<ByteBuffer, Long> reusableChunks) {
+    return new InstallResponse(status, error, reusableChunks, nextChunkId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, error, reusableChunks, nextChunkId);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof InstallResponse) {
+      final InstallResponse response = (InstallResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && Objects.equals(response.reusableChunks, reusableChunks)
+          && Objects.equals(response.nextChunkId, nextChunkId);
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("reusableChunks", reusableChunks == null ? 0 : reusableChunks.size())
+          .add("nextChunkId", nextChunkId)
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private HashMap<ByteBuffer, Long> reusableChunks;
+    private ByteBuffer nextChunkId;
+
+    /**
+     * Sets the reusable chunks of the latest snapshot of the responding node.
+     *
+     * @param reusableChunks The reusable chunks, mapped by their ID to their checksum.
+     * @return The install response builder.
+     */
+    public Builder withReusableChunks(final Map<ByteBuffer, Long> reusableChunks) {
+      this.reusableChunks = new HashMap<>(reusableChunks);
+      return this;
+    }
+
+    /**
+     * Sets the ID of the chunk which the responding node expects next.
+     *
+     * @param nextChunkId The ID of the next expected chunk.
+     * @return The install response builder.
+     */
+    public Builder withNextChunkId(final ByteBuffer nextChunkId) {
+      this.nextChunkId = nextChunkId;
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, reusableChunks, nextChunkId);
     }
   }
 }
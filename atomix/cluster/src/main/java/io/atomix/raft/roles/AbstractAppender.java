@@ -39,6 +39,7 @@ import io.atomix.raft.storage.snapshot.SnapshotChunkReader;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -47,7 +48,7 @@ import org.slf4j.Logger;
 /** Abstract appender. */
 abstract class AbstractAppender implements AutoCloseable {
 
-  private static final int MAX_BATCH_SIZE = 1024 * 32;
+  private static final ByteBuffer EMPTY_CHUNK_DATA = ByteBuffer.allocate(0);
   protected final Logger log;
   protected final RaftContext raft;
   protected boolean open = true;
@@ -141,12 +142,13 @@ abstract class AbstractAppender implements AutoCloseable {
     // Build a list of entries to send to the member.
     final List<RaftLogEntry> entries = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
-    // be null if they've been compacted and the member to which we're sending entries is just
-    // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
-    // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // Build a list of entries up to the batch size of the member, which grows while the member lags
+    // behind. Note that entries in the log may be null if they've been compacted and the member to
+    // which we're sending entries is just joining the cluster or is otherwise far behind. Null
+    // entries are simply skipped and not counted towards the size of the batch.
+    // If there exists an entry in the log with size >= batch size the logic ensures that
     // entry will be sent in a batch of size one
+    final int batchSize = member.getAppendBatchSize(raft.getMaxAppendBatchSize());
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
@@ -155,10 +157,11 @@ abstract class AbstractAppender implements AutoCloseable {
       final Indexed<RaftLogEntry> entry = reader.next();
       entries.add(entry.entry());
       size += entry.size();
-      if (entry.index() == lastIndex || size >= MAX_BATCH_SIZE) {
+      if (entry.index() == lastIndex || size >= batchSize) {
         break;
       }
     }
+    metrics.observeAppendBatchSize(member.getMember().memberId().id(), size);
 
     // Add the entries to the request builder and build the request.
     return builder.withEntries(entries).build();
@@ -173,6 +176,8 @@ abstract class AbstractAppender implements AutoCloseable {
 
     // Start the append to the member.
     member.startAppend();
+    final String memberId = member.getMember().memberId().id();
+    metrics.setInflightAppends(memberId, member.getAppending());
 
     final long timestamp = System.currentTimeMillis();
 
@@ -183,17 +188,21 @@ abstract class AbstractAppender implements AutoCloseable {
             (response, error) -> {
               // Complete the append to the member.
               final long appendLatency = System.currentTimeMillis() - timestamp;
-              metrics.appendComplete(appendLatency, member.getMember().memberId().id());
+              metrics.appendComplete(appendLatency, memberId);
               if (!request.entries().isEmpty()) {
+                adaptAppendBatchSize(member, response, error, appendLatency);
                 member.completeAppend(appendLatency);
               } else {
                 member.completeAppend();
               }
+              metrics.setInflightAppends(memberId, member.getAppending());
 
               if (open) {
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleAppendResponse(member, request, response, timestamp);
+                  metrics.setReplicationLag(
+                      memberId, raft.getLogWriter().getLastIndex() - member.getMatchIndex());
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -206,6 +215,23 @@ abstract class AbstractAppender implements AutoCloseable {
     }
   }
 
+  /**
+   * Adapts the batch size of the member to the latency of the append and how far the member lags
+   * behind, see {@link RaftMemberContext#adaptAppendBatchSize(long, boolean, int)}.
+   */
+  private void adaptAppendBatchSize(
+      final RaftMemberContext member,
+      final AppendResponse response,
+      final Throwable error,
+      final long appendLatency) {
+    if (error != null || response.status() != RaftResponse.Status.OK) {
+      member.resetAppendBatchSize();
+    } else {
+      final boolean lagging = response.lastLogIndex() < raft.getLogWriter().getLastIndex();
+      member.adaptAppendBatchSize(appendLatency, lagging, raft.getMaxAppendBatchSize());
+    }
+  }
+
   /** Handles an append failure. */
   protected void handleAppendResponseFailure(
       final RaftMemberContext member, final AppendRequest request, final Throwable error) {
@@ -462,6 +488,10 @@ abstract class AbstractAppender implements AutoCloseable {
         reader.seek(member.getNextSnapshotChunk());
         final SnapshotChunk chunk = reader.next();
 
+        // omit the data if the member already holds the same chunk in its latest snapshot
+        final Long reusableChecksum = member.getReusableSnapshotChunks().get(chunk.id());
+        final boolean reuseChunk = reusableChecksum != null && reusableChecksum == chunk.checksum();
+
         // Create the install request, indicating whether this is the last chunk of data based on
         // the number
         // of bytes remaining in the buffer.
@@ -474,7 +504,9 @@ abstract class AbstractAppender implements AutoCloseable {
                 .withTerm(snapshot.term())
                 .withTimestamp(snapshot.timestamp().unixTimestamp())
                 .withVersion(snapshot.version())
-                .withData(chunk.data())
+                .withData(reuseChunk ? EMPTY_CHUNK_DATA : chunk.data())
+                .withChunkChecksum(chunk.checksum())
+                .withReuseChunk(reuseChunk)
                 .withChunkId(chunk.id())
                 .withInitial(member.getNextSnapshotChunk() == null)
                 .withComplete(!reader.hasNext())
@@ -523,6 +555,7 @@ abstract class AbstractAppender implements AutoCloseable {
     // once a connection to the member is re-established.
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
+    member.setReusableSnapshotChunks(null);
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -550,6 +583,11 @@ abstract class AbstractAppender implements AutoCloseable {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    // The member advertises the chunks it already holds in response to the first chunk
+    if (request.isInitial()) {
+      member.setReusableSnapshotChunks(response.reusableChunks());
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -558,8 +596,11 @@ abstract class AbstractAppender implements AutoCloseable {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
+    // If more install requests remain, increment the member's snapshot offset, skipping the chunks
+    // which the member already holds if it resumes a previous installation.
+    else if (response.nextChunkId() != null) {
+      member.setNextSnapshotChunk(response.nextChunkId());
+    } else {
       member.setNextSnapshotChunk(request.nextChunkId());
     }
 
@@ -581,6 +622,7 @@ abstract class AbstractAppender implements AutoCloseable {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
+    member.setReusableSnapshotChunks(null);
   }
 
   @Override
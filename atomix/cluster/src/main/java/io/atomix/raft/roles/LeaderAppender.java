@@ -34,6 +34,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
 
 /**
  * The leader appender is responsible for sending {@link AppendRequest}s on behalf of a leader to
@@ -52,6 +53,8 @@ final class LeaderAppender extends AbstractAppender {
   private final Map<Long, CompletableFuture<Long>> appendFutures = new HashMap<>();
   private final List<TimestampedFuture<Long>> heartbeatFutures = new ArrayList<>();
   private final long heartbeatTime;
+  private final LongConsumer flushListener = this::completeCommits;
+  private long completedCommitIndex;
 
   LeaderAppender(final LeaderRole leader) {
     super(leader.raft);
@@ -60,13 +63,16 @@ final class LeaderAppender extends AbstractAppender {
     this.heartbeatTime = leaderTime;
     this.electionTimeout = raft.getElectionTimeout().toMillis();
     this.heartbeatInterval = raft.getHeartbeatInterval().toMillis();
+    this.completedCommitIndex = raft.getFlushedIndex();
+    raft.addFlushListener(flushListener);
   }
 
   /**
    * Registers a commit handler for the given commit index.
    *
    * @param index The index for which to register the handler.
-   * @return A completable future to be completed once the given log index has been committed.
+   * @return A completable future to be completed once the given log index has been committed and
+   *     flushed.
    */
   public CompletableFuture<Long> appendEntries(final long index) {
     raft.checkThread();
@@ -75,7 +81,7 @@ final class LeaderAppender extends AbstractAppender {
       return appendEntries();
     }
 
-    if (index <= raft.getCommitIndex()) {
+    if (index <= raft.getFlushedIndex()) {
       return CompletableFuture.completedFuture(index);
     }
 
@@ -84,10 +90,13 @@ final class LeaderAppender extends AbstractAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().getActiveMemberStates().isEmpty()) {
-      final long previousCommitIndex = raft.getCommitIndex();
       raft.setCommitIndex(index);
-      completeCommits(previousCommitIndex, index);
-      return CompletableFuture.completedFuture(index);
+      if (index <= raft.getFlushedIndex()) {
+        return CompletableFuture.completedFuture(index);
+      }
+
+      // the commit is completed with its group commit
+      return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
     }
 
     // Only send entry-specific AppendRequests to active members of the cluster.
@@ -133,14 +142,18 @@ final class LeaderAppender extends AbstractAppender {
     return future;
   }
 
-  /** Completes append entries attempts up to the given index. */
-  private void completeCommits(final long previousCommitIndex, final long commitIndex) {
-    for (long i = previousCommitIndex + 1; i <= commitIndex; i++) {
+  /**
+   * Completes append entries attempts up to the given index. Called whenever committed entries are
+   * flushed, which is right after the commit unless commits are grouped.
+   */
+  private void completeCommits(final long flushedIndex) {
+    for (long i = completedCommitIndex + 1; i <= flushedIndex; i++) {
       final CompletableFuture<Long> future = appendFutures.remove(i);
       if (future != null) {
         future.complete(i);
       }
     }
+    completedCommitIndex = Math.max(completedCommitIndex, flushedIndex);
   }
 
   @Override
@@ -287,12 +300,12 @@ final class LeaderAppender extends AbstractAppender {
 
         log.debug("Replicating snapshot {} to {}", snapshot.index(), member.getMember().memberId());
         sendInstallRequest(member, buildInstallRequest(member, snapshot));
-      } else if (member.canAppend()) {
+      } else if (member.canAppend(raft.getMaxAppendsPerFollower())) {
         sendAppendRequest(member, buildAppendRequest(member, -1));
       }
     }
     // If no AppendRequest is already being sent, send an AppendRequest.
-    else if (member.canAppend()) {
+    else if (member.canAppend(raft.getMaxAppendsPerFollower())) {
       sendAppendRequest(member, buildAppendRequest(member, -1));
     }
   }
@@ -345,6 +358,9 @@ final class LeaderAppender extends AbstractAppender {
   @Override
   public void close() {
     super.close();
+    // acknowledge the entries which are already committed before failing the remaining ones
+    raft.flushCommits();
+    raft.removeFlushListener(flushListener);
     appendFutures
         .values()
         .forEach(
@@ -468,7 +484,6 @@ final class LeaderAppender extends AbstractAppender {
       final long previousCommitIndex = raft.setCommitIndex(commitIndex);
       if (commitIndex > previousCommitIndex) {
         log.trace("Committed entries up to {}", commitIndex);
-        completeCommits(previousCommitIndex, commitIndex);
       }
       return;
     }
@@ -486,7 +501,6 @@ final class LeaderAppender extends AbstractAppender {
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
       log.trace("Committed entries up to {}", commitIndex);
       raft.setCommitIndex(commitIndex);
-      completeCommits(previousCommitIndex, commitIndex);
     }
   }
 
@@ -47,6 +47,9 @@ import io.atomix.storage.journal.Indexed;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.time.WallClockTimestamp;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 
@@ -171,6 +174,7 @@ public class PassiveRole extends InactiveRole {
     }
 
     // If there is no pending snapshot, create a new snapshot.
+    Map<ByteBuffer, Long> reusableChunks = null;
     if (pendingSnapshot == null) {
       // if we have no pending snapshot then the request must be the first chunk, otherwise we could
       // receive an old request and end up in a strange state
@@ -190,11 +194,19 @@ public class PassiveRole extends InactiveRole {
                   request.index(), request.term(), WallClockTimestamp.from(request.timestamp()));
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
       snapshotReplicationMetrics.incrementCount();
+
+      reusableChunks = getReusableChunks(request);
     } else {
-      // skip if we already have this chunk
+      // skip if we already have this chunk, and let the leader resume from the next expected one
       if (pendingSnapshot.containsChunk(request.chunkId())) {
-        return CompletableFuture.completedFuture(
-            logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+        final InstallResponse.Builder response =
+            InstallResponse.builder()
+                .withStatus(RaftResponse.Status.OK)
+                .withNextChunkId(pendingSnapshot.nextExpected());
+        if (request.isInitial()) {
+          response.withReusableChunks(getReusableChunks(request));
+        }
+        return CompletableFuture.completedFuture(logResponse(response.build()));
       }
 
       // fail the request if this is not the expected next chunk
@@ -211,7 +223,37 @@ public class PassiveRole extends InactiveRole {
     }
 
     try {
-      pendingSnapshot.write(request.chunkId(), request.data());
+      if (request.reuseChunk()) {
+        if (!pendingSnapshot.reuseChunk(request.chunkId(), request.chunkChecksum())) {
+          log.debug(
+              "Failed to reuse chunk of pending snapshot {}, which is not available anymore",
+              pendingSnapshot);
+          abortPendingSnapshots();
+          return CompletableFuture.completedFuture(
+              logResponse(
+                  InstallResponse.builder()
+                      .withStatus(RaftResponse.Status.ERROR)
+                      .withError(
+                          RaftError.Type.APPLICATION_ERROR,
+                          "Failed to reuse pending snapshot chunk")
+                      .build()));
+        }
+      } else if (!pendingSnapshot.write(
+          request.chunkId(), request.data(), request.chunkChecksum())) {
+        if (reusableChunks != null) {
+          // nothing was written yet, the leader restarts with the first chunk
+          abortPendingSnapshots();
+        }
+        // otherwise the pending snapshot is kept, and the leader resumes with the rejected chunk
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(RaftResponse.Status.ERROR)
+                    .withError(
+                        RaftError.Type.APPLICATION_ERROR,
+                        "Snapshot chunk does not match its checksum")
+                    .build()));
+      }
     } catch (final Exception e) {
       log.error("Failed to write pending snapshot chunk {}, rolling back", pendingSnapshot, e);
       abortPendingSnapshots();
@@ -252,8 +294,12 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshot.setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    final InstallResponse.Builder response =
+        InstallResponse.builder().withStatus(RaftResponse.Status.OK);
+    if (reusableChunks != null) {
+      response.withReusableChunks(reusableChunks);
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
   }
 
   @Override
@@ -388,6 +434,19 @@ public class PassiveRole extends InactiveRole {
     }
   }
 
+  /**
+   * Returns the chunks of the latest snapshot, which are advertised to the leader such that it
+   * doesn't send them again.
+   */
+  private Map<ByteBuffer, Long> getReusableChunks(final InstallRequest request) {
+    if (!request.isChunkReuse()) {
+      return Collections.emptyMap();
+    }
+
+    final Snapshot currentSnapshot = raft.getSnapshotStore().getCurrentSnapshot();
+    return currentSnapshot != null ? currentSnapshot.reusableChunks() : Collections.emptyMap();
+  }
+
   /** Handles an AppendRequest. */
   protected CompletableFuture<AppendResponse> handleAppend(final AppendRequest request) {
     final CompletableFuture<AppendResponse> future = new CompletableFuture<>();
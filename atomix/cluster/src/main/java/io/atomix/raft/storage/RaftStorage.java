@@ -37,6 +37,7 @@ import io.atomix.utils.serializer.Serializer;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -71,6 +72,8 @@ public final class RaftStorage {
   private final double freeDiskBuffer;
   private final double freeMemoryBuffer;
   private final boolean flushOnCommit;
+  private final Duration groupCommitWindow;
+  private final long groupCommitMaxBytes;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
   private final SnapshotStore snapshotStore;
@@ -88,6 +91,8 @@ public final class RaftStorage {
       final double freeDiskBuffer,
       final double freeMemoryBuffer,
       final boolean flushOnCommit,
+      final Duration groupCommitWindow,
+      final long groupCommitMaxBytes,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
       final SnapshotStore snapshotStore,
@@ -103,6 +108,8 @@ public final class RaftStorage {
     this.freeDiskBuffer = freeDiskBuffer;
     this.freeMemoryBuffer = freeMemoryBuffer;
     this.flushOnCommit = flushOnCommit;
+    this.groupCommitWindow = groupCommitWindow;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
     this.retainStaleSnapshots = retainStaleSnapshots;
     this.statistics = storageStatistics;
     this.snapshotStore = snapshotStore;
@@ -318,7 +325,7 @@ public final class RaftStorage {
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntrySize(maxEntrySize)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
-        .withFlushOnCommit(flushOnCommit)
+        .withFlushOnCommit(flushOnCommit && !isGroupCommit())
         .withJournalIndexFactory(journalIndexFactory)
         .build();
   }
@@ -331,7 +338,10 @@ public final class RaftStorage {
    * memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(
+        f ->
+            JournalSegmentFile.isSegmentFile(prefix, f)
+                || JournalSegmentFile.isSegmentIndexFile(prefix, f));
   }
 
   @Override
@@ -361,6 +371,36 @@ public final class RaftStorage {
     return flushOnCommit;
   }
 
+  /**
+   * Returns whether commits are coalesced into group commits, i.e. whether flush on commit is
+   * enabled with a group commit window. The log itself does not flush on commit then; the Raft
+   * server flushes it once per group commit instead.
+   *
+   * @return Whether commits are coalesced into group commits.
+   */
+  public boolean isGroupCommit() {
+    return flushOnCommit && !groupCommitWindow.isZero();
+  }
+
+  /**
+   * Returns the window in which commits are coalesced into a single flush.
+   *
+   * @return The group commit window.
+   */
+  public Duration groupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  /**
+   * Returns the amount of unflushed bytes after which a group commit is flushed before its window
+   * elapsed.
+   *
+   * @return The max unflushed bytes of a group commit.
+   */
+  public long groupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    *
@@ -402,6 +442,8 @@ public final class RaftStorage {
     private static final double DEFAULT_FREE_DISK_BUFFER = .2;
     private static final double DEFAULT_FREE_MEMORY_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = true;
+    private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+    private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024 * 1024 * 4;
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
 
     private String prefix = DEFAULT_PREFIX;
@@ -415,6 +457,8 @@ public final class RaftStorage {
     private double freeDiskBuffer = DEFAULT_FREE_DISK_BUFFER;
     private double freeMemoryBuffer = DEFAULT_FREE_MEMORY_BUFFER;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+    private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
     private SnapshotStore snapshotStore;
@@ -635,6 +679,38 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the window in which commits are coalesced into a single flush, returning the builder for
+     * method chaining.
+     *
+     * <p>With a group commit window, a commit is not flushed immediately. Instead, all commits
+     * within the window are flushed together once it elapsed, and are only acknowledged after that
+     * flush. This trades commit latency for fewer flushes. Only applies if flush-on-commit is
+     * enabled; a zero window flushes every commit on its own.
+     *
+     * @param groupCommitWindow The group commit window.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      checkNotNull(groupCommitWindow, "groupCommitWindow cannot be null");
+      checkArgument(!groupCommitWindow.isNegative(), "groupCommitWindow must not be negative");
+      this.groupCommitWindow = groupCommitWindow;
+      return this;
+    }
+
+    /**
+     * Sets the amount of unflushed bytes after which a group commit is flushed before its window
+     * elapsed, returning the builder for method chaining.
+     *
+     * @param groupCommitMaxBytes The max unflushed bytes of a group commit.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+      checkArgument(groupCommitMaxBytes > 0, "groupCommitMaxBytes must be positive");
+      this.groupCommitMaxBytes = groupCommitMaxBytes;
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      *
@@ -714,6 +790,8 @@ public final class RaftStorage {
           freeDiskBuffer,
           freeMemoryBuffer,
           flushOnCommit,
+          groupCommitWindow,
+          groupCommitMaxBytes,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
           snapshotStore,
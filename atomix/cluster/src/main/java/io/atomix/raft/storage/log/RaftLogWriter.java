@@ -18,12 +18,44 @@ package io.atomix.raft.storage.log;
 
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.storage.journal.DelegatingJournalWriter;
+import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.SegmentedJournalWriter;
 
 /** Raft log writer. */
 public class RaftLogWriter extends DelegatingJournalWriter<RaftLogEntry> {
 
+  private long unflushedBytes;
+
   public RaftLogWriter(final SegmentedJournalWriter<RaftLogEntry> writer) {
     super(writer);
   }
+
+  @Override
+  public <T extends RaftLogEntry> Indexed<T> append(final T entry) {
+    final Indexed<T> indexed = super.append(entry);
+    unflushedBytes += indexed.size();
+    return indexed;
+  }
+
+  @Override
+  public void append(final Indexed<RaftLogEntry> entry) {
+    super.append(entry);
+    unflushedBytes += entry.size();
+  }
+
+  @Override
+  public void flush() {
+    super.flush();
+    unflushedBytes = 0;
+  }
+
+  /**
+   * Returns the size of the entries which were appended since the last {@link #flush()} of this
+   * writer.
+   *
+   * @return the count of bytes appended since the last flush
+   */
+  public long getUnflushedBytes() {
+    return unflushedBytes;
+  }
 }
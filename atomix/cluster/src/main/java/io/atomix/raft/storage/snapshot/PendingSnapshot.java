@@ -48,12 +48,29 @@ public interface PendingSnapshot {
   boolean isExpectedChunk(ByteBuffer chunkId);
 
   /**
-   * Writes the chunk data {@code chunkData} as identified by {@code chunkId}.
+   * Writes the chunk data {@code chunkData} as identified by {@code chunkId}, if it matches the
+   * given checksum.
    *
    * @param chunkId the new chunk ID
    * @param chunkData the new chunk data
+   * @param checksum the checksum of the chunk data, as computed by the sender
+   * @return true if the chunk was written, false if the data does not match the checksum, e.g.
+   *     because it was corrupted or truncated on the way
    */
-  void write(ByteBuffer chunkId, ByteBuffer chunkData);
+  boolean write(ByteBuffer chunkId, ByteBuffer chunkData, long checksum);
+
+  /**
+   * Adds the chunk identified by {@code chunkId} to the snapshot by reusing the identical chunk of
+   * a previous snapshot, instead of writing its data.
+   *
+   * @param chunkId the chunk ID
+   * @param checksum the checksum of the chunk data
+   * @return true if the chunk was reused, false if no previous snapshot contains a chunk with the
+   *     given ID and checksum
+   */
+  default boolean reuseChunk(final ByteBuffer chunkId, final long checksum) {
+    return false;
+  }
 
   /**
    * Sets that the next expected chunk ID is the one with the given {@code nextChunkId}.
@@ -62,6 +79,16 @@ public interface PendingSnapshot {
    */
   void setNextExpected(ByteBuffer nextChunkId);
 
+  /**
+   * Returns the ID of the next expected chunk, such that an interrupted installation can be resumed
+   * from there.
+   *
+   * @return the next expected chunk ID, or null if unknown
+   */
+  default ByteBuffer nextExpected() {
+    return null;
+  }
+
   /** Marks the snapshot as complete and valid. */
   void commit();
 
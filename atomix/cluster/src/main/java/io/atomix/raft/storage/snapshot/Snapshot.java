@@ -16,8 +16,11 @@
 package io.atomix.raft.storage.snapshot;
 
 import io.atomix.utils.time.WallClockTimestamp;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Manages reading and writing a single snapshot.
@@ -86,6 +89,17 @@ public interface Snapshot extends AutoCloseable, Comparable<Snapshot> {
    */
   SnapshotChunkReader newChunkReader();
 
+  /**
+   * Returns the chunks of this snapshot, which are immutable and can be reused by a later snapshot,
+   * mapped by their ID to the checksum of their data. A node which receives a snapshot advertises
+   * these chunks of its latest snapshot, such that the sender doesn't have to send them again.
+   *
+   * @return the reusable chunks of this snapshot; may be empty
+   */
+  default Map<ByteBuffer, Long> reusableChunks() {
+    return new HashMap<>();
+  }
+
   /** Closes the snapshot. */
   @Override
   void close();
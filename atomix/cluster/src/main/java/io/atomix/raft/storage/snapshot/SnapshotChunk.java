@@ -34,4 +34,11 @@ public interface SnapshotChunk {
    * @return the snapshot chunk data
    */
   ByteBuffer data();
+
+  /**
+   * Returns the checksum of the snapshot chunk data, which identifies the content of the chunk.
+   *
+   * @return the snapshot chunk checksum
+   */
+  long checksum();
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.zeebe;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import java.nio.ByteBuffer;
+
+/**
+ * Serializes a {@link ZeebeEntry} with a fixed layout, instead of using the generic field
+ * serializer, which writes and reads the data byte by byte:
+ *
+ * <ul>
+ *   <li>64-bit term
+ *   <li>64-bit timestamp
+ *   <li>64-bit lowest position
+ *   <li>64-bit highest position
+ *   <li>32-bit data length
+ *   <li>n-bit data, the already framed block of records
+ * </ul>
+ *
+ * <p>The data is copied as a whole into the output; if it is not backed by an array, e.g. a view on
+ * the write buffer of the log stream, it is put directly into the buffer of the output. On read,
+ * the data is copied once into a new heap buffer with a bulk copy. It must not be a view on the
+ * buffer of the input: the entry can outlive the memory mapping of its journal segment, which is
+ * unmapped when the segment is closed or deleted, and the segment can be truncated and overwritten
+ * while the entry is still in use.
+ */
+public final class ZeebeEntrySerializer extends Serializer<ZeebeEntry> {
+
+  public ZeebeEntrySerializer() {
+    super(false, true);
+  }
+
+  @Override
+  public void write(final Kryo kryo, final Output output, final ZeebeEntry entry) {
+    final ByteBuffer data = entry.data();
+    final int length = data.remaining();
+
+    output.writeLong(entry.term());
+    output.writeLong(entry.timestamp());
+    output.writeLong(entry.lowestPosition());
+    output.writeLong(entry.highestPosition());
+    output.writeInt(length);
+
+    if (data.hasArray()) {
+      output.writeBytes(data.array(), data.arrayOffset() + data.position(), length);
+    } else if (output instanceof ByteBufferOutput) {
+      writeToBuffer((ByteBufferOutput) output, data, length);
+    } else {
+      final byte[] bytes = new byte[length];
+      data.duplicate().get(bytes);
+      output.writeBytes(bytes);
+    }
+  }
+
+  private static void writeToBuffer(
+      final ByteBufferOutput output, final ByteBuffer data, final int length) {
+    // the position of the output is always in sync with the position of its buffer
+    final ByteBuffer target = output.getByteBuffer();
+    if (target.remaining() < length) {
+      throw new KryoException(
+          "Buffer overflow. Available: " + target.remaining() + ", required: " + length);
+    }
+
+    target.put(data.duplicate());
+    output.setPosition(target.position());
+  }
+
+  @Override
+  public ZeebeEntry read(final Kryo kryo, final Input input, final Class<ZeebeEntry> type) {
+    final long term = input.readLong();
+    final long timestamp = input.readLong();
+    final long lowestPosition = input.readLong();
+    final long highestPosition = input.readLong();
+    final int length = input.readInt();
+
+    final ByteBuffer data = ByteBuffer.wrap(input.readBytes(length));
+    return new ZeebeEntry(term, timestamp, lowestPosition, highestPosition, data);
+  }
+}
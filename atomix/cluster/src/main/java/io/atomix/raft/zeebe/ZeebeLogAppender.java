@@ -29,6 +29,9 @@ public interface ZeebeLogAppender {
   /**
    * Appends an entry to the local Raft log and schedules replication to each follower.
    *
+   * <p>The data is only valid until {@link AppendListener#onWrite(Indexed)} or {@link
+   * AppendListener#onWriteError(Throwable)} is called, it must not be accessed afterwards.
+   *
    * @param lowestPosition lowest record position in the data buffer
    * @param highestPosition highest record position in the data buffer
    * @param data data to store in the entry
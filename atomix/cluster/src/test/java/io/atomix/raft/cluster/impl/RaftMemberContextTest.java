@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static io.atomix.raft.cluster.impl.RaftMemberContext.MIN_APPEND_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import java.time.Instant;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RaftMemberContextTest {
+
+  private static final int MAX_BATCH_SIZE = 8 * MIN_APPEND_BATCH_SIZE;
+
+  private RaftMemberContext member;
+
+  @Before
+  public void setUp() {
+    member =
+        new RaftMemberContext(
+            new DefaultRaftMember(MemberId.from("1"), Type.ACTIVE, Instant.now()), null);
+  }
+
+  @Test
+  public void shouldStartWithMinBatchSize() {
+    assertThat(member.getAppendBatchSize(MAX_BATCH_SIZE)).isEqualTo(MIN_APPEND_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldNotExceedMaxBatchSize() {
+    // given
+    final int maxBatchSize = MIN_APPEND_BATCH_SIZE / 2;
+
+    // when
+    member.adaptAppendBatchSize(10, true, maxBatchSize);
+
+    // then
+    assertThat(member.getAppendBatchSize(maxBatchSize)).isEqualTo(maxBatchSize);
+  }
+
+  @Test
+  public void shouldGrowBatchSizeWhileLagging() {
+    // when
+    for (int i = 0; i < 5; i++) {
+      member.adaptAppendBatchSize(10, true, MAX_BATCH_SIZE);
+      member.completeAppend(10);
+    }
+
+    // then
+    assertThat(member.getAppendBatchSize(MAX_BATCH_SIZE)).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldNotGrowBatchSizeIfNotLagging() {
+    // when
+    member.adaptAppendBatchSize(10, false, MAX_BATCH_SIZE);
+
+    // then
+    assertThat(member.getAppendBatchSize(MAX_BATCH_SIZE)).isEqualTo(MIN_APPEND_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldShrinkBatchSizeOnSlowAppend() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      member.adaptAppendBatchSize(10, true, MAX_BATCH_SIZE);
+      member.completeAppend(10);
+    }
+
+    // when
+    member.adaptAppendBatchSize(100, true, MAX_BATCH_SIZE);
+
+    // then
+    assertThat(member.getAppendBatchSize(MAX_BATCH_SIZE)).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  public void shouldResetBatchSize() {
+    // given
+    member.adaptAppendBatchSize(10, true, MAX_BATCH_SIZE);
+
+    // when
+    member.resetAppendBatchSize();
+
+    // then
+    assertThat(member.getAppendBatchSize(MAX_BATCH_SIZE)).isEqualTo(MIN_APPEND_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldLimitAppendsInFlight() {
+    // given
+    member.appendSucceeded();
+    member.startAppend();
+    member.startAppend();
+
+    // then
+    assertThat(member.canAppend(2)).isFalse();
+    assertThat(member.getAppending()).isEqualTo(2);
+  }
+}
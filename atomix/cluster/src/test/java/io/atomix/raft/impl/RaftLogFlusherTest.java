@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.storage.log.RaftLogWriter;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RaftLogFlusherTest {
+
+  private static final Duration WINDOW = Duration.ofMillis(5);
+  private static final long MAX_BYTES = 1024;
+
+  private final List<Long> flushedIndexes = new ArrayList<>();
+  private final List<Runnable> scheduledFlushes = new ArrayList<>();
+  private RaftLogWriter writer;
+  private ThreadContext threadContext;
+
+  @Before
+  public void setup() {
+    writer = mock(RaftLogWriter.class);
+    threadContext = mock(ThreadContext.class);
+    when(threadContext.schedule(any(Duration.class), any(Runnable.class)))
+        .then(
+            i -> {
+              scheduledFlushes.add(i.getArgument(1));
+              return mock(Scheduled.class);
+            });
+  }
+
+  @Test
+  public void shouldAcknowledgeCommitImmediatelyWithoutGroupCommit() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ZERO);
+
+    // when
+    flusher.commit(1);
+    flusher.commit(2);
+
+    // then
+    assertThat(flusher.getFlushedIndex()).isEqualTo(2);
+    assertThat(flushedIndexes).containsExactly(1L, 2L);
+    assertThat(scheduledFlushes).isEmpty();
+    // the log flushes itself on commit
+    verify(writer, never()).flush();
+  }
+
+  @Test
+  public void shouldFlushCommitsOnceWindowElapsed() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(WINDOW);
+
+    // when
+    flusher.commit(1);
+    flusher.commit(2);
+    flusher.commit(3);
+
+    // then
+    assertThat(flusher.getFlushedIndex()).isZero();
+    assertThat(flushedIndexes).isEmpty();
+    assertThat(scheduledFlushes).hasSize(1);
+    verify(threadContext).schedule(eq(WINDOW), any(Runnable.class));
+
+    // when
+    scheduledFlushes.get(0).run();
+
+    // then
+    verify(writer, times(1)).flush();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(3);
+    assertThat(flushedIndexes).containsExactly(3L);
+  }
+
+  @Test
+  public void shouldFlushCommitsOnceMaxBytesExceeded() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(WINDOW);
+    flusher.commit(1);
+
+    // when
+    when(writer.getUnflushedBytes()).thenReturn(MAX_BYTES);
+    flusher.commit(2);
+
+    // then
+    verify(writer, times(1)).flush();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(2);
+    assertThat(flushedIndexes).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldScheduleNextFlushForNextCommit() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(WINDOW);
+    flusher.commit(1);
+    scheduledFlushes.get(0).run();
+
+    // when
+    flusher.commit(2);
+
+    // then
+    assertThat(scheduledFlushes).hasSize(2);
+    assertThat(flusher.getFlushedIndex()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotFlushWithoutPendingCommits() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(WINDOW);
+    flusher.commit(1);
+    flusher.flush();
+
+    // when
+    flusher.flush();
+
+    // then
+    verify(writer, times(1)).flush();
+    assertThat(flushedIndexes).containsExactly(1L);
+  }
+
+  private RaftLogFlusher newFlusher(final Duration window) {
+    return new RaftLogFlusher(
+        "raft-partition-partition-1",
+        writer,
+        threadContext,
+        true,
+        window,
+        MAX_BYTES,
+        flushedIndexes::add);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+public class RaftMessageCompressorTest {
+
+  @Test
+  public void shouldDecompressCompressedPayload() {
+    // given
+    final byte[] payload =
+        "{\"orderId\":1,\"amount\":100}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final byte[] compressed = RaftMessageCompressor.compress(payload);
+
+    // then
+    assertThat(compressed).isNotNull();
+    assertThat(compressed.length).isLessThan(payload.length);
+    assertThat(RaftMessageCompressor.decompress(compressed)).isEqualTo(payload);
+  }
+
+  @Test
+  public void shouldNotCompressIncompressiblePayload() {
+    // given
+    final byte[] payload = new byte[1024];
+    new Random(1).nextBytes(payload);
+
+    // when
+    final byte[] compressed = RaftMessageCompressor.compress(payload);
+
+    // then
+    assertThat(compressed).isNull();
+  }
+
+  @Test
+  public void shouldFailToDecompressCorruptedPayload() {
+    // given
+    final byte[] payload = "data".repeat(100).getBytes(StandardCharsets.UTF_8);
+    final byte[] compressed = RaftMessageCompressor.compress(payload);
+
+    // when
+    compressed[compressed.length / 2] ^= 0xFF;
+
+    // then
+    assertThatThrownBy(() -> RaftMessageCompressor.decompress(compressed))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.Test;
+
+public class InstallResponseTest {
+
+  @Test
+  public void shouldSerializeReusableChunks() {
+    // given
+    final InstallResponse response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withReusableChunks(Map.of(chunkId("000012.sst"), 12L, chunkId("000013.sst"), 13L))
+            .build();
+
+    // when
+    final ChunkReuseInstallResponse deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(
+            RaftNamespaces.RAFT_PROTOCOL.serialize(new ChunkReuseInstallResponse(response)));
+
+    // then
+    assertThat(deserialized.response()).isEqualTo(response);
+    assertThat(deserialized.response().reusableChunks())
+        .containsOnly(Map.entry(chunkId("000012.sst"), 12L), Map.entry(chunkId("000013.sst"), 13L));
+  }
+
+  @Test
+  public void shouldNotSerializeReusableChunksWithoutChunkReuse() {
+    // given
+    final InstallResponse response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withReusableChunks(Map.of(chunkId("000012.sst"), 12L))
+            .build();
+
+    // when
+    final InstallResponse deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(response));
+
+    // then
+    assertThat(deserialized.reusableChunks()).isNull();
+  }
+
+  @Test
+  public void shouldSerializeReuseChunkOfRequest() {
+    // given
+    final InstallRequest request = installRequest().withReuseChunk(true).build();
+
+    // when
+    final ChunkReuseInstallRequest deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(
+            RaftNamespaces.RAFT_PROTOCOL.serialize(new ChunkReuseInstallRequest(request)));
+
+    // then
+    assertThat(deserialized.request().chunkId()).isEqualTo(request.chunkId());
+    assertThat(deserialized.request().chunkChecksum()).isEqualTo(request.chunkChecksum());
+    assertThat(deserialized.request().reuseChunk()).isTrue();
+    assertThat(deserialized.request().isChunkReuse()).isTrue();
+  }
+
+  @Test
+  public void shouldNotSerializeReuseChunkOfRequestWithoutChunkReuse() {
+    // given
+    final InstallRequest request = installRequest().withReuseChunk(true).build();
+
+    // when
+    final InstallRequest deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
+
+    // then
+    assertThat(deserialized.reuseChunk()).isFalse();
+    assertThat(deserialized.isChunkReuse()).isFalse();
+    assertThat(deserialized.chunkChecksum()).isEqualTo(request.chunkChecksum());
+  }
+
+  @Test
+  public void shouldSerializeResponseWithoutReusableChunks() {
+    // given
+    final InstallResponse response = InstallResponse.builder().withStatus(Status.OK).build();
+
+    // when
+    final InstallResponse deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(response));
+
+    // then
+    assertThat(deserialized).isEqualTo(response);
+    assertThat(deserialized.reusableChunks()).isNull();
+  }
+
+  @Test
+  public void shouldSerializeNextChunkId() {
+    // given
+    final InstallResponse response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withNextChunkId(chunkId("000012.sst/4096"))
+            .build();
+
+    // when
+    final InstallResponse deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(response));
+
+    // then
+    assertThat(deserialized.nextChunkId()).isEqualTo(chunkId("000012.sst/4096"));
+  }
+
+  private static InstallRequest.Builder installRequest() {
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.from("1"))
+        .withIndex(10)
+        .withTerm(1)
+        .withTimestamp(1)
+        .withVersion(1)
+        .withChunkId(chunkId("000012.sst"))
+        .withNextChunkId(chunkId("000013.sst"))
+        .withData(ByteBuffer.allocate(0))
+        .withChunkChecksum(12L)
+        .withInitial(true)
+        .withComplete(false);
+  }
+
+  private static ByteBuffer chunkId(final String name) {
+    return ByteBuffer.wrap(name.getBytes(StandardCharsets.US_ASCII));
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.zeebe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class ZeebeEntrySerializerTest {
+
+  private static final Namespace LEGACY_NAMESPACE =
+      Namespace.builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+          .register(ZeebeEntry.class)
+          .build();
+  private static final Namespace NAMESPACE =
+      Namespace.builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+          .register(ZeebeEntry.class)
+          .register(new ZeebeEntrySerializer(), ZeebeEntry.class)
+          .build();
+
+  @Test
+  public void shouldSerializeAndDeserializeEntry() {
+    // given
+    final ZeebeEntry entry = newEntry("foo");
+
+    // when
+    final ZeebeEntry deserialized =
+        RaftNamespaces.RAFT_STORAGE.deserialize(RaftNamespaces.RAFT_STORAGE.serialize(entry));
+
+    // then
+    assertEntryEquals(entry, deserialized);
+  }
+
+  @Test
+  public void shouldCopyDataOfDirectBuffer() {
+    // given
+    final ZeebeEntry entry = newEntry("foo");
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+    NAMESPACE.serialize(entry, buffer);
+    buffer.flip();
+
+    // when
+    final ZeebeEntry deserialized = NAMESPACE.deserialize(buffer);
+    buffer.clear();
+    NAMESPACE.serialize(newEntry("bar"), buffer);
+
+    // then
+    assertEntryEquals(entry, deserialized);
+    assertFalse(deserialized.data().isDirect());
+  }
+
+  @Test
+  public void shouldCopyDataOfHeapBuffer() {
+    // given
+    final ZeebeEntry entry = newEntry("foo");
+    final ByteBuffer buffer = ByteBuffer.allocate(128);
+    NAMESPACE.serialize(entry, buffer);
+    buffer.flip();
+
+    // when
+    final ZeebeEntry deserialized = NAMESPACE.deserialize(buffer);
+    buffer.clear();
+    NAMESPACE.serialize(newEntry("bar"), buffer);
+
+    // then
+    assertEntryEquals(entry, deserialized);
+    assertFalse(deserialized.data().isDirect());
+  }
+
+  @Test
+  public void shouldWriteDataOfDirectBuffer() {
+    // given
+    final byte[] bytes = "foo".getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer data = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, data);
+    final ByteBuffer buffer = ByteBuffer.allocate(128);
+
+    // when
+    NAMESPACE.serialize(entry, buffer);
+    buffer.flip();
+
+    // then
+    assertEntryEquals(entry, NAMESPACE.deserialize(buffer));
+    assertEquals(3, data.remaining());
+  }
+
+  @Test
+  public void shouldReadEntryOfLegacyFormat() {
+    // given
+    final ZeebeEntry entry = newEntry("foo");
+    final byte[] legacyBytes = LEGACY_NAMESPACE.serialize(entry);
+
+    // when
+    final ZeebeEntry deserialized = NAMESPACE.deserialize(legacyBytes);
+
+    // then
+    assertEntryEquals(entry, deserialized);
+  }
+
+  @Test
+  public void shouldWriteDataAsBlock() {
+    // given
+    final ZeebeEntry entry = newEntry("foo");
+
+    // when
+    final ByteBuffer buffer = ByteBuffer.wrap(NAMESPACE.serialize(entry));
+
+    // then
+    final int dataOffset = buffer.limit() - 3;
+    assertEquals(3, buffer.getInt(dataOffset - Integer.BYTES));
+    assertEquals(4, buffer.getLong(dataOffset - Integer.BYTES - Long.BYTES));
+    assertEquals(3, buffer.getLong(dataOffset - Integer.BYTES - 2 * Long.BYTES));
+    assertEquals(entry.data(), buffer.position(dataOffset));
+  }
+
+  private static ZeebeEntry newEntry(final String data) {
+    return new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static void assertEntryEquals(final ZeebeEntry expected, final ZeebeEntry actual) {
+    assertEquals(expected.term(), actual.term());
+    assertEquals(expected.timestamp(), actual.timestamp());
+    assertEquals(expected, actual);
+  }
+}
@@ -249,6 +249,7 @@ public class JournalSegment<E> implements AutoCloseable {
     unmap();
     writer.close();
     readers.forEach(reader -> reader.close());
+    index.close();
     open = false;
   }
 
@@ -260,6 +261,7 @@ public class JournalSegment<E> implements AutoCloseable {
   public void delete() {
     try {
       Files.deleteIfExists(file.file().toPath());
+      index.delete();
     } catch (final IOException e) {
       throw new StorageException(e);
     }
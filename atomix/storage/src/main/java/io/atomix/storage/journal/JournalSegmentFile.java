@@ -29,10 +29,11 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private final File file;
 
   /** @throws IllegalArgumentException if {@code file} is not a valid segment file */
-  JournalSegmentFile(final File file) {
+  public JournalSegmentFile(final File file) {
     this.file = file;
   }
 
@@ -55,6 +56,21 @@ public final class JournalSegmentFile {
    * @throws NullPointerException if {@code file} is null
    */
   public static boolean isSegmentFile(final String journalName, final String fileName) {
+    return isJournalFile(journalName, fileName, EXTENSION);
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file appears to be an index file of a
+   * segment, see {@link #indexFile()}.
+   *
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isSegmentIndexFile(final String journalName, final File file) {
+    return isJournalFile(journalName, file.getName(), INDEX_EXTENSION);
+  }
+
+  private static boolean isJournalFile(
+      final String journalName, final String fileName, final String extension) {
     checkNotNull(journalName, "journalName cannot be null");
     checkNotNull(fileName, "fileName cannot be null");
 
@@ -64,7 +80,7 @@ public final class JournalSegmentFile {
     if (extensionSeparator == -1
         || partSeparator == -1
         || extensionSeparator < partSeparator
-        || !fileName.endsWith(EXTENSION)) {
+        || !fileName.endsWith(extension)) {
       return false;
     }
 
@@ -91,4 +107,15 @@ public final class JournalSegmentFile {
   public File file() {
     return file;
   }
+
+  /**
+   * Returns the file next to the segment file, which can be used to store an index of the segment.
+   *
+   * @return The index file of the segment.
+   */
+  public File indexFile() {
+    final String fileName = file.getName();
+    final String baseName = fileName.substring(0, fileName.lastIndexOf(EXTENSION_SEPARATOR) + 1);
+    return new File(file.getParentFile(), baseName + INDEX_EXTENSION);
+  }
 }
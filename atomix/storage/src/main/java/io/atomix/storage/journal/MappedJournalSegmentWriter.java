@@ -19,6 +19,7 @@ package io.atomix.storage.journal;
 import com.esotericsoftware.kryo.KryoException;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
 import io.atomix.utils.memory.BufferCleaner;
 import io.atomix.utils.serializer.Namespace;
 import java.io.IOException;
@@ -174,10 +175,31 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void reset(final long index) {
-    long nextIndex = firstIndex;
+    // If the index only belongs to this segment, start reading at the last indexed entry instead
+    // of scanning the whole segment.
+    final Position indexedPosition =
+        this.index.isSegmentIndex() ? this.index.lookup(index == 0 ? Long.MAX_VALUE : index) : null;
+    if (indexedPosition != null && indexedPosition.index() >= firstIndex) {
+      lastEntry = null;
+      reset(index, indexedPosition.index(), indexedPosition.position());
+
+      if (lastEntry == null) {
+        // the indexed position doesn't point to a valid entry, so the index is stale
+        reset(index, firstIndex, JournalSegmentDescriptor.BYTES);
+      }
+
+      // Remove everything from the index which is no longer part of the segment.
+      this.index.truncate(getLastIndex());
+    } else {
+      reset(index, firstIndex, JournalSegmentDescriptor.BYTES);
+    }
+  }
+
+  private void reset(final long index, final long startIndex, final int startPosition) {
+    long nextIndex = startIndex;
 
     // Clear the buffer indexes.
-    buffer.position(JournalSegmentDescriptor.BYTES);
+    buffer.position(startPosition);
 
     // Record the current buffer position.
     int position = buffer.position();
@@ -488,7 +488,12 @@ public class SegmentedJournal<E> implements Journal<E> {
   protected JournalSegment<E> newSegment(
       final JournalSegmentFile segmentFile, final JournalSegmentDescriptor descriptor) {
     return new JournalSegment<>(
-        segmentFile, descriptor, storageLevel, maxEntrySize, namespace, journalIndexFactory.get());
+        segmentFile,
+        descriptor,
+        storageLevel,
+        maxEntrySize,
+        namespace,
+        journalIndexFactory.get().forSegment(segmentFile, descriptor));
   }
 
   /** Loads a segment. */
@@ -17,6 +17,8 @@
 package io.atomix.storage.journal.index;
 
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegmentDescriptor;
+import io.atomix.storage.journal.JournalSegmentFile;
 
 /** Journal index. */
 public interface JournalIndex {
@@ -56,4 +58,36 @@ public interface JournalIndex {
    * @param index the index to which to compact the index
    */
   void compact(long index);
+
+  /**
+   * Returns the index which should be used for the given segment. Implementations which keep a
+   * dedicated index per segment, e.g. next to the segment file, can return a new instance here. Per
+   * default the same index is used for all segments.
+   *
+   * @param file the file of the segment
+   * @param descriptor the descriptor of the segment
+   * @return the index of the segment
+   */
+  default JournalIndex forSegment(
+      final JournalSegmentFile file, final JournalSegmentDescriptor descriptor) {
+    return this;
+  }
+
+  /**
+   * Returns true if the index only contains entries of a single segment, e.g. if it was created by
+   * {@link #forSegment(JournalSegmentFile, JournalSegmentDescriptor)}. The segment writer can then
+   * start reading at the last indexed entry when it is reset, instead of scanning the whole
+   * segment.
+   *
+   * @return true if the index belongs to a single segment
+   */
+  default boolean isSegmentIndex() {
+    return false;
+  }
+
+  /** Closes the index, called when the corresponding segment is closed. */
+  default void close() {}
+
+  /** Deletes the index, called when the corresponding segment is deleted. */
+  default void delete() {}
 }
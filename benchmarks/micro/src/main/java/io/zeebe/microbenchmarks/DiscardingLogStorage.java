@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.LogStorageReader;
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+
+/**
+ * A log storage which acknowledges and then drops every appended block, to measure the write path
+ * of the log stream without the costs (and the memory growth) of a real storage.
+ */
+final class DiscardingLogStorage implements LogStorage {
+
+  private long nextAddress = 1;
+
+  @Override
+  public LogStorageReader newReader() {
+    return new LogStorageReader() {
+      @Override
+      public boolean isEmpty() {
+        return true;
+      }
+
+      @Override
+      public long read(final DirectBuffer readBuffer, final long address) {
+        return OP_RESULT_NO_DATA;
+      }
+
+      @Override
+      public long readLastBlock(final DirectBuffer readBuffer) {
+        return OP_RESULT_NO_DATA;
+      }
+
+      @Override
+      public long lookUpApproximateAddress(final long position) {
+        return OP_RESULT_INVALID_ADDR;
+      }
+
+      @Override
+      public void close() {}
+    };
+  }
+
+  @Override
+  public void append(
+      final long lowestPosition,
+      final long highestPosition,
+      final ByteBuffer blockBuffer,
+      final AppendListener listener) {
+    final long address = nextAddress++;
+    listener.onWrite(address);
+    listener.onCommit(address);
+  }
+
+  @Override
+  public void open() {}
+
+  @Override
+  public void close() {}
+
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  @Override
+  public boolean isClosed() {
+    return false;
+  }
+
+  @Override
+  public void flush() {}
+}
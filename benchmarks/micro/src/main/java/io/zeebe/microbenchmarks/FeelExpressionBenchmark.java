@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.el.EvaluationResult;
+import io.zeebe.el.Expression;
+import io.zeebe.el.ExpressionLanguage;
+import io.zeebe.el.ExpressionLanguageFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates a parsed FEEL expression, as done for conditions, input/output mappings and correlation
+ * keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class FeelExpressionBenchmark {
+
+  @Param({
+    "= x > 5",
+    "= order.total * 1.19",
+    "= if x > 5 then \"high\" else \"low\"",
+    "= count(order.items)"
+  })
+  private String expressionString;
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage();
+
+  private Map<String, DirectBuffer> variables;
+  private Expression expression;
+
+  @Setup
+  public void setUp() {
+    variables =
+        Map.of(
+            "x",
+            Fixtures.msgPack(10),
+            "order",
+            Fixtures.msgPack(Map.of("total", 100.5, "items", List.of("a", "b", "c"))));
+
+    expression = expressionLanguage.parseExpression(expressionString);
+    if (!expression.isValid()) {
+      throw new IllegalStateException(expression.getFailureMessage());
+    }
+
+    final EvaluationResult result = evaluateExpression();
+    if (result.isFailure()) {
+      throw new IllegalStateException(result.getFailureMessage());
+    }
+  }
+
+  @Benchmark
+  public EvaluationResult evaluateExpression() {
+    return expressionLanguage.evaluateExpression(expression, variables::get);
+  }
+}
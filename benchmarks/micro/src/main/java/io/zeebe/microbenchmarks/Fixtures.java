@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.test.util.MsgPackUtil;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The fixtures of the benchmarks. They are deterministic, such that the results of different
+ * commits can be compared.
+ */
+final class Fixtures {
+
+  static final int PARTITION_ID = 1;
+
+  private Fixtures() {}
+
+  /**
+   * Returns a MessagePack document with the given count of variables, which alternate between
+   * numbers and strings.
+   */
+  static DirectBuffer variablesDocument(final int variableCount) {
+    return MsgPackUtil.asMsgPack(variables(variableCount));
+  }
+
+  static Map<String, Object> variables(final int variableCount) {
+    final Map<String, Object> variables = new LinkedHashMap<>();
+    for (int i = 0; i < variableCount; i++) {
+      variables.put("var" + i, i % 2 == 0 ? i : "value-" + i);
+    }
+    return variables;
+  }
+
+  /** Returns the given value as MessagePack, e.g. to be used as a variable value. */
+  static DirectBuffer msgPack(final Object value) {
+    return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(value));
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.util.SyncLogStream;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Appends batches of job records to a log stream, whose storage drops the appended blocks. This
+ * covers the batch writer, the dispatcher and the log storage appender.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class LogStreamBatchWriterBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int eventsPerBatch;
+
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final JobRecord job = new JobRecord();
+
+  private ActorScheduler actorScheduler;
+  private SyncLogStream logStream;
+  private LogStreamBatchWriter writer;
+
+  @Setup
+  public void setUp() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    logStream =
+        SyncLogStream.builder()
+            .withLogName("benchmark")
+            .withPartitionId(Fixtures.PARTITION_ID)
+            .withLogStorage(new DiscardingLogStorage())
+            .withActorScheduler(actorScheduler)
+            .build();
+    writer = logStream.newLogStreamBatchWriter();
+
+    metadata
+        .protocolVersion(Protocol.PROTOCOL_VERSION)
+        .recordType(RecordType.COMMAND)
+        .valueType(ValueType.JOB)
+        .intent(JobIntent.CREATE);
+    job.setType("benchmark").setRetries(3).setVariables(Fixtures.variablesDocument(10));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    logStream.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public long appendBatch() {
+    for (int i = 0; i < eventsPerBatch; i++) {
+      writer.event().keyNull().metadataWriter(metadata).valueWriter(job).done();
+    }
+
+    // the events are kept if the dispatcher has no capacity left
+    long position;
+    do {
+      position = writer.tryWrite();
+    } while (position < 0);
+
+    return position;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Writes a document with {@link MsgPackWriter} and reads it back with {@link MsgPackReader}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MsgPackBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int entryCount;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64 * 1024]);
+
+  private DirectBuffer[] keys;
+  private DirectBuffer[] stringValues;
+
+  @Setup
+  public void setUp() {
+    keys = new DirectBuffer[entryCount];
+    stringValues = new DirectBuffer[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      keys[i] = BufferUtil.wrapString("key" + i);
+      stringValues[i] = BufferUtil.wrapString("value-" + i);
+    }
+  }
+
+  @Benchmark
+  public void writeAndRead(final Blackhole blackhole) {
+    writer.wrap(buffer, 0);
+    writer.writeMapHeader(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      writer.writeString(keys[i]);
+      if (i % 2 == 0) {
+        writer.writeInteger(i);
+      } else {
+        writer.writeString(stringValues[i]);
+      }
+    }
+
+    reader.wrap(buffer, 0, writer.getOffset());
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      blackhole.consume(reader.readToken());
+      blackhole.consume(reader.readToken());
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.engine.processor.StreamProcessor;
+import io.zeebe.engine.processor.TypedRecordProcessors;
+import io.zeebe.engine.processor.workflow.job.JobEventProcessors;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.util.TestStreams;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.test.util.AutoCloseableRule;
+import io.zeebe.util.sched.ActorScheduler;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingMillisIdleStrategy;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes a stream of job create commands and waits until the stream processor processed them. This
+ * covers the processing state machine with the job processors, the state and the log stream, which
+ * keeps the records in memory. The log is therefore recreated for every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ProcessingStateMachineBenchmark {
+
+  private static final String STREAM_NAME = "benchmark";
+  private static final int COMMANDS_PER_INVOCATION = 1_000;
+
+  private final JobRecord job = new JobRecord();
+  private final IdleStrategy idleStrategy = new SleepingMillisIdleStrategy(1);
+
+  private TemporaryFolder dataDirectory;
+  private AutoCloseableRule closeables;
+  private ActorScheduler actorScheduler;
+  private StreamProcessor streamProcessor;
+  private TestStreams.FluentLogWriter commandWriter;
+
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    dataDirectory = new TemporaryFolder();
+    dataDirectory.create();
+    closeables = new AutoCloseableRule();
+
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    final TestStreams streams = new TestStreams(dataDirectory, closeables, actorScheduler);
+    streams.createLogStream(STREAM_NAME, Fixtures.PARTITION_ID);
+    streamProcessor =
+        streams.startStreamProcessor(
+            STREAM_NAME,
+            DefaultZeebeDbFactory.DEFAULT_DB_FACTORY,
+            processingContext -> {
+              final var zeebeState = processingContext.getZeebeState();
+              final var processors = TypedRecordProcessors.processors(zeebeState.getKeyGenerator());
+              JobEventProcessors.addJobProcessors(
+                  processors, zeebeState, type -> {}, processingContext.getMaxFragmentSize());
+              return processors;
+            });
+
+    final LogStreamRecordWriter writer = streams.getLogStreamRecordWriter(STREAM_NAME);
+    job.setType("benchmark").setRetries(3).setVariables(Fixtures.variablesDocument(10));
+    commandWriter =
+        streams
+            .newRecord(writer)
+            .recordType(RecordType.COMMAND)
+            .intent(JobIntent.CREATE)
+            .event(job);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws Exception {
+    closeables.after();
+    actorScheduler.stop().get();
+    dataDirectory.delete();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COMMANDS_PER_INVOCATION)
+  public long processJobCommands() {
+    long position = -1;
+    for (int i = 0; i < COMMANDS_PER_INVOCATION; i++) {
+      position = commandWriter.write();
+    }
+
+    while (streamProcessor.getLastProcessedPositionAsync().join() < position) {
+      idleStrategy.idle();
+    }
+
+    return position;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decodes a populated record value, as the stream processor does for every record it processes,
+ * replays or exports. Every key of the record is resolved to one of its declared properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RecordDecodingBenchmark {
+
+  @Param({"JOB", "WORKFLOW_INSTANCE", "MESSAGE", "VARIABLE"})
+  private RecordType recordType;
+
+  private UnifiedRecordValue record;
+  private UnsafeBuffer buffer;
+
+  @Setup
+  public void setUp() {
+    final UnifiedRecordValue value = recordType.newRecord.get();
+    buffer = new UnsafeBuffer(new byte[value.getLength()]);
+    value.write(buffer, 0);
+
+    record = recordType.emptyRecord.get();
+  }
+
+  @Benchmark
+  public UnifiedRecordValue decode() {
+    record.wrap(buffer, 0, buffer.capacity());
+    return record;
+  }
+
+  private static JobRecord newJobRecord() {
+    return new JobRecord()
+        .setType("payment-service")
+        .setWorker("worker-1")
+        .setRetries(3)
+        .setDeadline(1_000L)
+        .setErrorMessage("")
+        .setCustomHeaders(Fixtures.variablesDocument(3))
+        .setVariables(Fixtures.variablesDocument(5))
+        .setBpmnProcessId("process")
+        .setWorkflowDefinitionVersion(1)
+        .setWorkflowKey(1L)
+        .setWorkflowInstanceKey(2L)
+        .setElementId("task")
+        .setElementInstanceKey(3L);
+  }
+
+  private static WorkflowInstanceRecord newWorkflowInstanceRecord() {
+    return new WorkflowInstanceRecord()
+        .setBpmnProcessId("process")
+        .setVersion(1)
+        .setWorkflowKey(1L)
+        .setWorkflowInstanceKey(2L)
+        .setElementId("task")
+        .setFlowScopeKey(2L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+        .setParentWorkflowInstanceKey(-1L)
+        .setParentElementInstanceKey(-1L);
+  }
+
+  private static MessageRecord newMessageRecord() {
+    return new MessageRecord()
+        .setName("message")
+        .setCorrelationKey("order-123")
+        .setMessageId("message-1")
+        .setTimeToLive(10_000L)
+        .setVariables(Fixtures.variablesDocument(5));
+  }
+
+  private static VariableRecord newVariableRecord() {
+    return new VariableRecord()
+        .setName(BufferUtil.wrapString("variable"))
+        .setValue(Fixtures.msgPack("value"))
+        .setScopeKey(3L)
+        .setWorkflowInstanceKey(2L)
+        .setWorkflowKey(1L);
+  }
+
+  public enum RecordType {
+    JOB(RecordDecodingBenchmark::newJobRecord, JobRecord::new),
+    WORKFLOW_INSTANCE(
+        RecordDecodingBenchmark::newWorkflowInstanceRecord, WorkflowInstanceRecord::new),
+    MESSAGE(RecordDecodingBenchmark::newMessageRecord, MessageRecord::new),
+    VARIABLE(RecordDecodingBenchmark::newVariableRecord, VariableRecord::new);
+
+    private final Supplier<UnifiedRecordValue> newRecord;
+    private final Supplier<UnifiedRecordValue> emptyRecord;
+
+    RecordType(
+        final Supplier<UnifiedRecordValue> newRecord,
+        final Supplier<UnifiedRecordValue> emptyRecord) {
+      this.newRecord = newRecord;
+      this.emptyRecord = emptyRecord;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.instance.VariablesState;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Merges a document into the variables of a nested scope and collects them again, as done when a
+ * job is completed and when a job is activated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class VariablesStateBenchmark {
+
+  private static final long WORKFLOW_KEY = 1;
+  private static final long ROOT_SCOPE_KEY = 2;
+  private static final long SCOPE_KEY = 3;
+
+  @Param({"1", "10", "100"})
+  private int variableCount;
+
+  private final TemporaryFolder dataDirectory = new TemporaryFolder();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private VariablesState variablesState;
+  private DirectBuffer document;
+
+  @Setup
+  public void setUp() throws IOException {
+    dataDirectory.create();
+    zeebeDb = DefaultZeebeDbFactory.DEFAULT_DB_FACTORY.createDb(dataDirectory.newFolder());
+    final ZeebeState zeebeState =
+        new ZeebeState(Fixtures.PARTITION_ID, zeebeDb, zeebeDb.createContext());
+    variablesState = zeebeState.getWorkflowState().getElementInstanceState().getVariablesState();
+
+    variablesState.createScope(ROOT_SCOPE_KEY, VariablesState.NO_PARENT);
+    variablesState.createScope(SCOPE_KEY, ROOT_SCOPE_KEY);
+
+    document = Fixtures.variablesDocument(variableCount);
+    variablesState.setVariablesFromDocument(SCOPE_KEY, WORKFLOW_KEY, document);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    dataDirectory.delete();
+  }
+
+  @Benchmark
+  public void setVariablesFromDocument() {
+    variablesState.setVariablesFromDocument(SCOPE_KEY, WORKFLOW_KEY, document);
+  }
+
+  @Benchmark
+  public DirectBuffer getVariablesAsDocument() {
+    return variablesState.getVariablesAsDocument(SCOPE_KEY);
+  }
+}
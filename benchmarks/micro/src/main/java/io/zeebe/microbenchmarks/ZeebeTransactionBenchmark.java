@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Puts and gets values of a column family within a transaction, with the options which are used by
+ * the broker.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ZeebeTransactionBenchmark {
+
+  private static final int KEY_COUNT = 100_000;
+
+  private final TemporaryFolder dataDirectory = new TemporaryFolder();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbContext dbContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private long nextKey;
+
+  @Setup
+  public void setUp() throws IOException {
+    dataDirectory.create();
+    zeebeDb = DefaultZeebeDbFactory.DEFAULT_DB_FACTORY.createDb(dataDirectory.newFolder());
+    dbContext = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(ZbColumnFamilies.JOBS, dbContext, key, value);
+
+    dbContext.runInTransaction(
+        () -> {
+          for (long i = 0; i < KEY_COUNT; i++) {
+            key.wrapLong(i);
+            value.wrapLong(i);
+            columnFamily.put(key, value);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    dataDirectory.delete();
+  }
+
+  @Benchmark
+  public void put() {
+    key.wrapLong(nextKey());
+    value.wrapLong(nextKey);
+    dbContext.runInTransaction(() -> columnFamily.put(key, value));
+  }
+
+  @Benchmark
+  public DbLong get() {
+    key.wrapLong(nextKey());
+    return columnFamily.get(key);
+  }
+
+  private long nextKey() {
+    nextKey = (nextKey + 1) % KEY_COUNT;
+    return nextKey;
+  }
+}
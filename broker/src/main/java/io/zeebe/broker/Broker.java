@@ -22,6 +22,7 @@ import io.zeebe.broker.clustering.atomix.AtomixFactory;
 import io.zeebe.broker.clustering.topology.TopologyManagerImpl;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.broker.engine.impl.DeploymentDistributorImpl;
+import io.zeebe.broker.engine.impl.JobStreamService;
 import io.zeebe.broker.engine.impl.LongPollingJobNotification;
 import io.zeebe.broker.engine.impl.PartitionCommandSenderImpl;
 import io.zeebe.broker.engine.impl.SubscriptionApiCommandMessageHandlerService;
@@ -41,9 +42,12 @@ import io.zeebe.broker.system.partitions.ZeebePartition;
 import io.zeebe.broker.system.partitions.impl.AtomixPartitionMessagingService;
 import io.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
+import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.engine.processor.ProcessingContext;
 import io.zeebe.engine.processor.workflow.EngineProcessors;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.storage.atomix.ZeebeIndexAdapter;
@@ -87,6 +91,7 @@ public final class Broker implements AutoCloseable {
   private TopologyManagerImpl topologyManager;
   private LeaderManagementRequestHandler managementRequestHandler;
   private CommandApiService commandHandler;
+  private JobStreamService jobStreamService;
   private ActorScheduler scheduler;
   private CloseProcess closeProcess;
   private EmbeddedGatewayService embeddedGatewayService;
@@ -153,8 +158,9 @@ public final class Broker implements AutoCloseable {
     final ClusterCfg clusterCfg = brokerCfg.getCluster();
     final BrokerInfo localBroker =
         new BrokerInfo(
-            clusterCfg.getNodeId(),
-            SocketUtil.toHostAndPortString(networkCfg.getCommandApi().getAdvertisedAddress()));
+                clusterCfg.getNodeId(),
+                SocketUtil.toHostAndPortString(networkCfg.getCommandApi().getAdvertisedAddress()))
+            .setMaxMessageSize((int) networkCfg.getMaxMessageSizeInBytes());
 
     final StartProcess startContext = new StartProcess("Broker-" + localBroker.getNodeId());
 
@@ -162,6 +168,7 @@ public final class Broker implements AutoCloseable {
     startContext.addStep("membership and replication protocol", () -> atomixCreateStep(brokerCfg));
     startContext.addStep(
         "command api transport", () -> commandApiTransportStep(clusterCfg, localBroker));
+    startContext.addStep("job streams", () -> jobStreamsStep(localBroker));
     startContext.addStep(
         "command api handler", () -> commandApiHandlerStep(brokerCfg, localBroker));
     startContext.addStep("subscription api", () -> subscriptionAPIStep(localBroker));
@@ -236,6 +243,14 @@ public final class Broker implements AutoCloseable {
     };
   }
 
+  private AutoCloseable jobStreamsStep(final BrokerInfo localBroker) {
+    // the responses of the job activations for the job streams are pushed to the gateways
+    jobStreamService = new JobStreamService(localBroker, atomix, serverTransport);
+    partitionListeners.add(jobStreamService);
+    scheduleActor(jobStreamService);
+    return jobStreamService;
+  }
+
   private AutoCloseable commandApiHandlerStep(
       final BrokerCfg brokerCfg, final BrokerInfo localBroker) {
 
@@ -247,7 +262,7 @@ public final class Broker implements AutoCloseable {
               backpressure.getAlgorithm(), backpressure.useWindowed());
     }
 
-    commandHandler = new CommandApiService(serverTransport, localBroker, limiter);
+    commandHandler = new CommandApiService(serverTransport, jobStreamService, localBroker, limiter);
     partitionListeners.add(commandHandler);
     scheduleActor(commandHandler);
 
@@ -315,6 +330,10 @@ public final class Broker implements AutoCloseable {
             .collect(Collectors.toList());
 
     final StartProcess partitionStartProcess = new StartProcess("Broker-" + nodeId + " partitions");
+    // the databases of all partitions share the memory budget of the factory
+    final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory =
+        DefaultZeebeDbFactory.defaultFactory(
+            brokerCfg.getData().getRocksdb().toRocksDbConfiguration());
 
     for (final RaftPartition owningPartition : owningPartitions) {
       final var partitionId = owningPartition.id().id();
@@ -336,7 +355,8 @@ public final class Broker implements AutoCloseable {
                     brokerCfg,
                     commandHandler,
                     partitionIndexes.get(partitionId),
-                    createFactory(topologyManager, clusterCfg, atomix, managementRequestHandler));
+                    createFactory(topologyManager, clusterCfg, atomix, managementRequestHandler),
+                    zeebeDbFactory);
             scheduleActor(zeebePartition);
             healthCheckService.registerMonitoredPartition(
                 owningPartition.id().id(), zeebePartition);
@@ -363,15 +383,21 @@ public final class Broker implements AutoCloseable {
               clusterCfg, atomix, partitionListener, zeebeState.getDeploymentState(), actor);
 
       final PartitionCommandSenderImpl partitionCommandSender =
-          new PartitionCommandSenderImpl(atomix, topologyManager, actor);
+          new PartitionCommandSenderImpl(
+              atomix,
+              topologyManager,
+              actor,
+              stream.getPartitionId(),
+              clusterCfg.isSubscriptionCommandBatching());
       final SubscriptionCommandSender subscriptionCommandSender =
           new SubscriptionCommandSender(stream.getPartitionId(), partitionCommandSender);
 
       final PushDeploymentRequestHandler deploymentRequestHandler =
           requestHandler.getPushDeploymentRequestHandler();
 
+      final int partitionId = stream.getPartitionId();
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(atomix.getEventService());
+          new LongPollingJobNotification(atomix.getEventService(), partitionId);
 
       return EngineProcessors.createEngineProcessors(
           processingContext,
@@ -379,7 +405,10 @@ public final class Broker implements AutoCloseable {
           subscriptionCommandSender,
           deploymentDistributor,
           deploymentRequestHandler,
-          jobsAvailableNotification::onJobsAvailable);
+          jobType -> {
+            jobsAvailableNotification.onJobsAvailable(jobType);
+            jobStreamService.onJobsAvailable(partitionId, jobType);
+          });
     };
   }
 
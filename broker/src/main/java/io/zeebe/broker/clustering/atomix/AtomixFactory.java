@@ -19,6 +19,7 @@ import io.atomix.core.AtomixConfig;
 import io.atomix.raft.impl.zeebe.snapshot.DbSnapshotStoreFactory;
 import io.atomix.raft.partition.RaftPartitionGroup;
 import io.atomix.raft.partition.RaftPartitionGroup.Builder;
+import io.atomix.utils.memory.MemorySize;
 import io.atomix.utils.net.Address;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.system.configuration.BrokerCfg;
@@ -90,11 +91,19 @@ public final class AtomixFactory {
         RaftPartitionGroup.builder(AtomixFactory.GROUP_NAME)
             .withNumPartitions(clusterCfg.getPartitionsCount())
             .withPartitionSize(clusterCfg.getReplicationFactor())
+            .withMaxAppendsPerFollower(clusterCfg.getMaxAppendsPerFollower())
+            .withMaxAppendBatchSize(MemorySize.from(clusterCfg.getMaxAppendBatchSize().toBytes()))
+            .withReplicationCompression(clusterCfg.isReplicationCompression())
+            .withReplicationCompressionThreshold(
+                MemorySize.from(clusterCfg.getReplicationCompressionThreshold().toBytes()))
+            .withSnapshotChunkReuse(clusterCfg.isSnapshotChunkReuse())
             .withMembers(getRaftGroupMembers(clusterCfg))
             .withDataDirectory(raftDirectory)
             .withSnapshotStoreFactory(new DbSnapshotStoreFactory())
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
-            .withFlushOnCommit();
+            .withFlushOnCommit()
+            .withGroupCommitWindow(dataCfg.getGroupCommitWindow())
+            .withGroupCommitMaxBytes(MemorySize.from(dataCfg.getGroupCommitMaxSize().toBytes()));
 
     // by default, the Atomix max entry size is 1 MB
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
@@ -0,0 +1,393 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.atomix.cluster.ClusterMembershipEvent;
+import io.atomix.cluster.ClusterMembershipEvent.Type;
+import io.atomix.cluster.ClusterMembershipEventListener;
+import io.atomix.cluster.MemberId;
+import io.atomix.core.Atomix;
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.PartitionListener;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.msgpack.value.StringValue;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.data.job.JobStreamPush;
+import io.zeebe.protocol.impl.data.job.JobStreamRegistration;
+import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntHashSet;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Pushes activatable jobs to the blocked activate jobs requests which the gateways register as job
+ * streams, see {@link JobStreamRegistration}. This is a push-once long poll: a stream stands for a
+ * single blocked request and receives at most one push.
+ *
+ * <p>If jobs of a type are available on a leading partition, then a job batch activate command is
+ * written for the next stream of this type. The command activates up to the maximum number of jobs
+ * of the request and is processed like an activate jobs request of a gateway, so the activation is
+ * recorded in the log. The response of the command is not sent over the command api but is handed
+ * back to this service, which pushes the activated jobs to the gateway, see {@link JobStreamPush}.
+ * A stream has at most one activation in flight.
+ *
+ * <p>The gateway answers the blocked request with the push. So a stream is removed after the first
+ * activation which activates any job, even if it activated fewer jobs than the maximum.
+ *
+ * <p>The responses of all other commands are passed to the given server output.
+ */
+public final class JobStreamService extends Actor
+    implements PartitionListener, ServerOutput, ClusterMembershipEventListener {
+
+  private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
+
+  // the request ids of the activations are negative to distinguish them from the requests of the
+  // command api; -1 is the null value of the request id
+  private static final long FIRST_REQUEST_ID = -2L;
+
+  private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
+      new Int2ObjectHashMap<>();
+  private final Map<String, List<JobStream>> streamsByType = new HashMap<>();
+  private final Map<MemberId, Long2ObjectHashMap<JobStream>> streamsByGateway = new HashMap<>();
+  private final Long2ObjectHashMap<JobStream> pendingActivations = new Long2ObjectHashMap<>();
+
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final JobBatchRecord jobBatchRecord = new JobBatchRecord();
+  private final ExecuteCommandResponse response = new ExecuteCommandResponse();
+  private final JobStreamPush push = new JobStreamPush();
+
+  private final ServerOutput output;
+  private final Atomix atomix;
+  private final String actorName;
+
+  private long nextRequestId = FIRST_REQUEST_ID;
+
+  public JobStreamService(
+      final BrokerInfo localBroker, final Atomix atomix, final ServerOutput output) {
+    this.atomix = atomix;
+    this.output = output;
+    this.actorName = buildActorName(localBroker.getNodeId(), "JobStreamService");
+  }
+
+  @Override
+  public String getName() {
+    return actorName;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    final var communicationService = atomix.getCommunicationService();
+    communicationService.subscribe(
+        JobStreamRegistration.REGISTER_SUBJECT,
+        bytes -> bytes,
+        (MemberId gateway, byte[] registration) -> addStream(gateway, registration),
+        actor::run);
+    communicationService.subscribe(
+        JobStreamRegistration.REMOVE_SUBJECT,
+        (MemberId gateway, Long streamId) -> removeStream(gateway, streamId),
+        actor::run);
+    atomix.getMembershipService().addListener(this);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    final var communicationService = atomix.getCommunicationService();
+    communicationService.unsubscribe(JobStreamRegistration.REGISTER_SUBJECT);
+    communicationService.unsubscribe(JobStreamRegistration.REMOVE_SUBJECT);
+    atomix.getMembershipService().removeListener(this);
+  }
+
+  @Override
+  public void event(final ClusterMembershipEvent event) {
+    if (event.type() == Type.MEMBER_REMOVED) {
+      actor.run(() -> removeStreams(event.subject().id()));
+    }
+  }
+
+  @Override
+  public ActorFuture<Void> onBecomingFollower(final int partitionId, final long term) {
+    return actor.call(
+        () -> {
+          leaderPartitions.remove(partitionId);
+          dropPendingActivations(partitionId);
+          return null;
+        });
+  }
+
+  @Override
+  public ActorFuture<Void> onBecomingLeader(
+      final int partitionId, final long term, final LogStream logStream) {
+    final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
+    actor.run(
+        () ->
+            logStream
+                .newLogStreamRecordWriter()
+                .onComplete(
+                    (recordWriter, error) -> {
+                      if (error == null) {
+                        leaderPartitions.put(partitionId, recordWriter);
+                        future.complete(null);
+                      } else {
+                        Loggers.SYSTEM_LOGGER.error(
+                            "Unexpected error on retrieving write buffer for partition {}",
+                            partitionId,
+                            error);
+                        future.completeExceptionally(error);
+                      }
+                    }));
+    return future;
+  }
+
+  /** Activates jobs of the given type on the given partition for the next stream of this type. */
+  public void onJobsAvailable(final int partitionId, final String jobType) {
+    actor.run(() -> activateJobs(partitionId, jobType));
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse serverResponse) {
+    final long requestId = serverResponse.getRequestId();
+    if (requestId > FIRST_REQUEST_ID) {
+      output.sendResponse(serverResponse);
+      return;
+    }
+
+    // the response writer is reused, copy the response before leaving the stream processor
+    final int partitionId = serverResponse.getPartitionId();
+    final byte[] bytes = new byte[serverResponse.getLength()];
+    serverResponse.write(new UnsafeBuffer(bytes), 0);
+
+    actor.run(() -> onActivated(partitionId, requestId, bytes));
+  }
+
+  private void addStream(final MemberId gateway, final byte[] bytes) {
+    final JobStreamRegistration registration = new JobStreamRegistration();
+    registration.wrap(new UnsafeBuffer(bytes));
+
+    final JobStream stream = new JobStream(gateway, registration);
+    streamsByType.computeIfAbsent(stream.type, type -> new ArrayList<>()).add(stream);
+    streamsByGateway
+        .computeIfAbsent(gateway, id -> new Long2ObjectHashMap<>())
+        .put(stream.streamId, stream);
+  }
+
+  private void removeStream(final MemberId gateway, final long streamId) {
+    final var streams = streamsByGateway.get(gateway);
+    if (streams != null) {
+      final JobStream stream = streams.remove(streamId);
+      if (stream != null) {
+        removeStream(stream);
+      }
+    }
+  }
+
+  private void removeStreams(final MemberId gateway) {
+    final var streams = streamsByGateway.remove(gateway);
+    if (streams != null) {
+      streams.values().forEach(this::removeStream);
+    }
+  }
+
+  private void removeStream(final JobStream stream) {
+    stream.isRemoved = true;
+
+    final List<JobStream> streams = streamsByType.get(stream.type);
+    if (streams != null) {
+      streams.remove(stream);
+      if (streams.isEmpty()) {
+        streamsByType.remove(stream.type);
+      }
+    }
+  }
+
+  private void activateJobs(final int partitionId, final String jobType) {
+    final LogStreamRecordWriter writer = leaderPartitions.get(partitionId);
+    final List<JobStream> streams = streamsByType.get(jobType);
+    if (writer == null || streams == null) {
+      return;
+    }
+
+    // rotate the streams so that the jobs are distributed over the workers
+    for (int i = 0; i < streams.size(); i++) {
+      final JobStream stream = streams.remove(0);
+      streams.add(stream);
+
+      if (!stream.hasPendingActivation) {
+        writeActivateCommand(partitionId, writer, stream);
+        return;
+      }
+
+      // activate the jobs when the pending activation is done
+      stream.notifiedPartitions.add(partitionId);
+    }
+  }
+
+  private void writeActivateCommand(
+      final int partitionId, final LogStreamRecordWriter writer, final JobStream stream) {
+    final long requestId = nextRequestId--;
+
+    metadata
+        .reset()
+        .recordType(RecordType.COMMAND)
+        .valueType(ValueType.JOB_BATCH)
+        .intent(JobBatchIntent.ACTIVATE)
+        .requestStreamId(partitionId)
+        .requestId(requestId)
+        .protocolVersion(Protocol.PROTOCOL_VERSION);
+
+    final JobStreamRegistration registration = stream.registration;
+    final DirectBuffer type = registration.getType();
+    final DirectBuffer worker = registration.getWorker();
+    jobBatchRecord.reset();
+    jobBatchRecord
+        .setType(type, 0, type.capacity())
+        .setWorker(worker, 0, worker.capacity())
+        .setTimeout(registration.getTimeout())
+        .setMaxJobsToActivate(stream.maxJobsToActivate);
+    for (final StringValue variable : registration.variables()) {
+      jobBatchRecord.variables().add().wrap(variable);
+    }
+
+    writer.reset();
+    final long position =
+        writer.keyNull().metadataWriter(metadata).valueWriter(jobBatchRecord).tryWrite();
+
+    if (position >= 0) {
+      stream.hasPendingActivation = true;
+      stream.pendingPartitionId = partitionId;
+      pendingActivations.put(requestId, stream);
+    } else {
+      LOG.debug(
+          "Failed to write job batch activate command for job stream {} on partition {}",
+          stream.streamId,
+          partitionId);
+    }
+  }
+
+  private void onActivated(final int partitionId, final long requestId, final byte[] bytes) {
+    final JobStream stream = pendingActivations.remove(requestId);
+    if (stream == null) {
+      return;
+    }
+    stream.hasPendingActivation = false;
+
+    final DirectBuffer buffer = new UnsafeBuffer(bytes);
+    response.wrap(buffer, 0, buffer.capacity());
+
+    int activatedJobs = 0;
+    if (response.getRecordType() == RecordType.EVENT) {
+      jobBatchRecord.wrap(response.getValue());
+      for (final var ignored : jobBatchRecord.jobKeys()) {
+        activatedJobs++;
+      }
+    }
+
+    if (activatedJobs > 0) {
+      // push the jobs also if the stream is removed meanwhile, the gateway can hand them over to
+      // another worker of the same type
+      push.reset();
+      push.setStreamId(stream.streamId).setResponse(buffer);
+      atomix
+          .getCommunicationService()
+          .unicast(JobStreamPush.SUBJECT, push, JobStreamService::encode, stream.gateway);
+
+      // the gateway completes the request with the pushed jobs
+      removeStream(stream.gateway, stream.streamId);
+    }
+
+    if (stream.isRemoved) {
+      if (activatedJobs > 0) {
+        // there may be more jobs left for the other streams of this type
+        activateJobs(partitionId, stream.type);
+      }
+    } else {
+      activateNotifiedPartitions(stream);
+    }
+  }
+
+  private void dropPendingActivations(final int partitionId) {
+    // the responses of the activations are not sent anymore after the partition became follower,
+    // the jobs of a dropped activation become activatable again when they time out
+    final List<JobStream> streams = new ArrayList<>();
+    final var activations = pendingActivations.values().iterator();
+    while (activations.hasNext()) {
+      final JobStream stream = activations.next();
+      if (stream.pendingPartitionId == partitionId) {
+        activations.remove();
+        stream.hasPendingActivation = false;
+        streams.add(stream);
+      }
+    }
+
+    for (final JobStream stream : streams) {
+      stream.notifiedPartitions.remove(partitionId);
+      if (!stream.isRemoved) {
+        activateNotifiedPartitions(stream);
+      }
+    }
+  }
+
+  private void activateNotifiedPartitions(final JobStream stream) {
+    final var notifiedPartitions = stream.notifiedPartitions.iterator();
+    while (notifiedPartitions.hasNext() && !stream.hasPendingActivation) {
+      final int partitionId = notifiedPartitions.nextValue();
+      notifiedPartitions.remove();
+
+      final LogStreamRecordWriter writer = leaderPartitions.get(partitionId);
+      if (writer != null) {
+        writeActivateCommand(partitionId, writer, stream);
+      }
+    }
+  }
+
+  private static byte[] encode(final JobStreamPush push) {
+    final byte[] bytes = new byte[push.getLength()];
+    push.write(new UnsafeBuffer(bytes), 0);
+    return bytes;
+  }
+
+  private static final class JobStream {
+    private final MemberId gateway;
+    private final long streamId;
+    private final String type;
+    private final JobStreamRegistration registration;
+    private final IntHashSet notifiedPartitions = new IntHashSet();
+    private final int maxJobsToActivate;
+
+    private boolean hasPendingActivation;
+    private int pendingPartitionId;
+    private boolean isRemoved;
+
+    private JobStream(final MemberId gateway, final JobStreamRegistration registration) {
+      this.gateway = gateway;
+      this.registration = registration;
+      streamId = registration.getStreamId();
+      type = BufferUtil.bufferAsString(registration.getType());
+      maxJobsToActivate = registration.getMaxJobsToActivate();
+    }
+  }
+}
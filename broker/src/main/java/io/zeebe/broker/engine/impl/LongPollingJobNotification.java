@@ -8,16 +8,24 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.protocol.impl.data.job.JobsAvailableNotification;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class LongPollingJobNotification {
-  private static final String TOPIC = "jobsAvailable";
+  private final JobsAvailableNotification notification = new JobsAvailableNotification();
   private final ClusterEventService eventService;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  public LongPollingJobNotification(final ClusterEventService eventService, final int partitionId) {
     this.eventService = eventService;
+    notification.setPartitionId(partitionId);
   }
 
   public void onJobsAvailable(final String jobType) {
-    eventService.broadcast(TOPIC, jobType);
+    notification.setType(jobType);
+
+    final byte[] bytes = new byte[notification.getLength()];
+    notification.write(new UnsafeBuffer(bytes), 0);
+    eventService.broadcast(JobsAvailableNotification.TOPIC, bytes);
+    eventService.broadcast(JobsAvailableNotification.LEGACY_TOPIC, jobType);
   }
 }
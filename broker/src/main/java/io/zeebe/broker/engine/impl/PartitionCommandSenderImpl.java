@@ -11,41 +11,109 @@ import io.atomix.cluster.MemberId;
 import io.atomix.core.Atomix;
 import io.zeebe.broker.clustering.topology.TopologyManager;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
+import io.zeebe.engine.metrics.SubscriptionCommandMetrics;
 import io.zeebe.engine.processor.workflow.message.command.PartitionCommandSender;
+import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandBatch;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.ActorControl;
-import org.agrona.MutableDirectBuffer;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Sends the subscription commands to the leaders of the other partitions. If batching is enabled,
+ * the commands for a partition are collected for a short time and sent together as one {@link
+ * SubscriptionCommandBatch}, instead of sending one message per command. Brokers of older versions
+ * drop these batches, so batching must only be enabled when all brokers of the cluster can receive
+ * them.
+ *
+ * <p>The commands are sent by the stream processor, so the sender must only be used by the stream
+ * processor's actor.
+ */
 public final class PartitionCommandSenderImpl implements PartitionCommandSender {
 
+  static final Duration BATCH_WINDOW = Duration.ofMillis(1);
+  static final int MAX_BATCH_LENGTH = 32 * 1024;
+
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> pendingBatches =
+      new Int2ObjectHashMap<>();
+  private final SubscriptionCommandMetrics metrics = new SubscriptionCommandMetrics();
+
   private final Atomix atomix;
+  private final ActorControl actor;
+  private final int partitionId;
+  private final boolean batchingEnabled;
 
   private final TopologyPartitionListenerImpl partitionListener;
 
   public PartitionCommandSenderImpl(
-      final Atomix atomix, final TopologyManager topologyManager, final ActorControl actor) {
+      final Atomix atomix,
+      final TopologyManager topologyManager,
+      final ActorControl actor,
+      final int partitionId,
+      final boolean batchingEnabled) {
     this.atomix = atomix;
+    this.actor = actor;
+    this.partitionId = partitionId;
+    this.batchingEnabled = batchingEnabled;
     this.partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
   }
 
+  @Override
   public boolean sendCommand(final int receiverPartitionId, final BufferWriter command) {
 
     final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
     if (!partitionLeaders.containsKey(receiverPartitionId)) {
       return true;
     }
-    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
 
-    final byte bytes[] = new byte[command.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    command.write(buffer, 0);
+    if (!batchingEnabled) {
+      final byte[] bytes = new byte[command.getLength()];
+      command.write(new UnsafeBuffer(bytes), 0);
+      send(partitionLeaders.get(receiverPartitionId), bytes);
+      return true;
+    }
+
+    final SubscriptionCommandBatch batch =
+        pendingBatches.computeIfAbsent(receiverPartitionId, id -> new SubscriptionCommandBatch());
 
+    if (!batch.isEmpty() && batch.getLength() + command.getLength() > MAX_BATCH_LENGTH) {
+      sendBatch(receiverPartitionId);
+    }
+
+    if (batch.isEmpty()) {
+      batch
+          .setReceiverPartitionId(receiverPartitionId)
+          .setTimestamp(ActorClock.currentTimeMillis());
+      // a timer of a batch which was sent because of its size may send the next batch earlier
+      actor.runDelayed(BATCH_WINDOW, () -> sendBatch(receiverPartitionId));
+    }
+
+    batch.addCommand(command);
+    return true;
+  }
+
+  private void sendBatch(final int receiverPartitionId) {
+    final SubscriptionCommandBatch batch = pendingBatches.get(receiverPartitionId);
+    if (batch == null || batch.isEmpty()) {
+      return;
+    }
+
+    final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
+    if (partitionLeaders.containsKey(receiverPartitionId)) {
+      metrics.observeBatchSize(partitionId, batch.getCommandsCount());
+      send(partitionLeaders.get(receiverPartitionId), batch.toBytes());
+    }
+
+    batch.reset();
+  }
+
+  private void send(final int partitionLeader, final byte[] bytes) {
     atomix
         .getCommunicationService()
         .send("subscription", bytes, MemberId.from("" + partitionLeader));
-    return true;
   }
 }
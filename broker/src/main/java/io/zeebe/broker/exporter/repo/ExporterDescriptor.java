@@ -14,13 +14,23 @@ import java.util.Map;
 public class ExporterDescriptor {
   private final ExporterConfiguration configuration;
   private final Class<? extends Exporter> exporterClass;
+  private final boolean isolated;
 
   public ExporterDescriptor(
       final String id,
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args) {
+    this(id, exporterClass, args, false);
+  }
+
+  public ExporterDescriptor(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final boolean isolated) {
     this.exporterClass = exporterClass;
     this.configuration = new ExporterConfiguration(id, args);
+    this.isolated = isolated;
   }
 
   public Exporter newInstance() throws ExporterInstantiationException {
@@ -38,4 +48,9 @@ public class ExporterDescriptor {
   public String getId() {
     return configuration.getId();
   }
+
+  /** @return {@code true} if the exporter runs independently of the other exporters */
+  public boolean isIsolated() {
+    return isolated;
+  }
 }
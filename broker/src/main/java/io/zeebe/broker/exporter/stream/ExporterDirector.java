@@ -7,13 +7,15 @@
  */
 package io.zeebe.broker.exporter.stream;
 
+import static io.zeebe.engine.processor.TypedEventRegistry.EVENT_REGISTRY;
+
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.exporter.context.ExporterContext;
 import io.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processor.EventFilter;
-import io.zeebe.engine.processor.RecordValues;
-import io.zeebe.engine.processor.TypedEventImpl;
+import io.zeebe.exporter.api.BatchExporter;
+import io.zeebe.exporter.api.ExportNotAcceptedException;
 import io.zeebe.exporter.api.Exporter;
 import io.zeebe.exporter.api.context.Context;
 import io.zeebe.exporter.api.context.Controller;
@@ -21,12 +23,10 @@ import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.impl.record.RecordMetadata;
-import io.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.util.LangUtil;
 import io.zeebe.util.retry.BackOffRetryStrategy;
-import io.zeebe.util.retry.EndlessRetryStrategy;
 import io.zeebe.util.retry.RetryStrategy;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorCondition;
@@ -34,11 +34,14 @@ import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -46,20 +49,23 @@ import org.slf4j.Logger;
 public final class ExporterDirector extends Actor {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export records up to position '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
+  private static final Duration LAG_UPDATE_INTERVAL = Duration.ofSeconds(5);
+  private static final Duration NOT_ACCEPTED_RETRY_DELAY = Duration.ofMillis(100);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
+  private final List<String> exporterIds;
+  private final Collection<String> configuredExporterIds;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
   private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private LogStreamReader logStreamReader;
   private EventFilter eventFilter;
   private ExportersState state;
@@ -71,12 +77,17 @@ public final class ExporterDirector extends Actor {
     this.name = context.getName();
     this.containers =
         context.getDescriptors().stream().map(ExporterContainer::new).collect(Collectors.toList());
+    this.exporterIds =
+        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
+    this.configuredExporterIds =
+        context.getConfiguredExporterIds() != null
+            ? context.getConfiguredExporterIds()
+            : exporterIds;
 
     this.logStream = Objects.requireNonNull(context.getLogStream());
     final int partitionId = logStream.getPartitionId();
     this.recordExporter = new RecordExporter(containers, partitionId);
     this.exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    this.recordWrapStrategy = new EndlessRetryStrategy(actor);
 
     this.zeebeDb = context.getZeebeDb();
 
@@ -131,6 +142,8 @@ public final class ExporterDirector extends Actor {
       eventFilter = createEventFilter(containers);
       LOG.debug("Set event filter for exporters: {}", eventFilter);
 
+      recordExporter.setMaxBatchSize(getMaxBatchSize());
+
     } catch (final Throwable e) {
       onFailure();
       LangUtil.rethrowUnchecked(e);
@@ -143,6 +156,7 @@ public final class ExporterDirector extends Actor {
   @Override
   protected void onActorClosing() {
     logStreamReader.close();
+    exporterIds.forEach(metrics::removeExporterLag);
     if (onCommitPositionUpdatedCondition != null) {
       logStream.removeOnCommitPositionUpdatedCondition(onCommitPositionUpdatedCondition);
       onCommitPositionUpdatedCondition = null;
@@ -169,7 +183,8 @@ public final class ExporterDirector extends Actor {
   private void recoverFromSnapshot() {
     this.state = new ExportersState(zeebeDb, zeebeDb.createContext());
 
-    final long snapshotPosition = state.getLowestPosition();
+    // the other exporters of the partition may run in other directors, which read on their own
+    final long snapshotPosition = state.getLowestPosition(exporterIds);
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
       throw new IllegalStateException(
@@ -204,6 +219,18 @@ public final class ExporterDirector extends Actor {
     return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
   }
 
+  private int getMaxBatchSize() {
+    // the exporters which export record by record don't need to wait for a batch, a batch is
+    // exported as soon as no more records are available
+    final int maxBatchSize =
+        containers.stream()
+            .filter(ExporterContainer::isBatchExporter)
+            .mapToInt(c -> ((BatchExporter) c.exporter).getMaxBatchSize())
+            .max()
+            .orElse(1);
+    return Math.max(1, maxBatchSize);
+  }
+
   private void onFailure() {
     isOpened.set(false);
     actor.close();
@@ -212,7 +239,7 @@ public final class ExporterDirector extends Actor {
   private void onSnapshotRecovered() {
     onCommitPositionUpdatedCondition =
         actor.onCondition(
-            getName() + "-on-commit-lastExportedPosition-updated", this::readNextEvent);
+            getName() + "-on-commit-lastExportedPosition-updated", this::readNextEvents);
     logStream.registerOnCommitPositionUpdatedCondition(onCommitPositionUpdatedCondition);
 
     // start reading
@@ -227,71 +254,101 @@ public final class ExporterDirector extends Actor {
 
     clearExporterState();
 
-    actor.submit(this::readNextEvent);
+    actor.runAtFixedRate(LAG_UPDATE_INTERVAL, this::updateExporterLag);
+    actor.submit(this::readNextEvents);
+  }
+
+  private void updateExporterLag() {
+    actor.runOnCompletion(
+        logStream.getCommitPositionAsync(),
+        (commitPosition, error) -> {
+          if (error == null) {
+            for (final ExporterContainer container : containers) {
+              final long lag = Math.max(0, commitPosition - container.position);
+              metrics.exporterLag(container.getId(), lag);
+            }
+          } else {
+            LOG.debug("Failed to get the commit position of log {}", logStream.getLogName(), error);
+          }
+        });
   }
 
   private void skipRecord(final LoggedEvent currentEvent) {
     final RecordMetadata metadata = new RecordMetadata();
     currentEvent.readMetadata(metadata);
     metrics.eventSkipped(metadata.getValueType());
-    actor.submit(this::readNextEvent);
   }
 
-  private void readNextEvent() {
-    if (isOpened.get() && logStreamReader.hasNext() && !inExportingPhase) {
+  private void readNextEvents() {
+    if (!isOpened.get() || inExportingPhase) {
+      return;
+    }
+
+    int readEvents = 0;
+    while (readEvents < recordExporter.getMaxBatchSize() && logStreamReader.hasNext()) {
       final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
+      readEvents++;
+
+      final boolean applies = eventFilter == null || eventFilter.applies(currentEvent);
+      if (!applies || !recordExporter.add(currentEvent)) {
         skipRecord(currentEvent);
       }
     }
+
+    if (!recordExporter.isEmpty()) {
+      inExportingPhase = true;
+      exportRecords();
+    } else if (readEvents > 0) {
+      actor.submit(this::readNextEvents);
+    }
   }
 
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
+  private void exportRecords() {
+    if (isClosed()) {
+      return;
+    }
+
+    if (recordExporter.export()) {
+      onRecordsExported();
+    } else if (recordExporter.isNotAccepted()) {
+      // an exporter applies back pressure, this is not an error and needs no back off
+      actor.runDelayed(NOT_ACCEPTED_RETRY_DELAY, this::exportRecords);
+    } else {
+      retryExportRecords();
+    }
+  }
+
+  private void retryExportRecords() {
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
 
     actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, recordExporter.getLastPosition(), throwable);
+            onFailure();
+          } else {
+            onRecordsExported();
+          }
         });
   }
 
+  private void onRecordsExported() {
+    recordExporter.forEachValueType(metrics::eventExported);
+    recordExporter.reset();
+    inExportingPhase = false;
+    actor.submit(this::readNextEvents);
+  }
+
   public ExportersState getState() {
     return state;
   }
 
   private void clearExporterState() {
-    final List<String> exporterIds =
-        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
-
     state.visitPositions(
         (exporterId, position) -> {
-          if (!exporterIds.contains(exporterId)) {
+          if (!configuredExporterIds.contains(exporterId)) {
             state.removePosition(exporterId);
             LOG.info(
                 "The exporter '{}' is not configured anymore. Its lastExportedPosition is removed from the state.",
@@ -306,56 +363,120 @@ public final class ExporterDirector extends Actor {
 
   private static class RecordExporter {
 
-    private final RecordValues recordValues = new RecordValues();
-    private final RecordMetadata rawMetadata = new RecordMetadata();
+    private final List<RecordViewImpl> records = new ArrayList<>();
+    private final RecordBatchImpl exporterBatch = new RecordBatchImpl();
     private final List<ExporterContainer> containers;
-    private final TypedEventImpl typedEvent;
+    private final int partitionId;
 
-    private boolean shouldExport;
+    private int maxBatchSize = 1;
+    private int recordsCount;
     private int exporterIndex;
+    private int recordIndex;
+    private boolean notAccepted;
 
     RecordExporter(final List<ExporterContainer> containers, final int partitionId) {
       this.containers = containers;
-      typedEvent = new TypedEventImpl(partitionId);
+      this.partitionId = partitionId;
+    }
+
+    int getMaxBatchSize() {
+      return maxBatchSize;
     }
 
-    void wrap(final LoggedEvent rawEvent) {
-      rawEvent.readMetadata(rawMetadata);
+    void setMaxBatchSize(final int maxBatchSize) {
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    /** @return {@code false} if the event has no record value which can be exported */
+    boolean add(final LoggedEvent rawEvent) {
+      if (records.size() == recordsCount) {
+        records.add(new RecordViewImpl(partitionId));
+      }
 
-      final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+      final RecordViewImpl record = records.get(recordsCount);
+      record.wrap(rawEvent);
+      if (!EVENT_REGISTRY.containsKey(record.getValueType())) {
+        return false;
+      }
 
-      shouldExport = recordValue != null;
-      if (shouldExport) {
-        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-        exporterIndex = 0;
+      // the reader moves on while a batch is read, a single record is exported before
+      if (maxBatchSize > 1) {
+        record.copy(rawEvent);
       }
+
+      recordsCount++;
+      return true;
     }
 
-    public boolean export() {
-      if (!shouldExport) {
-        return true;
+    boolean isEmpty() {
+      return recordsCount == 0;
+    }
+
+    long getLastPosition() {
+      return records.get(recordsCount - 1).getPosition();
+    }
+
+    void forEachValueType(final Consumer<ValueType> consumer) {
+      for (int i = 0; i < recordsCount; i++) {
+        consumer.accept(records.get(i).getValueType());
       }
+    }
 
+    void reset() {
+      recordsCount = 0;
+      exporterIndex = 0;
+      recordIndex = 0;
+    }
+
+    /**
+     * @return true if the last export failed because an exporter didn't accept the records, see
+     *     {@link ExportNotAcceptedException}
+     */
+    boolean isNotAccepted() {
+      return notAccepted;
+    }
+
+    public boolean export() {
       final int exportersCount = containers.size();
+      notAccepted = false;
 
-      // current error handling strategy is simply to repeat forever until the record can be
+      // current error handling strategy is simply to repeat forever until the records can be
       // successfully exported.
       while (exporterIndex < exportersCount) {
         final ExporterContainer container = containers.get(exporterIndex);
 
         try {
-          if (container.position < typedEvent.getPosition()
-              && container.acceptRecord(rawMetadata)) {
-            container.exporter.export(typedEvent);
+          if (container.isBatchExporter()) {
+            exportBatch(container);
+          } else {
+            exportRecords(container);
           }
 
           exporterIndex++;
-        } catch (final Exception ex) {
+          recordIndex = 0;
+        } catch (final ExportNotAcceptedException e) {
           container
               .context
               .getLogger()
-              .error("Error on exporting record with key {}", typedEvent.getKey(), ex);
+              .trace(
+                  "Exporter didn't accept records up to position {}: {}",
+                  getLastPosition(),
+                  e.getMessage());
+          notAccepted = true;
+          return false;
+        } catch (final Exception ex) {
+          if (container.isBatchExporter()) {
+            container
+                .context
+                .getLogger()
+                .error("Error on exporting records up to position {}", getLastPosition(), ex);
+          } else {
+            container
+                .context
+                .getLogger()
+                .error(
+                    "Error on exporting record with key {}", records.get(recordIndex).getKey(), ex);
+          }
           return false;
         }
       }
@@ -363,8 +484,30 @@ public final class ExporterDirector extends Actor {
       return true;
     }
 
-    TypedEventImpl getTypedEvent() {
-      return typedEvent;
+    private void exportRecords(final ExporterContainer container) {
+      // continue with the record which failed before
+      while (recordIndex < recordsCount) {
+        final RecordViewImpl record = records.get(recordIndex);
+        if (container.shouldExport(record)) {
+          container.exporter.export(record.getRecord());
+        }
+
+        recordIndex++;
+      }
+    }
+
+    private void exportBatch(final ExporterContainer container) {
+      exporterBatch.reset(getLastPosition());
+      for (int i = 0; i < recordsCount; i++) {
+        final RecordViewImpl record = records.get(i);
+        if (container.shouldExport(record)) {
+          exporterBatch.add(record);
+        }
+      }
+
+      if (exporterBatch.size() > 0) {
+        ((BatchExporter) container.exporter).exportBatch(exporterBatch);
+      }
     }
   }
 
@@ -433,6 +576,14 @@ public final class ExporterDirector extends Actor {
       return context.getConfiguration().getId();
     }
 
+    private boolean isBatchExporter() {
+      return exporter instanceof BatchExporter;
+    }
+
+    private boolean shouldExport(final RecordViewImpl record) {
+      return position < record.getPosition() && acceptRecord(record.getMetadata());
+    }
+
     private boolean acceptRecord(final RecordMetadata metadata) {
       final Context.RecordFilter filter = context.getFilter();
       return filter.acceptType(metadata.getRecordType())
@@ -18,6 +18,7 @@ public final class ExporterDirectorContext {
   private String name;
   private LogStream logStream;
   private Collection<ExporterDescriptor> descriptors;
+  private Collection<String> configuredExporterIds;
   private ZeebeDb zeebeDb;
 
   public int getId() {
@@ -36,6 +37,14 @@ public final class ExporterDirectorContext {
     return descriptors;
   }
 
+  /**
+   * @return the ids of all exporters of the partition, including the exporters of other directors,
+   *     or {@code null} if the director runs all exporters of the partition
+   */
+  public Collection<String> getConfiguredExporterIds() {
+    return configuredExporterIds;
+  }
+
   public ZeebeDb getZeebeDb() {
     return zeebeDb;
   }
@@ -60,6 +69,12 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext configuredExporterIds(
+      final Collection<String> configuredExporterIds) {
+    this.configuredExporterIds = configuredExporterIds;
+    return this;
+  }
+
   public ExporterDirectorContext zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
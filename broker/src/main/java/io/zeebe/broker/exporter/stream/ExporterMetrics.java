@@ -8,6 +8,7 @@
 package io.zeebe.broker.exporter.stream;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.zeebe.protocol.record.ValueType;
 
 public final class ExporterMetrics {
@@ -20,6 +21,15 @@ public final class ExporterMetrics {
           .labelNames("action", "partition", "valueType")
           .register();
 
+  private static final Gauge EXPORTER_LAG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag")
+          .help(
+              "Difference between the commit position of the log and the last exported position of the exporter")
+          .labelNames("partition", "exporter")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
@@ -37,4 +47,12 @@ public final class ExporterMetrics {
   public void eventSkipped(final ValueType valueType) {
     event("skipped", valueType);
   }
+
+  public void exporterLag(final String exporterId, final long lag) {
+    EXPORTER_LAG.labels(partitionIdLabel, exporterId).set(lag);
+  }
+
+  public void removeExporterLag(final String exporterId) {
+    EXPORTER_LAG.remove(partitionIdLabel, exporterId);
+  }
 }
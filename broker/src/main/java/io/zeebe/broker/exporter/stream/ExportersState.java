@@ -12,6 +12,7 @@ import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbString;
 import io.zeebe.engine.state.ZbColumnFamilies;
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongArrayList;
@@ -83,6 +84,22 @@ public final class ExportersState {
     return positions.longStream().min().orElse(-1L);
   }
 
+  /**
+   * @return the lowest position of the given exporters, or -1 if none of them has a position in the
+   *     state
+   */
+  public long getLowestPosition(final Collection<String> exporterIds) {
+    final LongArrayList positions = new LongArrayList();
+
+    visitPositions(
+        (id, pos) -> {
+          if (exporterIds.contains(id)) {
+            positions.addLong(pos);
+          }
+        });
+    return positions.longStream().min().orElse(-1L);
+  }
+
   public void removePosition(final String exporter) {
     exporterId.wrapString(exporter);
     exporterPositionColumnFamily.delete(exporterId);
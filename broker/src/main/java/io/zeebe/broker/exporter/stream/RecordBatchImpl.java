@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import io.zeebe.exporter.api.batch.RecordBatch;
+import io.zeebe.exporter.api.batch.RecordView;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/** The records of a batch which are exported by one exporter. */
+final class RecordBatchImpl implements RecordBatch {
+
+  private final List<RecordView> records = new ArrayList<>();
+  private long lastPosition;
+
+  void reset(final long lastPosition) {
+    records.clear();
+    this.lastPosition = lastPosition;
+  }
+
+  void add(final RecordView record) {
+    records.add(record);
+  }
+
+  @Override
+  public int size() {
+    return records.size();
+  }
+
+  @Override
+  public RecordView get(final int index) {
+    return records.get(index);
+  }
+
+  @Override
+  public long getLastPosition() {
+    return lastPosition;
+  }
+
+  @Override
+  public Iterator<RecordView> iterator() {
+    return records.iterator();
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import io.zeebe.engine.processor.RecordValues;
+import io.zeebe.engine.processor.TypedEventImpl;
+import io.zeebe.exporter.api.batch.RecordView;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A view on a logged event which reads the metadata and the value only on access. The event is
+ * either wrapped, if it is exported before the log stream reader moves on, or copied.
+ */
+final class RecordViewImpl implements RecordView {
+
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final DirectBuffer metadataBuffer = new UnsafeBuffer(0, 0);
+  private final DirectBuffer valueBuffer = new UnsafeBuffer(0, 0);
+  private final LoggedEventImpl copiedEvent = new LoggedEventImpl();
+  private final ExpandableArrayBuffer copyBuffer = new ExpandableArrayBuffer();
+  private final int partitionId;
+
+  private LoggedEvent event;
+  private boolean isMetadataRead;
+  private boolean isRecordRead;
+
+  // only created if the record is deserialized
+  private RecordValues recordValues;
+  private TypedEventImpl typedEvent;
+
+  RecordViewImpl(final int partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  void wrap(final LoggedEvent event) {
+    this.event = event;
+    isMetadataRead = false;
+    isRecordRead = false;
+  }
+
+  void copy(final LoggedEvent event) {
+    event.write(copyBuffer, 0);
+    copiedEvent.wrap(copyBuffer, 0);
+    wrap(copiedEvent);
+  }
+
+  LoggedEvent getEvent() {
+    return event;
+  }
+
+  RecordMetadata getMetadata() {
+    if (!isMetadataRead) {
+      event.readMetadata(metadata);
+      isMetadataRead = true;
+    }
+    return metadata;
+  }
+
+  @Override
+  public long getPosition() {
+    return event.getPosition();
+  }
+
+  @Override
+  public long getSourceRecordPosition() {
+    return event.getSourceEventPosition();
+  }
+
+  @Override
+  public long getKey() {
+    return event.getKey();
+  }
+
+  @Override
+  public long getTimestamp() {
+    return event.getTimestamp();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  @Override
+  public RecordType getRecordType() {
+    return getMetadata().getRecordType();
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return getMetadata().getValueType();
+  }
+
+  @Override
+  public Intent getIntent() {
+    return getMetadata().getIntent();
+  }
+
+  @Override
+  public DirectBuffer getMetadataBuffer() {
+    metadataBuffer.wrap(event.getMetadata(), event.getMetadataOffset(), event.getMetadataLength());
+    return metadataBuffer;
+  }
+
+  @Override
+  public DirectBuffer getValueBuffer() {
+    valueBuffer.wrap(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    return valueBuffer;
+  }
+
+  @Override
+  public Record<?> getRecord() {
+    if (!isRecordRead) {
+      if (recordValues == null) {
+        recordValues = new RecordValues();
+        typedEvent = new TypedEventImpl(partitionId);
+      }
+
+      final RecordMetadata recordMetadata = getMetadata();
+      final UnifiedRecordValue value =
+          recordValues.readRecordValue(event, recordMetadata.getValueType());
+      typedEvent.wrap(event, recordMetadata, value);
+      isRecordRead = true;
+    }
+    return typedEvent;
+  }
+}
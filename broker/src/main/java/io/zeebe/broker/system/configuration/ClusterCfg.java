@@ -13,6 +13,7 @@ import static io.zeebe.util.StringUtil.LIST_SANITIZER;
 import java.util.Collections;
 import java.util.List;
 import org.agrona.collections.IntArrayList;
+import org.springframework.util.unit.DataSize;
 
 public final class ClusterCfg implements ConfigurationEntry {
   public static final List<String> DEFAULT_CONTACT_POINTS = Collections.emptyList();
@@ -21,6 +22,9 @@ public final class ClusterCfg implements ConfigurationEntry {
   public static final int DEFAULT_REPLICATION_FACTOR = 1;
   public static final int DEFAULT_CLUSTER_SIZE = 1;
   public static final String DEFAULT_CLUSTER_NAME = "zeebe-cluster";
+  public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
+  public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
+  public static final DataSize DEFAULT_REPLICATION_COMPRESSION_THRESHOLD = DataSize.ofKilobytes(4);
 
   // the following values are from atomix per default
   private static final long DEFAULT_GOSSIP_FAILURE_TIMEOUT = 10_000;
@@ -35,6 +39,12 @@ public final class ClusterCfg implements ConfigurationEntry {
   private int replicationFactor = DEFAULT_REPLICATION_FACTOR;
   private int clusterSize = DEFAULT_CLUSTER_SIZE;
   private String clusterName = DEFAULT_CLUSTER_NAME;
+  private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+  private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+  private boolean replicationCompression = false;
+  private DataSize replicationCompressionThreshold = DEFAULT_REPLICATION_COMPRESSION_THRESHOLD;
+  private boolean snapshotChunkReuse = false;
+  private boolean subscriptionCommandBatching = false;
 
   // We do not add this to the toString or env - to hide it from the config
   private long gossipFailureTimeout = DEFAULT_GOSSIP_FAILURE_TIMEOUT;
@@ -108,6 +118,54 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.clusterName = clusterName;
   }
 
+  public int getMaxAppendsPerFollower() {
+    return maxAppendsPerFollower;
+  }
+
+  public void setMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+    this.maxAppendsPerFollower = maxAppendsPerFollower;
+  }
+
+  public DataSize getMaxAppendBatchSize() {
+    return maxAppendBatchSize;
+  }
+
+  public void setMaxAppendBatchSize(final DataSize maxAppendBatchSize) {
+    this.maxAppendBatchSize = maxAppendBatchSize;
+  }
+
+  public boolean isReplicationCompression() {
+    return replicationCompression;
+  }
+
+  public void setReplicationCompression(final boolean replicationCompression) {
+    this.replicationCompression = replicationCompression;
+  }
+
+  public DataSize getReplicationCompressionThreshold() {
+    return replicationCompressionThreshold;
+  }
+
+  public void setReplicationCompressionThreshold(final DataSize replicationCompressionThreshold) {
+    this.replicationCompressionThreshold = replicationCompressionThreshold;
+  }
+
+  public boolean isSnapshotChunkReuse() {
+    return snapshotChunkReuse;
+  }
+
+  public void setSnapshotChunkReuse(final boolean snapshotChunkReuse) {
+    this.snapshotChunkReuse = snapshotChunkReuse;
+  }
+
+  public boolean isSubscriptionCommandBatching() {
+    return subscriptionCommandBatching;
+  }
+
+  public void setSubscriptionCommandBatching(final boolean subscriptionCommandBatching) {
+    this.subscriptionCommandBatching = subscriptionCommandBatching;
+  }
+
   public long getGossipFailureTimeout() {
     return gossipFailureTimeout;
   }
@@ -146,6 +204,18 @@ public final class ClusterCfg implements ConfigurationEntry {
         + clusterSize
         + ", initialContactPoints="
         + initialContactPoints
+        + ", maxAppendsPerFollower="
+        + maxAppendsPerFollower
+        + ", maxAppendBatchSize="
+        + maxAppendBatchSize
+        + ", replicationCompression="
+        + replicationCompression
+        + ", replicationCompressionThreshold="
+        + replicationCompressionThreshold
+        + ", snapshotChunkReuse="
+        + snapshotChunkReuse
+        + ", subscriptionCommandBatching="
+        + subscriptionCommandBatching
         + '}';
   }
 }
@@ -31,10 +31,17 @@ public final class DataCfg implements ConfigurationEntry {
 
   private boolean useMmap = false;
 
+  private Duration groupCommitWindow = Duration.ZERO;
+
+  private DataSize groupCommitMaxSize = DataSize.ofMegabytes(4);
+
+  private RocksdbCfg rocksdb = new RocksdbCfg();
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
 
     directories.replaceAll(d -> ConfigurationUtil.toAbsolutePath(d, brokerBase));
+    rocksdb.init(globalConfig, brokerBase);
   }
 
   public List<String> getDirectories() {
@@ -81,6 +88,30 @@ public final class DataCfg implements ConfigurationEntry {
     this.useMmap = useMmap;
   }
 
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  public void setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
+  public DataSize getGroupCommitMaxSize() {
+    return groupCommitMaxSize;
+  }
+
+  public void setGroupCommitMaxSize(final DataSize groupCommitMaxSize) {
+    this.groupCommitMaxSize = groupCommitMaxSize;
+  }
+
+  public RocksdbCfg getRocksdb() {
+    return rocksdb;
+  }
+
+  public void setRocksdb(final RocksdbCfg rocksdb) {
+    this.rocksdb = rocksdb;
+  }
+
   public StorageLevel getAtomixStorageLevel() {
     return useMmap() ? StorageLevel.MAPPED : StorageLevel.DISK;
   }
@@ -100,6 +131,12 @@ public final class DataCfg implements ConfigurationEntry {
         + logIndexDensity
         + ", useMmap="
         + useMmap
+        + ", groupCommitWindow="
+        + groupCommitWindow
+        + ", groupCommitMaxSize="
+        + groupCommitMaxSize
+        + ", rocksdb="
+        + rocksdb
         + '}';
   }
 }
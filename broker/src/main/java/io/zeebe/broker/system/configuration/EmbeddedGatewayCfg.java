@@ -28,6 +28,7 @@ public final class EmbeddedGatewayCfg extends GatewayCfg implements Configuratio
 
     // configure embedded gateway based on broker config
     getNetwork().setPort(getNetwork().getPort() + (networkCfg.getPortOffset() * 10));
+    getNetwork().setMaxMessageSize(networkCfg.getMaxMessageSize());
   }
 
   public boolean isEnable() {
@@ -28,6 +28,12 @@ public final class ExporterCfg implements ConfigurationEntry {
   /** map of arguments to use when instantiating the exporter */
   private Map<String, Object> args;
 
+  /**
+   * if true, the exporter runs in its own actor with its own log reader, such that it doesn't block
+   * the other exporters if it is slow or fails to export records
+   */
+  private boolean isolated;
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     if (isExternal()) {
@@ -63,6 +69,14 @@ public final class ExporterCfg implements ConfigurationEntry {
     this.args = args;
   }
 
+  public boolean isIsolated() {
+    return isolated;
+  }
+
+  public void setIsolated(final boolean isolated) {
+    this.isolated = isolated;
+  }
+
   private boolean isEmpty(final String value) {
     return value == null || value.isEmpty();
   }
@@ -78,6 +92,8 @@ public final class ExporterCfg implements ConfigurationEntry {
         + '\''
         + ", args="
         + args
+        + ", isolated="
+        + isolated
         + '}';
   }
 
@@ -90,13 +106,14 @@ public final class ExporterCfg implements ConfigurationEntry {
       return false;
     }
     final ExporterCfg that = (ExporterCfg) o;
-    return Objects.equals(jarPath, that.jarPath)
+    return isolated == that.isolated
+        && Objects.equals(jarPath, that.jarPath)
         && Objects.equals(className, that.className)
         && Objects.equals(args, that.args);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(jarPath, className, args);
+    return Objects.hash(jarPath, className, args, isolated);
   }
 }
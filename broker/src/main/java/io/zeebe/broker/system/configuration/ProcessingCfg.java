@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+
+public final class ProcessingCfg implements ConfigurationEntry {
+
+  private static final String MAX_COMMANDS_IN_BATCH_ERROR_MSG =
+      "Max commands in batch %s needs to be larger then zero.";
+  private static final String MAX_BATCH_DURATION_ERROR_MSG =
+      "Max batch duration %s needs to be larger then zero.";
+
+  private int maxCommandsInBatch = 1;
+  private Duration maxBatchDuration = Duration.ofMillis(10);
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxCommandsInBatch < 1) {
+      throw new IllegalArgumentException(
+          String.format(MAX_COMMANDS_IN_BATCH_ERROR_MSG, maxCommandsInBatch));
+    }
+
+    if (maxBatchDuration == null || maxBatchDuration.isNegative() || maxBatchDuration.isZero()) {
+      throw new IllegalArgumentException(
+          String.format(MAX_BATCH_DURATION_ERROR_MSG, maxBatchDuration));
+    }
+  }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public ProcessingCfg setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public Duration getMaxBatchDuration() {
+    return maxBatchDuration;
+  }
+
+  public ProcessingCfg setMaxBatchDuration(final Duration maxBatchDuration) {
+    this.maxBatchDuration = maxBatchDuration;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessingCfg{"
+        + "maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", maxBatchDuration="
+        + maxBatchDuration
+        + '}';
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import io.zeebe.db.impl.rocksdb.ColumnFamilyConfiguration;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.util.unit.DataSize;
+
+public final class RocksdbCfg implements ConfigurationEntry {
+
+  private DataSize memoryLimit = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_MEMORY_LIMIT);
+  private Map<String, ColumnFamilyCfg> columnFamilies = new HashMap<>();
+
+  public DataSize getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  public void setMemoryLimit(final DataSize memoryLimit) {
+    this.memoryLimit = memoryLimit;
+  }
+
+  public Map<String, ColumnFamilyCfg> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public void setColumnFamilies(final Map<String, ColumnFamilyCfg> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+  }
+
+  public RocksDbConfiguration toRocksDbConfiguration() {
+    final var configuration = new RocksDbConfiguration().setMemoryLimit(memoryLimit.toBytes());
+    columnFamilies.forEach(
+        (name, columnFamily) ->
+            configuration.overrideColumnFamily(
+                // column families are named after the constants of ZbColumnFamilies
+                name.toUpperCase(Locale.ROOT).replace('-', '_'),
+                columnFamily.toColumnFamilyConfiguration()));
+    return configuration;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbCfg{"
+        + "memoryLimit="
+        + memoryLimit
+        + ", columnFamilies="
+        + columnFamilies
+        + '}';
+  }
+
+  public static final class ColumnFamilyCfg {
+    private Integer prefixLength;
+    private Double bloomFilterBitsPerKey;
+    private DataSize writeBufferSize;
+    private Integer maxWriteBufferNumber;
+
+    public Integer getPrefixLength() {
+      return prefixLength;
+    }
+
+    public void setPrefixLength(final Integer prefixLength) {
+      this.prefixLength = prefixLength;
+    }
+
+    public Double getBloomFilterBitsPerKey() {
+      return bloomFilterBitsPerKey;
+    }
+
+    public void setBloomFilterBitsPerKey(final Double bloomFilterBitsPerKey) {
+      this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    }
+
+    public DataSize getWriteBufferSize() {
+      return writeBufferSize;
+    }
+
+    public void setWriteBufferSize(final DataSize writeBufferSize) {
+      this.writeBufferSize = writeBufferSize;
+    }
+
+    public Integer getMaxWriteBufferNumber() {
+      return maxWriteBufferNumber;
+    }
+
+    public void setMaxWriteBufferNumber(final Integer maxWriteBufferNumber) {
+      this.maxWriteBufferNumber = maxWriteBufferNumber;
+    }
+
+    ColumnFamilyConfiguration toColumnFamilyConfiguration() {
+      return new ColumnFamilyConfiguration()
+          .setPrefixLength(prefixLength)
+          .setBloomFilterBitsPerKey(bloomFilterBitsPerKey)
+          .setWriteBufferSize(writeBufferSize == null ? null : writeBufferSize.toBytes())
+          .setMaxWriteBufferNumber(maxWriteBufferNumber);
+    }
+
+    @Override
+    public String toString() {
+      return "ColumnFamilyCfg{"
+          + "prefixLength="
+          + prefixLength
+          + ", bloomFilterBitsPerKey="
+          + bloomFilterBitsPerKey
+          + ", writeBufferSize="
+          + writeBufferSize
+          + ", maxWriteBufferNumber="
+          + maxWriteBufferNumber
+          + '}';
+    }
+  }
+}
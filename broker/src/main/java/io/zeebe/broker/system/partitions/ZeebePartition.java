@@ -24,6 +24,7 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
 import io.zeebe.broker.engine.impl.StateReplication;
 import io.zeebe.broker.exporter.jar.ExporterJarLoadException;
+import io.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.zeebe.broker.exporter.repo.ExporterRepository;
 import io.zeebe.broker.exporter.stream.ExporterDirector;
@@ -34,12 +35,14 @@ import io.zeebe.broker.logstreams.LogDeletionService;
 import io.zeebe.broker.logstreams.state.StatePositionSupplier;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
+import io.zeebe.broker.system.configuration.ProcessingCfg;
 import io.zeebe.broker.system.monitoring.HealthMetrics;
 import io.zeebe.broker.system.partitions.impl.StateSnapshotController;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.engine.processor.StreamProcessor;
-import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.storage.atomix.AtomixLogStorage;
@@ -74,6 +77,7 @@ public final class ZeebePartition extends Actor
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
   private static final int EXPORTER_PROCESSOR_ID = 1003;
   private static final String EXPORTER_NAME = "Exporter-%d";
+  private static final String ISOLATED_EXPORTER_NAME = "Exporter-%d-%s";
 
   private final PartitionMessagingService messagingService;
   private final BrokerCfg brokerCfg;
@@ -100,6 +104,7 @@ public final class ZeebePartition extends Actor
   private volatile HealthStatus healthStatus = HealthStatus.UNHEALTHY;
   private final HealthMonitor criticalComponentsHealthMonitor;
   private final ZeebeIndexMapping zeebeIndexMapping;
+  private final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory;
   private final HealthMetrics healthMetrics;
   private AtomixLogStorage atomixLogStorage;
   private long deferredCommitPosition;
@@ -115,7 +120,8 @@ public final class ZeebePartition extends Actor
       final BrokerCfg brokerCfg,
       final CommandApiService commandApiService,
       final ZeebeIndexMapping zeebeIndexMapping,
-      final TypedRecordProcessorsFactory typedRecordProcessorsFactory) {
+      final TypedRecordProcessorsFactory typedRecordProcessorsFactory,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory) {
     this.localBroker = localBroker;
     this.atomixRaftPartition = atomixRaftPartition;
     this.messagingService = messagingService;
@@ -127,6 +133,7 @@ public final class ZeebePartition extends Actor
     this.scheduler = actorScheduler;
     this.maxFragmentSize = (int) brokerCfg.getNetwork().getMaxMessageSizeInBytes();
     this.zeebeIndexMapping = zeebeIndexMapping;
+    this.zeebeDbFactory = zeebeDbFactory;
 
     final var exporterEntries = brokerCfg.getExporters().entrySet();
     // load and validate exporters
@@ -424,7 +431,7 @@ public final class ZeebePartition extends Actor
             : new NoneSnapshotReplication();
 
     return new StateSnapshotController(
-        DefaultZeebeDbFactory.DEFAULT_DB_FACTORY,
+        zeebeDbFactory,
         snapshotStorage,
         stateReplication,
         StatePositionSupplier::getHighestExportedPosition);
@@ -480,6 +487,7 @@ public final class ZeebePartition extends Actor
   }
 
   private StreamProcessor createStreamProcessor(final ZeebeDb zeebeDb) {
+    final ProcessingCfg processingCfg = brokerCfg.getProcessing();
     return StreamProcessor.builder()
         .logStream(logStream)
         .actorScheduler(scheduler)
@@ -487,6 +495,8 @@ public final class ZeebePartition extends Actor
         .nodeId(localBroker.getNodeId())
         .commandResponseWriter(commandApiService.newCommandResponseWriter())
         .onProcessedListener(commandApiService.getOnProcessedListener(partitionId))
+        .maxCommandsInBatch(processingCfg.getMaxCommandsInBatch())
+        .maxBatchDuration(processingCfg.getMaxBatchDuration())
         .streamProcessorFactory(
             (processingContext) -> {
               final ActorControl actor = processingContext.getActor();
@@ -518,19 +528,70 @@ public final class ZeebePartition extends Actor
       return CompletableActorFuture.completed(null);
     }
 
+    // the exporters share one director, except the isolated exporters which get their own
+    // director such that they don't block the other exporters
+    final List<String> exporterIds =
+        exporterDescriptors.stream().map(ExporterDescriptor::getId).collect(Collectors.toList());
+    final List<ExporterDescriptor> sharedDescriptors =
+        exporterDescriptors.stream().filter(d -> !d.isIsolated()).collect(Collectors.toList());
+
+    final List<ExporterDirector> exporterDirectors = new ArrayList<>();
+    if (!sharedDescriptors.isEmpty()) {
+      final String name = String.format(EXPORTER_NAME, partitionId);
+      exporterDirectors.add(createExporterDirector(zeebeDb, name, sharedDescriptors, exporterIds));
+    }
+
+    for (final ExporterDescriptor descriptor : exporterDescriptors) {
+      if (descriptor.isIsolated()) {
+        final String name = String.format(ISOLATED_EXPORTER_NAME, partitionId, descriptor.getId());
+        exporterDirectors.add(
+            createExporterDirector(zeebeDb, name, List.of(descriptor), exporterIds));
+      }
+    }
+
+    final var installFuture = new CompletableActorFuture<Void>();
+    stepByStepStarting(installFuture, exporterDirectors);
+    return installFuture;
+  }
+
+  private ExporterDirector createExporterDirector(
+      final ZeebeDb zeebeDb,
+      final String name,
+      final List<ExporterDescriptor> descriptors,
+      final List<String> exporterIds) {
     final ExporterDirectorContext context =
         new ExporterDirectorContext()
             .id(EXPORTER_PROCESSOR_ID)
-            .name(
-                buildActorName(localBroker.getNodeId(), String.format(EXPORTER_NAME, partitionId)))
+            .name(buildActorName(localBroker.getNodeId(), name))
             .logStream(logStream)
             .zeebeDb(zeebeDb)
-            .descriptors(exporterDescriptors);
+            .descriptors(descriptors)
+            .configuredExporterIds(exporterIds);
 
     final var exporterDirector = new ExporterDirector(context);
     closeables.add(exporterDirector);
+    return exporterDirector;
+  }
 
-    return exporterDirector.startAsync(scheduler);
+  private void stepByStepStarting(
+      final CompletableActorFuture<Void> startingFuture,
+      final List<ExporterDirector> directorsToStart) {
+    if (directorsToStart.isEmpty()) {
+      startingFuture.complete(null);
+      return;
+    }
+
+    final ExporterDirector director = directorsToStart.remove(0);
+    director
+        .startAsync(scheduler)
+        .onComplete(
+            (v, t) -> {
+              if (t == null) {
+                stepByStepStarting(startingFuture, directorsToStart);
+              } else {
+                startingFuture.completeExceptionally(t);
+              }
+            });
   }
 
   private CompletableActorFuture<Void> closePartition() {
@@ -33,6 +33,8 @@ import org.slf4j.Logger;
 /** Controls how snapshot/recovery operations are performed */
 public class StateSnapshotController implements SnapshotController {
   private static final Logger LOG = Loggers.SNAPSHOT_LOGGER;
+  // SST files are never modified by RocksDB, so they can be shared with the snapshot
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
 
   private final SnapshotStorage storage;
   private final ZeebeDbFactory zeebeDbFactory;
@@ -122,6 +124,7 @@ public class StateSnapshotController implements SnapshotController {
   @Override
   public void recover() throws Exception {
     final var runtimeDirectory = storage.getRuntimeDirectory();
+    final var start = System.currentTimeMillis();
 
     if (Files.exists(runtimeDirectory)) {
       FileUtil.deleteFolder(runtimeDirectory);
@@ -136,12 +139,17 @@ public class StateSnapshotController implements SnapshotController {
     while (snapshotIterator.hasNext() && !recoveredFromSnapshot) {
       final var snapshot = snapshotIterator.next();
 
-      FileUtil.copySnapshot(runtimeDirectory, snapshot.getPath());
+      FileUtil.linkSnapshot(
+          runtimeDirectory,
+          snapshot.getPath(),
+          file -> file.getFileName().toString().endsWith(IMMUTABLE_FILE_SUFFIX));
 
       try {
         // open database to verify that the snapshot is recoverable
         openDb();
-        LOG.debug("Recovered state from snapshot '{}'", snapshot);
+        final var elapsedMillis = System.currentTimeMillis() - start;
+        storage.getMetrics().observeSnapshotRecovery(elapsedMillis);
+        LOG.debug("Recovered state from snapshot '{}' in {} ms", snapshot, elapsedMillis);
         recoveredFromSnapshot = true;
       } catch (final Exception e) {
         FileUtil.deleteFolder(runtimeDirectory);
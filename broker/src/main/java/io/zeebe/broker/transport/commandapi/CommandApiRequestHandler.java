@@ -10,9 +10,12 @@ package io.zeebe.broker.transport.commandapi;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -22,6 +25,7 @@ import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCreationRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.zeebe.protocol.record.MessageHeaderDecoder;
 import io.zeebe.protocol.record.RecordType;
@@ -44,10 +48,14 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder executeCommandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  private final ExecuteCommandBatchRequest executeCommandBatchRequest =
+      new ExecuteCommandBatchRequest();
   private final Queue<Runnable> cmdQueue = new ManyToOneConcurrentLinkedQueue<>();
   private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
   private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leadingBatchStreams =
+      new Int2ObjectHashMap<>();
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
   private final RecordMetadata eventMetadata = new RecordMetadata();
@@ -56,8 +64,10 @@ final class CommandApiRequestHandler implements RequestHandler {
 
   private final Map<ValueType, UnpackedObject> recordsByType = new EnumMap<>(ValueType.class);
   private final BackpressureMetrics metrics;
+  private final CommandBatchResponses batchResponses;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final CommandBatchResponses batchResponses) {
+    this.batchResponses = batchResponses;
     this.metrics = new BackpressureMetrics();
     initEventTypeMap();
   }
@@ -158,6 +168,146 @@ final class CommandApiRequestHandler implements RequestHandler {
     }
   }
 
+  private void handleExecuteCommandBatchRequest(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final RecordMetadata eventMetadata,
+      final DirectBuffer buffer,
+      final int messageOffset,
+      final int messageLength) {
+    final ExecuteCommandBatchRequest batchRequest = executeCommandBatchRequest;
+    batchRequest.wrap(buffer, messageOffset, messageLength);
+
+    final LogStreamBatchWriter batchWriter = leadingBatchStreams.get(partitionId);
+
+    if (batchWriter == null) {
+      errorResponseWriter
+          .partitionLeaderMismatch(partitionId)
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      return;
+    }
+
+    final ValueType eventType = batchRequest.getValueType();
+    final UnpackedObject event = recordsByType.get(eventType);
+
+    if (event == null) {
+      errorResponseWriter
+          .unsupportedMessage(eventType.name(), recordsByType.keySet().toArray())
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      return;
+    }
+
+    final int commandsCount = batchRequest.getCommandsCount();
+    if (commandsCount == 0) {
+      errorResponseWriter
+          .malformedRequest(new IllegalArgumentException("Expected at least one command"))
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      return;
+    }
+
+    for (int i = 0; i < commandsCount; i++) {
+      final DirectBuffer value = batchRequest.getValue(i);
+      event.reset();
+
+      try {
+        // verify that the events / commands are valid
+        event.wrap(value, 0, value.capacity());
+      } catch (final RuntimeException e) {
+        LOG.error("Failed to deserialize message of type {} in client API", eventType.name(), e);
+
+        errorResponseWriter
+            .malformedRequest(e)
+            .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+        return;
+      }
+    }
+
+    final Intent eventIntent = batchRequest.getIntent();
+    eventMetadata.recordType(RecordType.COMMAND);
+    eventMetadata.intent(eventIntent);
+    eventMetadata.valueType(eventType);
+
+    // every command gets its own request id, its responses are collected to one batch response
+    final long firstRequestId = batchResponses.newBatch(partitionId, requestId, commandsCount);
+
+    metrics.receivedRequest(partitionId);
+    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+    for (int i = 0; i < commandsCount; i++) {
+      if (!limiter.tryAcquire(partitionId, firstRequestId + i, eventIntent)) {
+        metrics.dropped(partitionId);
+        LOG.trace(
+            "Partition-{} receiving too many requests. Current limit {} inflight {}, dropping batch request {} from gateway",
+            partitionId,
+            limiter.getLimit(),
+            limiter.getInflightCount(),
+            requestId);
+        releaseBatch(limiter, partitionId, firstRequestId, i);
+        batchResponses.removeBatch(firstRequestId, commandsCount);
+        errorResponseWriter.resourceExhausted().tryWriteResponse(output, partitionId, requestId);
+        return;
+      }
+    }
+
+    boolean written = false;
+    try {
+      written = writeCommands(eventMetadata, batchRequest, firstRequestId, batchWriter);
+    } catch (final Exception ex) {
+      LOG.error("Unexpected error on writing {} commands", eventIntent, ex);
+    } finally {
+      if (!written) {
+        releaseBatch(limiter, partitionId, firstRequestId, commandsCount);
+        batchResponses.removeBatch(firstRequestId, commandsCount);
+        errorResponseWriter
+            .internalError("Failed to write the batch of %d commands", commandsCount)
+            .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      }
+    }
+  }
+
+  private void releaseBatch(
+      final RequestLimiter<Intent> limiter,
+      final int partitionId,
+      final long firstRequestId,
+      final int commandsCount) {
+    for (int i = 0; i < commandsCount; i++) {
+      limiter.onIgnore(partitionId, firstRequestId + i);
+    }
+  }
+
+  private boolean writeCommands(
+      final RecordMetadata eventMetadata,
+      final ExecuteCommandBatchRequest batchRequest,
+      final long firstRequestId,
+      final LogStreamBatchWriter batchWriter) {
+    batchWriter.reset();
+
+    for (int i = 0; i < batchRequest.getCommandsCount(); i++) {
+      final long key = batchRequest.getKey(i);
+      eventMetadata.requestId(firstRequestId + i);
+
+      final LogEntryBuilder event = batchWriter.event();
+      if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+        event.key(key);
+      } else {
+        event.keyNull();
+      }
+      event.metadataWriter(eventMetadata).value(batchRequest.getValue(i)).done();
+    }
+
+    if (batchWriter.getBatchLength() > batchWriter.getMaxFragmentLength()) {
+      LOG.debug(
+          "Expected to write a batch of {} commands, but its length {} exceeds the max length {}",
+          batchRequest.getCommandsCount(),
+          batchWriter.getBatchLength(),
+          batchWriter.getMaxFragmentLength());
+      batchWriter.reset();
+      return false;
+    }
+
+    return batchWriter.tryWrite() >= 0;
+  }
+
   private boolean writeCommand(
       final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
@@ -185,10 +335,12 @@ final class CommandApiRequestHandler implements RequestHandler {
   void addPartition(
       final int partitionId,
       final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamBatchWriter,
       final RequestLimiter<Intent> limiter) {
     cmdQueue.add(
         () -> {
           leadingStreams.put(partitionId, logStreamWriter);
+          leadingBatchStreams.put(partitionId, logStreamBatchWriter);
           partitionLimiters.put(partitionId, limiter);
         });
   }
@@ -197,8 +349,10 @@ final class CommandApiRequestHandler implements RequestHandler {
     cmdQueue.add(
         () -> {
           leadingStreams.remove(partitionId);
+          leadingBatchStreams.remove(partitionId);
           partitionLimiters.remove(partitionId);
         });
+    batchResponses.removePartition(partitionId);
   }
 
   @Override
@@ -234,6 +388,12 @@ final class CommandApiRequestHandler implements RequestHandler {
       return;
     }
 
+    if (templateId == ExecuteCommandBatchRequestDecoder.TEMPLATE_ID) {
+      handleExecuteCommandBatchRequest(
+          output, partitionId, requestId, eventMetadata, buffer, offset, length);
+      return;
+    }
+
     errorResponseWriter
         .invalidMessageTemplate(templateId, ExecuteCommandRequestDecoder.TEMPLATE_ID)
         .tryWriteResponse(output, partitionId, requestId);
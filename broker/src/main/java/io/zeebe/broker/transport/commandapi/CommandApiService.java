@@ -17,6 +17,7 @@ import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
@@ -28,17 +29,20 @@ public final class CommandApiService extends Actor implements PartitionListener
 
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
+  private final CommandBatchResponses responseOutput;
   private final CommandApiRequestHandler requestHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final String actorName;
 
   public CommandApiService(
       final ServerTransport serverTransport,
+      final ServerOutput responseOutput,
       final BrokerInfo localBroker,
       final PartitionAwareRequestLimiter limiter) {
     this.serverTransport = serverTransport;
+    this.responseOutput = new CommandBatchResponses(responseOutput);
     this.limiter = limiter;
-    requestHandler = new CommandApiRequestHandler();
+    requestHandler = new CommandApiRequestHandler(this.responseOutput);
     this.actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
 
@@ -78,23 +82,35 @@ public final class CommandApiService extends Actor implements PartitionListener
               .onComplete(
                   (recordWriter, error) -> {
                     if (error == null) {
-
-                      final var requestLimiter = this.limiter.getLimiter(partitionId);
-                      requestHandler.addPartition(partitionId, recordWriter, requestLimiter);
-                      serverTransport.subscribe(partitionId, requestHandler);
-                      future.complete(null);
+                      logStream
+                          .newLogStreamBatchWriter()
+                          .onComplete(
+                              (batchWriter, batchError) -> {
+                                if (batchError == null) {
+                                  final var requestLimiter = this.limiter.getLimiter(partitionId);
+                                  requestHandler.addPartition(
+                                      partitionId, recordWriter, batchWriter, requestLimiter);
+                                  serverTransport.subscribe(partitionId, requestHandler);
+                                  future.complete(null);
+                                } else {
+                                  onWriterError(partitionId, future, batchError);
+                                }
+                              });
                     } else {
-                      Loggers.SYSTEM_LOGGER.error(
-                          "Error on retrieving write buffer from log stream {}",
-                          partitionId,
-                          error);
-                      future.completeExceptionally(error);
+                      onWriterError(partitionId, future, error);
                     }
                   });
         });
     return future;
   }
 
+  private void onWriterError(
+      final int partitionId, final CompletableActorFuture<Void> future, final Throwable error) {
+    Loggers.SYSTEM_LOGGER.error(
+        "Error on retrieving write buffer from log stream {}", partitionId, error);
+    future.completeExceptionally(error);
+  }
+
   private void cleanLeadingPartition(final int partitionId) {
     leadPartitions.remove(partitionId);
     removeForPartitionId(partitionId);
@@ -106,7 +122,7 @@ public final class CommandApiService extends Actor implements PartitionListener
   }
 
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(responseOutput);
   }
 
   public Consumer<TypedRecord> getOnProcessedListener(final int partitionId) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.record.ExecuteCommandResponseDecoder;
+import io.zeebe.protocol.record.MessageHeaderDecoder;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the responses to the commands of a batch request and sends them as one response.
+ *
+ * <p>Each command of a batch is written with its own request id, which is taken from a range that
+ * doesn't overlap with the request ids of the transport (positive) and of the job streams (from -2
+ * downwards). The responses to these request ids are held back until the responses to all commands
+ * of the batch are available.
+ *
+ * <p>The values of the command responses are omitted, e.g. the job records with their variables, so
+ * the length of the batch response is bounded by the number of commands and not by the size of the
+ * records.
+ *
+ * <p>Batches are registered by the command API handler and the responses are sent by the stream
+ * processors, so the state is thread-safe.
+ */
+final class CommandBatchResponses implements ServerOutput {
+
+  private static final long FIRST_REQUEST_ID = Long.MIN_VALUE;
+  private static final long LAST_REQUEST_ID = Long.MIN_VALUE / 2;
+
+  private final Map<Long, PendingBatch> pendingCommands = new ConcurrentHashMap<>();
+  private final AtomicLong nextRequestId = new AtomicLong(FIRST_REQUEST_ID);
+  private final ServerOutput output;
+
+  CommandBatchResponses(final ServerOutput output) {
+    this.output = output;
+  }
+
+  /**
+   * Registers a new batch of commands and returns the request id of the first command. The
+   * following commands have the next request ids.
+   */
+  long newBatch(final int partitionId, final long requestId, final int commandsCount) {
+    // wrapping around the request ids would need 2^62 commands, it is not handled
+    final long firstRequestId = nextRequestId.getAndAdd(commandsCount);
+    final PendingBatch batch =
+        new PendingBatch(partitionId, requestId, firstRequestId, commandsCount);
+
+    for (int i = 0; i < commandsCount; i++) {
+      pendingCommands.put(firstRequestId + i, batch);
+    }
+    return firstRequestId;
+  }
+
+  /** Removes the batch, e.g. if its commands could not be written. */
+  void removeBatch(final long firstRequestId, final int commandsCount) {
+    for (int i = 0; i < commandsCount; i++) {
+      pendingCommands.remove(firstRequestId + i);
+    }
+  }
+
+  /** Removes the batches of the partition, which are not answered if the leadership is lost. */
+  void removePartition(final int partitionId) {
+    pendingCommands.values().removeIf(batch -> batch.partitionId == partitionId);
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse response) {
+    final long requestId = response.getRequestId();
+    if (requestId >= LAST_REQUEST_ID) {
+      output.sendResponse(response);
+      return;
+    }
+
+    final PendingBatch batch = pendingCommands.remove(requestId);
+    if (batch == null) {
+      return;
+    }
+
+    // the response writer is reused, copy the response
+    final byte[] bytes = new byte[response.getLength()];
+    response.write(new UnsafeBuffer(bytes), 0);
+
+    if (batch.onResponse(requestId, withoutValue(bytes))) {
+      output.sendResponse(batch.newResponse());
+    }
+  }
+
+  private static byte[] withoutValue(final byte[] response) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(response);
+    final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+    if (response.length < headerDecoder.encodedLength()) {
+      return response;
+    }
+
+    headerDecoder.wrap(buffer, 0);
+    if (headerDecoder.schemaId() != ExecuteCommandResponseDecoder.SCHEMA_ID
+        || headerDecoder.templateId() != ExecuteCommandResponseDecoder.TEMPLATE_ID) {
+      // e.g. an error response, which has no value
+      return response;
+    }
+
+    final ExecuteCommandResponse commandResponse = new ExecuteCommandResponse();
+    commandResponse.wrap(buffer, 0, response.length);
+    if (commandResponse.getValue().capacity() == 0) {
+      return response;
+    }
+
+    commandResponse.setValue(buffer, 0, 0);
+    final byte[] trimmedResponse = new byte[commandResponse.getLength()];
+    commandResponse.write(new UnsafeBuffer(trimmedResponse), 0);
+    return trimmedResponse;
+  }
+
+  private static final class PendingBatch {
+    private final int partitionId;
+    private final long requestId;
+    private final long firstRequestId;
+    private final byte[][] responses;
+    private final AtomicInteger remainingResponses;
+
+    private PendingBatch(
+        final int partitionId,
+        final long requestId,
+        final long firstRequestId,
+        final int commandsCount) {
+      this.partitionId = partitionId;
+      this.requestId = requestId;
+      this.firstRequestId = firstRequestId;
+      this.responses = new byte[commandsCount][];
+      this.remainingResponses = new AtomicInteger(commandsCount);
+    }
+
+    /** @return {@code true} if the responses to all commands of the batch are available */
+    private boolean onResponse(final long commandRequestId, final byte[] response) {
+      responses[(int) (commandRequestId - firstRequestId)] = response;
+      return remainingResponses.decrementAndGet() == 0;
+    }
+
+    private ServerResponse newResponse() {
+      final ExecuteCommandBatchResponse batchResponse =
+          new ExecuteCommandBatchResponse().setPartitionId(partitionId);
+      for (final byte[] response : responses) {
+        batchResponse.addResponse(new UnsafeBuffer(response), 0, response.length);
+      }
+
+      return new ServerResponseImpl()
+          .setPartitionId(partitionId)
+          .setRequestId(requestId)
+          .writer(batchResponse);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine;
+
+import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.test.EmbeddedBrokerRule;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import io.zeebe.protocol.impl.SubscriptionUtil;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.test.broker.protocol.commandapi.CommandApiRule;
+import io.zeebe.test.util.record.RecordingExporter;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class CrossPartitionMessageCorrelationTest {
+
+  private static final int PARTITION_COUNT = 3;
+  private static final int INSTANCE_COUNT = 10;
+  private static final String PROCESS_ID = "process";
+
+  private static final BpmnModelInstance WORKFLOW =
+      Bpmn.createExecutableProcess(PROCESS_ID)
+          .startEvent()
+          .intermediateCatchEvent("receive-message")
+          .message(m -> m.name("message").zeebeCorrelationKeyExpression("key"))
+          .endEvent()
+          .done();
+
+  public final EmbeddedBrokerRule brokerRule;
+  public final CommandApiRule apiRule;
+
+  @Rule public RuleChain ruleChain;
+
+  public CrossPartitionMessageCorrelationTest(final boolean subscriptionCommandBatching) {
+    brokerRule =
+        new EmbeddedBrokerRule(
+            brokerCfg -> {
+              brokerCfg.getCluster().setPartitionsCount(PARTITION_COUNT);
+              brokerCfg.getCluster().setSubscriptionCommandBatching(subscriptionCommandBatching);
+            });
+    apiRule = new CommandApiRule(brokerRule::getAtomix);
+    ruleChain = RuleChain.outerRule(brokerRule).around(apiRule);
+  }
+
+  @Parameters(name = "subscriptionCommandBatching: {0}")
+  public static Collection<Object[]> parameters() {
+    return Arrays.asList(new Object[][] {{false}, {true}});
+  }
+
+  @Test
+  public void shouldCorrelateMessagesOnOtherPartitions() {
+    // given
+    apiRule.partitionClient(START_PARTITION_ID).deploy(WORKFLOW);
+
+    final List<String> correlationKeys =
+        IntStream.range(0, INSTANCE_COUNT).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+    assertThat(correlationKeys.stream().map(this::getPartitionId).distinct()).hasSize(3);
+
+    // the subscriptions are opened on the partition of the correlation key
+    correlationKeys.forEach(
+        key ->
+            apiRule
+                .partitionClient(START_PARTITION_ID)
+                .createWorkflowInstance(
+                    r -> r.setBpmnProcessId(PROCESS_ID).setVariables(asMsgPack("key", key))));
+
+    // when
+    correlationKeys.forEach(
+        key -> apiRule.partitionClient(getPartitionId(key)).publishMessage("message", key));
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withElementType(BpmnElementType.PROCESS)
+                .limit(INSTANCE_COUNT))
+        .hasSize(INSTANCE_COUNT);
+  }
+
+  private int getPartitionId(final String correlationKey) {
+    return SubscriptionUtil.getSubscriptionPartitionId(
+        BufferUtil.wrapString(correlationKey), PARTITION_COUNT);
+  }
+}
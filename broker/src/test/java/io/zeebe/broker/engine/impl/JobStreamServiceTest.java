@@ -0,0 +1,244 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.core.Atomix;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.protocol.impl.data.job.JobStreamPush;
+import io.zeebe.protocol.impl.data.job.JobStreamRegistration;
+import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public final class JobStreamServiceTest {
+
+  private static final int PARTITION_ID = 1;
+  private static final int OTHER_PARTITION_ID = 2;
+  private static final String JOB_TYPE = "test";
+  private static final long STREAM_ID = 1L;
+  private static final int MAX_JOBS_TO_ACTIVATE = 3;
+  private static final MemberId GATEWAY = MemberId.from("gateway");
+
+  @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule();
+
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final LogStreamRecordWriter writer = mock(LogStreamRecordWriter.class, RETURNS_SELF);
+  private final ServerOutput output = mock(ServerOutput.class);
+  private final LogStream logStream = mock(LogStream.class);
+
+  private JobStreamService service;
+
+  @Before
+  public void setUp() {
+    final Atomix atomix = mock(Atomix.class);
+    when(atomix.getCommunicationService()).thenReturn(communicationService);
+    when(atomix.getMembershipService()).thenReturn(mock(ClusterMembershipService.class));
+
+    when(logStream.newLogStreamRecordWriter()).thenReturn(CompletableActorFuture.completed(writer));
+
+    service = new JobStreamService(new BrokerInfo(0, "localhost:26501"), atomix, output);
+    actorSchedulerRule.submitActor(service).join();
+    service.onBecomingLeader(PARTITION_ID, 1, logStream).join();
+
+    registerStream();
+  }
+
+  @After
+  public void tearDown() {
+    service.close();
+  }
+
+  @Test
+  public void shouldWriteActivateCommandWithMaxJobsToActivateOfStream() {
+    // when
+    service.onJobsAvailable(PARTITION_ID, JOB_TYPE);
+
+    // then
+    final ArgumentCaptor<JobBatchRecord> command = ArgumentCaptor.forClass(JobBatchRecord.class);
+    verify(writer, timeout(1000)).valueWriter(command.capture());
+    verify(writer, timeout(1000)).tryWrite();
+    assertThat(command.getValue().getMaxJobsToActivate()).isEqualTo(MAX_JOBS_TO_ACTIVATE);
+    assertThat(command.getValue().getType()).isEqualTo(JOB_TYPE);
+  }
+
+  @Test
+  public void shouldPushActivatedJobsToGateway() {
+    // given
+    final long requestId = activateJobs();
+
+    // when
+    service.sendResponse(newActivatedResponse(requestId, 1));
+
+    // then
+    final ArgumentCaptor<JobStreamPush> push = ArgumentCaptor.forClass(JobStreamPush.class);
+    verify(communicationService, timeout(1000))
+        .unicast(eq(JobStreamPush.SUBJECT), push.capture(), any(), eq(GATEWAY));
+    assertThat(push.getValue().getStreamId()).isEqualTo(STREAM_ID);
+  }
+
+  @Test
+  public void shouldRemoveStreamAfterFirstPush() {
+    // given
+    final long requestId = activateJobs();
+    service.sendResponse(newActivatedResponse(requestId, MAX_JOBS_TO_ACTIVATE - 1));
+    verify(communicationService, timeout(1000))
+        .unicast(eq(JobStreamPush.SUBJECT), any(), any(), eq(GATEWAY));
+
+    // when
+    service.onJobsAvailable(PARTITION_ID, JOB_TYPE);
+    awaitPendingActorJobs();
+
+    // then
+    verify(writer, times(1)).tryWrite();
+  }
+
+  @Test
+  public void shouldKeepStreamIfNoJobIsActivated() {
+    // given
+    final long requestId = activateJobs();
+    service.sendResponse(newActivatedResponse(requestId, 0));
+
+    // when
+    service.onJobsAvailable(PARTITION_ID, JOB_TYPE);
+
+    // then
+    verify(writer, timeout(1000).times(2)).tryWrite();
+    verify(communicationService, never())
+        .unicast(eq(JobStreamPush.SUBJECT), any(), any(), eq(GATEWAY));
+  }
+
+  @Test
+  public void shouldDropPendingActivationWhenBecomingFollower() {
+    // given
+    final long requestId = activateJobs();
+
+    // when
+    service.onBecomingFollower(PARTITION_ID, 1).join();
+    service.onBecomingLeader(PARTITION_ID, 2, logStream).join();
+    service.onJobsAvailable(PARTITION_ID, JOB_TYPE);
+
+    // then
+    verify(writer, timeout(1000).times(2)).tryWrite();
+
+    service.sendResponse(newActivatedResponse(requestId, 1));
+    awaitPendingActorJobs();
+    verify(communicationService, never())
+        .unicast(eq(JobStreamPush.SUBJECT), any(), any(), eq(GATEWAY));
+  }
+
+  @Test
+  public void shouldPassResponsesOfOtherRequestsToOutput() {
+    // given
+    final ServerResponse response = newActivatedResponse(1L, 1);
+
+    // when
+    service.sendResponse(response);
+
+    // then
+    verify(output).sendResponse(response);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void registerStream() {
+    final ArgumentCaptor<BiConsumer<MemberId, byte[]>> handler =
+        ArgumentCaptor.forClass(BiConsumer.class);
+    final ArgumentCaptor<Executor> executor = ArgumentCaptor.forClass(Executor.class);
+    verify(communicationService)
+        .subscribe(
+            eq(JobStreamRegistration.REGISTER_SUBJECT),
+            any(Function.class),
+            handler.capture(),
+            executor.capture());
+
+    final JobStreamRegistration registration = new JobStreamRegistration();
+    registration
+        .setStreamId(STREAM_ID)
+        .setMaxJobsToActivate(MAX_JOBS_TO_ACTIVATE)
+        .setType(BufferUtil.wrapString(JOB_TYPE))
+        .setWorker(BufferUtil.wrapString("worker"))
+        .setTimeout(1000L);
+    final byte[] bytes = new byte[registration.getLength()];
+    registration.write(new UnsafeBuffer(bytes), 0);
+
+    executor.getValue().execute(() -> handler.getValue().accept(GATEWAY, bytes));
+  }
+
+  private long activateJobs() {
+    service.onJobsAvailable(PARTITION_ID, JOB_TYPE);
+
+    final ArgumentCaptor<RecordMetadata> metadata = ArgumentCaptor.forClass(RecordMetadata.class);
+    verify(writer, timeout(1000)).metadataWriter(metadata.capture());
+    verify(writer, timeout(1000)).tryWrite();
+    return metadata.getValue().getRequestId();
+  }
+
+  private void awaitPendingActorJobs() {
+    // the service runs its jobs in order, so the previous jobs are done when this call returns
+    service.onBecomingFollower(OTHER_PARTITION_ID, 1).join();
+  }
+
+  private static ServerResponse newActivatedResponse(final long requestId, final int jobsCount) {
+    final JobBatchRecord jobBatch = new JobBatchRecord();
+    jobBatch.setType(JOB_TYPE).setMaxJobsToActivate(MAX_JOBS_TO_ACTIVATE);
+    for (int i = 0; i < jobsCount; i++) {
+      jobBatch.jobKeys().add().setValue(i);
+      jobBatch.jobs().add().setType(JOB_TYPE);
+    }
+    final UnsafeBuffer value = new UnsafeBuffer(new byte[jobBatch.getLength()]);
+    jobBatch.write(value, 0);
+
+    final ExecuteCommandResponse response =
+        new ExecuteCommandResponse()
+            .setPartitionId(PARTITION_ID)
+            .setKey(1L)
+            .setRecordType(RecordType.EVENT)
+            .setValueType(ValueType.JOB_BATCH)
+            .setIntent(JobBatchIntent.ACTIVATED)
+            .setValue(value, 0, value.capacity());
+
+    return new ServerResponseImpl()
+        .setPartitionId(PARTITION_ID)
+        .setRequestId(requestId)
+        .writer(response);
+  }
+}
@@ -76,6 +76,20 @@ public final class ExporterRepositoryTest {
     assertThat(descriptor.newInstance()).isInstanceOf(ControlledTestExporter.class);
   }
 
+  @Test
+  public void shouldLoadIsolatedExporter() throws ExporterLoadException, ExporterJarLoadException {
+    // given
+    final ExporterCfg config = new ExporterCfg();
+    config.setClassName(ControlledTestExporter.class.getCanonicalName());
+    config.setIsolated(true);
+
+    // when
+    final ExporterDescriptor descriptor = repository.load("isolated", config);
+
+    // then
+    assertThat(descriptor.isIsolated()).isTrue();
+  }
+
   @Test
   public void shouldLoadExternalExporter() throws Exception {
     // given
@@ -21,7 +21,12 @@ import io.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.zeebe.engine.Loggers;
+import io.zeebe.exporter.api.BatchExporter;
+import io.zeebe.exporter.api.ExportNotAcceptedException;
+import io.zeebe.exporter.api.batch.RecordBatch;
+import io.zeebe.exporter.api.batch.RecordView;
 import io.zeebe.exporter.api.context.Context;
+import io.zeebe.exporter.api.context.Controller;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
@@ -31,6 +36,7 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.protocol.record.intent.IncidentIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.value.JobRecordValue;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,6 +44,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -230,6 +237,37 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldRetryExportingWithoutBackOffIfNotAccepted() {
+    // given
+    final AtomicLong attempts = new AtomicLong();
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (attempts.incrementAndGet() <= 2) {
+                throw new ExportNotAcceptedException("Export not accepted (expected)");
+              }
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    waitUntil(() -> attempts.get() == 1);
+    rule.getClock().addTime(Duration.ofMillis(100));
+    waitUntil(() -> attempts.get() == 2);
+    rule.getClock().addTime(Duration.ofMillis(100));
+    waitUntil(() -> attempts.get() == 3);
+
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 1);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition);
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -374,6 +412,132 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldNotBlockIsolatedExporters() {
+    // given
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              throw new RuntimeException("Export failed (expected)");
+            });
+
+    rule.startIsolatedExporterDirectors(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecoverPositionsOfIsolatedExporters() throws Exception {
+    // given
+    rule.startIsolatedExporterDirectors(exporterDescriptors);
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+
+    exporters.get(0).getController().updateLastExportedRecordPosition(eventPosition2);
+    exporters.get(1).getController().updateLastExportedRecordPosition(eventPosition1);
+
+    // when
+    rule.closeExporterDirector();
+    exporters.get(0).getExportedRecords().clear();
+    exporters.get(1).getExportedRecords().clear();
+    rule.startIsolatedExporterDirectors(exporterDescriptors);
+    final long eventPosition3 = writeEvent();
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 1);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition3);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition2, eventPosition3);
+  }
+
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+
+    final BatchTestExporter batchExporter = new BatchTestExporter(2);
+    exporterDescriptors.add(createBatchExporter("batch-exporter", batchExporter));
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    waitUntil(() -> batchExporter.getExportedPositions().size() == 3);
+    assertThat(batchExporter.getBatchSizes()).containsExactly(2, 1);
+    assertThat(batchExporter.getExportedPositions())
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 3);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+  }
+
+  @Test
+  public void shouldAcknowledgeBatch() {
+    // given
+    final BatchTestExporter batchExporter = new BatchTestExporter(10);
+    exporterDescriptors.add(createBatchExporter("batch-exporter", batchExporter));
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    writeEvent();
+    final long eventPosition = writeEvent();
+
+    // then
+    waitUntil(() -> rule.getExportersState().getPosition("batch-exporter") == eventPosition);
+  }
+
+  @Test
+  public void shouldProvideRawAndDeserializedRecords() {
+    // given
+    final BatchTestExporter batchExporter = new BatchTestExporter(10);
+    exporterDescriptors.add(createBatchExporter("batch-exporter", batchExporter));
+    startExporterDirector(exporterDescriptors);
+
+    final JobRecord job = new JobRecord().setType("test").setRetries(3);
+
+    // when
+    final long position = rule.writeCommand(JobIntent.CREATE, job);
+
+    // then
+    waitUntil(() -> !batchExporter.getExportedRecords().isEmpty());
+    final Record<?> record = batchExporter.getExportedRecords().get(0);
+    assertThat(record.getPosition()).isEqualTo(position);
+    assertThat(record.getRecordType()).isEqualTo(RecordType.COMMAND);
+    assertThat(record.getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(record.getIntent()).isEqualTo(JobIntent.CREATE);
+    assertThat(((JobRecordValue) record.getValue()).getType()).isEqualTo("test");
+    assertThat(batchExporter.getExportedValues()).containsExactly(job.toString());
+  }
+
+  private ExporterDescriptor createBatchExporter(
+      final String exporterId, final BatchTestExporter exporter) {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    return descriptor;
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
@@ -396,4 +560,67 @@ public final class ExporterDirectorTest {
           });
     };
   }
+
+  private static final class BatchTestExporter implements BatchExporter {
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final List<Long> exportedPositions = new CopyOnWriteArrayList<>();
+    private final List<Record<?>> exportedRecords = new CopyOnWriteArrayList<>();
+    private final List<String> exportedValues = new CopyOnWriteArrayList<>();
+    private final int maxBatchSize;
+    private Controller controller;
+
+    private BatchTestExporter(final int maxBatchSize) {
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+      return maxBatchSize;
+    }
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void export(final Record record) {
+      throw new UnsupportedOperationException("Expected the records to be exported in batches");
+    }
+
+    @Override
+    public void exportBatch(final RecordBatch batch) {
+      batchSizes.add(batch.size());
+      for (final RecordView record : batch) {
+        exportedPositions.add(record.getPosition());
+
+        if (record.getValueType() == ValueType.JOB) {
+          exportedRecords.add(record.getRecord().clone());
+
+          final JobRecord value = new JobRecord();
+          value.wrap(record.getValueBuffer());
+          exportedValues.add(value.toString());
+        }
+      }
+
+      controller.updateLastExportedRecordPosition(batch.getLastPosition());
+    }
+
+    private List<Integer> getBatchSizes() {
+      return batchSizes;
+    }
+
+    private List<Long> getExportedPositions() {
+      return exportedPositions;
+    }
+
+    private List<Record<?>> getExportedRecords() {
+      return exportedRecords;
+    }
+
+    private List<String> getExportedValues() {
+      return exportedValues;
+    }
+  }
 }
@@ -17,13 +17,16 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.logstreams.util.SynchronousLogStream;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.test.util.AutoCloseableRule;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.rules.ExternalResource;
 import org.junit.rules.RuleChain;
 import org.junit.rules.TemporaryFolder;
@@ -48,7 +51,7 @@ public final class ExporterRule implements TestRule {
   private ZeebeDb<ZbColumnFamilies> capturedZeebeDb;
 
   private TestStreams streams;
-  private ExporterDirector director;
+  private final List<ExporterDirector> directors = new ArrayList<>();
 
   public ExporterRule(final int partitionId) {
     this(partitionId, DefaultZeebeDbFactory.defaultFactory(ZbColumnFamilies.class));
@@ -67,16 +70,8 @@ public final class ExporterRule implements TestRule {
     return chain.apply(base, description);
   }
 
-  @SuppressWarnings("unchecked")
   public void startExporterDirector(final List<ExporterDescriptor> exporterDescriptors) {
-    final var stream = streams.getLogStream(STREAM_NAME);
-
-    final var snapshotStorage = streams.createSnapshotStorage(stream);
-    final var snapshotController =
-        spy(new StateSnapshotController(zeebeDbFactory, snapshotStorage));
-    capturedZeebeDb = spy(snapshotController.openDb());
-
-    doAnswer(invocationOnMock -> capturedZeebeDb).when(snapshotController).openDb();
+    final var stream = openDb();
 
     final ExporterDirectorContext context =
         new ExporterDirectorContext()
@@ -86,9 +81,47 @@ public final class ExporterRule implements TestRule {
             .zeebeDb(capturedZeebeDb)
             .descriptors(exporterDescriptors);
 
-    director = new ExporterDirector(context);
+    startExporterDirector(context);
+  }
+
+  public void startIsolatedExporterDirectors(final List<ExporterDescriptor> exporterDescriptors) {
+    final var stream = openDb();
+    final List<String> exporterIds =
+        exporterDescriptors.stream().map(ExporterDescriptor::getId).collect(Collectors.toList());
+
+    for (final ExporterDescriptor descriptor : exporterDescriptors) {
+      final ExporterDirectorContext context =
+          new ExporterDirectorContext()
+              .id(EXPORTER_PROCESSOR_ID)
+              .name(PROCESSOR_NAME + "-" + descriptor.getId())
+              .logStream(stream.getAsyncLogStream())
+              .zeebeDb(capturedZeebeDb)
+              .descriptors(List.of(descriptor))
+              .configuredExporterIds(exporterIds);
+
+      startExporterDirector(context);
+    }
+  }
+
+  private void startExporterDirector(final ExporterDirectorContext context) {
+    final var director = new ExporterDirector(context);
     director.startAsync(actorSchedulerRule.get()).join();
+    directors.add(director);
+  }
+
+  @SuppressWarnings("unchecked")
+  private SynchronousLogStream openDb() {
+    final var stream = streams.getLogStream(STREAM_NAME);
+
+    final var snapshotStorage = streams.createSnapshotStorage(stream);
+    final var snapshotController =
+        spy(new StateSnapshotController(zeebeDbFactory, snapshotStorage));
+    capturedZeebeDb = spy(snapshotController.openDb());
+
+    doAnswer(invocationOnMock -> capturedZeebeDb).when(snapshotController).openDb();
+
     closeables.manage(snapshotStorage);
+    return stream;
   }
 
   public ControlledActorClock getClock() {
@@ -122,7 +155,8 @@ public final class ExporterRule implements TestRule {
   }
 
   public void closeExporterDirector() throws Exception {
-    director.stopAsync().join();
+    directors.forEach(director -> director.stopAsync().join());
+    directors.clear();
     capturedZeebeDb.close();
     capturedZeebeDb = null;
   }
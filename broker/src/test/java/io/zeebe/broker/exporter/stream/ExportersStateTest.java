@@ -16,6 +16,7 @@ import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.test.util.AutoCloseableRule;
 import java.io.File;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
@@ -166,4 +167,16 @@ public final class ExportersStateTest {
     // when/then
     assertThat(state.getLowestPosition()).isEqualTo(-1L);
   }
+
+  @Test
+  public void shouldGetLowestPositionOfExporters() {
+    // given
+    state.setPosition("e1", 1L);
+    state.setPosition("e2", 2L);
+    state.setPosition("e3", 3L);
+
+    // when/then
+    assertThat(state.getLowestPosition(List.of("e2", "e3", "e4"))).isEqualTo(2L);
+    assertThat(state.getLowestPosition(List.of("e4"))).isEqualTo(-1L);
+  }
 }
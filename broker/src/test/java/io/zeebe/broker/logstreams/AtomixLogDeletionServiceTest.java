@@ -20,6 +20,7 @@ import io.atomix.storage.journal.JournalSegmentDescriptor;
 import io.atomix.utils.time.WallClockTimestamp;
 import io.zeebe.logstreams.storage.atomix.AtomixRecordEntrySupplierImpl;
 import io.zeebe.logstreams.util.AtomixLogStorageRule;
+import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -144,7 +145,8 @@ public final class AtomixLogDeletionServiceTest {
     final var store = logStorageRule.getSnapshotStore();
     final var now = WallClockTimestamp.from(System.currentTimeMillis());
     final var pending = store.newPendingSnapshot(index, 0, now);
-    pending.write(ByteBuffer.wrap("foo".getBytes()), ByteBuffer.wrap("bar".getBytes()));
+    final var data = ByteBuffer.wrap("bar".getBytes());
+    pending.write(ByteBuffer.wrap("foo".getBytes()), data, ChecksumUtil.createChecksum(data));
     pending.commit();
   }
 
@@ -153,7 +155,7 @@ public final class AtomixLogDeletionServiceTest {
     try {
       return builder
           // hardcode max segment size to allow a single entry only
-          .withMaxSegmentSize(JournalSegmentDescriptor.BYTES + 8 * Integer.BYTES)
+          .withMaxSegmentSize(JournalSegmentDescriptor.BYTES + 16 * Integer.BYTES)
           .withSnapshotStore(
               new DbSnapshotStore(
                   folder.newFolder("runtime").toPath(),
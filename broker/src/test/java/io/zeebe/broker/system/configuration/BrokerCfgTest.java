@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.zeebe.broker.exporter.debug.DebugLogExporter;
 import io.zeebe.broker.exporter.metrics.MetricsExporter;
 import io.zeebe.broker.system.configuration.BackpressureCfg.LimitAlgorithm;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.zeebe.test.util.TestConfigurationFactory;
 import io.zeebe.util.Environment;
 import java.nio.file.Paths;
@@ -41,6 +42,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.util.unit.DataSize;
 
 public final class BrokerCfgTest {
 
@@ -480,6 +482,114 @@ public final class BrokerCfgTest {
     assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.GRADIENT);
   }
 
+  @Test
+  public void shouldSetProcessingConfig() {
+    // when
+    final BrokerCfg cfg = readConfig("processing-cfg");
+    final ProcessingCfg processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMaxCommandsInBatch()).isEqualTo(32);
+    assertThat(processing.getMaxBatchDuration()).isEqualTo(Duration.ofMillis(50));
+  }
+
+  @Test
+  public void shouldRejectInvalidMaxCommandsInBatch() {
+    // when + then
+    Assertions.assertThatThrownBy(() -> readConfig("invalid-max-commands-in-batch-cfg"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Max commands in batch 0");
+  }
+
+  @Test
+  public void shouldRejectInvalidMaxBatchDuration() {
+    // when + then
+    Assertions.assertThatThrownBy(() -> readConfig("invalid-max-batch-duration-cfg"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Max batch duration PT0S");
+  }
+
+  @Test
+  public void shouldSetRocksdbConfig() {
+    // when
+    final BrokerCfg cfg = readConfig("rocksdb-cfg");
+    final RocksDbConfiguration rocksdb = cfg.getData().getRocksdb().toRocksDbConfiguration();
+
+    // then
+    assertThat(rocksdb.getMemoryLimit()).isEqualTo(256 * 1024 * 1024L);
+    assertThat(rocksdb.getColumnFamily("VARIABLES").getBloomFilterBitsPerKey()).isEqualTo(0.0);
+    assertThat(rocksdb.getColumnFamily("VARIABLES").getWriteBufferSize())
+        .isEqualTo(16 * 1024 * 1024L);
+    assertThat(rocksdb.getColumnFamily("JOBS").getBloomFilterBitsPerKey())
+        .isEqualTo(RocksDbConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
+  }
+
+  @Test
+  public void shouldSetGroupCommitConfig() {
+    // when
+    final DataCfg data = readConfig("group-commit-cfg").getData();
+
+    // then
+    assertThat(data.getGroupCommitWindow()).isEqualTo(Duration.ofMillis(5));
+    assertThat(data.getGroupCommitMaxSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  public void shouldSetReplicationConfig() {
+    // when
+    final ClusterCfg cluster = readConfig("replication-cfg").getCluster();
+
+    // then
+    assertThat(cluster.getMaxAppendsPerFollower()).isEqualTo(4);
+    assertThat(cluster.getMaxAppendBatchSize()).isEqualTo(DataSize.ofKilobytes(256));
+  }
+
+  @Test
+  public void shouldSetReplicationCompressionConfig() {
+    // when
+    final ClusterCfg cluster = readConfig("replication-cfg").getCluster();
+
+    // then
+    assertThat(cluster.isReplicationCompression()).isTrue();
+    assertThat(cluster.getReplicationCompressionThreshold()).isEqualTo(DataSize.ofKilobytes(1));
+  }
+
+  @Test
+  public void shouldSetSnapshotChunkReuseConfig() {
+    // when
+    final ClusterCfg cluster = readConfig("replication-cfg").getCluster();
+
+    // then
+    assertThat(cluster.isSnapshotChunkReuse()).isTrue();
+  }
+
+  @Test
+  public void shouldNotReuseSnapshotChunksByDefault() {
+    // when
+    final ClusterCfg cluster = readConfig("empty").getCluster();
+
+    // then
+    assertThat(cluster.isSnapshotChunkReuse()).isFalse();
+  }
+
+  @Test
+  public void shouldSetSubscriptionCommandBatchingConfig() {
+    // when
+    final ClusterCfg cluster = readConfig("replication-cfg").getCluster();
+
+    // then
+    assertThat(cluster.isSubscriptionCommandBatching()).isTrue();
+  }
+
+  @Test
+  public void shouldNotBatchSubscriptionCommandsByDefault() {
+    // when
+    final ClusterCfg cluster = readConfig("empty").getCluster();
+
+    // then
+    assertThat(cluster.isSubscriptionCommandBatching()).isFalse();
+  }
+
   @Test
   public void shouldUseDefaultAdvertisedHost() {
     // when - then
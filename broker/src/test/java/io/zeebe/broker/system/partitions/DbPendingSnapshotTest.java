@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.impl.zeebe.snapshot.DbSnapshotChunkId;
+import io.atomix.raft.impl.zeebe.snapshot.DbSnapshotStore;
+import io.atomix.raft.storage.snapshot.PendingSnapshot;
+import io.atomix.raft.storage.snapshot.Snapshot;
+import io.atomix.utils.time.WallClockTimestamp;
+import io.zeebe.util.ChecksumUtil;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class DbPendingSnapshotTest {
+  private static final int CHUNK_SIZE = 16;
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private DbSnapshotStore store;
+
+  @Before
+  public void setUp() throws Exception {
+    final var snapshotsDirectory = temporaryFolder.newFolder("snapshots").toPath();
+    final var pendingDirectory = temporaryFolder.newFolder("pending").toPath();
+    store =
+        new DbSnapshotStore(
+            snapshotsDirectory, pendingDirectory, new ConcurrentSkipListMap<>(), CHUNK_SIZE);
+  }
+
+  @Test
+  public void shouldAdvertiseSstFilesAsReusableChunks() {
+    // given
+    final var snapshot = newSnapshot(1, "000001.sst", "CURRENT");
+
+    // when
+    final var reusableChunks = snapshot.reusableChunks();
+
+    // then
+    assertThat(reusableChunks).containsOnlyKeys(chunkId("000001.sst"));
+    assertThat(reusableChunks.get(chunkId("000001.sst"))).isEqualTo(checksumOf("000001.sst"));
+  }
+
+  @Test
+  public void shouldReuseChunkOfLatestSnapshot() throws Exception {
+    // given
+    final var previous = newSnapshot(1, "000001.sst");
+    final var pendingSnapshot = store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+
+    // when
+    final var reused = pendingSnapshot.reuseChunk(chunkId("000001.sst"), checksumOf("000001.sst"));
+    pendingSnapshot.write(chunkId("000002.sst"), data("000002.sst"), checksumOf("000002.sst"));
+    pendingSnapshot.commit();
+
+    // then
+    assertThat(reused).isTrue();
+    final var snapshot = store.getCurrentSnapshot();
+    assertThat(snapshot.index()).isEqualTo(2);
+    assertThat(
+            Files.isSameFile(
+                snapshot.getPath().resolve("000001.sst"), previous.getPath().resolve("000001.sst")))
+        .isTrue();
+    assertThat(snapshot.reusableChunks())
+        .containsOnlyKeys(chunkId("000001.sst"), chunkId("000002.sst"));
+  }
+
+  @Test
+  public void shouldKeepReusedChunkIfPreviousSnapshotIsDeleted() throws Exception {
+    // given
+    newSnapshot(1, "000001.sst");
+    final var pendingSnapshot = store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+    pendingSnapshot.reuseChunk(chunkId("000001.sst"), checksumOf("000001.sst"));
+    pendingSnapshot.commit();
+
+    // when
+    final var snapshot = store.getCurrentSnapshot();
+    store.purgeSnapshots(snapshot);
+
+    // then
+    assertThat(snapshot.getPath().resolve("000001.sst")).hasContent("000001.sst");
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() {
+    // given
+    newSnapshot(1, "000001.sst");
+    final PendingSnapshot pendingSnapshot =
+        store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+
+    // when
+    final var reused =
+        pendingSnapshot.reuseChunk(chunkId("000001.sst"), checksumOf("000001.sst") + 1);
+
+    // then
+    assertThat(reused).isFalse();
+    assertThat(pendingSnapshot.containsChunk(chunkId("000001.sst"))).isFalse();
+  }
+
+  @Test
+  public void shouldNotReuseChunkWhichDoesNotExist() {
+    // given
+    newSnapshot(1, "000001.sst");
+    final PendingSnapshot pendingSnapshot =
+        store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+
+    // when
+    final var reused = pendingSnapshot.reuseChunk(chunkId("000002.sst"), checksumOf("000002.sst"));
+
+    // then
+    assertThat(reused).isFalse();
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithoutPreviousSnapshot() {
+    // given
+    final PendingSnapshot pendingSnapshot =
+        store.newPendingSnapshot(1, 1, WallClockTimestamp.from(1));
+
+    // when
+    final var reused = pendingSnapshot.reuseChunk(chunkId("000001.sst"), checksumOf("000001.sst"));
+
+    // then
+    assertThat(reused).isFalse();
+  }
+
+  @Test
+  public void shouldAppendChunksToPartiallyWrittenFile() throws Exception {
+    // given
+    final var pendingSnapshot = store.newPendingSnapshot(1, 1, WallClockTimestamp.from(1));
+
+    // when
+    pendingSnapshot.write(
+        chunkId("000001.sst", 0), data("0123456789abcdef"), checksumOf("0123456789abcdef"));
+    pendingSnapshot.write(chunkId("000001.sst", 16), data("ghij"), checksumOf("ghij"));
+    pendingSnapshot.commit();
+
+    // then
+    final var snapshot = store.getCurrentSnapshot();
+    assertThat(snapshot.getPath().resolve("000001.sst")).hasContent("0123456789abcdefghij");
+    assertThat(snapshot.reusableChunks())
+        .containsOnlyKeys(chunkId("000001.sst", 0), chunkId("000001.sst", 16));
+    assertThat(snapshot.reusableChunks().get(chunkId("000001.sst", 16)))
+        .isEqualTo(checksumOf("ghij"));
+  }
+
+  @Test
+  public void shouldNotWriteChunkWithDifferentChecksum() {
+    // given
+    final var pendingSnapshot = store.newPendingSnapshot(1, 1, WallClockTimestamp.from(1));
+    pendingSnapshot.write(
+        chunkId("000001.sst", 0), data("0123456789abcdef"), checksumOf("0123456789abcdef"));
+    pendingSnapshot.setNextExpected(chunkId("000001.sst", 16));
+
+    // when
+    final var written =
+        pendingSnapshot.write(chunkId("000001.sst", 16), data("ghi"), checksumOf("ghij"));
+
+    // then
+    assertThat(written).isFalse();
+    assertThat(pendingSnapshot.containsChunk(chunkId("000001.sst", 16))).isFalse();
+    assertThat(pendingSnapshot.nextExpected()).isEqualTo(chunkId("000001.sst", 16));
+    assertThat(pendingSnapshot.getPath().resolve("000001.sst")).hasContent("0123456789abcdef");
+  }
+
+  @Test
+  public void shouldResumeAfterLastWrittenChunk() {
+    // given
+    final var pendingSnapshot = store.newPendingSnapshot(1, 1, WallClockTimestamp.from(1));
+    pendingSnapshot.write(
+        chunkId("000001.sst", 0), data("0123456789abcdef"), checksumOf("0123456789abcdef"));
+    pendingSnapshot.setNextExpected(chunkId("000001.sst", 16));
+
+    // when - then
+    assertThat(pendingSnapshot.containsChunk(chunkId("000001.sst", 0))).isTrue();
+    assertThat(pendingSnapshot.containsChunk(chunkId("000001.sst", 16))).isFalse();
+    assertThat(pendingSnapshot.containsChunk(chunkId("000002.sst", 0))).isFalse();
+    assertThat(pendingSnapshot.nextExpected()).isEqualTo(chunkId("000001.sst", 16));
+  }
+
+  @Test
+  public void shouldNotModifyReusedFileOfPreviousSnapshot() throws Exception {
+    // given
+    final var previous = newSnapshot(1, "000001.sst");
+    final var previousFile = previous.getPath().resolve("000001.sst");
+    Files.writeString(previousFile, "0123456789abcdefghij");
+    final var pendingSnapshot = store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+
+    // when
+    pendingSnapshot.reuseChunk(chunkId("000001.sst", 0), checksumOf("0123456789abcdef"));
+    pendingSnapshot.write(chunkId("000001.sst", 16), data("klmn"), checksumOf("klmn"));
+    pendingSnapshot.commit();
+
+    // then
+    final Path file = store.getCurrentSnapshot().getPath().resolve("000001.sst");
+    assertThat(file).hasContent("0123456789abcdefklmn");
+    assertThat(previousFile).hasContent("0123456789abcdefghij");
+    assertThat(Files.isSameFile(file, previousFile)).isFalse();
+  }
+
+  @Test
+  public void shouldTruncateReusedFileOfPreviousSnapshot() throws Exception {
+    // given
+    final var previous = newSnapshot(1, "000001.sst");
+    final var previousFile = previous.getPath().resolve("000001.sst");
+    Files.writeString(previousFile, "0123456789abcdefghij");
+    final var pendingSnapshot = store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+
+    // when
+    pendingSnapshot.reuseChunk(chunkId("000001.sst", 0), checksumOf("0123456789abcdef"));
+    pendingSnapshot.write(chunkId("000002.sst", 0), data("000002.sst"), checksumOf("000002.sst"));
+    pendingSnapshot.commit();
+
+    // then
+    final Path file = store.getCurrentSnapshot().getPath().resolve("000001.sst");
+    assertThat(file).hasContent("0123456789abcdef");
+    assertThat(previousFile).hasContent("0123456789abcdefghij");
+  }
+
+  private Snapshot newSnapshot(final long index, final String... chunks) {
+    final var pendingSnapshot = store.newPendingSnapshot(index, 1, WallClockTimestamp.from(index));
+    for (final var chunk : chunks) {
+      pendingSnapshot.write(chunkId(chunk), data(chunk), checksumOf(chunk));
+    }
+    pendingSnapshot.commit();
+
+    return store.getCurrentSnapshot();
+  }
+
+  private static ByteBuffer chunkId(final String name) {
+    return chunkId(name, 0);
+  }
+
+  private static ByteBuffer chunkId(final String name, final long offset) {
+    return new DbSnapshotChunkId(name, offset).encode();
+  }
+
+  // the content of each chunk is its name, to have different checksums
+  private static ByteBuffer data(final String name) {
+    return ByteBuffer.wrap(name.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static long checksumOf(final String name) {
+    return ChecksumUtil.createChecksum(data(name));
+  }
+}
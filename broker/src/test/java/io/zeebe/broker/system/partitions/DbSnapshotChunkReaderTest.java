@@ -9,11 +9,14 @@ package io.zeebe.broker.system.partitions;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.raft.impl.zeebe.snapshot.DbSnapshotChunkId;
 import io.atomix.raft.impl.zeebe.snapshot.DbSnapshotChunkReader;
 import io.atomix.raft.storage.snapshot.SnapshotChunk;
+import io.zeebe.util.ChecksumUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -74,8 +77,54 @@ public final class DbSnapshotChunkReaderTest {
     Assertions.assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldSplitFileIntoChunks() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.writeString(directory.resolve("a"), "0123456789");
+    Files.createFile(directory.resolve("b"));
+    final var reader = new DbSnapshotChunkReader(directory, chunksOf("a", "b"), 4);
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      chunks.add(reader.next());
+    }
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::id)
+        .containsExactly(asBuffer("a", 0), asBuffer("a", 4), asBuffer("a", 8), asBuffer("b", 0));
+    assertThat(chunks)
+        .extracting(chunk -> StandardCharsets.US_ASCII.decode(chunk.data()).toString())
+        .containsExactly("0123", "4567", "89", "");
+  }
+
+  @Test
+  public void shouldSeekToChunkWithinFile() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.writeString(directory.resolve("a"), "0123456789");
+    Files.writeString(directory.resolve("b"), "01");
+    final var reader = new DbSnapshotChunkReader(directory, chunksOf("a", "b"), 4);
+
+    // when
+    reader.seek(asBuffer("a", 8));
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.id()).isEqualTo(asBuffer("a", 8));
+    assertThat(chunk.data()).isEqualTo(ByteBuffer.wrap("89".getBytes(StandardCharsets.US_ASCII)));
+    assertThat(chunk.checksum()).isEqualTo(ChecksumUtil.createChecksum(chunk.data()));
+    assertThat(reader.nextId()).isEqualTo(asBuffer("b", 0));
+  }
+
   private ByteBuffer asBuffer(final CharSequence chunk) {
-    return ByteBuffer.wrap(chunk.toString().getBytes(DbSnapshotChunkReader.ID_CHARSET));
+    return asBuffer(chunk, 0);
+  }
+
+  private ByteBuffer asBuffer(final CharSequence file, final long offset) {
+    return new DbSnapshotChunkId(file.toString(), offset).encode();
   }
 
   private NavigableSet<CharSequence> chunksOf(final CharSequence... chunks) {
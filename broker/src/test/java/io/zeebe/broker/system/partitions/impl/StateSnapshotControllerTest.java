@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
+import java.util.stream.Collectors;
 import org.agrona.collections.MutableLong;
 import org.junit.Before;
 import org.junit.Rule;
@@ -187,6 +188,32 @@ public final class StateSnapshotControllerTest {
     assertThat(wrapper.getInt("x")).isEqualTo(3);
   }
 
+  @Test
+  public void shouldLinkImmutableFilesOfSnapshotOnRecover() throws Exception {
+    // given
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    wrapper.wrap(snapshotController.openDb());
+    wrapper.putInt("x", 1);
+    final var snapshotDirectory = snapshotController.takeSnapshot(1).orElseThrow().getPath();
+    snapshotController.close();
+
+    // when
+    snapshotController.recover();
+
+    // then
+    final var runtimeDirectory = storage.getRuntimeDirectory();
+    try (final var files = Files.list(snapshotDirectory)) {
+      final var sstFiles =
+          files.filter(file -> file.toString().endsWith(".sst")).collect(Collectors.toList());
+      assertThat(sstFiles).isNotEmpty();
+      for (final var file : sstFiles) {
+        assertThat(Files.isSameFile(file, runtimeDirectory.resolve(file.getFileName()))).isTrue();
+      }
+    }
+    wrapper.wrap(snapshotController.openDb());
+    assertThat(wrapper.getInt("x")).isEqualTo(1);
+  }
+
   @Test
   public void shouldRecoverFromLatestNotCorruptedSnapshot() throws Exception {
     // given two snapshots
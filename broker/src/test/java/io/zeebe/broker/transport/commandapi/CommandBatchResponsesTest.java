@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import io.zeebe.util.buffer.DirectBufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class CommandBatchResponsesTest {
+
+  private static final int PARTITION_ID = 1;
+  private static final long REQUEST_ID = 12;
+
+  private final List<ServerResponse> sentResponses = new ArrayList<>();
+  private final CommandBatchResponses batchResponses =
+      new CommandBatchResponses(sentResponses::add);
+
+  @Test
+  public void shouldPassThroughOtherResponses() {
+    // when
+    batchResponses.sendResponse(newResponse(REQUEST_ID, "response"));
+
+    // then
+    assertThat(sentResponses).hasSize(1);
+    assertThat(sentResponses.get(0).getRequestId()).isEqualTo(REQUEST_ID);
+  }
+
+  @Test
+  public void shouldSendBatchResponseInCommandOrder() {
+    // given
+    final long firstRequestId = batchResponses.newBatch(PARTITION_ID, REQUEST_ID, 2);
+
+    // when
+    batchResponses.sendResponse(newResponse(firstRequestId + 1, "second"));
+    batchResponses.sendResponse(newResponse(firstRequestId, "first"));
+
+    // then
+    assertThat(sentResponses).hasSize(1);
+    final ServerResponse response = sentResponses.get(0);
+    assertThat(response.getRequestId()).isEqualTo(REQUEST_ID);
+    assertThat(response.getPartitionId()).isEqualTo(PARTITION_ID);
+
+    final ExecuteCommandBatchResponse batchResponse = decode(response);
+    assertThat(batchResponse.getResponsesCount()).isEqualTo(2);
+    assertThat(batchResponse.getResponse(0)).isEqualTo(wrapString("first"));
+    assertThat(batchResponse.getResponse(1)).isEqualTo(wrapString("second"));
+  }
+
+  @Test
+  public void shouldOmitValuesOfCommandResponses() {
+    // given
+    final long firstRequestId = batchResponses.newBatch(PARTITION_ID, REQUEST_ID, 1);
+    final DirectBuffer value = wrapString("value");
+    final ExecuteCommandResponse commandResponse =
+        new ExecuteCommandResponse()
+            .setPartitionId(PARTITION_ID)
+            .setKey(123)
+            .setRecordType(RecordType.EVENT)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETED)
+            .setValue(value, 0, value.capacity());
+
+    // when
+    batchResponses.sendResponse(
+        new ServerResponseImpl()
+            .setPartitionId(PARTITION_ID)
+            .setRequestId(firstRequestId)
+            .writer(commandResponse));
+
+    // then
+    final DirectBuffer response = decode(sentResponses.get(0)).getResponse(0);
+    final ExecuteCommandResponse batchedResponse = new ExecuteCommandResponse();
+    batchedResponse.wrap(response, 0, response.capacity());
+    assertThat(batchedResponse.getKey()).isEqualTo(123);
+    assertThat(batchedResponse.getIntent()).isEqualTo(JobIntent.COMPLETED);
+    assertThat(batchedResponse.getValue().capacity()).isZero();
+  }
+
+  @Test
+  public void shouldWaitForAllResponses() {
+    // given
+    final long firstRequestId = batchResponses.newBatch(PARTITION_ID, REQUEST_ID, 2);
+
+    // when
+    batchResponses.sendResponse(newResponse(firstRequestId, "first"));
+
+    // then
+    assertThat(sentResponses).isEmpty();
+  }
+
+  @Test
+  public void shouldNotOverlapRequestIdsOfBatches() {
+    // when
+    final long firstBatch = batchResponses.newBatch(PARTITION_ID, REQUEST_ID, 3);
+    final long secondBatch = batchResponses.newBatch(PARTITION_ID, REQUEST_ID + 1, 1);
+
+    // then
+    assertThat(secondBatch).isEqualTo(firstBatch + 3);
+    assertThat(firstBatch).isNegative();
+  }
+
+  @Test
+  public void shouldDropResponsesOfRemovedPartition() {
+    // given
+    final long firstRequestId = batchResponses.newBatch(PARTITION_ID, REQUEST_ID, 1);
+
+    // when
+    batchResponses.removePartition(PARTITION_ID);
+    batchResponses.sendResponse(newResponse(firstRequestId, "first"));
+
+    // then
+    assertThat(sentResponses).isEmpty();
+  }
+
+  private static ServerResponse newResponse(final long requestId, final String content) {
+    final DirectBufferWriter writer = new DirectBufferWriter().wrap(wrapString(content));
+    return new ServerResponseImpl()
+        .setPartitionId(PARTITION_ID)
+        .setRequestId(requestId)
+        .writer(writer);
+  }
+
+  private static ExecuteCommandBatchResponse decode(final ServerResponse response) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(buffer, 0);
+
+    final ExecuteCommandBatchResponse batchResponse = new ExecuteCommandBatchResponse();
+    batchResponse.wrap(buffer, 0, buffer.capacity());
+    return batchResponse;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.test.EmbeddedBrokerRule;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.test.broker.protocol.commandapi.CommandApiRule;
+import io.zeebe.test.broker.protocol.commandapi.PartitionTestClient;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public final class ExecuteCommandBatchTest {
+
+  private static final EmbeddedBrokerRule BROKER_RULE = new EmbeddedBrokerRule();
+  private static final CommandApiRule API_RULE = new CommandApiRule(BROKER_RULE::getAtomix);
+
+  @ClassRule public static RuleChain ruleChain = RuleChain.outerRule(BROKER_RULE).around(API_RULE);
+
+  @Test
+  public void shouldCompleteJobsWithOneRequest() {
+    // given
+    final PartitionTestClient client = API_RULE.partitionClient();
+    client.createJob("first");
+    client.createJob("second");
+    final long firstJob = client.activateJob("first", job -> true).getLeft();
+    final long secondJob = client.activateJob("second", job -> true).getLeft();
+    final long unknownJob = Protocol.encodePartitionId(Protocol.START_PARTITION_ID, 123456);
+
+    final ExecuteCommandBatchRequest request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(Protocol.START_PARTITION_ID)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETE);
+    addJob(request, firstJob);
+    addJob(request, unknownJob);
+    addJob(request, secondJob);
+
+    // when
+    final ExecuteCommandBatchResponse response = API_RULE.executeCommandBatch(request);
+
+    // then
+    assertThat(response.getResponsesCount()).isEqualTo(3);
+
+    final ExecuteCommandResponse firstResponse = decode(response.getResponse(0));
+    assertThat(firstResponse.getKey()).isEqualTo(firstJob);
+    assertThat(firstResponse.getRecordType()).isEqualTo(RecordType.EVENT);
+    assertThat(firstResponse.getIntent()).isEqualTo(JobIntent.COMPLETED);
+
+    final ExecuteCommandResponse unknownResponse = decode(response.getResponse(1));
+    assertThat(unknownResponse.getRecordType()).isEqualTo(RecordType.COMMAND_REJECTION);
+    assertThat(unknownResponse.getRejectionType()).isEqualTo(RejectionType.NOT_FOUND);
+
+    final ExecuteCommandResponse secondResponse = decode(response.getResponse(2));
+    assertThat(secondResponse.getKey()).isEqualTo(secondJob);
+    assertThat(secondResponse.getRecordType()).isEqualTo(RecordType.EVENT);
+    assertThat(secondResponse.getIntent()).isEqualTo(JobIntent.COMPLETED);
+  }
+
+  private static void addJob(final ExecuteCommandBatchRequest request, final long jobKey) {
+    final JobRecord job = new JobRecord();
+    final UnsafeBuffer value = new UnsafeBuffer(new byte[job.getLength()]);
+    job.write(value, 0);
+
+    request.addCommand(jobKey, value, 0, value.capacity());
+  }
+
+  private static ExecuteCommandResponse decode(final DirectBuffer buffer) {
+    final ExecuteCommandResponse response = new ExecuteCommandResponse();
+    response.wrap(buffer, 0, buffer.capacity());
+    return response;
+  }
+}
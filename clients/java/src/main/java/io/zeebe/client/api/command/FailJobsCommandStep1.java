@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.response.JobsCommandResponse;
+
+public interface FailJobsCommandStep1 extends FinalCommandStep<JobsCommandResponse> {
+
+  /**
+   * Add a job to mark as failed.
+   *
+   * @param jobKey the key which identifies the job
+   * @param retries the remaining retries of the job. If the retries are greater than zero then this
+   *     job will be picked up again by a job worker. Otherwise, an incident is created for this
+   *     job.
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  FailJobsCommandStep1 addJob(long jobKey, int retries);
+
+  /**
+   * Add a job to mark as failed.
+   *
+   * @param jobKey the key which identifies the job
+   * @param retries the remaining retries of the job. If the retries are greater than zero then this
+   *     job will be picked up again by a job worker. Otherwise, an incident is created for this
+   *     job.
+   * @param errorMessage the message why the job failed, which is shown in the incident if the job
+   *     has no retries left
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  FailJobsCommandStep1 addJob(long jobKey, int retries, String errorMessage);
+}
@@ -16,13 +16,17 @@
 package io.zeebe.client.api.worker;
 
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
+import io.zeebe.client.api.command.FailJobsCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 
 /**
  * A client with access to all job-related operation:
  * <li>complete a job
+ * <li>complete many jobs at once
  * <li>mark a job as failed
+ * <li>mark many jobs as failed at once
  * <li>update the retries of a job
  */
 public interface JobClient {
@@ -47,6 +51,26 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(long jobKey);
 
+  /**
+   * Command to complete many jobs with one request.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey, json)
+   *  .addJob(otherJobKey)
+   *  .send();
+   * </pre>
+   *
+   * <p>Each job is completed independently, like by {@link #newCompleteCommand(long)}. The response
+   * contains the result of each job, so the command succeeds even if some jobs can't be completed.
+   * Completing many jobs at once is cheaper than completing each job separately, e.g. for workers
+   * which handle many short jobs.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
@@ -67,6 +91,24 @@ public interface JobClient {
    */
   FailJobCommandStep1 newFailCommand(long jobKey);
 
+  /**
+   * Command to mark many jobs as failed with one request.
+   *
+   * <pre>
+   * jobClient
+   *  .newFailJobsCommand()
+   *  .addJob(jobKey, 3, "service unavailable")
+   *  .addJob(otherJobKey, 0)
+   *  .send();
+   * </pre>
+   *
+   * <p>Each job is failed independently, like by {@link #newFailCommand(long)}. The response
+   * contains the result of each job, so the command succeeds even if some jobs can't be failed.
+   *
+   * @return a builder for the command
+   */
+  FailJobsCommandStep1 newFailJobsCommand();
+
   /**
    * Command to report a business error (i.e. non-technical) that occurs while processing a job.
    *
@@ -176,6 +176,40 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 fetchVariables(String... fetchVariables);
 
+    /**
+     * Enable the adaptive polling of the worker.
+     *
+     * <p>By default, the worker polls for new jobs in the poll interval and activates as many jobs
+     * as it has capacity for. If the adaptive polling is enabled then the worker
+     *
+     * <ul>
+     *   <li>measures the time the job handler needs per job and activates only as many jobs as the
+     *       handler can work on until the next jobs are activated, bounded by {@link
+     *       #maxJobsActive(int)}
+     *   <li>backs off exponentially, with a random jitter, if no jobs are activated, e.g. because
+     *       there are no jobs or the gateway rejects the request with back pressure; the backoff is
+     *       bounded by 32 times the poll interval and is reset when jobs are activated again
+     * </ul>
+     *
+     * <p>This reduces the requests of idle workers and the number of jobs waiting in the queue of
+     * busy workers.
+     *
+     * @param adaptivePolling {@code true} to enable the adaptive polling
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 adaptivePolling(boolean adaptivePolling);
+
+    /**
+     * Set the metrics of the worker, e.g. to record the job activation latency, the time of the job
+     * handler and the number of queued jobs with a metrics library.
+     *
+     * <p>If no metrics are set then no metrics are recorded.
+     *
+     * @param metrics the metrics to notify about the activation and the handling of jobs
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 metrics(JobWorkerMetrics metrics);
+
     /**
      * Open the worker and start to work on available tasks.
      *
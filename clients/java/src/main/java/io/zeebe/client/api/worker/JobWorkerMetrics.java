@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.worker;
+
+import java.time.Duration;
+
+/**
+ * Receives the metrics of a job worker, e.g. to record them with a metrics library like Micrometer.
+ * All methods do nothing by default, so an implementation can pick the metrics it is interested in.
+ *
+ * <p>Implementations MUST be thread-safe, the methods are called from the threads of the job worker
+ * and of the job handlers.
+ */
+public interface JobWorkerMetrics {
+
+  /**
+   * Called when an activate jobs request of the worker is completed.
+   *
+   * @param activatedJobs the number of jobs which are activated by the request
+   * @param activationLatency the time from sending the request until it is completed
+   */
+  default void jobsActivated(final int activatedJobs, final Duration activationLatency) {}
+
+  /**
+   * Called when the job handler of the worker finished to handle a job.
+   *
+   * @param handlerTime the time the job handler took to handle the job
+   */
+  default void jobHandled(final Duration handlerTime) {}
+
+  /**
+   * Called when the number of jobs which are activated by the worker, but not handled yet, is
+   * changed.
+   *
+   * @param queueDepth the number of jobs which are activated and not handled yet
+   */
+  default void queueDepthChanged(final int queueDepth) {}
+}
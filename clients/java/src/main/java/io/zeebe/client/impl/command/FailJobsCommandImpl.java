@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.FailJobsCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.JobsCommandResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.response.JobsCommandResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest.Builder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class FailJobsCommandImpl implements FailJobsCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final Builder builder;
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public FailJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    builder = FailJobsRequest.newBuilder();
+  }
+
+  @Override
+  public FailJobsCommandStep1 addJob(final long jobKey, final int retries) {
+    builder.addJobs(FailJobRequest.newBuilder().setJobKey(jobKey).setRetries(retries));
+    return this;
+  }
+
+  @Override
+  public FailJobsCommandStep1 addJob(
+      final long jobKey, final int retries, final String errorMessage) {
+    ArgumentUtil.ensureNotNull("errorMessage", errorMessage);
+    builder.addJobs(
+        FailJobRequest.newBuilder()
+            .setJobKey(jobKey)
+            .setRetries(retries)
+            .setErrorMessage(errorMessage));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<JobsCommandResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<JobsCommandResponse> send() {
+    final FailJobsRequest request = builder.build();
+
+    final RetriableClientFutureImpl<JobsCommandResponse, GatewayOuterClass.FailJobsResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                JobsCommandResponseImpl::new,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final FailJobsRequest request,
+      final StreamObserver<GatewayOuterClass.FailJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .failJobs(request, streamObserver);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.response;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.zeebe.client.api.response.JobCommandResult;
+import io.zeebe.client.api.response.JobsCommandResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class JobsCommandResponseImpl implements JobsCommandResponse {
+
+  private final List<JobCommandResult> results;
+
+  public JobsCommandResponseImpl(final GatewayOuterClass.CompleteJobsResponse response) {
+    this(response.getResultsList());
+  }
+
+  public JobsCommandResponseImpl(final GatewayOuterClass.FailJobsResponse response) {
+    this(response.getResultsList());
+  }
+
+  private JobsCommandResponseImpl(final List<JobResult> results) {
+    this.results = results.stream().map(JobCommandResultImpl::new).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<JobCommandResult> getResults() {
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "JobsCommandResponseImpl{" + "results=" + results + '}';
+  }
+
+  private static final class JobCommandResultImpl implements JobCommandResult {
+
+    private final long jobKey;
+    private final Code statusCode;
+    private final String message;
+
+    private JobCommandResultImpl(final JobResult result) {
+      jobKey = result.getJobKey();
+      statusCode = Status.fromCodeValue(result.getCode()).getCode();
+      message = result.getMessage();
+    }
+
+    @Override
+    public long getJobKey() {
+      return jobKey;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+      return statusCode == Code.OK;
+    }
+
+    @Override
+    public Code getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+
+    @Override
+    public String toString() {
+      return "JobCommandResultImpl{"
+          + "jobKey="
+          + jobKey
+          + ", statusCode="
+          + statusCode
+          + ", message='"
+          + message
+          + '\''
+          + '}';
+    }
+  }
+}
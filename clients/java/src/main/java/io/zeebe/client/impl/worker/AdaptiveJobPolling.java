@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts the job activation of a worker to the throughput of its job handler and to the responses
+ * of the gateway.
+ *
+ * <p>The number of jobs to activate is derived from the average time of the job handler: the
+ * handler threads should be busy until the next jobs are activated, but no longer, to keep the jobs
+ * waiting in the queue of the worker low.
+ *
+ * <p>If no jobs are activated, because there are no jobs or the request failed (e.g. because of
+ * back pressure), the next activation is delayed with an exponential backoff and a random jitter,
+ * so that idle workers don't poll in lockstep.
+ *
+ * <p>The activation methods are called by the worker while it holds the job poller, so they are not
+ * called concurrently. The handler time is recorded by the handler threads.
+ */
+public final class AdaptiveJobPolling {
+
+  static final int MAX_BACKOFF_EXPONENT = 5;
+  // weight of a new handler time in the moving average
+  private static final int HANDLER_TIME_WEIGHT_SHIFT = 3;
+
+  private final long pollIntervalNanos;
+  private final int handlerThreads;
+  private final Random random;
+
+  private final AtomicLong averageHandlerTimeNanos = new AtomicLong();
+  private int backoffAttempts;
+
+  public AdaptiveJobPolling(final Duration pollInterval, final int handlerThreads) {
+    this(pollInterval, handlerThreads, new Random());
+  }
+
+  AdaptiveJobPolling(final Duration pollInterval, final int handlerThreads, final Random random) {
+    this.pollIntervalNanos = pollInterval.toNanos();
+    this.handlerThreads = Math.max(1, handlerThreads);
+    this.random = random;
+  }
+
+  public void jobHandled(final long handlerTimeNanos) {
+    averageHandlerTimeNanos.accumulateAndGet(
+        handlerTimeNanos,
+        (average, handlerTime) ->
+            average == 0
+                ? handlerTime
+                : average + ((handlerTime - average) >> HANDLER_TIME_WEIGHT_SHIFT));
+  }
+
+  /**
+   * Returns the number of jobs to activate, which the handler can work on until the next jobs are
+   * activated, at least one job and at most the given capacity.
+   *
+   * @param capacity the number of jobs the worker can activate
+   * @param activationLatencyNanos the latency of the last job activation
+   * @return the number of jobs to activate
+   */
+  public int jobsToActivate(final int capacity, final long activationLatencyNanos) {
+    final long averageHandlerTime = averageHandlerTimeNanos.get();
+    if (averageHandlerTime <= 0) {
+      // nothing handled yet
+      return capacity;
+    }
+
+    final long window = pollIntervalNanos + activationLatencyNanos;
+    final long jobs = (handlerThreads * window + averageHandlerTime - 1) / averageHandlerTime;
+    return (int) Math.max(1, Math.min(capacity, jobs));
+  }
+
+  /**
+   * Returns the delay until the next jobs should be activated, after the given number of jobs are
+   * activated.
+   *
+   * @param activatedJobs the number of jobs which are activated by the last request
+   * @return the delay in nanoseconds, zero if the jobs can be activated without delay
+   */
+  public long nextActivationDelay(final int activatedJobs) {
+    if (activatedJobs > 0) {
+      backoffAttempts = 0;
+      return 0;
+    }
+
+    backoffAttempts = Math.min(backoffAttempts + 1, MAX_BACKOFF_EXPONENT);
+    final long maxDelay = pollIntervalNanos << backoffAttempts;
+    // equal jitter: at least half of the delay, to keep the backoff growing
+    final long halfDelay = maxDelay / 2;
+    return halfDelay + (long) (random.nextDouble() * (maxDelay - halfDelay));
+  }
+}
@@ -26,6 +26,7 @@ import io.zeebe.client.api.worker.JobWorker;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
@@ -41,6 +42,7 @@ public final class JobWorkerBuilderImpl
     implements JobWorkerBuilderStep1, JobWorkerBuilderStep2, JobWorkerBuilderStep3 {
 
   private static final Duration DEADLINE_OFFSET = Duration.ofSeconds(10);
+  private static final JobWorkerMetrics NOOP_METRICS = new JobWorkerMetrics() {};
 
   private final GatewayStub gatewayStub;
   private final JobClient jobClient;
@@ -48,6 +50,7 @@ public final class JobWorkerBuilderImpl
   private final ScheduledExecutorService executorService;
   private final List<Closeable> closeables;
   private final Predicate<Throwable> retryPredicate;
+  private final int handlerThreads;
   private String jobType;
   private JobHandler handler;
   private long timeout;
@@ -56,6 +59,8 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean adaptivePolling;
+  private JobWorkerMetrics metrics = NOOP_METRICS;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -77,6 +82,7 @@ public final class JobWorkerBuilderImpl
     this.pollInterval = configuration.getDefaultJobPollInterval();
     this.requestTimeout = configuration.getDefaultRequestTimeout();
     this.retryPredicate = retryPredicate;
+    this.handlerThreads = configuration.getNumJobWorkerExecutionThreads();
   }
 
   @Override
@@ -136,6 +142,18 @@ public final class JobWorkerBuilderImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public JobWorkerBuilderStep3 adaptivePolling(final boolean adaptivePolling) {
+    this.adaptivePolling = adaptivePolling;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -143,6 +161,7 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("timeout", timeout, 0L);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
+    ensureNotNull("metrics", metrics);
 
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
@@ -162,9 +181,18 @@ public final class JobWorkerBuilderImpl
     final JobPoller jobPoller =
         new JobPoller(gatewayStub, requestBuilder, objectMapper, deadline, retryPredicate);
 
+    final AdaptiveJobPolling jobPolling =
+        adaptivePolling ? new AdaptiveJobPolling(pollInterval, handlerThreads) : null;
+
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
-            maxJobsActive, executorService, pollInterval, jobRunnableFactory, jobPoller);
+            maxJobsActive,
+            executorService,
+            pollInterval,
+            jobRunnableFactory,
+            jobPoller,
+            jobPolling,
+            metrics);
     closeables.add(jobWorker);
     return jobWorker;
   }
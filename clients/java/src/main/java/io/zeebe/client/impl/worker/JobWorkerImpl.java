@@ -17,6 +17,7 @@ package io.zeebe.client.impl.worker;
 
 import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
@@ -41,6 +42,13 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private final ExecutorService executor;
   private final JobRunnableFactory jobRunnableFactory;
 
+  // adaptive polling, null if the worker polls in the fixed interval
+  private final AdaptiveJobPolling adaptivePolling;
+  private volatile long backoffUntil;
+  private long activationLatency;
+
+  private final JobWorkerMetrics metrics;
+
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
   private final AtomicReference<JobPoller> jobPoller;
@@ -51,6 +59,24 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final Duration pollInterval,
       final JobRunnableFactory jobRunnableFactory,
       final JobPoller jobPoller) {
+    this(
+        maxJobsActive,
+        executor,
+        pollInterval,
+        jobRunnableFactory,
+        jobPoller,
+        null,
+        new JobWorkerMetrics() {});
+  }
+
+  public JobWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobRunnableFactory,
+      final JobPoller jobPoller,
+      final AdaptiveJobPolling adaptivePolling,
+      final JobWorkerMetrics metrics) {
 
     this.maxJobsActive = maxJobsActive;
     this.activationThreshold = Math.round(maxJobsActive * 0.3f);
@@ -58,6 +84,8 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
     this.executor = executor;
     this.jobRunnableFactory = jobRunnableFactory;
+    this.adaptivePolling = adaptivePolling;
+    this.metrics = metrics;
 
     this.jobPoller = new AtomicReference<>(jobPoller);
 
@@ -94,13 +122,14 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       // to avoid race conditions that would let us exceed the buffer size
       final int currentRemainingJobs = remainingJobs.get();
       if (shouldActivateJobs(currentRemainingJobs)) {
-        final int maxActivatedJobs = maxJobsActive - currentRemainingJobs;
+        final int maxActivatedJobs = jobsToActivate(maxJobsActive - currentRemainingJobs);
+        final long startTime = System.nanoTime();
         try {
           jobPoller.poll(
               maxActivatedJobs,
               this::submitJob,
               activatedJobs -> {
-                remainingJobs.addAndGet(activatedJobs);
+                onJobsActivated(activatedJobs, System.nanoTime() - startTime);
                 this.jobPoller.set(jobPoller);
               },
               this::isOpen);
@@ -114,16 +143,48 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     }
   }
 
+  private int jobsToActivate(final int capacity) {
+    if (adaptivePolling == null) {
+      return capacity;
+    }
+    return adaptivePolling.jobsToActivate(capacity, activationLatency);
+  }
+
+  private void onJobsActivated(final int activatedJobs, final long latency) {
+    metrics.jobsActivated(activatedJobs, Duration.ofNanos(latency));
+    metrics.queueDepthChanged(remainingJobs.addAndGet(activatedJobs));
+
+    if (adaptivePolling != null) {
+      activationLatency = latency;
+      final long delay = adaptivePolling.nextActivationDelay(activatedJobs);
+      backoffUntil = delay > 0 ? System.nanoTime() + delay : 0;
+    }
+  }
+
   private boolean shouldActivateJobs(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return acquiringJobs.get()
+        && remainingJobs <= activationThreshold
+        && (backoffUntil == 0 || System.nanoTime() - backoffUntil >= 0);
   }
 
   private void submitJob(final ActivatedJob job) {
-    executor.execute(jobRunnableFactory.create(job, this::jobHandlerFinished));
+    executor.execute(
+        () -> {
+          final long startTime = System.nanoTime();
+          jobRunnableFactory
+              .create(job, () -> jobHandlerFinished(System.nanoTime() - startTime))
+              .run();
+        });
   }
 
-  private void jobHandlerFinished() {
+  private void jobHandlerFinished(final long handlerTime) {
+    metrics.jobHandled(Duration.ofNanos(handlerTime));
+    if (adaptivePolling != null) {
+      adaptivePolling.jobHandled(handlerTime);
+    }
+
     final int remainingJobs = this.remainingJobs.decrementAndGet();
+    metrics.queueDepthChanged(remainingJobs);
     if (shouldActivateJobs(remainingJobs)) {
       activateJobs();
     }
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Random;
+import org.junit.Test;
+
+public final class AdaptiveJobPollingTest {
+
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+  private static final long POLL_INTERVAL_NANOS = POLL_INTERVAL.toNanos();
+
+  @Test
+  public void shouldActivateCapacityIfNoJobHandled() {
+    // given
+    final AdaptiveJobPolling polling = new AdaptiveJobPolling(POLL_INTERVAL, 1);
+
+    // when
+    final int jobs = polling.jobsToActivate(32, 0);
+
+    // then
+    assertThat(jobs).isEqualTo(32);
+  }
+
+  @Test
+  public void shouldActivateJobsByHandlerThroughput() {
+    // given
+    final AdaptiveJobPolling polling = new AdaptiveJobPolling(POLL_INTERVAL, 2);
+    polling.jobHandled(Duration.ofMillis(50).toNanos());
+
+    // when
+    final int jobs = polling.jobsToActivate(32, Duration.ofMillis(100).toNanos());
+
+    // then
+    // two threads can handle 8 jobs within the poll interval and the activation latency
+    assertThat(jobs).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldActivateAtLeastOneJob() {
+    // given
+    final AdaptiveJobPolling polling = new AdaptiveJobPolling(POLL_INTERVAL, 1);
+    polling.jobHandled(Duration.ofMinutes(1).toNanos());
+
+    // when
+    final int jobs = polling.jobsToActivate(32, 0);
+
+    // then
+    assertThat(jobs).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldActivateAtMostCapacity() {
+    // given
+    final AdaptiveJobPolling polling = new AdaptiveJobPolling(POLL_INTERVAL, 1);
+    polling.jobHandled(1);
+
+    // when
+    final int jobs = polling.jobsToActivate(32, 0);
+
+    // then
+    assertThat(jobs).isEqualTo(32);
+  }
+
+  @Test
+  public void shouldAverageHandlerTime() {
+    // given
+    final AdaptiveJobPolling polling = new AdaptiveJobPolling(POLL_INTERVAL, 1);
+    polling.jobHandled(Duration.ofMillis(10).toNanos());
+
+    // when
+    polling.jobHandled(Duration.ofMillis(90).toNanos());
+
+    // then
+    // the average moves by an eighth towards the new handler time
+    assertThat(polling.jobsToActivate(32, 0)).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldNotDelayIfJobsActivated() {
+    // given
+    final AdaptiveJobPolling polling = new AdaptiveJobPolling(POLL_INTERVAL, 1);
+
+    // when
+    final long delay = polling.nextActivationDelay(3);
+
+    // then
+    assertThat(delay).isZero();
+  }
+
+  @Test
+  public void shouldBackOffExponentiallyIfNoJobsActivated() {
+    // given
+    final AdaptiveJobPolling polling =
+        new AdaptiveJobPolling(POLL_INTERVAL, 1, new FixedRandom(1.0));
+
+    // when
+    final long firstDelay = polling.nextActivationDelay(0);
+    final long secondDelay = polling.nextActivationDelay(0);
+
+    // then
+    assertThat(firstDelay).isEqualTo(2 * POLL_INTERVAL_NANOS);
+    assertThat(secondDelay).isEqualTo(4 * POLL_INTERVAL_NANOS);
+  }
+
+  @Test
+  public void shouldLimitBackoff() {
+    // given
+    final AdaptiveJobPolling polling =
+        new AdaptiveJobPolling(POLL_INTERVAL, 1, new FixedRandom(1.0));
+
+    // when
+    long delay = 0;
+    for (int i = 0; i < 10; i++) {
+      delay = polling.nextActivationDelay(0);
+    }
+
+    // then
+    assertThat(delay).isEqualTo(POLL_INTERVAL_NANOS << AdaptiveJobPolling.MAX_BACKOFF_EXPONENT);
+  }
+
+  @Test
+  public void shouldJitterBackoff() {
+    // given
+    final AdaptiveJobPolling polling =
+        new AdaptiveJobPolling(POLL_INTERVAL, 1, new FixedRandom(0.0));
+
+    // when
+    final long delay = polling.nextActivationDelay(0);
+
+    // then
+    assertThat(delay).isEqualTo(POLL_INTERVAL_NANOS);
+  }
+
+  @Test
+  public void shouldResetBackoffIfJobsActivated() {
+    // given
+    final AdaptiveJobPolling polling =
+        new AdaptiveJobPolling(POLL_INTERVAL, 1, new FixedRandom(1.0));
+    polling.nextActivationDelay(0);
+    polling.nextActivationDelay(0);
+
+    // when
+    polling.nextActivationDelay(1);
+
+    // then
+    assertThat(polling.nextActivationDelay(0)).isEqualTo(2 * POLL_INTERVAL_NANOS);
+  }
+
+  private static final class FixedRandom extends Random {
+
+    private final double value;
+
+    private FixedRandom(final double value) {
+      this.value = value;
+    }
+
+    @Override
+    public double nextDouble() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static io.zeebe.client.util.RecordingGatewayService.jobResult;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.zeebe.client.api.response.JobCommandResult;
+import io.zeebe.client.api.response.JobsCommandResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+
+    // when
+    final JobsCommandResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13, variables).send().join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsCount()).isEqualTo(2);
+    assertThat(request.getJobs(0).getJobKey()).isEqualTo(12);
+    assertThat(request.getJobs(1).getJobKey()).isEqualTo(13);
+    JsonUtil.assertEquality(request.getJobs(1).getVariables(), "{'key': 'val'}");
+
+    assertThat(response.getResults())
+        .extracting(JobCommandResult::getJobKey)
+        .containsExactly(12L, 13L);
+    assertThat(response.getResults()).allMatch(JobCommandResult::isSuccessful);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldCompleteJobWithJsonVariables() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    client.newCompleteJobsCommand().addJob(12, json).send().join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    JsonUtil.assertEquality(request.getJobs(0).getVariables(), json);
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        jobResult(12, Status.OK), jobResult(13, Status.NOT_FOUND.withDescription("no such job")));
+
+    // when
+    final JobsCommandResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13).send().join();
+
+    // then
+    final JobCommandResult failedResult = response.getResults().get(1);
+    assertThat(failedResult.getJobKey()).isEqualTo(13);
+    assertThat(failedResult.isSuccessful()).isFalse();
+    assertThat(failedResult.getStatusCode()).isEqualTo(Code.NOT_FOUND);
+    assertThat(failedResult.getMessage()).isEqualTo("no such job");
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newCompleteJobsCommand().addJob(12).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
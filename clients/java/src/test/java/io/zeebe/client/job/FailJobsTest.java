@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.api.response.JobCommandResult;
+import io.zeebe.client.api.response.JobsCommandResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import java.time.Duration;
+import org.junit.Test;
+
+public final class FailJobsTest extends ClientTest {
+
+  @Test
+  public void shouldFailJobs() {
+    // when
+    final JobsCommandResponse response =
+        client.newFailJobsCommand().addJob(12, 3).addJob(13, 0, "failed message").send().join();
+
+    // then
+    final FailJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsCount()).isEqualTo(2);
+    assertThat(request.getJobs(0).getJobKey()).isEqualTo(12);
+    assertThat(request.getJobs(0).getRetries()).isEqualTo(3);
+    assertThat(request.getJobs(1).getJobKey()).isEqualTo(13);
+    assertThat(request.getJobs(1).getRetries()).isEqualTo(0);
+    assertThat(request.getJobs(1).getErrorMessage()).isEqualTo("failed message");
+
+    assertThat(response.getResults())
+        .extracting(JobCommandResult::getJobKey)
+        .containsExactly(12L, 13L);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newFailJobsCommand().addJob(12, 3).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
@@ -28,6 +28,8 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -36,6 +38,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
@@ -58,6 +63,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public final class RecordingGatewayService extends GatewayImplBase {
 
@@ -87,6 +93,26 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        r ->
+            CompleteJobsResponse.newBuilder()
+                .addAllResults(
+                    ((CompleteJobsRequest) r)
+                        .getJobsList().stream()
+                            .map(job -> jobResult(job.getJobKey(), Status.OK))
+                            .collect(Collectors.toList()))
+                .build());
+    addRequestHandler(
+        FailJobsRequest.class,
+        r ->
+            FailJobsResponse.newBuilder()
+                .addAllResults(
+                    ((FailJobsRequest) r)
+                        .getJobsList().stream()
+                            .map(job -> jobResult(job.getJobKey(), Status.OK))
+                            .collect(Collectors.toList()))
+                .build());
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
@@ -111,6 +137,14 @@ public final class RecordingGatewayService extends GatewayImplBase {
         .build();
   }
 
+  public static JobResult jobResult(final long jobKey, final Status status) {
+    return JobResult.newBuilder()
+        .setJobKey(jobKey)
+        .setCode(status.getCode().value())
+        .setMessage(status.getDescription() != null ? status.getDescription() : "")
+        .build();
+  }
+
   public static WorkflowMetadata deployedWorkflow(
       final String bpmnProcessId,
       final int version,
@@ -157,6 +191,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -184,6 +225,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void failJobs(
+      final FailJobsRequest request, final StreamObserver<FailJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void throwError(
       ThrowErrorRequest request, StreamObserver<ThrowErrorResponse> responseObserver) {
@@ -299,6 +346,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
         request -> SetVariablesResponse.newBuilder().setKey(key).build());
   }
 
+  public void onCompleteJobsRequest(final JobResult... results) {
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        request -> CompleteJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+  }
+
   public void errorOnRequest(
       final Class<? extends GeneratedMessageV3> requestClass,
       final Supplier<Exception> errorSupplier) {
@@ -9,6 +9,7 @@ package io.zeebe.engine.metrics;
 
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public final class JobMetrics {
 
@@ -28,6 +29,15 @@ public final class JobMetrics {
           .labelNames("partition", "type")
           .register();
 
+  private static final Histogram JOB_TIMEOUT_LATENESS =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("job_timeout_lateness")
+          .help("Delay between the deadline of a job and writing its time out command in seconds")
+          .buckets(0.01, 0.05, 0.1, 0.5, 1, 5, 10, 30, 60)
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public JobMetrics(final int partitionId) {
@@ -55,6 +65,10 @@ public final class JobMetrics {
     jobEvent("timed out", type);
   }
 
+  public void jobTimeoutTriggered(final long latenessInMillis) {
+    JOB_TIMEOUT_LATENESS.labels(partitionIdLabel).observe(latenessInMillis / 1000f);
+  }
+
   public void jobCompleted(final String type) {
     jobEvent("completed", type);
     jobFinished(type);
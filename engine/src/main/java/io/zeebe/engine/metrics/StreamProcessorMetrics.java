@@ -29,6 +29,15 @@ public final class StreamProcessorMetrics {
           .labelNames("recordType", "partition")
           .register();
 
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("stream_processor_batch_size")
+          .help("Number of events which are processed in one transaction")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public StreamProcessorMetrics(final int partitionId) {
@@ -46,6 +55,10 @@ public final class StreamProcessorMetrics {
         .observe((processed - written) / 1000f);
   }
 
+  public void batchProcessed(final int batchSize) {
+    BATCH_SIZE.labels(partitionIdLabel).observe(batchSize);
+  }
+
   public void eventProcessed() {
     event("processed");
   }
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class SubscriptionCommandMetrics {
+
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("subscription_command_batch_size")
+          .help("Number of subscription commands which are sent to another partition as one batch")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("subscription_command_latency")
+          .help(
+              "Delay between sending a batch of subscription commands and receiving it on the other partition in seconds")
+          .buckets(0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5)
+          .labelNames("partition")
+          .register();
+
+  /**
+   * @param partitionId the partition which sends the batch
+   * @param commandsCount the number of commands in the batch
+   */
+  public void observeBatchSize(final int partitionId, final int commandsCount) {
+    BATCH_SIZE.labels(Integer.toString(partitionId)).observe(commandsCount);
+  }
+
+  /**
+   * The latency is measured with the clocks of two brokers, so it is only accurate if their clocks
+   * are synchronized.
+   *
+   * @param partitionId the partition which receives the batch
+   * @param sentTimeMs the time when the first command of the batch was sent
+   * @param receivedTimeMs the time when the batch was received
+   */
+  public void observeLatency(
+      final int partitionId, final long sentTimeMs, final long receivedTimeMs) {
+    LATENCY
+        .labels(Integer.toString(partitionId))
+        .observe(Math.max(0, receivedTimeMs - sentTimeMs) / 1000f);
+  }
+}
@@ -93,4 +93,9 @@ public final class TypesStreamWriterProxy implements TypedStreamWriter {
   public long flush() {
     return writer.flush();
   }
+
+  @Override
+  public int getBatchLength() {
+    return writer.getBatchLength();
+  }
 }
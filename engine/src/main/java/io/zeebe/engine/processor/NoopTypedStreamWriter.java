@@ -85,4 +85,9 @@ final class NoopTypedStreamWriter implements TypedStreamWriter {
   public long flush() {
     return 0;
   }
+
+  @Override
+  public int getBatchLength() {
+    return 0;
+  }
 }
@@ -12,6 +12,7 @@ import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -32,6 +33,8 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private BooleanSupplier abortCondition;
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
+  private int maxCommandsInBatch = 1;
+  private Duration maxBatchDuration = Duration.ofMillis(10);
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -99,6 +102,16 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public ProcessingContext maxBatchDuration(final Duration maxBatchDuration) {
+    this.maxBatchDuration = maxBatchDuration;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -162,4 +175,12 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public Consumer<TypedRecord> getOnProcessedListener() {
     return onProcessedListener;
   }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public Duration getMaxBatchDuration() {
+    return maxBatchDuration;
+  }
 }
@@ -12,6 +12,7 @@ import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
@@ -31,6 +32,8 @@ import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
 import org.slf4j.Logger;
 
 /**
@@ -71,6 +74,14 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If the batch processing is enabled (i.e. the max commands in batch is greater than one), then
+ * processEvent() reads and processes further events in the same transaction until the batch is
+ * full, the time budget is used up or the processed event has a side effect (e.g. a response). All
+ * follow-up records of the batch are written with one flush and the transaction is committed once.
+ * If an error occurs on processing an event of a batch, then the whole batch is rolled back and the
+ * contained events are processed one by one again, so only the failing event is blacklisted. The
+ * processed listener is notified about the events of a batch after the batch is committed.
  */
 public final class ProcessingStateMachine {
 
@@ -89,6 +100,8 @@ public final class ProcessingStateMachine {
       "Expected to successfully process event '{}' with processor, but caught an exception. Skip this event.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
       "Expected to process event '{}' successfully on stream processor, but caught recoverable exception. Retry processing.";
+  private static final String ERROR_MESSAGE_PROCESSING_BATCH_FAILED =
+      "Expected to process batch of {} events successfully, but caught an exception on event '{}'. Retry to process the events one by one.";
   private static final String PROCESSING_ERROR_MESSAGE =
       "Expected to process event '%s' without errors, but exception occurred with message '%s' .";
   private static final String NOTIFY_LISTENER_ERROR_MESSAGE =
@@ -120,6 +133,9 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final Consumer<TypedRecord> onProcessed;
+  private final int maxCommandsInBatch;
+  private final long maxBatchDurationNanos;
+  private final int maxBatchLength;
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -134,6 +150,23 @@ public final class ProcessingStateMachine {
   private volatile boolean onErrorHandlingLoop;
   private int onErrorRetries;
 
+  // current batch
+  private int batchSize;
+  private long batchStartNanoTime;
+  private long batchStartPosition = StreamProcessor.UNSET_POSITION;
+  private long processRecordByRecordUntilPosition = StreamProcessor.UNSET_POSITION;
+
+  // copies of the processed events of the current batch, except the last one, since the reader
+  // reuses the event instance; the listener is notified about them after the batch is committed
+  private final ExpandableArrayBuffer processedEventsBuffer = new ExpandableArrayBuffer();
+  private final IntArrayList processedEventOffsets = new IntArrayList();
+  private int processedEventsLength;
+  private boolean isCurrentEventCopied;
+  private final LoggedEventImpl processedEvent = new LoggedEventImpl();
+  private final RecordMetadata processedEventMetadata = new RecordMetadata();
+  private final RecordValues processedEventValues = new RecordValues();
+  private final TypedEventImpl processedTypedEvent;
+
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
 
@@ -155,11 +188,17 @@ public final class ProcessingStateMachine {
 
     final int partitionId = logStream.getPartitionId();
     this.typedEvent = new TypedEventImpl(partitionId);
+    this.processedTypedEvent = new TypedEventImpl(partitionId);
     this.responseWriter =
         new TypedResponseWriterImpl(context.getCommandResponseWriter(), partitionId);
 
     this.metrics = new StreamProcessorMetrics(partitionId);
     this.onProcessed = context.getOnProcessedListener();
+
+    this.maxCommandsInBatch = context.getMaxCommandsInBatch();
+    this.maxBatchDurationNanos = context.getMaxBatchDuration().toNanos();
+    // leave enough space for the follow-up records of the last event in the batch
+    this.maxBatchLength = context.getMaxFragmentSize() / 2;
   }
 
   private void skipRecord() {
@@ -198,6 +237,10 @@ public final class ProcessingStateMachine {
       currentEvent = logStreamReader.next();
 
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
+        batchSize = 0;
+        resetProcessedEvents();
+        batchStartNanoTime = System.nanoTime();
+        batchStartPosition = currentEvent.getPosition();
         processEvent(currentEvent);
       } else {
         skipRecord();
@@ -219,24 +262,127 @@ public final class ProcessingStateMachine {
         metadata.getRecordType(), event.getTimestamp(), ActorClock.currentTimeMillis());
 
     try {
-      final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
-      typedEvent.wrap(event, metadata, value);
-
-      processInTransaction(typedEvent);
+      processRecord(event);
 
-      metrics.eventProcessed();
+      while (shouldContinueBatch()) {
+        copyProcessedEvent();
+        processNextEventInBatch(logStreamReader.next());
+      }
 
+      metrics.batchProcessed(batchSize);
       writeEvent();
     } catch (final RecoverableException recoverableException) {
-      // recoverable
-      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING, event, recoverableException);
-      actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
+      if (batchSize > 0) {
+        LOG.error(
+            ERROR_MESSAGE_PROCESSING_BATCH_FAILED, batchSize, currentEvent, recoverableException);
+        retryBatchEventByEvent();
+      } else {
+        // recoverable
+        LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING, event, recoverableException);
+        actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
+      }
     } catch (final Exception e) {
-      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, e);
-      onError(e, this::writeEvent);
+      if (batchSize > 0) {
+        LOG.error(ERROR_MESSAGE_PROCESSING_BATCH_FAILED, batchSize, currentEvent, e);
+        retryBatchEventByEvent();
+      } else {
+        LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, e);
+        onError(e, this::writeEvent);
+      }
+    }
+  }
+
+  private void processRecord(final LoggedEvent event) throws Exception {
+    final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
+    typedEvent.wrap(event, metadata, value);
+
+    processInTransaction(typedEvent);
+    batchSize++;
+    isCurrentEventCopied = false;
+
+    metrics.eventProcessed();
+  }
+
+  private boolean shouldContinueBatch() {
+    return batchSize < maxCommandsInBatch
+        && currentEvent.getPosition() >= processRecordByRecordUntilPosition
+        && sideEffectProducer.isEmpty()
+        && !typedEvent.hasRequestMetadata()
+        && logStreamWriter.getBatchLength() < maxBatchLength
+        // the actor clock is not updated while the batch is processed
+        && System.nanoTime() - batchStartNanoTime < maxBatchDurationNanos
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private void processNextEventInBatch(final LoggedEvent event) throws Exception {
+    if (eventFilter != null && !eventFilter.applies(event)) {
+      metrics.eventSkipped();
+      return;
+    }
+
+    metadata.reset();
+    event.readMetadata(metadata);
+
+    final TypedRecordProcessor<?> processor = chooseNextProcessor(event);
+    if (processor == null) {
+      metrics.eventSkipped();
+      return;
+    }
+
+    currentEvent = event;
+    currentProcessor = processor;
+    metrics.processingLatency(
+        metadata.getRecordType(), event.getTimestamp(), ActorClock.currentTimeMillis());
+
+    processRecord(event);
+  }
+
+  private void retryBatchEventByEvent() {
+    // process the events of the batch again one by one, so the failing event is rolled back
+    // and blacklisted on its own without affecting the other events of the batch
+    processRecordByRecordUntilPosition = logStreamReader.getPosition();
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.rollback();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentEvent, throwable);
+          }
+
+          logStreamWriter.reset();
+          logStreamReader.seek(batchStartPosition);
+          batchSize = 0;
+          resetProcessedEvents();
+
+          currentProcessor = null;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  private void copyProcessedEvent() {
+    if (!isCurrentEventCopied) {
+      processedEventOffsets.addInt(processedEventsLength);
+      currentEvent.write(processedEventsBuffer, processedEventsLength);
+      processedEventsLength += currentEvent.getLength();
+      isCurrentEventCopied = true;
     }
   }
 
+  private void resetProcessedEvents() {
+    processedEventOffsets.clear();
+    processedEventsLength = 0;
+    isCurrentEventCopied = false;
+  }
+
   private TypedRecordProcessor<?> chooseNextProcessor(final LoggedEvent event) {
     TypedRecordProcessor<?> typedRecordProcessor = null;
 
@@ -256,7 +402,8 @@ public final class ProcessingStateMachine {
     zeebeDbTransaction.run(
         () -> {
           final long position = typedRecord.getPosition();
-          resetOutput(position);
+          // the follow-up records of a batch are flushed together
+          resetOutput(position, batchSize == 0);
 
           // default side effect is responses; can be changed by processor
           sideEffectProducer = responseWriter;
@@ -274,9 +421,11 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private void resetOutput(final long sourceRecordPosition) {
+  private void resetOutput(final long sourceRecordPosition, final boolean resetWriter) {
     responseWriter.reset();
-    logStreamWriter.reset();
+    if (resetWriter) {
+      logStreamWriter.reset();
+    }
     logStreamWriter.configureSourceContext(sourceRecordPosition);
   }
 
@@ -319,7 +468,7 @@ public final class ProcessingStateMachine {
     zeebeDbTransaction.run(
         () -> {
           final long position = typedEvent.getPosition();
-          resetOutput(position);
+          resetOutput(position, true);
 
           writeRejectionOnCommand(processingException);
           errorRecord.initErrorRecord(processingException, position);
@@ -357,7 +506,11 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
-            onError(t, this::writeEvent);
+            if (batchSize > 1) {
+              retryBatchEventByEvent();
+            } else {
+              onError(t, this::writeEvent);
+            }
           } else {
             updateState();
             metrics.eventWritten();
@@ -395,7 +548,11 @@ public final class ProcessingStateMachine {
         (bool, throwable) -> {
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentEvent, throwable);
-            onError(throwable, this::updateState);
+            if (batchSize > 1) {
+              retryBatchEventByEvent();
+            } else {
+              onError(throwable, this::updateState);
+            }
           } else {
             executeSideEffects();
           }
@@ -403,10 +560,29 @@ public final class ProcessingStateMachine {
   }
 
   private void notifyListener() {
+    for (int i = 0; i < processedEventOffsets.size(); i++) {
+      processedEvent.wrap(processedEventsBuffer, processedEventOffsets.getInt(i));
+      processedEventMetadata.reset();
+      processedEvent.readMetadata(processedEventMetadata);
+
+      final UnifiedRecordValue value =
+          processedEventValues.readRecordValue(
+              processedEvent, processedEventMetadata.getValueType());
+      processedTypedEvent.wrap(processedEvent, processedEventMetadata, value);
+      notifyListener(processedTypedEvent);
+    }
+
+    if (!isCurrentEventCopied) {
+      notifyListener(typedEvent);
+    }
+    resetProcessedEvents();
+  }
+
+  private void notifyListener(final TypedEventImpl event) {
     try {
-      onProcessed.accept(typedEvent);
+      onProcessed.accept(event);
     } catch (final Exception e) {
-      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, currentEvent, e);
+      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, event, e);
     }
   }
 
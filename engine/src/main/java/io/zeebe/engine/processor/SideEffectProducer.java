@@ -17,4 +17,15 @@ public interface SideEffectProducer {
    * @return false in case of backpressure, else true
    */
   boolean flush();
+
+  /**
+   * Returns true if there is nothing to apply, which means that calling {@link #flush()} has no
+   * effect. The stream processor can only group records into one processing batch while their side
+   * effects are empty.
+   *
+   * @return true if the producer has no pending side effects, else false
+   */
+  default boolean isEmpty() {
+    return false;
+  }
 }
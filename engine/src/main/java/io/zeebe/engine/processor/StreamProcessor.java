@@ -32,6 +32,7 @@ import org.slf4j.Logger;
 public class StreamProcessor extends Actor implements HealthMonitorable {
   public static final long UNSET_POSITION = -1L;
   static final Duration HEALTH_CHECK_TICK_DURATION = Duration.ofSeconds(5);
+  static final Duration DB_METRICS_EXPORT_INTERVAL = Duration.ofSeconds(15);
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
@@ -112,6 +113,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
           new ReProcessingStateMachine(processingContext);
 
       healthCheckTick();
+      actor.runAtFixedRate(DB_METRICS_EXPORT_INTERVAL, () -> zeebeDb.exportMetrics(partitionId));
+
       final ActorFuture<Void> recoverFuture =
           reProcessingStateMachine.startRecover(snapshotPosition);
 
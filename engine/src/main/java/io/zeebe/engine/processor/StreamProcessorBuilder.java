@@ -13,6 +13,7 @@ import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.util.sched.ActorScheduler;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -63,6 +64,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the max count of events which are processed in one transaction and written with one flush.
+   * The default is one, which means that every event is processed on its own.
+   */
+  public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
+    processingContext.maxCommandsInBatch(maxCommandsInBatch);
+    return this;
+  }
+
+  /** Sets the max time which can be spent to process the events of one batch. */
+  public StreamProcessorBuilder maxBatchDuration(final Duration maxBatchDuration) {
+    processingContext.maxBatchDuration(maxBatchDuration);
+    return this;
+  }
+
   public StreamProcessorBuilder zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
@@ -26,4 +26,7 @@ public interface TypedCommandWriter {
 
   /** @return position of new record, negative value on failure */
   long flush();
+
+  /** @return the length of all records which are appended but not flushed yet */
+  int getBatchLength();
 }
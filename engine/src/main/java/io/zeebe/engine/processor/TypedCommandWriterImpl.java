@@ -120,4 +120,9 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
   public long flush() {
     return batchWriter.tryWrite();
   }
+
+  @Override
+  public int getBatchLength() {
+    return batchWriter.getBatchLength();
+  }
 }
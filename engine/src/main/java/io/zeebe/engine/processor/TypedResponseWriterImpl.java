@@ -114,6 +114,11 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
     return true;
   }
 
+  @Override
+  public boolean isEmpty() {
+    return !isResponseStaged;
+  }
+
   private void stage(
       final RecordType type,
       final Intent intent,
@@ -49,6 +49,11 @@ public final class SideEffectQueue implements SideEffectProducer {
     return flushed;
   }
 
+  @Override
+  public boolean isEmpty() {
+    return sideEffects.isEmpty();
+  }
+
   public void add(final SideEffectProducer sideEffectProducer) {
     sideEffects.add(sideEffectProducer);
   }
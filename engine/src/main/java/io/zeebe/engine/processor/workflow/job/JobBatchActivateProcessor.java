@@ -8,10 +8,12 @@
 package io.zeebe.engine.processor.workflow.job;
 
 import io.zeebe.engine.processor.KeyGenerator;
+import io.zeebe.engine.processor.SideEffectProducer;
 import io.zeebe.engine.processor.TypedRecord;
 import io.zeebe.engine.processor.TypedRecordProcessor;
 import io.zeebe.engine.processor.TypedResponseWriter;
 import io.zeebe.engine.processor.TypedStreamWriter;
+import io.zeebe.engine.processor.workflow.SideEffectQueue;
 import io.zeebe.engine.state.instance.JobState;
 import io.zeebe.engine.state.instance.VariablesState;
 import io.zeebe.msgpack.value.DocumentValue;
@@ -26,6 +28,7 @@ import io.zeebe.protocol.record.intent.JobIntent;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -37,19 +40,25 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private final JobState jobState;
   private final VariablesState variablesState;
   private final KeyGenerator keyGenerator;
+  private final JobTimeoutTrigger jobTimeoutTrigger;
   private final long maxJobBatchLength;
 
+  private final SideEffectQueue sideEffects = new SideEffectQueue();
+  private long jobBatchDeadline;
+
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
 
   public JobBatchActivateProcessor(
       final JobState jobState,
       final VariablesState variablesState,
       final KeyGenerator keyGenerator,
+      final JobTimeoutTrigger jobTimeoutTrigger,
       final long maxRecordLength) {
 
     this.jobState = jobState;
     this.variablesState = variablesState;
     this.keyGenerator = keyGenerator;
+    this.jobTimeoutTrigger = jobTimeoutTrigger;
 
     // we can only add the half of the max record length to the job batch
     // because the jobs itself are also written to the same batch
@@ -60,10 +69,11 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   public void processRecord(
       final TypedRecord<JobBatchRecord> record,
       final TypedResponseWriter responseWriter,
-      final TypedStreamWriter streamWriter) {
+      final TypedStreamWriter streamWriter,
+      final Consumer<SideEffectProducer> sideEffect) {
     final JobBatchRecord value = record.getValue();
     if (isValid(value)) {
-      activateJobs(record, responseWriter, streamWriter);
+      activateJobs(record, responseWriter, streamWriter, sideEffect);
     } else {
       rejectCommand(record, responseWriter, streamWriter);
     }
@@ -79,7 +89,8 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private void activateJobs(
       final TypedRecord<JobBatchRecord> record,
       final TypedResponseWriter responseWriter,
-      final TypedStreamWriter streamWriter) {
+      final TypedStreamWriter streamWriter,
+      final Consumer<SideEffectProducer> sideEffect) {
     final JobBatchRecord value = record.getValue();
 
     final long jobBatchKey = keyGenerator.nextKey();
@@ -96,6 +107,22 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
     streamWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, value);
     responseWriter.writeEventOnCommand(jobBatchKey, JobBatchIntent.ACTIVATED, value, record);
+
+    // schedule the time out before the response is sent, so the deadline is tracked when the
+    // worker receives the jobs
+    sideEffects.clear();
+    final boolean hasActivatedJobs = amount.get() < value.getMaxJobsToActivate();
+    if (hasActivatedJobs) {
+      jobBatchDeadline = record.getTimestamp() + value.getTimeout();
+      sideEffects.add(this::scheduleTimeout);
+    }
+    sideEffects.add(responseWriter::flush);
+    sideEffect.accept(sideEffects);
+  }
+
+  private boolean scheduleTimeout() {
+    jobTimeoutTrigger.scheduleTimeout(jobBatchDeadline);
+    return true;
   }
 
   private void collectJobsToActivate(
@@ -31,6 +31,8 @@ public final class JobEventProcessors {
     final var jobErrorThrownProcessor =
         new JobErrorThrownProcessor(workflowState, keyGenerator, jobState);
 
+    final var jobTimeoutTrigger = new JobTimeoutTrigger(jobState, zeebeState.getPartitionId());
+
     typedRecordProcessors
         .onEvent(ValueType.JOB, JobIntent.CREATED, new JobCreatedProcessor(workflowState))
         .onEvent(ValueType.JOB, JobIntent.COMPLETED, new JobCompletedEventProcessor(workflowState))
@@ -50,8 +52,9 @@ public final class JobEventProcessors {
                 jobState,
                 workflowState.getElementInstanceState().getVariablesState(),
                 keyGenerator,
+                jobTimeoutTrigger,
                 maxRecordSize))
-        .withListener(new JobTimeoutTrigger(jobState))
+        .withListener(jobTimeoutTrigger)
         .withListener(
             new StreamProcessorLifecycleAware() {
               @Override
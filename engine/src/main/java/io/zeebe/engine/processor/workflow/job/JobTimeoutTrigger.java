@@ -9,64 +9,173 @@ package io.zeebe.engine.processor.workflow.job;
 
 import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
 
+import io.zeebe.engine.metrics.JobMetrics;
 import io.zeebe.engine.processor.ReadonlyProcessingContext;
 import io.zeebe.engine.processor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processor.TypedCommandWriter;
 import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.ScheduledTimer;
 import java.time.Duration;
 
+/**
+ * Writes a time out command for each activated job which deadline is exceeded. The deadlines are
+ * looked up in the deadline index of the job state, which is ordered by the deadline, so a single
+ * runnable is scheduled for the earliest deadline. If a job is activated with an earlier deadline
+ * then the runnable is rescheduled, see {@link #scheduleTimeout(long)}.
+ *
+ * <p>The time out commands are written in batches, like the trigger commands of the {@link
+ * io.zeebe.engine.processor.workflow.timer.DueDateTimerChecker}. A batch holds at most 1,000
+ * commands and at most half of the max fragment size. If more jobs are timed out, the remaining
+ * jobs are handled in the next run, which continues after the last timed out job.
+ */
 public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
-  public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
+
+  private static final int MAX_JOBS_PER_BATCH = 1_000;
+
+  private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
+
   private final JobState state;
+  private final JobMetrics metrics;
 
-  private ScheduledTimer timer;
+  private ActorControl actor;
   private TypedCommandWriter writer;
+  private int maxBatchLength;
 
-  public JobTimeoutTrigger(final JobState state) {
+  private ScheduledTimer timer;
+  private long nextTimeoutAt = -1L;
+
+  private int batchedJobs;
+  private boolean isBatchFull;
+  private long nextResumeDeadline;
+  private long nextResumeJobKey;
+
+  // the job to continue at in the next run, if the last batch was full
+  private long resumeDeadline;
+  private long resumeJobKey;
+
+  public JobTimeoutTrigger(final JobState state, final int partitionId) {
     this.state = state;
+    metrics = new JobMetrics(partitionId);
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
-    timer =
-        processingContext
-            .getActor()
-            .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
+    actor = processingContext.getActor();
     writer = processingContext.getLogStreamWriter();
+    maxBatchLength = processingContext.getMaxFragmentSize() / 2;
+    // check if jobs are timed out after restart
+    deactivateTimedOutJobs();
   }
 
   @Override
   public void onClose() {
-    if (timer != null) {
-      timer.cancel();
-      timer = null;
-    }
+    cancelTimer();
   }
 
   @Override
   public void onFailed() {
+    cancelTimer();
+  }
+
+  private void cancelTimer() {
     if (timer != null) {
       timer.cancel();
       timer = null;
     }
   }
 
+  /**
+   * Schedules the runnable for the given deadline of an activated job, if it is not scheduled
+   * already for an earlier deadline. Must be called on the stream processor actor.
+   */
+  public void scheduleTimeout(final long deadline) {
+    if (deadline < resumeDeadline) {
+      // the job is before the job to continue at, start the next run from the beginning
+      resetResumePoint();
+    }
+
+    // a job is timed out if its deadline is before the current time
+    final long timeoutAt = deadline + 1;
+
+    if (timer == null) {
+      scheduleDeactivation(timeoutAt);
+
+    } else if (nextTimeoutAt - timeoutAt > TIMER_RESOLUTION) {
+      timer.cancel();
+      scheduleDeactivation(timeoutAt);
+    }
+  }
+
   void deactivateTimedOutJobs() {
     final long now = currentTimeMillis();
-    state.forEachTimedOutEntry(
-        now,
-        (key, record) -> {
-          writer.appendFollowUpCommand(
-              key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
-
-          final boolean flushed = writer.flush() >= 0;
-          if (!flushed) {
-            writer.reset();
-          }
-          return flushed;
-        });
+
+    writer.reset();
+    isBatchFull = false;
+    batchedJobs = 0;
+
+    final long nextDeadlineInState =
+        state.forEachTimedOutEntry(
+            now, resumeDeadline, resumeJobKey, (key, record) -> timeOutJob(now, key, record));
+
+    final long timeoutAt;
+    if (batchedJobs > 0 && writer.flush() < 0) {
+      // the batch is not written, retry it in the next run
+      writer.reset();
+      timeoutAt = now;
+    } else if (isBatchFull) {
+      // continue with the remaining timed out jobs in the next run
+      updateResumePoint();
+      timeoutAt = now;
+    } else {
+      resetResumePoint();
+      timeoutAt = nextDeadlineInState > 0 ? nextDeadlineInState + 1 : -1L;
+    }
+
+    // reschedule the runnable if there are activated jobs left
+
+    if (timeoutAt > 0) {
+      scheduleDeactivation(timeoutAt);
+    } else {
+      timer = null;
+      nextTimeoutAt = -1L;
+    }
+  }
+
+  private boolean timeOutJob(final long now, final long key, final JobRecord record) {
+    if (batchedJobs > 0
+        && (batchedJobs >= MAX_JOBS_PER_BATCH || writer.getBatchLength() >= maxBatchLength)) {
+      isBatchFull = true;
+      nextResumeDeadline = record.getDeadline();
+      nextResumeJobKey = key;
+      return false;
+    }
+
+    writer.appendFollowUpCommand(
+        key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
+    batchedJobs++;
+
+    metrics.jobTimeoutTriggered(now - record.getDeadline());
+
+    return true;
+  }
+
+  private void scheduleDeactivation(final long timeoutAt) {
+    final Duration delay = Duration.ofMillis(timeoutAt - currentTimeMillis());
+    timer = actor.runDelayed(delay, this::deactivateTimedOutJobs);
+    nextTimeoutAt = timeoutAt;
+  }
+
+  private void updateResumePoint() {
+    resumeDeadline = nextResumeDeadline;
+    resumeJobKey = nextResumeJobKey;
+  }
+
+  private void resetResumePoint() {
+    resumeDeadline = 0;
+    resumeJobKey = 0;
   }
 }
@@ -31,8 +31,11 @@ public final class TimeOutProcessor implements CommandProcessor<JobRecord> {
     final JobState.State jobState = state.getState(jobKey);
 
     if (jobState == State.ACTIVATED) {
-      state.timeout(command.getKey(), command.getValue());
-      commandControl.accept(JobIntent.TIMED_OUT, command.getValue());
+      // the command may be written by a gateway which returns an activated job, so the job is taken
+      // from the state rather than from the command
+      final JobRecord timedOutJob = state.getJob(jobKey);
+      state.timeout(jobKey, timedOutJob);
+      commandControl.accept(JobIntent.TIMED_OUT, timedOutJob);
     } else {
       final String textState;
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message.command;
+
+import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandBatchDecoder.CommandsDecoder;
+import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandBatchEncoder.CommandsEncoder;
+import io.zeebe.engine.util.SbeBufferWriterReader;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * Subscription commands which are sent to the same partition, e.g. to open and correlate many
+ * message subscriptions with one message. The commands are copied into the batch when they are
+ * added, so the command writers can be reused.
+ */
+public final class SubscriptionCommandBatch
+    extends SbeBufferWriterReader<
+        SubscriptionCommandBatchEncoder, SubscriptionCommandBatchDecoder> {
+
+  private final SubscriptionCommandBatchEncoder encoder = new SubscriptionCommandBatchEncoder();
+  private final SubscriptionCommandBatchDecoder decoder = new SubscriptionCommandBatchDecoder();
+
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final IntArrayList commandOffsets = new IntArrayList();
+  private final IntArrayList commandLengths = new IntArrayList();
+  private DirectBuffer commandsBuffer = writeBuffer;
+  private int commandsLength;
+
+  private int receiverPartitionId;
+  private long timestamp;
+
+  public SubscriptionCommandBatch() {
+    reset();
+  }
+
+  @Override
+  protected SubscriptionCommandBatchEncoder getBodyEncoder() {
+    return encoder;
+  }
+
+  @Override
+  protected SubscriptionCommandBatchDecoder getBodyDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public void reset() {
+    receiverPartitionId = SubscriptionCommandBatchDecoder.receiverPartitionIdNullValue();
+    timestamp = SubscriptionCommandBatchDecoder.timestampNullValue();
+    commandsBuffer = writeBuffer;
+    commandOffsets.clear();
+    commandLengths.clear();
+    commandsLength = 0;
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength()
+        + CommandsEncoder.sbeHeaderSize()
+        + commandOffsets.size() * (CommandsEncoder.sbeBlockLength() + commandHeaderLength())
+        + commandsLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    encoder.receiverPartitionId(receiverPartitionId).timestamp(timestamp);
+
+    final CommandsEncoder commandsEncoder = encoder.commandsCount(commandOffsets.size());
+    for (int i = 0; i < commandOffsets.size(); i++) {
+      commandsEncoder
+          .next()
+          .putCommand(commandsBuffer, commandOffsets.getInt(i), commandLengths.getInt(i));
+    }
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    super.wrap(buffer, offset, length);
+
+    receiverPartitionId = decoder.receiverPartitionId();
+    timestamp = decoder.timestamp();
+
+    // the commands are not copied, they refer to the given buffer
+    commandsBuffer = buffer;
+
+    final CommandsDecoder commandsDecoder = decoder.commands();
+    while (commandsDecoder.hasNext()) {
+      commandsDecoder.next();
+
+      commandOffsets.addInt(decoder.limit() + commandHeaderLength());
+      commandLengths.addInt(commandsDecoder.skipCommand());
+    }
+  }
+
+  public SubscriptionCommandBatch addCommand(final BufferWriter command) {
+    final int length = command.getLength();
+    command.write(writeBuffer, commandsLength);
+
+    commandOffsets.addInt(commandsLength);
+    commandLengths.addInt(length);
+    commandsLength += length;
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return commandOffsets.isEmpty();
+  }
+
+  public int getCommandsCount() {
+    return commandOffsets.size();
+  }
+
+  /** Wraps the given view around the encoded command, including its message header. */
+  public void wrapCommand(final int index, final DirectBuffer view) {
+    view.wrap(commandsBuffer, commandOffsets.getInt(index), commandLengths.getInt(index));
+  }
+
+  public int getReceiverPartitionId() {
+    return receiverPartitionId;
+  }
+
+  public SubscriptionCommandBatch setReceiverPartitionId(final int receiverPartitionId) {
+    this.receiverPartitionId = receiverPartitionId;
+    return this;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public SubscriptionCommandBatch setTimestamp(final long timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  private static int commandHeaderLength() {
+    return CommandsDecoder.commandHeaderLength();
+  }
+}
@@ -7,6 +7,9 @@
  */
 package io.zeebe.engine.processor.workflow.message.command;
 
+import io.zeebe.engine.Loggers;
+import io.zeebe.engine.metrics.SubscriptionCommandMetrics;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
@@ -18,16 +21,20 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceSubscriptionIntent;
+import io.zeebe.util.sched.clock.ActorClock;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
 
 public final class SubscriptionCommandMessageHandler
     implements Function<byte[], CompletableFuture<Void>> {
 
+  private static final Logger LOG = Loggers.WORKFLOW_PROCESSOR_LOGGER;
+
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
 
   private final OpenMessageSubscriptionCommand openMessageSubscriptionCommand =
@@ -60,14 +67,34 @@ public final class SubscriptionCommandMessageHandler
   private final WorkflowInstanceSubscriptionRecord workflowInstanceSubscriptionRecord =
       new WorkflowInstanceSubscriptionRecord();
 
+  private final SubscriptionCommandBatch commandBatch = new SubscriptionCommandBatch();
+  private final DirectBuffer commandView = new UnsafeBuffer(0, 0);
+  private final SubscriptionCommandMetrics metrics = new SubscriptionCommandMetrics();
+
   private final Consumer<Runnable> enviromentToRun;
   private final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier;
+  private final IntFunction<LogStreamBatchWriter> logstreamBatchWriterSupplier;
+
+  private LogStreamBatchWriter batchWriter;
+  private int batchPartitionId;
 
   public SubscriptionCommandMessageHandler(
       final Consumer<Runnable> enviromentToRun,
       final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier) {
+    this(enviromentToRun, logstreamRecordWriterSupplier, partitionId -> null);
+  }
+
+  /**
+   * @param logstreamBatchWriterSupplier supplies the writer for the commands of a batch; if it
+   *     returns null, the commands are written one by one
+   */
+  public SubscriptionCommandMessageHandler(
+      final Consumer<Runnable> enviromentToRun,
+      final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier,
+      final IntFunction<LogStreamBatchWriter> logstreamBatchWriterSupplier) {
     this.enviromentToRun = enviromentToRun;
     this.logstreamRecordWriterSupplier = logstreamRecordWriterSupplier;
+    this.logstreamBatchWriterSupplier = logstreamBatchWriterSupplier;
   }
 
   @Override
@@ -76,43 +103,81 @@ public final class SubscriptionCommandMessageHandler
     enviromentToRun.accept(
         () -> {
           final DirectBuffer buffer = new UnsafeBuffer(bytes);
-          final int offset = 0;
-          final int length = buffer.capacity();
-          messageHeaderDecoder.wrap(buffer, offset);
-
-          if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
-
-            switch (messageHeaderDecoder.templateId()) {
-              case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenMessageSubscription(buffer, offset, length);
-                break;
-              case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onOpenWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseMessageSubscription(buffer, offset, length);
-                break;
-              case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCloseWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onRejectCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              default:
-                break;
-            }
+          if (commandBatch.tryWrap(buffer)) {
+            onCommandBatch(buffer);
+          } else {
+            onCommand(buffer, 0, buffer.capacity());
           }
           future.complete(null);
         });
     return future;
   }
 
+  private void onCommandBatch(final DirectBuffer buffer) {
+    commandBatch.wrap(buffer);
+
+    final int partitionId = commandBatch.getReceiverPartitionId();
+    metrics.observeLatency(
+        partitionId, commandBatch.getTimestamp(), ActorClock.currentTimeMillis());
+
+    // write the commands for the receiving partition together, others are written one by one
+    batchWriter = logstreamBatchWriterSupplier.apply(partitionId);
+    batchPartitionId = partitionId;
+    if (batchWriter != null) {
+      batchWriter.reset();
+    }
+
+    for (int i = 0; i < commandBatch.getCommandsCount(); i++) {
+      commandBatch.wrapCommand(i, commandView);
+      onCommand(commandView, 0, commandView.capacity());
+    }
+
+    if (batchWriter != null) {
+      final long position = batchWriter.tryWrite();
+      if (position < 0) {
+        // the commands are sent again by the pending subscription checkers of the sender
+        LOG.warn(
+            "Failed to write a batch of {} subscription commands on partition {}",
+            commandBatch.getCommandsCount(),
+            partitionId);
+      }
+      batchWriter = null;
+    }
+  }
+
+  private void onCommand(final DirectBuffer buffer, final int offset, final int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+
+      switch (messageHeaderDecoder.templateId()) {
+        case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+          onOpenMessageSubscription(buffer, offset, length);
+          break;
+        case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onOpenWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCloseMessageSubscription(buffer, offset, length);
+          break;
+        case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCloseWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onRejectCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
   private boolean onOpenMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
@@ -274,6 +339,12 @@ public final class SubscriptionCommandMessageHandler
       final Intent intent,
       final UnpackedObject command) {
 
+    if (batchWriter != null && partitionId == batchPartitionId) {
+      recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+      batchWriter.event().key(-1).metadataWriter(recordMetadata).valueWriter(command).done();
+      return true;
+    }
+
     final LogStreamRecordWriter logStreamRecordWriter =
         logstreamRecordWriterSupplier.apply(partitionId);
     if (logStreamRecordWriter == null) {
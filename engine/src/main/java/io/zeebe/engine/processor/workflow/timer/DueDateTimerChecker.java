@@ -19,8 +19,21 @@ import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 
+/**
+ * Writes a trigger command for each timer which is due. The due timers are looked up in the due
+ * date index of the timer state, which is ordered by the due date, so a single scheduled runnable
+ * is enough for all timers.
+ *
+ * <p>The trigger commands are written in batches. A batch holds at most 1,000 commands and at most
+ * half of the max fragment size, like the batches of the stream processor. If more timers are due,
+ * e.g. when a lot of timers fire at midnight, the remaining timers are triggered in the next run,
+ * which continues after the last triggered timer. The runs are scheduled as separate actor jobs, so
+ * the processing of other records is not blocked until all due timers are triggered.
+ */
 public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
+  private static final int MAX_TIMERS_PER_BATCH = 1_000;
+
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
 
   private final TimerRecord timerRecord = new TimerRecord();
@@ -28,10 +41,22 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private final WorkflowState workflowState;
   private ActorControl actor;
   private TypedStreamWriter streamWriter;
+  private int maxBatchLength;
 
   private ScheduledTimer scheduledTimer;
   private long nextDueDate = -1L;
 
+  private int batchedTimers;
+  private boolean isBatchFull;
+  private long nextResumeDueDate;
+  private long nextResumeElementInstanceKey;
+  private long nextResumeTimerKey;
+
+  // the timer to continue at in the next run, if the last batch was full
+  private long resumeDueDate;
+  private long resumeElementInstanceKey;
+  private long resumeTimerKey;
+
   public DueDateTimerChecker(final WorkflowState workflowState) {
     this.workflowState = workflowState;
   }
@@ -45,6 +70,11 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     // - Otherwise, we don't need to cancel the runnable. It will be rescheduled when it is
     // executed.
 
+    if (timer.getDueDate() < resumeDueDate) {
+      // the timer is before the timer to continue at, start the next run from the beginning
+      resetResumePoint();
+    }
+
     final Duration duration =
         Duration.ofMillis(timer.getDueDate() - ActorClock.currentTimeMillis());
 
@@ -61,10 +91,29 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   }
 
   private void triggerTimers() {
-    nextDueDate =
+    final long now = ActorClock.currentTimeMillis();
+
+    streamWriter.reset();
+    isBatchFull = false;
+    batchedTimers = 0;
+
+    final long nextDueDateInState =
         workflowState
             .getTimerState()
-            .findTimersWithDueDateBefore(ActorClock.currentTimeMillis(), this::triggerTimer);
+            .findTimersWithDueDateBefore(
+                now, resumeDueDate, resumeElementInstanceKey, resumeTimerKey, this::triggerTimer);
+
+    if (batchedTimers > 0 && streamWriter.flush() < 0) {
+      // the batch is not written, retry it in the next run
+      nextDueDate = now;
+    } else if (isBatchFull) {
+      // continue with the remaining due timers in the next run
+      updateResumePoint();
+      nextDueDate = now;
+    } else {
+      resetResumePoint();
+      nextDueDate = nextDueDateInState;
+    }
 
     // reschedule the runnable if there are timers left
 
@@ -78,6 +127,16 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   }
 
   private boolean triggerTimer(final TimerInstance timer) {
+    if (batchedTimers > 0
+        && (batchedTimers >= MAX_TIMERS_PER_BATCH
+            || streamWriter.getBatchLength() >= maxBatchLength)) {
+      isBatchFull = true;
+      nextResumeDueDate = timer.getDueDate();
+      nextResumeElementInstanceKey = timer.getElementInstanceKey();
+      nextResumeTimerKey = timer.getKey();
+      return false;
+    }
+
     timerRecord.reset();
     timerRecord
         .setElementInstanceKey(timer.getElementInstanceKey())
@@ -87,16 +146,29 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         .setRepetitions(timer.getRepetitions())
         .setWorkflowKey(timer.getWorkflowKey());
 
-    streamWriter.reset();
     streamWriter.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+    batchedTimers++;
+
+    return true;
+  }
+
+  private void updateResumePoint() {
+    resumeDueDate = nextResumeDueDate;
+    resumeElementInstanceKey = nextResumeElementInstanceKey;
+    resumeTimerKey = nextResumeTimerKey;
+  }
 
-    return streamWriter.flush() > 0;
+  private void resetResumePoint() {
+    resumeDueDate = 0;
+    resumeElementInstanceKey = 0;
+    resumeTimerKey = 0;
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
     this.actor = processingContext.getActor();
     streamWriter = processingContext.getLogStreamWriter();
+    maxBatchLength = processingContext.getMaxFragmentSize() / 2;
     // check if timers are due after restart
     triggerTimers();
   }
@@ -8,7 +8,11 @@
 package io.zeebe.engine.state;
 
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyConfiguration;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.EnumSet;
+import java.util.Set;
 
 public final class DefaultZeebeDbFactory {
 
@@ -17,7 +21,23 @@ public final class DefaultZeebeDbFactory {
    * exporters.
    */
   public static final ZeebeDbFactory<ZbColumnFamilies> DEFAULT_DB_FACTORY =
-      defaultFactory(ZbColumnFamilies.class);
+      defaultFactory(new RocksDbConfiguration());
+
+  /**
+   * Returns the zeebe database factory which is used in the broker, with the given options on top
+   * of the default options of the zeebe column families.
+   *
+   * @param overrides the configuration, which may override the options of the column families
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final RocksDbConfiguration overrides) {
+    final var configuration =
+        createDefaultConfiguration().setMemoryLimit(overrides.getMemoryLimit());
+    overrides.getColumnFamilies().forEach(configuration::overrideColumnFamily);
+
+    return ZeebeRocksDbFactory.newFactory(ZbColumnFamilies.class, configuration);
+  }
 
   /**
    * Returns the default zeebe database factory which is used in the broker.
@@ -32,4 +52,31 @@ public final class DefaultZeebeDbFactory {
     // one place to replace the zeebe database implementation
     return ZeebeRocksDbFactory.newFactory(columnFamilyNamesClass);
   }
+
+  /**
+   * Column families which are only iterated with a {@link io.zeebe.db.impl.DbLong} key prefix get a
+   * prefix extractor of that length. Column families which are iterated with a string prefix have
+   * no fixed prefix length, and column families which are iterated in key order across prefixes
+   * (e.g. {@link ZbColumnFamilies#TIMER_DUE_DATES}) must not use one.
+   */
+  private static RocksDbConfiguration createDefaultConfiguration() {
+    final Set<ZbColumnFamilies> longPrefixedColumnFamilies =
+        EnumSet.of(
+            ZbColumnFamilies.ELEMENT_INSTANCE_PARENT_CHILD,
+            ZbColumnFamilies.STORED_INSTANCE_EVENTS_PARENT_CHILD,
+            ZbColumnFamilies.VARIABLES,
+            ZbColumnFamilies.TIMERS,
+            ZbColumnFamilies.MESSAGE_CORRELATED,
+            ZbColumnFamilies.MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME,
+            ZbColumnFamilies.WORKFLOW_SUBSCRIPTION_BY_KEY,
+            ZbColumnFamilies.EVENT_TRIGGER);
+
+    final var configuration = new RocksDbConfiguration();
+    for (final var columnFamily : longPrefixedColumnFamilies) {
+      configuration.overrideColumnFamily(
+          columnFamily.name(), new ColumnFamilyConfiguration().setPrefixLength(Long.BYTES));
+    }
+
+    return configuration;
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+
+/**
+ * Keeps the recently used workflows in memory, in their transformed form. The cache is bounded by
+ * the count of workflows and by their weight, which is the size of their BPMN resources. If one of
+ * the bounds is exceeded, the least recently used workflows are evicted. An evicted workflow is
+ * transformed again from its persisted form on the next access.
+ */
+final class DeployedWorkflowCache {
+
+  private final Map<Long, DeployedWorkflow> workflowsByKey = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<DirectBuffer, Int2ObjectHashMap<DeployedWorkflow>>
+      workflowsByProcessIdAndVersion = new HashMap<>();
+
+  private final int maxSize;
+  private final long maxWeight;
+  private final WorkflowCacheMetrics metrics;
+
+  private long weight;
+
+  DeployedWorkflowCache(
+      final int maxSize, final long maxWeight, final WorkflowCacheMetrics metrics) {
+    this.maxSize = maxSize;
+    this.maxWeight = maxWeight;
+    this.metrics = metrics;
+  }
+
+  DeployedWorkflow getByKey(final long workflowKey) {
+    return recordAccess(workflowsByKey.get(workflowKey));
+  }
+
+  DeployedWorkflow getByProcessIdAndVersion(final DirectBuffer bpmnProcessId, final int version) {
+    final Int2ObjectHashMap<DeployedWorkflow> versions =
+        workflowsByProcessIdAndVersion.get(bpmnProcessId);
+
+    DeployedWorkflow workflow = null;
+    if (versions != null) {
+      workflow = versions.get(version);
+      if (workflow != null) {
+        // mark the workflow as recently used
+        workflowsByKey.get(workflow.getKey());
+      }
+    }
+
+    return recordAccess(workflow);
+  }
+
+  void put(final DeployedWorkflow workflow) {
+    final DeployedWorkflow replaced = workflowsByKey.put(workflow.getKey(), workflow);
+    if (replaced != null) {
+      weight -= weightOf(replaced);
+    }
+    weight += weightOf(workflow);
+
+    workflowsByProcessIdAndVersion
+        .computeIfAbsent(workflow.getBpmnProcessId(), id -> new Int2ObjectHashMap<>())
+        .put(workflow.getVersion(), workflow);
+
+    evictIfNecessary();
+    metrics.setCacheSize(workflowsByKey.size(), weight);
+  }
+
+  int size() {
+    return workflowsByKey.size();
+  }
+
+  private void evictIfNecessary() {
+    final Iterator<DeployedWorkflow> leastRecentlyUsed = workflowsByKey.values().iterator();
+
+    // always keep the last added workflow, even if it exceeds the weight on its own
+    while ((workflowsByKey.size() > maxSize || weight > maxWeight) && workflowsByKey.size() > 1) {
+      final DeployedWorkflow evicted = leastRecentlyUsed.next();
+      leastRecentlyUsed.remove();
+      weight -= weightOf(evicted);
+
+      final Int2ObjectHashMap<DeployedWorkflow> versions =
+          workflowsByProcessIdAndVersion.get(evicted.getBpmnProcessId());
+      versions.remove(evicted.getVersion());
+      if (versions.isEmpty()) {
+        workflowsByProcessIdAndVersion.remove(evicted.getBpmnProcessId());
+      }
+
+      metrics.workflowEvicted();
+    }
+  }
+
+  private DeployedWorkflow recordAccess(final DeployedWorkflow workflow) {
+    if (workflow != null) {
+      metrics.cacheHit();
+    } else {
+      metrics.cacheMiss();
+    }
+    return workflow;
+  }
+
+  private static long weightOf(final DeployedWorkflow workflow) {
+    return workflow.getResource().capacity();
+  }
+}
@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processor.workflow.deployment.model.BpmnFactory;
 import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.processor.workflow.deployment.model.transformation.BpmnTransformer;
@@ -23,26 +24,27 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
 public final class WorkflowPersistenceCache {
 
+  /** The max count of transformed workflows which are kept in memory. */
+  public static final int DEFAULT_MAX_CACHED_WORKFLOWS = 1_000;
+
+  /** The max size of the BPMN resources of the transformed workflows which are kept in memory. */
+  public static final long DEFAULT_MAX_CACHED_WORKFLOWS_WEIGHT = 64 * 1024 * 1024;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
-  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
-      workflowsByProcessIdAndVersion = new HashMap<>();
+  private final DeployedWorkflowCache cache;
   private final LongHashSet deployments;
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
@@ -61,7 +63,21 @@ public final class WorkflowPersistenceCache {
   private final Digest digest = new Digest();
 
   public WorkflowPersistenceCache(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+      final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+    this(
+        partitionId,
+        zeebeDb,
+        dbContext,
+        DEFAULT_MAX_CACHED_WORKFLOWS,
+        DEFAULT_MAX_CACHED_WORKFLOWS_WEIGHT);
+  }
+
+  WorkflowPersistenceCache(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int maxCachedWorkflows,
+      final long maxCachedWorkflowsWeight) {
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -87,7 +103,9 @@ public final class WorkflowPersistenceCache {
             ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID, dbContext, workflowId, digest);
 
     deployments = new LongHashSet();
-    workflowsByKey = new Long2ObjectHashMap<>();
+    cache =
+        new DeployedWorkflowCache(
+            maxCachedWorkflows, maxCachedWorkflowsWeight, new WorkflowCacheMetrics(partitionId));
   }
 
   boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
@@ -155,7 +173,7 @@ public final class WorkflowPersistenceCache {
     final DeployedWorkflow deployedWorkflow =
         new DeployedWorkflow(executableWorkflow, copiedWorkflow);
 
-    addWorkflowToInMemoryState(deployedWorkflow);
+    cache.put(deployedWorkflow);
 
     return deployedWorkflow;
   }
@@ -166,69 +184,22 @@ public final class WorkflowPersistenceCache {
     }
   }
 
-  private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
-    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
-    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
-
-    Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (versionMap == null) {
-      versionMap = new Long2ObjectHashMap<>();
-      workflowsByProcessIdAndVersion.put(bpmnProcessId, versionMap);
-    }
-
-    final int version = deployedWorkflow.getVersion();
-    versionMap.put(version, deployedWorkflow);
-  }
-
   public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
-    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
-
     workflowId.wrapBuffer(processId);
     final LatestWorkflowVersion latestVersion = latestWorkflowColumnFamily.get(workflowId);
 
-    DeployedWorkflow deployedWorkflow;
-    if (versionMap == null) {
-      deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedWorkflow = versionMap.get(latestVersion.get());
-      if (deployedWorkflow == null) {
-        deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-      }
+    if (latestVersion == null) {
+      return null;
     }
-    return deployedWorkflow;
-  }
-
-  private DeployedWorkflow lookupWorkflowByIdAndPersistedVersion(
-      final LatestWorkflowVersion version) {
-    final long latestVersion = version != null ? version.get() : -1;
-    workflowVersion.wrapLong(latestVersion);
-
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
-    if (persistedWorkflow != null) {
-      final DeployedWorkflow deployedWorkflow = updateInMemoryState(persistedWorkflow);
-      return deployedWorkflow;
-    }
-    return null;
+    return getWorkflowByProcessIdAndVersion(processId, (int) latestVersion.get());
   }
 
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
-
-    if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
-      return deployedWorkflow != null
-          ? deployedWorkflow
-          : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
-    }
+    final DeployedWorkflow deployedWorkflow = cache.getByProcessIdAndVersion(processId, version);
+
+    return deployedWorkflow != null ? deployedWorkflow : lookupPersistenceState(processId, version);
   }
 
   private DeployedWorkflow lookupPersistenceState(final DirectBuffer processId, final int version) {
@@ -239,21 +210,14 @@ public final class WorkflowPersistenceCache {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
   public DeployedWorkflow getWorkflowByKey(final long key) {
-    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
+    final DeployedWorkflow deployedWorkflow = cache.getByKey(key);
 
     if (deployedWorkflow != null) {
       return deployedWorkflow;
@@ -267,35 +231,37 @@ public final class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      return deployedWorkflow;
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(
+        (key, workflow) -> {
+          workflows.add(getOrTransformWorkflow(workflow));
+        });
+    return workflows;
   }
 
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflow) -> {
+          workflows.add(getOrTransformWorkflow(workflow));
+        });
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  // is called while iterating over the column families, so it must not access the state
+  private DeployedWorkflow getOrTransformWorkflow(final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = cache.getByKey(persistedWorkflow.getKey());
+    return deployedWorkflow != null ? deployedWorkflow : updateInMemoryState(persistedWorkflow);
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
@@ -31,11 +31,12 @@ public final class WorkflowState {
   private final EventScopeInstanceState eventScopeInstanceState;
 
   public WorkflowState(
+      final int partitionId,
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
       final KeyGenerator keyGenerator) {
     versionManager = new NextValueManager(zeebeDb, dbContext, ZbColumnFamilies.WORKFLOW_VERSION);
-    workflowPersistenceCache = new WorkflowPersistenceCache(zeebeDb, dbContext);
+    workflowPersistenceCache = new WorkflowPersistenceCache(partitionId, zeebeDb, dbContext);
     timerInstanceState = new TimerInstanceState(zeebeDb, dbContext);
     elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator);
     eventScopeInstanceState = new EventScopeInstanceState(zeebeDb, dbContext);
@@ -56,6 +56,8 @@ public final class JobState {
 
   private Consumer<String> onJobsAvailableCallback;
 
+  private long nextDeadline;
+
   public JobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
     jobKey = new DbLong();
@@ -195,19 +197,61 @@ public final class JobState {
     updateJob(key, updatedValue, State.ACTIVATABLE);
   }
 
-  public void forEachTimedOutEntry(
+  /**
+   * Visits the activated jobs with a deadline before the given upper bound, ordered by the
+   * deadline. The iteration stops if the callback returns false.
+   *
+   * @return the deadline of the first job which was not consumed, or -1 if there is none
+   */
+  public long forEachTimedOutEntry(
       final long upperBound, final BiFunction<Long, JobRecord, Boolean> callback) {
+    nextDeadline = -1L;
 
     deadlinesColumnFamily.whileTrue(
-        (compositeKey, zbNil) -> {
-          final long deadline = compositeKey.getFirst().getValue();
-          final boolean isDue = deadline < upperBound;
-          if (isDue) {
-            final long jobKey = compositeKey.getSecond().getValue();
-            return visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
-          }
-          return false;
-        });
+        (compositeKey, zbNil) -> visitTimedOutJob(compositeKey, upperBound, callback));
+
+    return nextDeadline;
+  }
+
+  /**
+   * Visits the activated jobs with a deadline before the given upper bound, like {@link
+   * #forEachTimedOutEntry(long, BiFunction)}, but starts at the given job instead of the first one.
+   * It allows to continue an iteration which was stopped by the callback.
+   *
+   * @return the deadline of the first job which was not consumed, or -1 if there is none
+   */
+  public long forEachTimedOutEntry(
+      final long upperBound,
+      final long startAtDeadline,
+      final long startAtJobKey,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    nextDeadline = -1L;
+
+    deadlineKey.wrapLong(startAtDeadline);
+    jobKey.wrapLong(startAtJobKey);
+    deadlinesColumnFamily.whileTrue(
+        deadlineJobKey,
+        (compositeKey, zbNil) -> visitTimedOutJob(compositeKey, upperBound, callback));
+
+    return nextDeadline;
+  }
+
+  private boolean visitTimedOutJob(
+      final DbCompositeKey<DbLong, DbLong> compositeKey,
+      final long upperBound,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final long deadline = compositeKey.getFirst().getValue();
+
+    boolean consumed = false;
+    if (deadline < upperBound) {
+      final long jobKey = compositeKey.getSecond().getValue();
+      consumed = visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
+    }
+
+    if (!consumed) {
+      nextDeadline = deadline;
+    }
+    return consumed;
   }
 
   public boolean exists(final long jobKey) {
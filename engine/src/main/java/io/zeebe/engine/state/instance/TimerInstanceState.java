@@ -61,26 +61,54 @@ public final class TimerInstanceState {
   public long findTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
     nextDueDate = -1L;
 
+    dueDateColumnFamily.whileTrue((key, nil) -> visitTimer(key, timestamp, consumer));
+
+    return nextDueDate;
+  }
+
+  /**
+   * Visits the timers with a due date before the given timestamp, like {@link
+   * #findTimersWithDueDateBefore(long, TimerVisitor)}, but starts at the given timer instead of the
+   * first one. It allows to continue an iteration which was stopped by the visitor.
+   *
+   * @return the due date of the first timer which was not consumed, or -1 if there is none
+   */
+  public long findTimersWithDueDateBefore(
+      final long timestamp,
+      final long startAtDueDate,
+      final long startAtElementInstanceKey,
+      final long startAtTimerKey,
+      final TimerVisitor consumer) {
+    nextDueDate = -1L;
+
+    dueDateKey.wrapLong(startAtDueDate);
+    elementInstanceKey.wrapLong(startAtElementInstanceKey);
+    timerKey.wrapLong(startAtTimerKey);
     dueDateColumnFamily.whileTrue(
-        (key, nil) -> {
-          final DbLong dueDate = key.getFirst();
-
-          boolean consumed = false;
-          if (dueDate.getValue() <= timestamp) {
-            final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
-            final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            consumed = consumer.visit(timerInstance);
-          }
-
-          if (!consumed) {
-            nextDueDate = dueDate.getValue();
-          }
-          return consumed;
-        });
+        dueDateCompositeKey, (key, nil) -> visitTimer(key, timestamp, consumer));
 
     return nextDueDate;
   }
 
+  private boolean visitTimer(
+      final DbCompositeKey<DbLong, DbCompositeKey<DbLong, DbLong>> key,
+      final long timestamp,
+      final TimerVisitor consumer) {
+    final DbLong dueDate = key.getFirst();
+
+    boolean consumed = false;
+    if (dueDate.getValue() <= timestamp) {
+      final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
+      final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
+      consumed = consumer.visit(timerInstance);
+    }
+
+    if (!consumed) {
+      nextDueDate = dueDate.getValue();
+    }
+    return consumed;
+  }
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
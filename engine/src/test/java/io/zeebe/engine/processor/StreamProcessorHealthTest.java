@@ -296,6 +296,11 @@ public class StreamProcessorHealthTest {
       }
       return wrappedWriter.flush();
     }
+
+    @Override
+    public int getBatchLength() {
+      return wrappedWriter.getBatchLength();
+    }
   }
 
   private static final class HealthStatusCheck extends Actor {
@@ -9,8 +9,11 @@ package io.zeebe.engine.processor;
 
 import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +33,9 @@ import io.zeebe.protocol.record.value.deployment.ResourceType;
 import io.zeebe.test.util.AutoCloseableRule;
 import io.zeebe.test.util.TestUtil;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -41,6 +47,8 @@ import org.mockito.MockitoAnnotations;
 
 public final class TypedStreamProcessorTest {
   private static final String STREAM_NAME = "foo";
+  // longer than the default max batch duration of 10 ms
+  private static final Duration SLOW_PROCESSING_DURATION = Duration.ofMillis(50);
   protected SynchronousLogStream stream;
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final AutoCloseableRule closeables = new AutoCloseableRule();
@@ -176,6 +184,169 @@ public final class TypedStreamProcessorTest {
     assertThat(deploymentRejection.getRejectionType()).isEqualTo(RejectionType.PROCESSING_ERROR);
   }
 
+  @Test
+  public void shouldSkipOnlyFailingEventOfBatch() {
+    // given
+    streams.setMaxCommandsInBatch(10);
+    final long firstEventPosition =
+        streams
+            .newRecord(STREAM_NAME)
+            .event(deployment("foo", ResourceType.BPMN_XML))
+            .recordType(RecordType.COMMAND)
+            .intent(DeploymentIntent.CREATE)
+            .key(1)
+            .write();
+    streams
+        .newRecord(STREAM_NAME)
+        .event(deployment("foo2", ResourceType.BPMN_XML))
+        .recordType(RecordType.COMMAND)
+        .intent(DeploymentIntent.CREATE)
+        .key(0)
+        .write();
+    final long thirdEventPosition =
+        streams
+            .newRecord(STREAM_NAME)
+            .event(deployment("foo3", ResourceType.BPMN_XML))
+            .recordType(RecordType.COMMAND)
+            .intent(DeploymentIntent.CREATE)
+            .key(2)
+            .write();
+
+    // when
+    streams.startStreamProcessor(
+        STREAM_NAME,
+        DefaultZeebeDbFactory.DEFAULT_DB_FACTORY,
+        (processingContext) ->
+            TypedRecordProcessors.processors(keyGenerator)
+                .onCommand(
+                    ValueType.DEPLOYMENT, DeploymentIntent.CREATE, new ErrorProneBatchProcessor()));
+
+    // then
+    final LoggedEvent lastCreatedEvent =
+        TestUtil.doRepeatedly(
+                () ->
+                    streams
+                        .events(STREAM_NAME)
+                        .filter(
+                            e -> Records.isEvent(e, ValueType.DEPLOYMENT, DeploymentIntent.CREATED))
+                        .filter(e -> e.getKey() == 2)
+                        .findFirst())
+            .until(o -> o.isPresent())
+            .get();
+    assertThat(lastCreatedEvent.getSourceEventPosition()).isEqualTo(thirdEventPosition);
+
+    final Record<DeploymentRecord> deploymentRejection =
+        new RecordStream(streams.events(STREAM_NAME))
+            .onlyDeploymentRecords()
+            .onlyRejections()
+            .withIntent(DeploymentIntent.CREATE)
+            .getFirst();
+
+    assertThat(deploymentRejection.getKey()).isEqualTo(0);
+    assertThat(deploymentRejection.getRejectionType()).isEqualTo(RejectionType.PROCESSING_ERROR);
+
+    assertThat(
+            streams
+                .events(STREAM_NAME)
+                .filter(e -> Records.isEvent(e, ValueType.DEPLOYMENT, DeploymentIntent.CREATED))
+                .map(e -> tuple(e.getKey(), e.getSourceEventPosition())))
+        .containsExactly(tuple(1L, firstEventPosition), tuple(2L, thirdEventPosition));
+  }
+
+  @Test
+  public void shouldNotifyListenerOnceAboutEventsOfFailedBatch() {
+    // given
+    streams.setMaxCommandsInBatch(10);
+    final List<Long> notifiedPositions = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              notifiedPositions.add(record.getPosition());
+              return null;
+            })
+        .when(streams.getMockedOnProcessedListener())
+        .accept(any());
+
+    final long firstEventPosition =
+        streams
+            .newRecord(STREAM_NAME)
+            .event(deployment("foo", ResourceType.BPMN_XML))
+            .recordType(RecordType.COMMAND)
+            .intent(DeploymentIntent.CREATE)
+            .key(1)
+            .write();
+    final long secondEventPosition =
+        streams
+            .newRecord(STREAM_NAME)
+            .event(deployment("foo2", ResourceType.BPMN_XML))
+            .recordType(RecordType.COMMAND)
+            .intent(DeploymentIntent.CREATE)
+            .key(0)
+            .write();
+    final long thirdEventPosition =
+        streams
+            .newRecord(STREAM_NAME)
+            .event(deployment("foo3", ResourceType.BPMN_XML))
+            .recordType(RecordType.COMMAND)
+            .intent(DeploymentIntent.CREATE)
+            .key(2)
+            .write();
+
+    // when
+    streams.startStreamProcessor(
+        STREAM_NAME,
+        DefaultZeebeDbFactory.DEFAULT_DB_FACTORY,
+        (processingContext) ->
+            TypedRecordProcessors.processors(keyGenerator)
+                .onCommand(
+                    ValueType.DEPLOYMENT, DeploymentIntent.CREATE, new ErrorProneBatchProcessor()));
+
+    // then
+    TestUtil.waitUntil(() -> notifiedPositions.contains(thirdEventPosition));
+    assertThat(notifiedPositions)
+        .containsExactly(firstEventPosition, secondEventPosition, thirdEventPosition);
+  }
+
+  @Test
+  public void shouldCloseBatchIfMaxDurationIsReached() {
+    // given
+    streams.setMaxCommandsInBatch(10);
+    final List<String> steps = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              steps.add("notified " + record.getKey());
+              return null;
+            })
+        .when(streams.getMockedOnProcessedListener())
+        .accept(any());
+
+    for (int key = 1; key <= 3; key++) {
+      streams
+          .newRecord(STREAM_NAME)
+          .event(deployment("foo" + key, ResourceType.BPMN_XML))
+          .recordType(RecordType.COMMAND)
+          .intent(DeploymentIntent.CREATE)
+          .key(key)
+          .write();
+    }
+
+    // when
+    streams.startStreamProcessor(
+        STREAM_NAME,
+        DefaultZeebeDbFactory.DEFAULT_DB_FACTORY,
+        (processingContext) ->
+            TypedRecordProcessors.processors(keyGenerator)
+                .onCommand(
+                    ValueType.DEPLOYMENT, DeploymentIntent.CREATE, new SlowProcessor(steps)));
+
+    // then
+    TestUtil.waitUntil(() -> steps.contains("notified 3"));
+    assertThat(steps)
+        .containsExactly(
+            "processed 1", "notified 1", "processed 2", "notified 2", "processed 3", "notified 3");
+  }
+
   protected DeploymentRecord deployment(final String name, final ResourceType resourceType) {
     final DeploymentRecord event = new DeploymentRecord();
     event
@@ -203,6 +374,22 @@ public final class TypedStreamProcessorTest {
     }
   }
 
+  protected static class ErrorProneBatchProcessor
+      implements TypedRecordProcessor<DeploymentRecord> {
+
+    @Override
+    public void processRecord(
+        final TypedRecord<DeploymentRecord> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter) {
+      if (record.getKey() == 0) {
+        throw new RuntimeException("expected");
+      }
+      streamWriter.appendFollowUpEvent(
+          record.getKey(), DeploymentIntent.CREATED, record.getValue());
+    }
+  }
+
   protected class BatchProcessor implements TypedRecordProcessor<DeploymentRecord> {
     @Override
     public void processRecord(
@@ -214,4 +401,25 @@ public final class TypedStreamProcessorTest {
       streamWriter.flush();
     }
   }
+
+  protected static class SlowProcessor implements TypedRecordProcessor<DeploymentRecord> {
+    private final List<String> steps;
+
+    SlowProcessor(final List<String> steps) {
+      this.steps = steps;
+    }
+
+    @Override
+    public void processRecord(
+        final TypedRecord<DeploymentRecord> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter) {
+      steps.add("processed " + record.getKey());
+      try {
+        Thread.sleep(SLOW_PROCESSING_DURATION.toMillis());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
 }
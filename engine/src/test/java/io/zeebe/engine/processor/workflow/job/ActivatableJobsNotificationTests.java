@@ -99,10 +99,11 @@ public final class ActivatableJobsNotificationTests {
   public void shouldNotifyWhenJobsAvailableAfterTimeOut() {
     // given
     createWorkflowInstanceAndJobs(1);
-    activateJobs(1, Duration.ofMillis(10));
+    final Duration timeout = Duration.ofMillis(10);
+    activateJobs(1, timeout);
 
     // when
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(timeout.plusMillis(1));
     RecordingExporter.jobRecords(TIMED_OUT).withType(taskType).getFirst();
 
     // then
@@ -113,8 +114,9 @@ public final class ActivatableJobsNotificationTests {
   public void shouldNotifyWhenJobCreatedAfterNotActivatedJobCompleted() {
     // given
     createWorkflowInstanceAndJobs(1);
-    final long jobKey = activateJobs(1, Duration.ofMillis(10)).getValue().getJobKeys().get(0);
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    final Duration timeout = Duration.ofMillis(10);
+    final long jobKey = activateJobs(1, timeout).getValue().getJobKeys().get(0);
+    ENGINE.increaseTime(timeout.plusMillis(1));
     RecordingExporter.jobRecords(TIMED_OUT).withType(taskType).getFirst();
 
     // when
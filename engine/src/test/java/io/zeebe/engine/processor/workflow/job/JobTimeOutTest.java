@@ -13,14 +13,17 @@ import static io.zeebe.test.util.record.RecordingExporter.jobRecords;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.engine.util.EngineRule;
+import io.zeebe.engine.util.client.JobActivationClient;
 import io.zeebe.model.bpmn.Bpmn;
 import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.value.JobBatchRecordValue;
 import io.zeebe.protocol.record.value.JobRecordValue;
 import io.zeebe.test.util.Strings;
 import io.zeebe.test.util.record.RecordingExporter;
 import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Before;
@@ -49,7 +52,7 @@ public final class JobTimeOutTest {
     final long timeout = 10L;
 
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout + 1));
 
     // when expired
     RecordingExporter.jobRecords(TIME_OUT).withType(jobType).getFirst();
@@ -71,6 +74,25 @@ public final class JobTimeOutTest {
             JobIntent.ACTIVATED);
   }
 
+  @Test
+  public void shouldTimeOutActivatedJobOnCommand() {
+    // given
+    final long jobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    ENGINE.jobs().withType(jobType).withTimeout(Duration.ofMinutes(5).toMillis()).activate();
+
+    // when
+    final Record<JobRecordValue> timedOut = ENGINE.job().withKey(jobKey).timeOut();
+
+    // then
+    assertThat(timedOut.getIntent()).isEqualTo(JobIntent.TIMED_OUT);
+    assertThat(timedOut.getValue().getType()).isEqualTo(jobType);
+    assertThat(timedOut.getValue().getRetries()).isEqualTo(3);
+    assertThat(timedOut.getValue().getErrorMessage()).isEmpty();
+
+    final Record<JobBatchRecordValue> activated = ENGINE.jobs().withType(jobType).activate();
+    assertThat(activated.getValue().getJobKeys()).containsExactly(jobKey);
+  }
+
   @Test
   public void shouldTimeOutAfterReprocessing() {
     // given
@@ -78,7 +100,7 @@ public final class JobTimeOutTest {
     final long timeout = 10L;
 
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout + 1));
     jobRecords(TIME_OUT).withRecordKey(jobKey).getFirst();
 
     final long jobKey2 = ENGINE.createJob(jobType, PROCESS_ID).getKey();
@@ -90,7 +112,7 @@ public final class JobTimeOutTest {
     ENGINE.jobs().withType(jobType).activate();
 
     // then
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(JobActivationClient.DEFAULT_TIMEOUT + 1));
     jobRecords(TIME_OUT).withRecordKey(jobKey2).getFirst();
   }
 
@@ -100,7 +122,7 @@ public final class JobTimeOutTest {
     ENGINE.createJob(jobType, PROCESS_ID);
     final long timeout = 10L;
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout + 1));
 
     // when expired
     RecordingExporter.jobRecords(TIME_OUT).getFirst();
@@ -156,7 +178,7 @@ public final class JobTimeOutTest {
         .limit(2)
         .getFirst();
 
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout + 1));
     RecordingExporter.jobRecords(JobIntent.TIMED_OUT)
         .withWorkflowInstanceKey(instanceKey1)
         .getFirst();
@@ -8,7 +8,10 @@
 package io.zeebe.engine.processor.workflow.job;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -28,6 +31,8 @@ import org.mockito.Mockito;
 
 public final class JobTimeoutTriggerTest {
 
+  private static final int MAX_FRAGMENT_SIZE = 4 * 1024 * 1024;
+
   @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
 
   @Mock private ActorControl someActor;
@@ -40,15 +45,20 @@ public final class JobTimeoutTriggerTest {
     initMocks(this);
 
     final JobState jobState = stateRule.getZeebeState().getJobState();
-    jobTimeoutTrigger = new JobTimeoutTrigger(jobState);
+    jobTimeoutTrigger = new JobTimeoutTrigger(jobState, 1);
 
     final ProcessingContext processingContext =
-        new ProcessingContext().actor(someActor).logStreamWriter(typedStreamWriter);
+        new ProcessingContext()
+            .actor(someActor)
+            .logStreamWriter(typedStreamWriter)
+            .maxFragmentSize(MAX_FRAGMENT_SIZE);
     jobTimeoutTrigger.onRecovered(processingContext);
 
     jobState.activate(0, newJobRecord());
     jobState.activate(1, newJobRecord());
     jobState.activate(2, newJobRecord());
+
+    Mockito.clearInvocations(someActor, typedStreamWriter);
   }
 
   private JobRecord newJobRecord() {
@@ -62,9 +72,9 @@ public final class JobTimeoutTriggerTest {
   }
 
   @Test
-  public void shouldNotWriteAgainAfterFlushFailed() {
+  public void shouldWriteTimedOutJobsInOneBatch() {
     // given
-    when(typedStreamWriter.flush()).thenReturn(1L, -1L);
+    when(typedStreamWriter.flush()).thenReturn(1L);
 
     // when
     jobTimeoutTrigger.deactivateTimedOutJobs();
@@ -72,15 +82,65 @@ public final class JobTimeoutTriggerTest {
     // then
     final InOrder inOrder = Mockito.inOrder(typedStreamWriter);
 
+    inOrder.verify(typedStreamWriter).reset();
     inOrder
         .verify(typedStreamWriter)
         .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
-    inOrder.verify(typedStreamWriter).flush();
     inOrder
         .verify(typedStreamWriter)
         .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(2L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder.verify(typedStreamWriter).flush();
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void shouldNotWriteAgainAfterFlushFailed() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(-1L);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    final InOrder inOrder = Mockito.inOrder(typedStreamWriter, someActor);
+
+    inOrder.verify(typedStreamWriter).reset();
+    inOrder
+        .verify(typedStreamWriter, times(3))
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
     inOrder.verify(typedStreamWriter).flush();
     inOrder.verify(typedStreamWriter).reset();
+    inOrder.verify(someActor).runDelayed(any(), any());
     inOrder.verifyNoMoreInteractions();
   }
+
+  @Test
+  public void shouldContinueWithNextJobIfBatchIsFull() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    when(typedStreamWriter.getBatchLength()).thenReturn(MAX_FRAGMENT_SIZE);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    final InOrder inOrder = Mockito.inOrder(typedStreamWriter);
+
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder.verify(typedStreamWriter).flush();
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder.verify(typedStreamWriter).flush();
+
+    verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    verify(someActor, times(2)).runDelayed(any(), any());
+  }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class SubscriptionCommandBatchTest {
+
+  private static final int PARTITION_ID = 1;
+
+  @Test
+  public void shouldEncodeDecodeBatch() {
+    // given
+    final SubscriptionCommandBatch batch =
+        new SubscriptionCommandBatch()
+            .setReceiverPartitionId(PARTITION_ID)
+            .setTimestamp(123L)
+            .addCommand(closeMessageSubscription(1L, "first"))
+            .addCommand(closeMessageSubscription(2L, "second"));
+
+    // when
+    final SubscriptionCommandBatch decoded = new SubscriptionCommandBatch();
+    decoded.wrap(new UnsafeBuffer(batch.toBytes()));
+
+    // then
+    assertThat(decoded.getReceiverPartitionId()).isEqualTo(PARTITION_ID);
+    assertThat(decoded.getTimestamp()).isEqualTo(123L);
+    assertThat(decoded.getCommandsCount()).isEqualTo(2);
+
+    final DirectBuffer view = new UnsafeBuffer(0, 0);
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+
+    decoded.wrapCommand(0, view);
+    command.wrap(view);
+    assertThat(command.getWorkflowInstanceKey()).isEqualTo(1L);
+    assertThat(command.getMessageName()).isEqualTo(wrapString("first"));
+
+    decoded.wrapCommand(1, view);
+    command.wrap(view);
+    assertThat(command.getWorkflowInstanceKey()).isEqualTo(2L);
+    assertThat(command.getMessageName()).isEqualTo(wrapString("second"));
+  }
+
+  @Test
+  public void shouldResetBatch() {
+    // given
+    final SubscriptionCommandBatch batch =
+        new SubscriptionCommandBatch()
+            .setReceiverPartitionId(PARTITION_ID)
+            .addCommand(closeMessageSubscription(1L, "first"));
+
+    // when
+    batch.reset();
+
+    // then
+    assertThat(batch.isEmpty()).isTrue();
+    assertThat(batch.getLength()).isEqualTo(new SubscriptionCommandBatch().getLength());
+  }
+
+  @Test
+  public void shouldWriteCommandsOfBatchWithBatchWriter() {
+    // given
+    final LogStreamBatchWriter batchWriter = mock(LogStreamBatchWriter.class);
+    final LogEntryBuilder entryBuilder = mock(LogEntryBuilder.class, RETURNS_SELF);
+    when(batchWriter.event()).thenReturn(entryBuilder);
+    when(entryBuilder.done()).thenReturn(batchWriter);
+
+    final LogStreamRecordWriter recordWriter = mock(LogStreamRecordWriter.class);
+
+    final SubscriptionCommandMessageHandler handler =
+        new SubscriptionCommandMessageHandler(
+            Runnable::run, partitionId -> recordWriter, partitionId -> batchWriter);
+
+    final SubscriptionCommandBatch batch =
+        new SubscriptionCommandBatch()
+            .setReceiverPartitionId(PARTITION_ID)
+            .addCommand(closeMessageSubscription(1L, "first"))
+            .addCommand(closeMessageSubscription(2L, "second"));
+
+    // when
+    handler.apply(batch.toBytes()).join();
+
+    // then
+    verify(batchWriter, times(2)).event();
+    verify(batchWriter).tryWrite();
+    verify(recordWriter, never()).tryWrite();
+  }
+
+  @Test
+  public void shouldWriteCommandsOfBatchOneByOneWithoutBatchWriter() {
+    // given
+    final LogStreamRecordWriter recordWriter = mock(LogStreamRecordWriter.class, RETURNS_SELF);
+    when(recordWriter.tryWrite()).thenReturn(1L);
+
+    final SubscriptionCommandMessageHandler handler =
+        new SubscriptionCommandMessageHandler(Runnable::run, partitionId -> recordWriter);
+
+    final SubscriptionCommandBatch batch =
+        new SubscriptionCommandBatch()
+            .setReceiverPartitionId(PARTITION_ID)
+            .addCommand(closeMessageSubscription(1L, "first"))
+            .addCommand(closeMessageSubscription(2L, "second"));
+
+    // when
+    handler.apply(batch.toBytes()).join();
+
+    // then
+    verify(recordWriter, times(2)).tryWrite();
+  }
+
+  private static CloseMessageSubscriptionCommand closeMessageSubscription(
+      final long workflowInstanceKey, final String messageName) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(PARTITION_ID);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setElementInstanceKey(3L);
+    command.setMessageName(wrapString(messageName));
+    return command;
+  }
+}
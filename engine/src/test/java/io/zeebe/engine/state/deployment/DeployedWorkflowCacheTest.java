@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import static io.zeebe.engine.state.deployment.WorkflowStateTest.creatingDeploymentRecord;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class DeployedWorkflowCacheTest {
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private final WorkflowCacheMetrics metrics = new WorkflowCacheMetrics(1);
+
+  private DeployedWorkflow firstWorkflow;
+  private DeployedWorkflow secondWorkflow;
+  private DeployedWorkflow thirdWorkflow;
+
+  @Before
+  public void setUp() {
+    final ZeebeState zeebeState = stateRule.getZeebeState();
+    final WorkflowState workflowState = zeebeState.getWorkflowState();
+    workflowState.putDeployment(1, creatingDeploymentRecord(zeebeState, "process", 1));
+    workflowState.putDeployment(2, creatingDeploymentRecord(zeebeState, "process", 2));
+    workflowState.putDeployment(3, creatingDeploymentRecord(zeebeState, "process", 3));
+
+    firstWorkflow = workflowState.getWorkflowByProcessIdAndVersion(wrapString("process"), 1);
+    secondWorkflow = workflowState.getWorkflowByProcessIdAndVersion(wrapString("process"), 2);
+    thirdWorkflow = workflowState.getWorkflowByProcessIdAndVersion(wrapString("process"), 3);
+  }
+
+  @Test
+  public void shouldGetCachedWorkflow() {
+    // given
+    final DeployedWorkflowCache cache = new DeployedWorkflowCache(10, Long.MAX_VALUE, metrics);
+
+    // when
+    cache.put(firstWorkflow);
+
+    // then
+    assertThat(cache.getByKey(firstWorkflow.getKey())).isSameAs(firstWorkflow);
+    assertThat(cache.getByProcessIdAndVersion(wrapString("process"), 1)).isSameAs(firstWorkflow);
+    assertThat(cache.getByProcessIdAndVersion(wrapString("process"), 2)).isNull();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() {
+    // given
+    final DeployedWorkflowCache cache = new DeployedWorkflowCache(2, Long.MAX_VALUE, metrics);
+    cache.put(firstWorkflow);
+    cache.put(secondWorkflow);
+    cache.getByProcessIdAndVersion(wrapString("process"), 1);
+
+    // when
+    cache.put(thirdWorkflow);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getByKey(firstWorkflow.getKey())).isSameAs(firstWorkflow);
+    assertThat(cache.getByKey(secondWorkflow.getKey())).isNull();
+    assertThat(cache.getByProcessIdAndVersion(wrapString("process"), 2)).isNull();
+    assertThat(cache.getByKey(thirdWorkflow.getKey())).isSameAs(thirdWorkflow);
+  }
+
+  @Test
+  public void shouldEvictWorkflowsIfWeightIsExceeded() {
+    // given
+    final long weight = firstWorkflow.getResource().capacity();
+    final DeployedWorkflowCache cache = new DeployedWorkflowCache(10, 2 * weight, metrics);
+    cache.put(firstWorkflow);
+    cache.put(secondWorkflow);
+
+    // when
+    cache.put(thirdWorkflow);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getByKey(firstWorkflow.getKey())).isNull();
+  }
+
+  @Test
+  public void shouldKeepWorkflowWhichExceedsWeight() {
+    // given
+    final DeployedWorkflowCache cache = new DeployedWorkflowCache(10, 1, metrics);
+
+    // when
+    cache.put(firstWorkflow);
+    cache.put(secondWorkflow);
+
+    // then
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getByKey(secondWorkflow.getKey())).isSameAs(secondWorkflow);
+  }
+}
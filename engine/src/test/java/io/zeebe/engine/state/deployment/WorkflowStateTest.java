@@ -10,9 +10,11 @@ package io.zeebe.engine.state.deployment;
 import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processor.KeyGenerator;
 import io.zeebe.engine.processor.workflow.deployment.model.element.AbstractFlowElement;
 import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableWorkflow;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.util.ZeebeStateRule;
 import io.zeebe.model.bpmn.Bpmn;
@@ -423,6 +425,31 @@ public final class WorkflowStateTest {
     Assertions.assertThat(latestWorkflow.getVersion()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldGetWorkflowAfterItWasEvictedFromCache() throws Exception {
+    // given
+    try (final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb()) {
+      final WorkflowPersistenceCache persistenceCache =
+          new WorkflowPersistenceCache(1, db, db.createContext(), 1, Long.MAX_VALUE);
+      persistenceCache.putDeployment(1, creatingDeploymentRecord(zeebeState, "process", 1));
+      persistenceCache.putDeployment(2, creatingDeploymentRecord(zeebeState, "process", 2));
+      persistenceCache.getWorkflowByProcessIdAndVersion(wrapString("process"), 1);
+      persistenceCache.getWorkflowByProcessIdAndVersion(wrapString("process"), 2);
+
+      // when
+      final DeployedWorkflow workflow =
+          persistenceCache.getWorkflowByProcessIdAndVersion(wrapString("process"), 1);
+
+      // then
+      Assertions.assertThat(workflow).isNotNull();
+      Assertions.assertThat(workflow.getVersion()).isEqualTo(1);
+      Assertions.assertThat(persistenceCache.getWorkflowsByBpmnProcessId(wrapString("process")))
+          .extracting(DeployedWorkflow::getVersion)
+          .containsExactly(1, 2);
+      Assertions.assertThat(persistenceCache.getWorkflows()).hasSize(2);
+    }
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(final ZeebeState zeebeState) {
     return creatingDeploymentRecord(zeebeState, "processId");
   }
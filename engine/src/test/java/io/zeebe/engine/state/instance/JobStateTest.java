@@ -388,6 +388,31 @@ public final class JobStateTest {
     assertThat(timedOutKeys).containsExactly(1L, 2L, 3L);
   }
 
+  @Test
+  public void shouldIterateOverTimedOutStartingAtJob() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(4, newJobRecord().setDeadline(65536L));
+
+    // when
+    final List<Long> timedOutKeys = new ArrayList<>();
+    final long nextDeadline =
+        jobState.forEachTimedOutEntry(
+            512L,
+            256L,
+            3L,
+            (k, e) -> {
+              timedOutKeys.add(k);
+              return true;
+            });
+
+    // then
+    assertThat(timedOutKeys).containsExactly(3L);
+    assertThat(nextDeadline).isEqualTo(65536L);
+  }
+
   @Test
   public void shouldCleanUpOnForEachTimedOutAndVisitNext() {
     // given
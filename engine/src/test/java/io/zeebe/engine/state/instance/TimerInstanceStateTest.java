@@ -219,6 +219,42 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersWithDueDateStartingAtTimer() {
+    // given
+    final TimerInstance timer1 = new TimerInstance();
+    timer1.setElementInstanceKey(1L);
+    timer1.setKey(1L);
+    timer1.setDueDate(1000L);
+    state.put(timer1);
+
+    final TimerInstance timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(2L);
+    timer2.setKey(2L);
+    timer2.setDueDate(1000L);
+    state.put(timer2);
+
+    final TimerInstance timer3 = new TimerInstance();
+    timer3.setElementInstanceKey(3L);
+    timer3.setKey(3L);
+    timer3.setDueDate(2000L);
+    state.put(timer3);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(
+            1000L,
+            timer2.getDueDate(),
+            timer2.getElementInstanceKey(),
+            timer2.getKey(),
+            t -> keys.add(t.getKey()));
+
+    // then
+    assertThat(keys).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(timer3.getDueDate());
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
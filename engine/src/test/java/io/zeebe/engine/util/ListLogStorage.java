@@ -88,7 +88,9 @@ public class ListLogStorage implements LogStorage {
       final ByteBuffer blockBuffer,
       final AppendListener listener) {
     try {
-      final var entry = new Entry(lowestPosition, highestPosition, blockBuffer);
+      // the block is only valid until it is written
+      final var copiedBlock = ByteBuffer.allocate(blockBuffer.remaining()).put(blockBuffer).flip();
+      final var entry = new Entry(lowestPosition, highestPosition, copiedBlock);
       entries.add(entry);
       final var index = entries.size();
       positionIndexMapping.put(lowestPosition, index);
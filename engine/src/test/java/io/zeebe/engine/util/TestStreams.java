@@ -70,6 +70,7 @@ public final class TestStreams {
   private final Map<String, LogContext> logContextMap = new HashMap<>();
   private final Map<String, ProcessorContext> streamContextMap = new HashMap<>();
   private StreamProcessor streamProcessor;
+  private int maxCommandsInBatch = 1;
 
   public TestStreams(
       final TemporaryFolder dataDirectory,
@@ -93,6 +94,10 @@ public final class TestStreams {
     mockOnProcessedListener = mock(Consumer.class);
   }
 
+  public void setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
   public CommandResponseWriter getMockedResponseWriter() {
     return mockCommandResponseWriter;
   }
@@ -218,6 +223,7 @@ public final class TestStreams {
             .actorScheduler(actorScheduler)
             .commandResponseWriter(mockCommandResponseWriter)
             .onProcessedListener(mockOnProcessedListener)
+            .maxCommandsInBatch(maxCommandsInBatch)
             .streamProcessorFactory(factory)
             .build();
     streamProcessor.openAsync().join(15, TimeUnit.SECONDS);
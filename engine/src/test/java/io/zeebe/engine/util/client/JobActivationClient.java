@@ -16,8 +16,8 @@ import io.zeebe.test.util.record.RecordingExporter;
 import java.util.function.BiFunction;
 
 public final class JobActivationClient {
+  public static final long DEFAULT_TIMEOUT = 10000L;
   private static final int DEFAULT_PARTITION = 1;
-  private static final long DEFAULT_TIMEOUT = 10000L;
   private static final String DEFAULT_WORKER = "defaultWorker";
   private static final int DEFAULT_MAX_ACTIVATE = 10;
 
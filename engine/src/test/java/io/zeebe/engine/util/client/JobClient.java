@@ -130,6 +130,12 @@ public final class JobClient {
     return expectation.apply(position);
   }
 
+  public Record<JobRecordValue> timeOut() {
+    final long jobKey = findJobKey();
+    final long position = environmentRule.writeCommand(jobKey, JobIntent.TIME_OUT, jobRecord);
+    return expectation.apply(position);
+  }
+
   public Record<JobRecordValue> updateRetries() {
     final long jobKey = findJobKey();
     final long position = environmentRule.writeCommand(jobKey, JobIntent.UPDATE_RETRIES, jobRecord);
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api;
+
+import io.zeebe.exporter.api.batch.RecordBatch;
+import io.zeebe.exporter.api.context.Controller;
+import io.zeebe.protocol.record.Record;
+
+/**
+ * An exporter which receives the records in batches instead of one by one. The records of a batch
+ * are views on the raw records, which are only deserialized if the exporter accesses them, so an
+ * exporter which forwards the raw records (e.g. to a message queue or a file) doesn't pay for the
+ * deserialization.
+ */
+public interface BatchExporter extends Exporter {
+
+  int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  /**
+   * The maximum number of records of a batch. A batch is exported as soon as no more records are
+   * available, so it can contain fewer records. This method is called once after {@link
+   * #configure(io.zeebe.exporter.api.context.Context)}.
+   *
+   * @return the maximum number of records of a batch
+   */
+  default int getMaxBatchSize() {
+    return DEFAULT_MAX_BATCH_SIZE;
+  }
+
+  /**
+   * Called at least once for every batch of records to be exported. The batch contains only the
+   * records which are accepted by the filter of the exporter. Once the batch is guaranteed to have
+   * been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} with {@link RecordBatch#getLastPosition()}
+   * to acknowledge the whole batch.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called with the
+   * same batch until it terminates without any exception. If the exporter can't accept the batch
+   * for now, it can throw an {@link ExportNotAcceptedException}; the method is then called again
+   * with the same batch after a short delay.
+   *
+   * <p>The batch and its records are only valid during the call. If the implementation needs to
+   * collect the records, it has to copy them, e.g. by {@link Record#clone()}.
+   *
+   * @param batch the records to export
+   */
+  void exportBatch(RecordBatch batch);
+
+  /**
+   * The broker doesn't call this method for batch exporters, it passes all records to {@link
+   * #exportBatch(RecordBatch)}. It is only called by code which exports record by record, e.g. a
+   * wrapping exporter, so the implementation decides how to export a single deserialized record.
+   *
+   * @param record the record to export
+   */
+  @Override
+  void export(Record record);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api;
+
+/**
+ * Signals that an exporter can't accept a record or a batch right now, e.g. because its buffers are
+ * full and it waits for its target to acknowledge previous records. It is not an error: the broker
+ * doesn't log it as an error and calls the exporter again with the same record or batch after a
+ * short delay, without backing off.
+ *
+ * <p>The exception doesn't fill in its stack trace, so it is cheap to throw.
+ */
+public final class ExportNotAcceptedException extends RuntimeException {
+  private static final long serialVersionUID = -3265164513856339813L;
+
+  public ExportNotAcceptedException(final String message) {
+    super(message, null, false, false);
+  }
+}
@@ -64,7 +64,9 @@ public interface Exporter {
    *
    * <p>Should the export method throw an unexpected {@link RuntimeException}, the method will be
    * called indefinitely until it terminates without any exception. It is up to the implementation
-   * to handle errors properly, to implement retry strategies, etc.
+   * to handle errors properly, to implement retry strategies, etc. If the exporter can't accept the
+   * record for now, it can throw an {@link ExportNotAcceptedException}; the method is then called
+   * again with the same record after a short delay.
    *
    * <p>Given Record just wraps the underlying internal buffer. This means if the implementation
    * needs to collect multiple records it either has to call {@link Record#toJson()} to get the
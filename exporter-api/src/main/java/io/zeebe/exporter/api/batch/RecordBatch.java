@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api.batch;
+
+/** A batch of records to export, ordered by their positions. */
+public interface RecordBatch extends Iterable<RecordView> {
+
+  /** @return the number of records of the batch */
+  int size();
+
+  /**
+   * @param index the index of the record, from 0 to {@link #size()} - 1
+   * @return the record at the given index
+   */
+  RecordView get(int index);
+
+  /**
+   * Returns the position up to which the records are covered by the batch. It can be higher than
+   * the position of the last record of the batch if the following records are not accepted by the
+   * filter of the exporter.
+   *
+   * @return the position to acknowledge once the batch is exported
+   */
+  long getLastPosition();
+}
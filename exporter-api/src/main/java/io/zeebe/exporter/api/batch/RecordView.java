@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api.batch;
+
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import org.agrona.DirectBuffer;
+
+/**
+ * A view on a raw record of the log. The header fields are read directly from the underlying
+ * buffer, while the metadata and the value are only deserialized when they are accessed.
+ */
+public interface RecordView {
+
+  /** @return the position of the record */
+  long getPosition();
+
+  /** @return the position of the record which caused this record, or -1 if there is none */
+  long getSourceRecordPosition();
+
+  /** @return the key of the record */
+  long getKey();
+
+  /** @return the unix timestamp at which the record was written */
+  long getTimestamp();
+
+  /** @return the partition ID on which the record was written */
+  int getPartitionId();
+
+  /** @return the type of the record (event, command or command rejection) */
+  RecordType getRecordType();
+
+  /** @return the type of the record value (e.g. job, workflow instance, etc.) */
+  ValueType getValueType();
+
+  /** @return the intent of the record */
+  Intent getIntent();
+
+  /**
+   * @return the metadata of the record, encoded with SBE as {@code RecordMetadata} of the protocol
+   */
+  DirectBuffer getMetadataBuffer();
+
+  /** @return the value of the record, encoded with MessagePack */
+  DirectBuffer getValueBuffer();
+
+  /**
+   * Deserializes the record. The returned record is only valid while the batch is exported.
+   *
+   * @return the deserialized record
+   */
+  Record<?> getRecord();
+}
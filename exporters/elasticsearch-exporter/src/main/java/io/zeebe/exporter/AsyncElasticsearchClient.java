@@ -0,0 +1,364 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.prometheus.client.Histogram;
+import io.zeebe.exporter.api.ExportNotAcceptedException;
+import io.zeebe.exporter.dto.BulkResponse;
+import io.zeebe.protocol.record.Record;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.slf4j.Logger;
+
+/**
+ * Sends the bulk requests asynchronously, without blocking the exporter on the round trip to
+ * Elasticsearch. The records are written as NDJSON directly into a reusable buffer, and up to
+ * {@code bulk.maxInFlightRequests} bulk requests are sent without waiting for their responses.
+ *
+ * <p>The position of a bulk is acknowledged only if the bulk and all bulks before it were indexed
+ * successfully. A failed bulk is sent again after a delay, which grows with every failed attempt.
+ * If the request itself failed, the whole bulk is sent again; if only some of its items were
+ * rejected, only these items are sent again.
+ *
+ * <p>The client never waits for a response. If too many bulks are in flight, the records are kept
+ * in the current bulk until it is full; then no more records are accepted until a bulk is
+ * acknowledged. The exporter signals this back pressure to the broker, which calls it again with
+ * the same record after a short delay, see {@link ExportNotAcceptedException}.
+ *
+ * <p>Except for the response callbacks, the client must only be used by the exporter's thread.
+ */
+public class AsyncElasticsearchClient extends ElasticsearchClient {
+
+  static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
+  static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private final Deque<BulkBuffer> freeBuffers = new ArrayDeque<>();
+  private final LongSupplier clock;
+  private BulkBuffer currentBulk = new BulkBuffer();
+  private long lastIndexedPosition = -1;
+  private long acknowledgedPosition = -1;
+
+  public AsyncElasticsearchClient(
+      final ElasticsearchExporterConfiguration configuration, final Logger log) {
+    super(configuration, log);
+    clock = System::currentTimeMillis;
+  }
+
+  AsyncElasticsearchClient(
+      final ElasticsearchExporterConfiguration configuration,
+      final Logger log,
+      final RestClient client,
+      final LongSupplier clock) {
+    super(configuration, log, client);
+    this.clock = clock;
+  }
+
+  /**
+   * Adds the record to the current bulk.
+   *
+   * @throws ExportNotAcceptedException if the current bulk is full and can't be sent because too
+   *     many bulks are in flight; the record is not added and must be indexed again later
+   */
+  @Override
+  public void index(final Record<?> record) {
+    if (record.getPosition() <= lastIndexedPosition) {
+      // the export of the record is retried, but it is already part of a bulk
+      return;
+    }
+
+    if (metrics == null) {
+      metrics = new ElasticsearchMetrics(record.getPartitionId());
+    }
+
+    if (shouldFlush() && !flush()) {
+      throw new ExportNotAcceptedException(
+          "Expected to add record to bulk, but the bulk is full and "
+              + inFlightBulks.size()
+              + " bulks are in flight");
+    }
+
+    checkRecord(record);
+
+    final int previousSize = currentBulk.size();
+    try (final JsonGenerator generator = MAPPER.getFactory().createGenerator(currentBulk)) {
+      generator.writeStartObject();
+      generator.writeObjectFieldStart("index");
+      generator.writeStringField("_index", indexFor(record));
+      generator.writeStringField("_type", typeFor(record));
+      generator.writeStringField("_id", idFor(record));
+      generator.writeStringField("routing", String.valueOf(record.getPartitionId()));
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+      generator.writeRaw(record.toJson());
+      generator.writeRaw('\n');
+    } catch (final IOException e) {
+      // don't send a partially written line
+      currentBulk.truncate(previousSize);
+      throw new ElasticsearchExporterException("Failed to serialize bulk request to JSON", e);
+    }
+
+    currentBulk.add(previousSize, record.getPosition());
+    lastIndexedPosition = record.getPosition();
+  }
+
+  @Override
+  public boolean shouldFlush() {
+    return currentBulk.getRecordsCount() >= configuration.bulk.size
+        || currentBulk.size() >= configuration.bulk.memoryLimit;
+  }
+
+  /**
+   * Sends the current bulk without waiting for the response. If too many bulks are in flight, the
+   * bulk is not sent and its records are kept for the next flush.
+   *
+   * @return true if the bulk was sent or was empty
+   */
+  @Override
+  public boolean flush() {
+    handleResponses();
+
+    if (currentBulk.getRecordsCount() == 0) {
+      return true;
+    }
+
+    if (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      return false;
+    }
+
+    metrics.recordBulkSize(currentBulk.getRecordsCount());
+    final InFlightBulk bulk = new InFlightBulk(currentBulk);
+    bulk.send();
+    inFlightBulks.addLast(bulk);
+
+    final BulkBuffer freeBuffer = freeBuffers.pollFirst();
+    currentBulk = freeBuffer != null ? freeBuffer : new BulkBuffer();
+    return true;
+  }
+
+  /**
+   * Handles the responses which arrived since the last call, and sends failed bulks again if their
+   * retry delay elapsed.
+   *
+   * @return the position of the last record which was indexed successfully, all records before it
+   *     were indexed too; or -1 if no bulk was acknowledged yet
+   */
+  public long getAcknowledgedPosition() {
+    handleResponses();
+    return acknowledgedPosition;
+  }
+
+  int getInFlightBulksCount() {
+    return inFlightBulks.size();
+  }
+
+  private void handleResponses() {
+    final long now = clock.getAsLong();
+    for (final InFlightBulk bulk : inFlightBulks) {
+      bulk.handleResponse(now);
+    }
+
+    while (!inFlightBulks.isEmpty() && inFlightBulks.peekFirst().isIndexed()) {
+      acknowledge(inFlightBulks.pollFirst());
+    }
+  }
+
+  private void acknowledge(final InFlightBulk bulk) {
+    acknowledgedPosition = bulk.buffer.getLastPosition();
+
+    bulk.buffer.reset();
+    freeBuffers.addLast(bulk.buffer);
+  }
+
+  private final class InFlightBulk {
+
+    private final BulkBuffer buffer;
+    private CompletableFuture<BulkResponse> response;
+    private boolean indexed;
+    private int failedAttempts;
+    private long retryAt = -1;
+
+    private InFlightBulk(final BulkBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    private void send() {
+      final Request request = new Request("POST", "/_bulk");
+      request.setEntity(buffer.toEntity());
+
+      response = new CompletableFuture<>();
+      client.performRequestAsync(
+          request, new BulkResponseListener(response, metrics.measureFlushDuration()));
+    }
+
+    private boolean isIndexed() {
+      return indexed;
+    }
+
+    private void handleResponse(final long now) {
+      if (retryAt >= 0) {
+        if (now >= retryAt) {
+          retryAt = -1;
+          send();
+        }
+        return;
+      }
+
+      if (indexed || !response.isDone()) {
+        return;
+      }
+
+      final BulkResponse bulkResponse;
+      try {
+        bulkResponse = response.getNow(null);
+      } catch (final CompletionException e) {
+        // the request failed, it was already logged by the listener
+        scheduleRetry(now);
+        return;
+      }
+
+      if (!bulkResponse.hasErrors()) {
+        indexed = true;
+        return;
+      }
+
+      final List<Integer> failedItems = bulkResponse.getFailedItems();
+      if (!failedItems.isEmpty() && bulkResponse.getItemsCount() == buffer.getRecordsCount()) {
+        log.warn(
+            "Failed to index {} of {} records of bulk, first error: {}",
+            failedItems.size(),
+            buffer.getRecordsCount(),
+            bulkResponse.getFirstError());
+        buffer.retainItems(failedItems);
+      } else {
+        log.warn("Failed to index bulk of {} records", buffer.getRecordsCount());
+      }
+
+      scheduleRetry(now);
+    }
+
+    private void scheduleRetry(final long now) {
+      final long delay =
+          Math.min(
+              MAX_RETRY_DELAY.toMillis(),
+              MIN_RETRY_DELAY.toMillis() << Math.min(failedAttempts, 16));
+      failedAttempts++;
+      retryAt = now + delay;
+    }
+  }
+
+  private final class BulkResponseListener implements ResponseListener {
+
+    private final CompletableFuture<BulkResponse> response;
+    private final Histogram.Timer timer;
+
+    private BulkResponseListener(
+        final CompletableFuture<BulkResponse> response, final Histogram.Timer timer) {
+      this.response = response;
+      this.timer = timer;
+    }
+
+    @Override
+    public void onSuccess(final Response response) {
+      timer.observeDuration();
+
+      try {
+        this.response.complete(
+            MAPPER.readValue(response.getEntity().getContent(), BulkResponse.class));
+      } catch (final IOException e) {
+        log.warn("Failed to read bulk response", e);
+        this.response.completeExceptionally(e);
+      }
+    }
+
+    @Override
+    public void onFailure(final Exception exception) {
+      timer.observeDuration();
+
+      log.warn("Failed to send bulk request", exception);
+      response.completeExceptionally(exception);
+    }
+  }
+
+  /** A bulk request body, written as NDJSON. */
+  static final class BulkBuffer extends ByteArrayOutputStream {
+
+    // the offset of the index command of each record
+    private int[] itemOffsets = new int[16];
+    private int recordsCount;
+    private long lastPosition = -1;
+
+    void add(final int offset, final long position) {
+      if (recordsCount == itemOffsets.length) {
+        itemOffsets = Arrays.copyOf(itemOffsets, recordsCount * 2);
+      }
+      itemOffsets[recordsCount++] = offset;
+      lastPosition = position;
+    }
+
+    int getRecordsCount() {
+      return recordsCount;
+    }
+
+    /**
+     * @return the position of the last record which was added, even if the record was removed by
+     *     {@link #retainItems(List)} since
+     */
+    long getLastPosition() {
+      return lastPosition;
+    }
+
+    void truncate(final int size) {
+      count = size;
+    }
+
+    /** Removes all records except the given ones, which must be in ascending order. */
+    void retainItems(final List<Integer> items) {
+      int size = 0;
+      for (int i = 0; i < items.size(); i++) {
+        final int item = items.get(i);
+        final int offset = itemOffsets[item];
+        final int end = item + 1 < recordsCount ? itemOffsets[item + 1] : count;
+
+        System.arraycopy(buf, offset, buf, size, end - offset);
+        itemOffsets[i] = size;
+        size += end - offset;
+      }
+
+      recordsCount = items.size();
+      count = size;
+    }
+
+    HttpEntity toEntity() {
+      return new ByteArrayEntity(buf, 0, count, CONTENT_TYPE_NDJSON);
+    }
+
+    @Override
+    public synchronized void reset() {
+      super.reset();
+      recordsCount = 0;
+      lastPosition = -1;
+    }
+  }
+}
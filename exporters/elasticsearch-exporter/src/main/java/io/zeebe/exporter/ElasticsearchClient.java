@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -31,11 +32,11 @@ import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
-import org.apache.http.nio.entity.NStringEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
@@ -51,21 +52,29 @@ public class ElasticsearchClient {
   public static final String INDEX_TEMPLATE_FILENAME_PATTERN = "/zeebe-record-%s-template.json";
   public static final String INDEX_DELIMITER = "_";
   public static final String ALIAS_DELIMITER = "-";
-  private static final ObjectMapper MAPPER = new ObjectMapper();
-  private static final ContentType CONTENT_TYPE_NDJSON = ContentType.create("application/x-ndjson");
+  static final ObjectMapper MAPPER = new ObjectMapper();
+  static final ContentType CONTENT_TYPE_NDJSON = ContentType.create("application/x-ndjson");
 
   protected final RestClient client;
-  private final ElasticsearchExporterConfiguration configuration;
-  private final Logger log;
+  protected final ElasticsearchExporterConfiguration configuration;
+  protected final Logger log;
+  protected ElasticsearchMetrics metrics;
   private final DateTimeFormatter formatter;
-  private List<String> bulkRequest;
-  private ElasticsearchMetrics metrics;
+  private List<byte[]> bulkRequest;
+  private int bulkMemorySize;
 
   public ElasticsearchClient(
       final ElasticsearchExporterConfiguration configuration, final Logger log) {
+    this(configuration, log, createClient(configuration));
+  }
+
+  ElasticsearchClient(
+      final ElasticsearchExporterConfiguration configuration,
+      final Logger log,
+      final RestClient client) {
     this.configuration = configuration;
     this.log = log;
-    this.client = createClient();
+    this.client = client;
     this.bulkRequest = new ArrayList<>();
     this.formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
   }
@@ -84,7 +93,7 @@ public class ElasticsearchClient {
   }
 
   @SuppressWarnings("unchecked")
-  private void checkRecord(final Record<?> record) {
+  protected void checkRecord(final Record<?> record) {
     if (record.getValueType() == ValueType.VARIABLE) {
       checkVariableRecordValue((Record<VariableRecordValue>) record);
     }
@@ -116,7 +125,11 @@ public class ElasticsearchClient {
           "Failed to serialize bulk request command to JSON", e);
     }
 
-    bulkRequest.add(serializedCommand + "\n" + record.toJson());
+    // the memory limit is given in bytes, so the size of the encoded line is counted
+    final byte[] bulkLine =
+        (serializedCommand + "\n" + record.toJson() + "\n").getBytes(StandardCharsets.UTF_8);
+    bulkRequest.add(bulkLine);
+    bulkMemorySize += bulkLine.length;
   }
 
   /** @return true if all bulk records where flushed successfully */
@@ -134,6 +147,7 @@ public class ElasticsearchClient {
       if (success) {
         // all records where flushed, create new bulk request, otherwise retry next time
         bulkRequest = new ArrayList<>();
+        bulkMemorySize = 0;
       }
     }
 
@@ -143,9 +157,13 @@ public class ElasticsearchClient {
   private boolean exportBulk() throws IOException {
     try (final Histogram.Timer timer = metrics.measureFlushDuration()) {
       final var request = new Request("POST", "/_bulk");
-      final var body =
-          new NStringEntity(String.join("\n", bulkRequest) + "\n", CONTENT_TYPE_NDJSON);
-      request.setEntity(body);
+      final byte[] body = new byte[bulkMemorySize];
+      int offset = 0;
+      for (final byte[] bulkLine : bulkRequest) {
+        System.arraycopy(bulkLine, 0, body, offset, bulkLine.length);
+        offset += bulkLine.length;
+      }
+      request.setEntity(new ByteArrayEntity(body, CONTENT_TYPE_NDJSON));
 
       final var response = client.performRequest(request);
       final var bulkResponse =
@@ -155,7 +173,8 @@ public class ElasticsearchClient {
   }
 
   public boolean shouldFlush() {
-    return bulkRequest.size() >= configuration.bulk.size;
+    return bulkRequest.size() >= configuration.bulk.size
+        || bulkMemorySize >= configuration.bulk.memoryLimit;
   }
 
   /** @return true if request was acknowledged */
@@ -208,26 +227,32 @@ public class ElasticsearchClient {
     }
   }
 
-  private RestClient createClient() {
+  private static RestClient createClient(final ElasticsearchExporterConfiguration configuration) {
     final HttpHost httpHost = urlToHttpHost(configuration.url);
     final RestClientBuilder builder =
-        RestClient.builder(httpHost).setHttpClientConfigCallback(this::setHttpClientConfigCallback);
+        RestClient.builder(httpHost)
+            .setHttpClientConfigCallback(
+                httpClientBuilder -> setHttpClientConfigCallback(configuration, httpClientBuilder));
 
     return builder.build();
   }
 
-  private HttpAsyncClientBuilder setHttpClientConfigCallback(final HttpAsyncClientBuilder builder) {
+  private static HttpAsyncClientBuilder setHttpClientConfigCallback(
+      final ElasticsearchExporterConfiguration configuration,
+      final HttpAsyncClientBuilder builder) {
     // use single thread for rest client
     builder.setDefaultIOReactorConfig(IOReactorConfig.custom().setIoThreadCount(1).build());
 
     if (configuration.hasAuthenticationPresent()) {
-      setupBasicAuthentication(builder);
+      setupBasicAuthentication(configuration, builder);
     }
 
     return builder;
   }
 
-  private void setupBasicAuthentication(final HttpAsyncClientBuilder builder) {
+  private static void setupBasicAuthentication(
+      final ElasticsearchExporterConfiguration configuration,
+      final HttpAsyncClientBuilder builder) {
     final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
     credentialsProvider.setCredentials(
         AuthScope.ANY,
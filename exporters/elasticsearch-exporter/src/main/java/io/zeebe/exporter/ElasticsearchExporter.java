@@ -28,8 +28,10 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchExporterConfiguration configuration;
 
   private ElasticsearchClient client;
+  private AsyncElasticsearchClient asyncClient;
 
   private long lastPosition = -1;
+  private long acknowledgedPosition = -1;
   private boolean indexTemplatesCreated;
 
   @Override
@@ -57,6 +59,9 @@ public class ElasticsearchExporter implements Exporter {
   public void open(final Controller controller) {
     this.controller = controller;
     client = createClient();
+    if (client instanceof AsyncElasticsearchClient) {
+      asyncClient = (AsyncElasticsearchClient) client;
+    }
 
     scheduleDelayedFlush();
     log.info("Exporter opened");
@@ -91,10 +96,15 @@ public class ElasticsearchExporter implements Exporter {
 
     if (client.shouldFlush()) {
       flush();
+    } else if (asyncClient != null) {
+      updateAcknowledgedPosition();
     }
   }
 
   protected ElasticsearchClient createClient() {
+    if (configuration.bulk.async) {
+      return new AsyncElasticsearchClient(configuration, log);
+    }
     return new ElasticsearchClient(configuration, log);
   }
 
@@ -113,13 +123,26 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    if (client.flush()) {
+    if (asyncClient != null) {
+      // the bulk is only sent, or kept if too many bulks are in flight; the position is updated
+      // when it is acknowledged
+      asyncClient.flush();
+      updateAcknowledgedPosition();
+    } else if (client.flush()) {
       controller.updateLastExportedRecordPosition(lastPosition);
     } else {
       log.warn("Failed to flush bulk completely");
     }
   }
 
+  private void updateAcknowledgedPosition() {
+    final long position = asyncClient.getAcknowledgedPosition();
+    if (position > acknowledgedPosition) {
+      acknowledgedPosition = position;
+      controller.updateLastExportedRecordPosition(position);
+    }
+  }
+
   private void createIndexTemplates() {
     final IndexConfiguration index = configuration.index;
 
@@ -166,10 +166,27 @@ public class ElasticsearchExporterConfiguration {
     public int delay = 5;
     // bulk size before flush
     public int size = 1_000;
+    // bulk memory size in bytes before flush
+    public int memoryLimit = 10 * 1024 * 1024;
+    // send bulks asynchronously without blocking the exporter
+    public boolean async = false;
+    // maximum number of bulks which are sent but not acknowledged yet (only if async)
+    public int maxInFlightRequests = 4;
 
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", memoryLimit="
+          + memoryLimit
+          + ", async="
+          + async
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
+          + '}';
     }
   }
 
@@ -8,12 +8,75 @@
 package io.zeebe.exporter.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public final class BulkResponse {
+  @JsonProperty("errors")
   private boolean errors;
 
+  @JsonProperty("items")
+  private List<BulkItem> items = Collections.emptyList();
+
   public boolean hasErrors() {
     return errors;
   }
+
+  public int getItemsCount() {
+    return items.size();
+  }
+
+  /** @return the indexes of the items which were not indexed, in ascending order */
+  public List<Integer> getFailedItems() {
+    final List<Integer> failedItems = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      if (items.get(i).hasFailed()) {
+        failedItems.add(i);
+      }
+    }
+    return failedItems;
+  }
+
+  /** @return the error of the first item which was not indexed, or null if all were indexed */
+  public BulkItemError getFirstError() {
+    for (final BulkItem item : items) {
+      if (item.hasFailed()) {
+        return item.index.error;
+      }
+    }
+    return null;
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static final class BulkItem {
+    @JsonProperty("index")
+    private BulkItemResult index;
+
+    private boolean hasFailed() {
+      return index != null && index.error != null;
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static final class BulkItemResult {
+    @JsonProperty("error")
+    private BulkItemError error;
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static final class BulkItemError {
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("reason")
+    private String reason;
+
+    @Override
+    public String toString() {
+      return "BulkItemError{" + "type='" + type + '\'' + ", reason='" + reason + '\'' + '}';
+    }
+  }
 }
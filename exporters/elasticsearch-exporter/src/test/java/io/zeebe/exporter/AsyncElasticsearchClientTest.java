@@ -0,0 +1,322 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.exporter.api.ExportNotAcceptedException;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.ValueType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.http.entity.ByteArrayEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
+
+public class AsyncElasticsearchClientTest {
+
+  private static final String SUCCESS_RESPONSE = "{\"errors\":false}";
+
+  private ElasticsearchExporterConfiguration configuration;
+  private RestClient restClient;
+  private AsyncElasticsearchClient client;
+  private long currentTime;
+
+  @Before
+  public void setUp() {
+    configuration = new ElasticsearchExporterConfiguration();
+    configuration.bulk.size = 2;
+    configuration.bulk.maxInFlightRequests = 2;
+
+    restClient = mock(RestClient.class);
+    client =
+        new AsyncElasticsearchClient(
+            configuration,
+            LoggerFactory.getLogger(AsyncElasticsearchClientTest.class),
+            restClient,
+            () -> currentTime);
+  }
+
+  @Test
+  public void shouldWriteBulkAsNdJson() throws IOException {
+    // given
+    client.index(newRecord(1));
+    client.index(newRecord(2));
+
+    // when
+    client.flush();
+
+    // then
+    final String body = requestBody(sentRequests(1).get(0));
+    final String[] lines = body.split("\n");
+
+    assertThat(body).endsWith("\n");
+    assertThat(lines).hasSize(4);
+    assertThat(lines[0]).contains("\"_id\":\"1-1\"").contains("\"routing\":\"1\"");
+    assertThat(lines[1]).isEqualTo("{\"position\":1}");
+    assertThat(lines[2]).contains("\"_id\":\"1-2\"");
+    assertThat(lines[3]).isEqualTo("{\"position\":2}");
+  }
+
+  @Test
+  public void shouldFlushIfBulkSizeReached() {
+    // when
+    client.index(newRecord(1));
+    final boolean shouldFlushFirst = client.shouldFlush();
+    client.index(newRecord(2));
+
+    // then
+    assertThat(shouldFlushFirst).isFalse();
+    assertThat(client.shouldFlush()).isTrue();
+  }
+
+  @Test
+  public void shouldFlushIfMemoryLimitReached() {
+    // given
+    configuration.bulk.memoryLimit = 10;
+
+    // when
+    client.index(newRecord(1));
+
+    // then
+    assertThat(client.shouldFlush()).isTrue();
+  }
+
+  @Test
+  public void shouldNotIndexRecordTwice() {
+    // given
+    client.index(newRecord(1));
+
+    // when
+    client.index(newRecord(1));
+
+    // then
+    assertThat(client.shouldFlush()).isFalse();
+  }
+
+  @Test
+  public void shouldNotWaitForResponse() {
+    // when
+    client.index(newRecord(1));
+    client.flush();
+    client.index(newRecord(2));
+    client.flush();
+
+    // then
+    sentRequests(2);
+    assertThat(client.getInFlightBulksCount()).isEqualTo(2);
+    assertThat(client.getAcknowledgedPosition()).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldAcknowledgeBulksInOrder() {
+    // given
+    client.index(newRecord(1));
+    client.flush();
+    client.index(newRecord(2));
+    client.flush();
+    final List<ResponseListener> listeners = responseListeners(2);
+
+    // when
+    listeners.get(1).onSuccess(newResponse(SUCCESS_RESPONSE));
+    final long acknowledgedBeforeFirstResponse = client.getAcknowledgedPosition();
+    listeners.get(0).onSuccess(newResponse(SUCCESS_RESPONSE));
+
+    // then
+    assertThat(acknowledgedBeforeFirstResponse).isEqualTo(-1);
+    assertThat(client.getAcknowledgedPosition()).isEqualTo(2);
+    assertThat(client.getInFlightBulksCount()).isZero();
+  }
+
+  @Test
+  public void shouldResendFailedBulkAfterDelay() throws IOException {
+    // given
+    client.index(newRecord(1));
+    client.flush();
+    responseListeners(1).get(0).onFailure(new IOException("expected"));
+
+    // when
+    client.getAcknowledgedPosition();
+    currentTime += AsyncElasticsearchClient.MIN_RETRY_DELAY.toMillis() - 1;
+    final long acknowledgedBeforeDelay = client.getAcknowledgedPosition();
+    sentRequests(1);
+
+    currentTime += 1;
+    client.getAcknowledgedPosition();
+
+    // then
+    assertThat(acknowledgedBeforeDelay).isEqualTo(-1);
+    assertThat(requestBody(sentRequests(2).get(1))).contains("\"_id\":\"1-1\"");
+    assertThat(client.getInFlightBulksCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldIncreaseDelayOnEveryFailedAttempt() {
+    // given
+    client.index(newRecord(1));
+    client.flush();
+    responseListeners(1).get(0).onFailure(new IOException("expected"));
+    client.getAcknowledgedPosition();
+    currentTime += AsyncElasticsearchClient.MIN_RETRY_DELAY.toMillis();
+    client.getAcknowledgedPosition();
+
+    // when
+    responseListeners(2).get(1).onFailure(new IOException("expected"));
+    client.getAcknowledgedPosition();
+    currentTime += AsyncElasticsearchClient.MIN_RETRY_DELAY.toMillis();
+    client.getAcknowledgedPosition();
+    sentRequests(2);
+
+    currentTime += AsyncElasticsearchClient.MIN_RETRY_DELAY.toMillis();
+    client.getAcknowledgedPosition();
+
+    // then
+    sentRequests(3);
+  }
+
+  @Test
+  public void shouldResendOnlyRejectedRecords() throws IOException {
+    // given
+    client.index(newRecord(1));
+    client.index(newRecord(2));
+    client.flush();
+    responseListeners(1)
+        .get(0)
+        .onSuccess(
+            newResponse(
+                "{\"errors\":true,\"items\":["
+                    + "{\"index\":{\"status\":201}},"
+                    + "{\"index\":{\"status\":429,\"error\":{\"type\":\"rejected\"}}}"
+                    + "]}"));
+    client.getAcknowledgedPosition();
+
+    // when
+    currentTime += AsyncElasticsearchClient.MIN_RETRY_DELAY.toMillis();
+    client.getAcknowledgedPosition();
+
+    // then
+    final String[] lines = requestBody(sentRequests(2).get(1)).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).contains("\"_id\":\"1-2\"");
+    assertThat(lines[1]).isEqualTo("{\"position\":2}");
+  }
+
+  @Test
+  public void shouldAcknowledgeBulkWhenRejectedRecordsAreIndexed() {
+    // given
+    client.index(newRecord(1));
+    client.index(newRecord(2));
+    client.flush();
+    responseListeners(1)
+        .get(0)
+        .onSuccess(
+            newResponse(
+                "{\"errors\":true,\"items\":["
+                    + "{\"index\":{\"status\":429,\"error\":{\"type\":\"rejected\"}}},"
+                    + "{\"index\":{\"status\":201}}"
+                    + "]}"));
+    final long acknowledgedAfterRejection = client.getAcknowledgedPosition();
+    currentTime += AsyncElasticsearchClient.MIN_RETRY_DELAY.toMillis();
+    client.getAcknowledgedPosition();
+
+    // when
+    responseListeners(2).get(1).onSuccess(newResponse(SUCCESS_RESPONSE));
+
+    // then
+    assertThat(acknowledgedAfterRejection).isEqualTo(-1);
+    assertThat(client.getAcknowledgedPosition()).isEqualTo(2);
+    assertThat(client.getInFlightBulksCount()).isZero();
+  }
+
+  @Test
+  public void shouldKeepRecordsIfTooManyBulksInFlight() {
+    // given
+    client.index(newRecord(1));
+    client.flush();
+    client.index(newRecord(2));
+    client.flush();
+    client.index(newRecord(3));
+
+    // when
+    final boolean flushedWhileSaturated = client.flush();
+    responseListeners(2).get(0).onSuccess(newResponse(SUCCESS_RESPONSE));
+    final boolean flushedAfterResponse = client.flush();
+
+    // then
+    assertThat(flushedWhileSaturated).isFalse();
+    assertThat(flushedAfterResponse).isTrue();
+    assertThat(sentRequests(3)).hasSize(3);
+    assertThat(client.getAcknowledgedPosition()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRejectRecordIfBulkIsFullAndTooManyBulksInFlight() {
+    // given
+    client.index(newRecord(1));
+    client.flush();
+    client.index(newRecord(2));
+    client.flush();
+    client.index(newRecord(3));
+    client.index(newRecord(4));
+
+    // when - then
+    assertThatThrownBy(() -> client.index(newRecord(5)))
+        .isInstanceOf(ExportNotAcceptedException.class);
+
+    responseListeners(2).get(0).onSuccess(newResponse(SUCCESS_RESPONSE));
+    client.index(newRecord(5));
+    sentRequests(3);
+    assertThat(client.shouldFlush()).isFalse();
+  }
+
+  private List<Request> sentRequests(final int count) {
+    final ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+    verify(restClient, times(count)).performRequestAsync(captor.capture(), any());
+    return captor.getAllValues();
+  }
+
+  private List<ResponseListener> responseListeners(final int count) {
+    final ArgumentCaptor<ResponseListener> captor = ArgumentCaptor.forClass(ResponseListener.class);
+    verify(restClient, times(count)).performRequestAsync(any(), captor.capture());
+    return captor.getAllValues();
+  }
+
+  private static String requestBody(final Request request) throws IOException {
+    return new String(request.getEntity().getContent().readAllBytes(), StandardCharsets.UTF_8);
+  }
+
+  private static Response newResponse(final String body) {
+    final Response response = mock(Response.class);
+    when(response.getEntity())
+        .thenReturn(new ByteArrayEntity(body.getBytes(StandardCharsets.UTF_8)));
+    return response;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Record<?> newRecord(final long position) {
+    final Record<?> record = mock(Record.class);
+    when(record.getPartitionId()).thenReturn(1);
+    when(record.getPosition()).thenReturn(position);
+    when(record.getValueType()).thenReturn(ValueType.JOB);
+    when(record.toJson()).thenReturn("{\"position\":" + position + "}");
+    return record;
+  }
+}
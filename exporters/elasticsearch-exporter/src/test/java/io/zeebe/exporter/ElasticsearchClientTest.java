@@ -63,6 +63,41 @@ public class ElasticsearchClientTest {
     verify(logSpy, never()).warn(anyString(), ArgumentMatchers.<Object[]>any());
   }
 
+  @Test
+  public void shouldFlushIfMemoryLimitReached() {
+    // given
+    configuration.bulk.memoryLimit = 10;
+
+    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    when(recordMock.getPartitionId()).thenReturn(1);
+    when(recordMock.getValueType()).thenReturn(ValueType.JOB);
+    when(recordMock.toJson()).thenReturn("{}");
+
+    // when
+    client.index(recordMock);
+
+    // then
+    assertThat(client.shouldFlush()).isTrue();
+  }
+
+  @Test
+  public void shouldCountMemorySizeInBytes() {
+    // given
+    configuration.bulk.memoryLimit = 2_000;
+
+    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    when(recordMock.getPartitionId()).thenReturn(1);
+    when(recordMock.getValueType()).thenReturn(ValueType.JOB);
+    // 1_000 characters, but 3_000 bytes in UTF-8
+    when(recordMock.toJson()).thenReturn("\"" + "\u20ac".repeat(998) + "\"");
+
+    // when
+    client.index(recordMock);
+
+    // then
+    assertThat(client.shouldFlush()).isTrue();
+  }
+
   @Test
   public void shouldLogWarnWhenIndexingLargeVariableValue() {
     // given
@@ -21,9 +21,11 @@ import io.zeebe.gateway.cmd.PartitionNotFoundException;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.impl.broker.request.BrokerJobBatchRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerError;
 import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
@@ -34,6 +36,8 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -42,6 +46,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
@@ -57,12 +64,16 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.msgpack.MsgpackPropertyException;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.util.VersionUtil;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
@@ -70,12 +81,17 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final LongPollingActivateJobsHandler activateJobsHandler;
+  // used to split job batch requests if the leader of the partition doesn't publish its limit
+  private final int maxMessageSize;
 
   public EndpointManager(
-      final BrokerClient brokerClient, final LongPollingActivateJobsHandler longPollingHandler) {
+      final BrokerClient brokerClient,
+      final LongPollingActivateJobsHandler longPollingHandler,
+      final int maxMessageSize) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     activateJobsHandler = longPollingHandler;
+    this.maxMessageSize = maxMessageSize;
   }
 
   private void addBrokerInfo(
@@ -143,6 +159,19 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    sendJobBatchRequests(
+        request,
+        request.getJobsCount(),
+        grpcRequest ->
+            RequestMapper.toCompleteJobsRequests(grpcRequest, this::getMaxJobBatchLength),
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -196,6 +225,17 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public void failJobs(
+      final FailJobsRequest request, final StreamObserver<FailJobsResponse> responseObserver) {
+    sendJobBatchRequests(
+        request,
+        request.getJobsCount(),
+        grpcRequest -> RequestMapper.toFailJobsRequests(grpcRequest, this::getMaxJobBatchLength),
+        ResponseMapper::toFailJobsResponse,
+        responseObserver);
+  }
+
   @Override
   public void throwError(
       final ThrowErrorRequest request, final StreamObserver<ThrowErrorResponse> responseObserver) {
@@ -332,6 +372,81 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         timeout);
   }
 
+  /**
+   * Sends a batch request to each partition of the jobs and responds when all partitions responded.
+   * A failed partition request fails only the jobs of that partition.
+   */
+  private <GrpcRequestT, GrpcResponseT> void sendJobBatchRequests(
+      final GrpcRequestT grpcRequest,
+      final int jobsCount,
+      final Function<GrpcRequestT, Collection<BrokerJobBatchRequest>> requestMapper,
+      final Function<List<JobResult>, GrpcResponseT> responseMapper,
+      final StreamObserver<GrpcResponseT> streamObserver) {
+
+    final Collection<BrokerJobBatchRequest> brokerRequests =
+        mapRequest(grpcRequest, requestMapper, streamObserver);
+    if (brokerRequests == null) {
+      return;
+    }
+
+    suppressCancelledException(grpcRequest, streamObserver);
+
+    final JobResult[] results = new JobResult[jobsCount];
+    final AtomicInteger remainingRequests = new AtomicInteger(brokerRequests.size());
+    for (final BrokerJobBatchRequest brokerRequest : brokerRequests) {
+      brokerClient.sendRequest(
+          brokerRequest,
+          (key, responses) -> {
+            for (int i = 0; i < brokerRequest.getJobsCount(); i++) {
+              final BrokerResponse<JobRecord> response = responses.get(i);
+              final Status status =
+                  response.isRejection()
+                      ? mapRejectionToStatus(response.getRejection())
+                      : Status.OK;
+              results[brokerRequest.getJobIndex(i)] =
+                  ResponseMapper.toJobResult(brokerRequest.getJobKey(i), status);
+            }
+            onJobBatchResponse(remainingRequests, results, responseMapper, streamObserver);
+          },
+          error -> {
+            final Status status = convertThrowable(error).getStatus();
+            for (int i = 0; i < brokerRequest.getJobsCount(); i++) {
+              results[brokerRequest.getJobIndex(i)] =
+                  ResponseMapper.toJobResult(brokerRequest.getJobKey(i), status);
+            }
+            onJobBatchResponse(remainingRequests, results, responseMapper, streamObserver);
+          });
+    }
+  }
+
+  /**
+   * The broker appends the commands of a job batch request at once, so they must fit into the max
+   * message size of the partition leader.
+   */
+  private int getMaxJobBatchLength(final int partitionId) {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology != null) {
+      final int leaderId = topology.getLeaderForPartition(partitionId);
+      final int leaderMaxMessageSize = topology.getBrokerMaxMessageSize(leaderId);
+      if (leaderMaxMessageSize != BrokerClusterState.UNKNOWN_MAX_MESSAGE_SIZE) {
+        return leaderMaxMessageSize;
+      }
+    }
+
+    return maxMessageSize;
+  }
+
+  private <GrpcResponseT> void onJobBatchResponse(
+      final AtomicInteger remainingRequests,
+      final JobResult[] results,
+      final Function<List<JobResult>, GrpcResponseT> responseMapper,
+      final StreamObserver<GrpcResponseT> streamObserver) {
+    if (remainingRequests.decrementAndGet() == 0) {
+      streamObserver.onNext(responseMapper.apply(Arrays.asList(results)));
+      streamObserver.onCompleted();
+    }
+  }
+
   private <GrpcRequestT, GrpcResponseT> void suppressCancelledException(
       final GrpcRequestT grpcRequest, final StreamObserver<GrpcResponseT> streamObserver) {
     final ServerCallStreamObserver<GrpcResponseT> serverObserver =
@@ -350,11 +465,11 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
     streamObserver.onCompleted();
   }
 
-  private <GrpcRequestT, BrokerResponseT, GrpcResponseT> BrokerRequest<BrokerResponseT> mapRequest(
+  private <GrpcRequestT, BrokerRequestT, GrpcResponseT> BrokerRequestT mapRequest(
       final GrpcRequestT grpcRequest,
-      final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
+      final Function<GrpcRequestT, BrokerRequestT> requestMapper,
       final StreamObserver<GrpcResponseT> streamObserver) {
-    final BrokerRequest<BrokerResponseT> brokerRequest;
+    final BrokerRequestT brokerRequest;
     try {
       brokerRequest = requestMapper.apply(grpcRequest);
     } catch (final MsgpackPropertyException e) {
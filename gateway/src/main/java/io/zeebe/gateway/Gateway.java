@@ -99,7 +99,11 @@ public final class Gateway {
     final LongPollingActivateJobsHandler longPollingHandler = buildLongPollingHandler(brokerClient);
     actorScheduler.submitActor(longPollingHandler);
 
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, longPollingHandler);
+    final EndpointManager endpointManager =
+        new EndpointManager(
+            brokerClient,
+            longPollingHandler,
+            (int) gatewayCfg.getNetwork().getMaxMessageSizeInBytes());
 
     final ServerBuilder serverBuilder = serverBuilderFactory.apply(gatewayCfg);
 
@@ -173,7 +177,10 @@ public final class Gateway {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setJobPushEnabled(gatewayCfg.getLongPolling().isJobPushEnabled())
+        .build();
   }
 
   public void listenAndServe() throws InterruptedException, IOException {
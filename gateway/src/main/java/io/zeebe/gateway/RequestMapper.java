@@ -7,6 +7,8 @@
  */
 package io.zeebe.gateway;
 
+import io.grpc.Status;
+import io.zeebe.gateway.cmd.GrpcStatusExceptionImpl;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCancelWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
@@ -14,6 +16,7 @@ import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerDeployWorkflowRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerJobBatchRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerResolveIncidentRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
@@ -22,10 +25,12 @@ import io.zeebe.gateway.impl.broker.request.BrokerUpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -33,8 +38,16 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowRequestObject;
 import io.zeebe.msgpack.value.DocumentValue;
+import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class RequestMapper {
@@ -85,6 +98,39 @@ public final class RequestMapper {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  public static Collection<BrokerJobBatchRequest> toCompleteJobsRequests(
+      final CompleteJobsRequest grpcRequest, final IntUnaryOperator maxBatchLength) {
+    ensureJobsSet(grpcRequest.getJobsCount());
+
+    final JobBatchRequests requests = new JobBatchRequests(JobIntent.COMPLETE, maxBatchLength);
+    for (int i = 0; i < grpcRequest.getJobsCount(); i++) {
+      final CompleteJobRequest job = grpcRequest.getJobs(i);
+      final JobRecord jobRecord = new JobRecord();
+      jobRecord.setVariables(ensureJsonSet(job.getVariables()));
+
+      requests.addJob(i, job.getJobKey(), jobRecord);
+    }
+
+    return requests.getRequests();
+  }
+
+  public static Collection<BrokerJobBatchRequest> toFailJobsRequests(
+      final FailJobsRequest grpcRequest, final IntUnaryOperator maxBatchLength) {
+    ensureJobsSet(grpcRequest.getJobsCount());
+
+    final JobBatchRequests requests = new JobBatchRequests(JobIntent.FAIL, maxBatchLength);
+    for (int i = 0; i < grpcRequest.getJobsCount(); i++) {
+      final FailJobRequest job = grpcRequest.getJobs(i);
+      final JobRecord jobRecord = new JobRecord();
+      jobRecord.setRetries(job.getRetries());
+      jobRecord.setErrorMessage(job.getErrorMessage());
+
+      requests.addJob(i, job.getJobKey(), jobRecord);
+    }
+
+    return requests.getRequests();
+  }
+
   public static BrokerCreateWorkflowInstanceRequest toCreateWorkflowInstanceRequest(
       final CreateWorkflowInstanceRequest grpcRequest) {
     final BrokerCreateWorkflowInstanceRequest brokerRequest =
@@ -151,6 +197,12 @@ public final class RequestMapper {
     return new BrokerResolveIncidentRequest(grpcRequest.getIncidentKey());
   }
 
+  private static void ensureJobsSet(final int jobsCount) {
+    if (jobsCount == 0) {
+      throw new GrpcStatusExceptionImpl("Expected at least one job", Status.INVALID_ARGUMENT);
+    }
+  }
+
   private static DirectBuffer ensureJsonSet(final String value) {
     if (value == null || value.trim().isEmpty()) {
       return DocumentValue.EMPTY_DOCUMENT;
@@ -158,4 +210,43 @@ public final class RequestMapper {
       return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(value));
     }
   }
+
+  /**
+   * Groups the jobs by partition. The broker writes the commands of a request with one append, so
+   * the jobs of a partition are split into several requests if they don't fit into the max batch
+   * length of the partition.
+   */
+  private static final class JobBatchRequests {
+
+    private final Int2ObjectHashMap<BrokerJobBatchRequest> partitionRequests =
+        new Int2ObjectHashMap<>();
+    private final List<BrokerJobBatchRequest> requests = new ArrayList<>();
+    private final JobIntent intent;
+    private final IntUnaryOperator maxBatchLength;
+
+    private JobBatchRequests(final JobIntent intent, final IntUnaryOperator maxBatchLength) {
+      this.intent = intent;
+      this.maxBatchLength = maxBatchLength;
+    }
+
+    private void addJob(final int jobIndex, final long jobKey, final JobRecord job) {
+      final int partitionId = Protocol.decodePartitionId(jobKey);
+      BrokerJobBatchRequest request = partitionRequests.get(partitionId);
+
+      final int commandLength = BrokerJobBatchRequest.getCommandLength(job);
+      if (request == null
+          || request.getBatchLength() + commandLength > maxBatchLength.applyAsInt(partitionId)) {
+        // a job which doesn't fit at all is sent alone, the broker rejects only this request
+        request = new BrokerJobBatchRequest(partitionId, intent);
+        partitionRequests.put(partitionId, request);
+        requests.add(request);
+      }
+
+      request.addJob(jobIndex, jobKey, job);
+    }
+
+    private List<BrokerJobBatchRequest> getRequests() {
+      return requests;
+    }
+  }
 }
@@ -10,14 +10,18 @@ package io.zeebe.gateway;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.grpc.Status;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
@@ -34,6 +38,7 @@ import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCrea
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceResultRecord;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
@@ -76,6 +81,25 @@ public final class ResponseMapper {
     return ThrowErrorResponse.getDefaultInstance();
   }
 
+  public static JobResult toJobResult(final long jobKey, final Status status) {
+    final JobResult.Builder result =
+        JobResult.newBuilder().setJobKey(jobKey).setCode(status.getCode().value());
+
+    if (status.getDescription() != null) {
+      result.setMessage(status.getDescription());
+    }
+
+    return result.build();
+  }
+
+  public static CompleteJobsResponse toCompleteJobsResponse(final List<JobResult> results) {
+    return CompleteJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
+  public static FailJobsResponse toFailJobsResponse(final List<JobResult> results) {
+    return FailJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static CompleteJobResponse toCompleteJobResponse(
       final long key, final JobRecord brokerResponse) {
     return CompleteJobResponse.getDefaultInstance();
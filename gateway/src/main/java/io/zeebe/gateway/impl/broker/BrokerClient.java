@@ -10,8 +10,11 @@ package io.zeebe.gateway.impl.broker;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.data.job.JobStreamPush;
+import io.zeebe.protocol.impl.data.job.JobStreamRegistration;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public interface BrokerClient extends AutoCloseable {
@@ -35,5 +38,23 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
-  void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+  /**
+   * Subscribes to the notifications of the brokers that jobs are available. The handler is called
+   * with the job type and the partition the jobs are available on.
+   */
+  void subscribeJobAvailableNotification(String topic, BiConsumer<String, Integer> handler);
+
+  /**
+   * Subscribes to the notifications of brokers of the previous release that jobs are available. The
+   * handler is called with the job type only.
+   */
+  void subscribeLegacyJobAvailableNotification(String topic, Consumer<String> handler);
+
+  /** Registers the given job stream on all known brokers. */
+  void registerJobStream(JobStreamRegistration registration);
+
+  /** Removes the job stream with the given id from all known brokers. */
+  void removeJobStream(long streamId);
+
+  void subscribeJobStreamPush(Consumer<JobStreamPush> handler);
 }
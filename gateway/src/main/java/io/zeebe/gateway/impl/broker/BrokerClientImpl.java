@@ -10,25 +10,36 @@ package io.zeebe.gateway.impl.broker;
 import io.atomix.cluster.AtomixCluster;
 import io.atomix.cluster.ClusterMembershipEvent;
 import io.atomix.cluster.ClusterMembershipEvent.Type;
+import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.Subscription;
 import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.configuration.ClusterCfg;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.protocol.impl.data.job.JobStreamPush;
+import io.zeebe.protocol.impl.data.job.JobStreamRegistration;
+import io.zeebe.protocol.impl.data.job.JobsAvailableNotification;
 import io.zeebe.transport.impl.AtomixClientTransportAdapter;
+import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.exception.UncheckedExecutionException;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 public final class BrokerClientImpl implements BrokerClient {
@@ -43,6 +54,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final BrokerRequestManager requestManager;
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
+  private Subscription legacyJobAvailableSubscription;
+  private boolean hasJobStreamPushSubscription;
 
   public BrokerClientImpl(final GatewayCfg configuration, final AtomixCluster atomixCluster) {
     this(configuration, atomixCluster, null);
@@ -116,6 +129,14 @@ public final class BrokerClientImpl implements BrokerClient {
       jobAvailableSubscription.close();
     }
 
+    if (legacyJobAvailableSubscription != null) {
+      legacyJobAvailableSubscription.close();
+    }
+
+    if (hasJobStreamPushSubscription) {
+      atomixCluster.getCommunicationService().unsubscribe(JobStreamPush.SUBJECT);
+    }
+
     if (ownsActorScheduler) {
       try {
         actorScheduler.stop().get(15, TimeUnit.SECONDS);
@@ -168,8 +189,27 @@ public final class BrokerClientImpl implements BrokerClient {
 
   @Override
   public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
+      final String topic, final BiConsumer<String, Integer> handler) {
     jobAvailableSubscription =
+        atomixCluster
+            .getEventService()
+            .subscribe(
+                topic,
+                msg -> {
+                  final JobsAvailableNotification notification = new JobsAvailableNotification();
+                  notification.wrap(new UnsafeBuffer((byte[]) msg));
+                  handler.accept(
+                      BufferUtil.bufferAsString(notification.getType()),
+                      notification.getPartitionId());
+                  return CompletableFuture.completedFuture(null);
+                })
+            .join();
+  }
+
+  @Override
+  public void subscribeLegacyJobAvailableNotification(
+      final String topic, final Consumer<String> handler) {
+    legacyJobAvailableSubscription =
         atomixCluster
             .getEventService()
             .subscribe(
@@ -181,6 +221,56 @@ public final class BrokerClientImpl implements BrokerClient {
             .join();
   }
 
+  @Override
+  public void registerJobStream(final JobStreamRegistration registration) {
+    final byte[] bytes = new byte[registration.getLength()];
+    registration.write(new UnsafeBuffer(bytes), 0);
+
+    atomixCluster
+        .getCommunicationService()
+        .multicast(
+            JobStreamRegistration.REGISTER_SUBJECT,
+            bytes,
+            Function.identity(),
+            getBrokerMembers(),
+            true);
+  }
+
+  @Override
+  public void removeJobStream(final long streamId) {
+    atomixCluster
+        .getCommunicationService()
+        .multicast(JobStreamRegistration.REMOVE_SUBJECT, streamId, getBrokerMembers());
+  }
+
+  @Override
+  public void subscribeJobStreamPush(final Consumer<JobStreamPush> handler) {
+    atomixCluster
+        .getCommunicationService()
+        .subscribe(
+            JobStreamPush.SUBJECT,
+            bytes -> {
+              final JobStreamPush push = new JobStreamPush();
+              push.wrap(new UnsafeBuffer(bytes));
+              return push;
+            },
+            handler,
+            Runnable::run)
+        .join();
+    hasJobStreamPushSubscription = true;
+  }
+
+  private Set<MemberId> getBrokerMembers() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null) {
+      return Set.of();
+    }
+
+    return topology.getBrokers().stream()
+        .map(nodeId -> MemberId.from(String.valueOf(nodeId)))
+        .collect(Collectors.toSet());
+  }
+
   private void doAndLogException(final Runnable r) {
     try {
       r.run();
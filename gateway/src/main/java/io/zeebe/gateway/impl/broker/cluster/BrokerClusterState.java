@@ -14,6 +14,7 @@ public interface BrokerClusterState {
   int UNKNOWN_NODE_ID = -1;
   int NODE_ID_NULL = UNKNOWN_NODE_ID - 1;
   int PARTITION_ID_NULL = NODE_ID_NULL - 1;
+  int UNKNOWN_MAX_MESSAGE_SIZE = 0;
 
   int getClusterSize();
 
@@ -37,4 +38,10 @@ public interface BrokerClusterState {
   int getPartition(int index);
 
   String getBrokerVersion(int brokerId);
+
+  /**
+   * @return the max message size which the broker accepts or {@link #UNKNOWN_MAX_MESSAGE_SIZE} if
+   *     the broker doesn't publish it
+   */
+  int getBrokerMaxMessageSize(int brokerId);
 }
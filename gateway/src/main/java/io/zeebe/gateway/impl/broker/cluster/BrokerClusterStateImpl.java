@@ -21,6 +21,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
   private final Int2ObjectHashMap<List<Integer>> partitionFollowers;
   private final Int2ObjectHashMap<String> brokerAddresses;
   private final Int2ObjectHashMap<String> brokerVersions;
+  private final Int2IntHashMap brokerMaxMessageSizes;
   private final IntArrayList brokers;
   private final IntArrayList partitions;
   private final Random randomBroker;
@@ -36,6 +37,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
       partitionFollowers.putAll(topology.partitionFollowers);
       brokerAddresses.putAll(topology.brokerAddresses);
       brokerVersions.putAll(topology.brokerVersions);
+      brokerMaxMessageSizes.putAll(topology.brokerMaxMessageSizes);
 
       brokers.addAll(topology.brokers);
       partitions.addAll(topology.partitions);
@@ -52,6 +54,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     partitionFollowers = new Int2ObjectHashMap<>();
     brokerAddresses = new Int2ObjectHashMap<>();
     brokerVersions = new Int2ObjectHashMap<>();
+    brokerMaxMessageSizes = new Int2IntHashMap(UNKNOWN_MAX_MESSAGE_SIZE);
     brokers = new IntArrayList(5, NODE_ID_NULL);
     partitions = new IntArrayList(32, PARTITION_ID_NULL);
     randomBroker = new Random();
@@ -94,9 +97,16 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     brokerVersions.computeIfPresent(brokerId, (k, v) -> version);
   }
 
+  public void setBrokerMaxMessageSizeIfPresent(final int brokerId, final int maxMessageSize) {
+    if (brokerAddresses.containsKey(brokerId)) {
+      brokerMaxMessageSizes.put(brokerId, maxMessageSize);
+    }
+  }
+
   public void removeBroker(final int brokerId) {
     brokerAddresses.remove(brokerId);
     brokerVersions.remove(brokerId);
+    brokerMaxMessageSizes.remove(brokerId);
     brokers.removeInt(brokerId);
     partitions.forEachOrderedInt(
         partitionId -> {
@@ -185,6 +195,11 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     return brokerVersions.get(brokerId);
   }
 
+  @Override
+  public int getBrokerMaxMessageSize(final int brokerId) {
+    return brokerMaxMessageSizes.get(brokerId);
+  }
+
   @Override
   public String toString() {
     return "BrokerClusterStateImpl{"
@@ -138,5 +138,10 @@ public final class BrokerTopologyManagerImpl extends Actor
     }
 
     newTopology.setBrokerVersionIfPresent(nodeId, distributedBrokerInfo.getVersion());
+
+    final int maxMessageSize = distributedBrokerInfo.getMaxMessageSize();
+    if (maxMessageSize > 0) {
+      newTopology.setBrokerMaxMessageSizeIfPresent(nodeId, maxMessageSize);
+    }
   }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker.request;
+
+import io.zeebe.gateway.cmd.IllegalBrokerResponseException;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * Sends many job commands with the same intent to one partition. The response contains a broker
+ * response per job, which is either the job record or the rejection of the command.
+ *
+ * <p>The broker writes all commands of the request with one append, so the commands must fit into
+ * one fragment of the log, see {@link #getBatchLength()}.
+ */
+public final class BrokerJobBatchRequest extends BrokerRequest<List<BrokerResponse<JobRecord>>> {
+
+  // a generous estimate of the log entry header and the record metadata of a command
+  private static final int COMMAND_HEADER_LENGTH = 256;
+
+  private final ExecuteCommandBatchRequest request = new ExecuteCommandBatchRequest();
+  private final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+  private final ExecuteCommandResponse jobResponse = new ExecuteCommandResponse();
+  private final List<JobRecord> jobs = new ArrayList<>();
+  private final LongArrayList jobKeys = new LongArrayList();
+  private final IntArrayList jobIndexes = new IntArrayList();
+  private final JobValuesWriter jobValuesWriter = new JobValuesWriter();
+  private int batchLength;
+
+  public BrokerJobBatchRequest(final int partitionId, final Intent intent) {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+    request.setPartitionId(partitionId).setValueType(ValueType.JOB).setIntent(intent);
+  }
+
+  /**
+   * Adds the command for a job.
+   *
+   * @param jobIndex the position of the job in the client request, to map the response back
+   * @param jobKey the key of the job
+   * @param job the value of the job command
+   */
+  public BrokerJobBatchRequest addJob(final int jobIndex, final long jobKey, final JobRecord job) {
+    jobs.add(job);
+    jobKeys.addLong(jobKey);
+    jobIndexes.addInt(jobIndex);
+    batchLength += getCommandLength(job);
+    return this;
+  }
+
+  public int getJobsCount() {
+    return jobKeys.size();
+  }
+
+  public int getJobIndex(final int index) {
+    return jobIndexes.getInt(index);
+  }
+
+  public long getJobKey(final int index) {
+    return jobKeys.getLong(index);
+  }
+
+  /** @return the estimated length of the commands of this request in the log of the broker */
+  public int getBatchLength() {
+    return batchLength;
+  }
+
+  /** @return the estimated length of the command for the given job in the log of the broker */
+  public static int getCommandLength(final JobRecord job) {
+    return job.getLength() + COMMAND_HEADER_LENGTH;
+  }
+
+  public Intent getIntent() {
+    return request.getIntent();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return request.getPartitionId();
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    request.setPartitionId(partitionId);
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return true;
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  @Override
+  public BufferWriter getRequestWriter() {
+    return jobValuesWriter;
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    // the buffer contains the values of the jobs one after another, see JobValuesWriter
+    final int partitionId = request.getPartitionId();
+    final Intent intent = request.getIntent();
+    request.reset().setPartitionId(partitionId).setValueType(ValueType.JOB).setIntent(intent);
+
+    int offset = 0;
+    for (int i = 0; i < jobs.size(); i++) {
+      final int length = jobs.get(i).getLength();
+      request.addCommand(jobKeys.getLong(i), buffer, offset, length);
+      offset += length;
+    }
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    response.wrap(buffer, 0, buffer.capacity());
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<JobRecord>>> readResponse() {
+    return new BrokerResponse<>(readJobResponses(), getPartitionId(), -1);
+  }
+
+  @Override
+  protected List<BrokerResponse<JobRecord>> toResponseDto(final DirectBuffer buffer) {
+    wrapResponse(buffer);
+    return readJobResponses();
+  }
+
+  private List<BrokerResponse<JobRecord>> readJobResponses() {
+    final int jobsCount = getJobsCount();
+    if (response.getResponsesCount() != jobsCount) {
+      throw new IllegalBrokerResponseException(
+          String.format(
+              "Expected a response for each of the %d jobs, but got %d responses",
+              jobsCount, response.getResponsesCount()));
+    }
+
+    final List<BrokerResponse<JobRecord>> jobResponses = new ArrayList<>(jobsCount);
+    for (int i = 0; i < jobsCount; i++) {
+      final DirectBuffer buffer = response.getResponse(i);
+      jobResponse.wrap(buffer, 0, buffer.capacity());
+
+      if (jobResponse.getRecordType() == RecordType.COMMAND_REJECTION) {
+        final BrokerRejection rejection =
+            new BrokerRejection(
+                getIntent(),
+                getJobKey(i),
+                jobResponse.getRejectionType(),
+                jobResponse.getRejectionReason());
+        jobResponses.add(new BrokerRejectionResponse<>(rejection));
+      } else {
+        // the broker omits the values of the responses to bound the length of the batch response
+        final JobRecord job = new JobRecord();
+        final DirectBuffer value = jobResponse.getValue();
+        if (value.capacity() > 0) {
+          job.wrap(value);
+        }
+        jobResponses.add(new BrokerResponse<>(job, getPartitionId(), jobResponse.getKey()));
+      }
+    }
+
+    return jobResponses;
+  }
+
+  @Override
+  public int getLength() {
+    return request.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    request.write(buffer, offset);
+  }
+
+  /** Writes the values of the jobs one after another. */
+  private final class JobValuesWriter implements BufferWriter {
+
+    @Override
+    public int getLength() {
+      int length = 0;
+      for (final JobRecord job : jobs) {
+        length += job.getLength();
+      }
+      return length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      int jobOffset = offset;
+      for (final JobRecord job : jobs) {
+        job.write(buffer, jobOffset);
+        jobOffset += job.getLength();
+      }
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker.request;
+
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import org.agrona.DirectBuffer;
+
+public final class BrokerTimeOutJobRequest extends BrokerExecuteCommand<JobRecord> {
+
+  private final JobRecord requestDto = new JobRecord();
+
+  public BrokerTimeOutJobRequest(final long key) {
+    super(ValueType.JOB, JobIntent.TIME_OUT);
+    request.setKey(key);
+  }
+
+  @Override
+  public JobRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected JobRecord toResponseDto(final DirectBuffer buffer) {
+    final JobRecord responseDto = new JobRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
@@ -32,5 +32,7 @@ public final class ConfigurationDefaults {
 
   public static final int DEFAULT_MANAGEMENT_THREADS = 1;
 
+  public static final boolean DEFAULT_JOB_PUSH_ENABLED = false;
+
   public static final String DEFAULT_KEEP_ALIVE_INTERVAL = "30s";
 }
@@ -24,6 +24,7 @@ public class GatewayCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private MonitoringCfg monitoring = new MonitoringCfg();
   private SecurityCfg security = new SecurityCfg();
+  private LongPollingCfg longPolling = new LongPollingCfg();
   private boolean initialized = false;
 
   public void init() {
@@ -85,9 +86,18 @@ public class GatewayCfg {
     return this;
   }
 
+  public LongPollingCfg getLongPolling() {
+    return longPolling;
+  }
+
+  public GatewayCfg setLongPolling(final LongPollingCfg longPolling) {
+    this.longPolling = longPolling;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, monitoring, security);
+    return Objects.hash(network, cluster, threads, monitoring, security, longPolling);
   }
 
   @Override
@@ -103,7 +113,8 @@ public class GatewayCfg {
         && Objects.equals(cluster, that.cluster)
         && Objects.equals(threads, that.threads)
         && Objects.equals(monitoring, that.monitoring)
-        && Objects.equals(security, that.security);
+        && Objects.equals(security, that.security)
+        && Objects.equals(longPolling, that.longPolling);
   }
 
   @Override
@@ -119,6 +130,8 @@ public class GatewayCfg {
         + monitoring
         + ", securityCfg="
         + security
+        + ", longPollingCfg="
+        + longPolling
         + '}';
   }
 
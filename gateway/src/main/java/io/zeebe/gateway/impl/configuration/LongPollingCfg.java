@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.configuration;
+
+import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_JOB_PUSH_ENABLED;
+
+import java.util.Objects;
+
+public final class LongPollingCfg {
+
+  private boolean jobPushEnabled = DEFAULT_JOB_PUSH_ENABLED;
+
+  public boolean isJobPushEnabled() {
+    return jobPushEnabled;
+  }
+
+  public LongPollingCfg setJobPushEnabled(final boolean jobPushEnabled) {
+    this.jobPushEnabled = jobPushEnabled;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(jobPushEnabled);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final LongPollingCfg that = (LongPollingCfg) o;
+    return jobPushEnabled == that.jobPushEnabled;
+  }
+
+  @Override
+  public String toString() {
+    return "LongPollingCfg{" + "jobPushEnabled=" + jobPushEnabled + '}';
+  }
+}
@@ -12,12 +12,16 @@ import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.Objects;
+import org.springframework.util.unit.DataSize;
 
 public final class NetworkCfg {
 
+  public static final DataSize DEFAULT_MAX_MESSAGE_SIZE = DataSize.ofMegabytes(4);
+
   private String host;
   private int port = DEFAULT_PORT;
   private Duration minKeepAliveInterval = Duration.ofSeconds(30);
+  private DataSize maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
 
   public void init(final String defaultHost) {
     if (host == null) {
@@ -52,6 +56,19 @@ public final class NetworkCfg {
     return this;
   }
 
+  public long getMaxMessageSizeInBytes() {
+    return maxMessageSize.toBytes();
+  }
+
+  public DataSize getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
+  public NetworkCfg setMaxMessageSize(final DataSize maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+    return this;
+  }
+
   public InetSocketAddress toSocketAddress() {
     return new InetSocketAddress(host, port);
   }
@@ -83,6 +100,8 @@ public final class NetworkCfg {
         + port
         + ", minKeepAliveInterval="
         + minKeepAliveInterval
+        + ", maxMessageSize="
+        + maxMessageSize
         + '}';
   }
 }
@@ -14,6 +14,7 @@ import io.zeebe.gateway.Loggers;
 import io.zeebe.gateway.ResponseMapper;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.metrics.JobActivationMetrics;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,9 +24,16 @@ public final class ActivateJobsHandler {
 
   private final Map<String, Integer> jobTypeToNextPartitionId = new HashMap<>();
   private final BrokerClient brokerClient;
+  private final PartitionJobAvailability partitionJobAvailability;
 
   public ActivateJobsHandler(final BrokerClient brokerClient) {
     this.brokerClient = brokerClient;
+    partitionJobAvailability = new PartitionJobAvailability(new JobActivationMetrics());
+  }
+
+  /** Marks the partition as having jobs of the given type, which are queried first. */
+  public void jobsAvailable(final String jobType, final int partitionId) {
+    partitionJobAvailability.jobsAvailable(jobType, partitionId);
   }
 
   public void activateJobs(
@@ -80,7 +88,10 @@ public final class ActivateJobsHandler {
                 ResponseMapper.toActivateJobsResponse(key, response);
             final int jobsCount = grpcResponse.getJobsCount();
             if (jobsCount > 0) {
+              partitionJobAvailability.jobsActivated(jobType, partitionId);
               onResponse.accept(grpcResponse);
+            } else {
+              partitionJobAvailability.noJobsActivated(jobType, partitionId);
             }
 
             activateJobs(
@@ -119,6 +130,6 @@ public final class ActivateJobsHandler {
   private PartitionIdIterator partitionIdIteratorForType(
       final String jobType, final int partitionsCount) {
     final Integer nextPartitionId = jobTypeToNextPartitionId.computeIfAbsent(jobType, t -> 0);
-    return new PartitionIdIterator(nextPartitionId, partitionsCount);
+    return partitionJobAvailability.partitionIds(jobType, nextPartitionId, partitionsCount);
   }
 }
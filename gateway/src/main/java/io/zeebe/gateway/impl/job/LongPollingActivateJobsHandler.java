@@ -11,24 +11,36 @@ import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
 
 import io.grpc.stub.StreamObserver;
 import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.ResponseMapper;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerTimeOutJobRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.metrics.LongPollingMetrics;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.msgpack.value.StringValue;
+import io.zeebe.protocol.impl.data.job.JobStreamPush;
+import io.zeebe.protocol.impl.data.job.JobStreamRegistration;
+import io.zeebe.protocol.impl.data.job.JobsAvailableNotification;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
 public final class LongPollingActivateJobsHandler extends Actor {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
 
   private final ActivateJobsHandler activateJobsHandler;
@@ -42,16 +54,24 @@ public final class LongPollingActivateJobsHandler extends Actor {
 
   private final LongPollingMetrics metrics;
 
+  // if enabled, the blocked requests register a job stream on the brokers which push the jobs
+  private final boolean jobPushEnabled;
+  private final Map<Long, LongPollingActivateJobsRequest> jobStreams = new HashMap<>();
+  private final JobStreamRegistration jobStreamRegistration = new JobStreamRegistration();
+  private long nextJobStreamId;
+
   private LongPollingActivateJobsHandler(
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int emptyResponseThreshold) {
+      final int emptyResponseThreshold,
+      final boolean jobPushEnabled) {
     this.brokerClient = brokerClient;
     this.activateJobsHandler = new ActivateJobsHandler(brokerClient);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.emptyResponseThreshold = emptyResponseThreshold;
+    this.jobPushEnabled = jobPushEnabled;
     metrics = new LongPollingMetrics();
   }
 
@@ -62,7 +82,13 @@ public final class LongPollingActivateJobsHandler extends Actor {
 
   @Override
   protected void onActorStarted() {
-    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
+    brokerClient.subscribeJobAvailableNotification(
+        JobsAvailableNotification.TOPIC, this::onNotification);
+    brokerClient.subscribeLegacyJobAvailableNotification(
+        JobsAvailableNotification.LEGACY_TOPIC, this::onLegacyNotification);
+    if (jobPushEnabled) {
+      brokerClient.subscribeJobStreamPush(this::onJobsPushed);
+    }
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
   }
 
@@ -102,7 +128,16 @@ public final class LongPollingActivateJobsHandler extends Actor {
     }
   }
 
-  private void onNotification(final String jobType) {
+  private void onNotification(final String jobType, final int partitionId) {
+    LOG.trace(
+        "Received jobs available notification for type {} on partition {}.", jobType, partitionId);
+    activateJobsHandler.jobsAvailable(jobType, partitionId);
+    actor.call(() -> jobsAvailable(jobType));
+  }
+
+  private void onLegacyNotification(final String jobType) {
+    // brokers of the previous release don't send the partition, so only the requests are unblocked;
+    // the brokers of this release notify on both topics, which unblocks the requests only once
     LOG.trace("Received jobs available notification for type {}.", jobType);
     actor.call(() -> jobsAvailable(jobType));
   }
@@ -135,6 +170,11 @@ public final class LongPollingActivateJobsHandler extends Actor {
   }
 
   private void jobsAvailable(final String jobType) {
+    if (jobPushEnabled) {
+      // the blocked requests have a job stream, the brokers push the jobs to them
+      return;
+    }
+
     final JobTypeAvailabilityState removedState = jobTypeState.remove(jobType);
     if (removedState != null) {
       unblockRequests(removedState);
@@ -174,6 +214,9 @@ public final class LongPollingActivateJobsHandler extends Actor {
       if (!request.hasScheduledTimer()) {
         addTimeOut(state, request);
       }
+      if (jobPushEnabled && !request.hasJobStream()) {
+        registerJobStream(request);
+      }
     }
   }
 
@@ -191,6 +234,7 @@ public final class LongPollingActivateJobsHandler extends Actor {
                   request.getType(),
                   requestTimeout);
               state.removeBlockedRequest(request);
+              removeJobStream(request);
               request.timeout();
             });
     request.setScheduledTimer(timeout);
@@ -205,6 +249,7 @@ public final class LongPollingActivateJobsHandler extends Actor {
 
             final LongPollingActivateJobsRequest probeRequest = state.pollBlockedRequests();
             if (probeRequest != null) {
+              removeJobStream(probeRequest);
               activateJobsUnchecked(probeRequest);
             } else {
               // there are no blocked requests, so use next request as probe
@@ -216,6 +261,121 @@ public final class LongPollingActivateJobsHandler extends Actor {
         });
   }
 
+  private void registerJobStream(final LongPollingActivateJobsRequest request) {
+    final long streamId = nextJobStreamId++;
+    final JobBatchRecord command = request.getRequest().getRequestWriter();
+
+    jobStreamRegistration.reset();
+    jobStreamRegistration
+        .setStreamId(streamId)
+        .setMaxJobsToActivate(request.getMaxJobsToActivate())
+        .setType(command.getTypeBuffer())
+        .setWorker(command.getWorkerBuffer())
+        .setTimeout(command.getTimeout());
+    for (final StringValue variable : command.variables()) {
+      jobStreamRegistration.variables().add().wrap(variable);
+    }
+
+    request.setJobStreamId(streamId);
+    jobStreams.put(streamId, request);
+    brokerClient.registerJobStream(jobStreamRegistration);
+  }
+
+  private void removeJobStream(final LongPollingActivateJobsRequest request) {
+    if (request.hasJobStream()) {
+      final long streamId = request.getJobStreamId();
+      request.clearJobStreamId();
+      jobStreams.remove(streamId);
+      brokerClient.removeJobStream(streamId);
+    }
+  }
+
+  private void onJobsPushed(final JobStreamPush push) {
+    actor.run(() -> handleJobsPushed(push.getStreamId(), push.getResponse()));
+  }
+
+  private void handleJobsPushed(final long streamId, final DirectBuffer pushedResponse) {
+    final BrokerResponse<JobBatchRecord> response =
+        new BrokerActivateJobsRequest("").getResponse(pushedResponse);
+    if (!response.isResponse()) {
+      LOG.debug("Expected pushed jobs for job stream {}, but got {}", streamId, response);
+      return;
+    }
+
+    final JobBatchRecord jobBatch = response.getResponse();
+    final JobTypeAvailabilityState state = jobTypeState.get(jobBatch.getType());
+
+    LongPollingActivateJobsRequest request = jobStreams.get(streamId);
+    if (request != null) {
+      removeJobStream(request);
+      if (state != null) {
+        state.removeBlockedRequest(request);
+      }
+    }
+
+    if ((request == null || request.isCanceled()) && state != null) {
+      // the request is gone, hand the jobs over to another blocked request which would have
+      // activated them the same way
+      request = pollMatchingRequest(state, jobBatch);
+      if (request != null) {
+        removeJobStream(request);
+      }
+    }
+
+    if (request == null || request.isCanceled()) {
+      LOG.debug(
+          "Expected to hand over pushed jobs of type '{}', but no matching request is blocked."
+              + " Return the jobs to the brokers.",
+          jobBatch.getType());
+      returnJobs(jobBatch);
+      return;
+    }
+
+    request.onResponse(ResponseMapper.toActivateJobsResponse(response.getKey(), jobBatch));
+    request.complete();
+  }
+
+  private LongPollingActivateJobsRequest pollMatchingRequest(
+      final JobTypeAvailabilityState state, final JobBatchRecord jobBatch) {
+    state.removeCanceledRequests();
+
+    final int jobsCount = jobBatch.getJobKeys().size();
+    final List<String> variables = getVariables(jobBatch);
+    for (final LongPollingActivateJobsRequest request : state.getBlockedRequests()) {
+      final JobBatchRecord command = request.getRequest().getRequestWriter();
+      final boolean isMatching =
+          jobsCount <= request.getMaxJobsToActivate()
+              && BufferUtil.equals(command.getWorkerBuffer(), jobBatch.getWorkerBuffer())
+              && command.getTimeout() == jobBatch.getTimeout()
+              && getVariables(command).equals(variables);
+
+      if (isMatching) {
+        state.removeBlockedRequest(request);
+        return request;
+      }
+    }
+    return null;
+  }
+
+  private void returnJobs(final JobBatchRecord jobBatch) {
+    // timing out the jobs makes them activatable again without waiting for their deadline; unlike
+    // failing them, it keeps their retries and error message and doesn't count as a job failure
+    for (final long jobKey : jobBatch.getJobKeys()) {
+      brokerClient.sendRequest(
+          new BrokerTimeOutJobRequest(jobKey),
+          (key, job) -> LOG.trace("Returned pushed job {}", key),
+          error -> LOG.debug("Failed to return pushed job {}", jobKey, error));
+    }
+  }
+
+  private static List<String> getVariables(final JobBatchRecord jobBatch) {
+    final List<String> variables = new ArrayList<>();
+    for (final StringValue variable : jobBatch.variables()) {
+      variables.add(BufferUtil.bufferAsString(variable.getValue()));
+    }
+    return variables;
+  }
+
   public static Builder newBuilder() {
     return new Builder();
   }
@@ -231,6 +391,7 @@ public final class LongPollingActivateJobsHandler extends Actor {
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private boolean jobPushEnabled;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -252,10 +413,15 @@ public final class LongPollingActivateJobsHandler extends Actor {
       return this;
     }
 
+    public Builder setJobPushEnabled(final boolean jobPushEnabled) {
+      this.jobPushEnabled = jobPushEnabled;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses, jobPushEnabled);
     }
   }
 }
@@ -22,6 +22,8 @@ import org.slf4j.Logger;
 public final class LongPollingActivateJobsRequest {
 
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+  private static final long NO_JOB_STREAM = -1L;
+
   private final BrokerActivateJobsRequest request;
   private final StreamObserver<ActivateJobsResponse> responseObserver;
   private final String jobType;
@@ -33,6 +35,7 @@ public final class LongPollingActivateJobsRequest {
   private boolean isTimedOut;
   private boolean isCompleted;
   private BooleanSupplier cancelCheck = () -> false;
+  private long jobStreamId = NO_JOB_STREAM;
 
   public LongPollingActivateJobsRequest(
       final ActivateJobsRequest request,
@@ -143,6 +146,22 @@ public final class LongPollingActivateJobsRequest {
     return this.longPollingTimeout;
   }
 
+  public boolean hasJobStream() {
+    return jobStreamId != NO_JOB_STREAM;
+  }
+
+  public long getJobStreamId() {
+    return jobStreamId;
+  }
+
+  public void setJobStreamId(final long jobStreamId) {
+    this.jobStreamId = jobStreamId;
+  }
+
+  public void clearJobStreamId() {
+    jobStreamId = NO_JOB_STREAM;
+  }
+
   public boolean isLongPollingDisabled() {
     return longPollingTimeout != null && longPollingTimeout.isNegative();
   }
@@ -9,6 +9,7 @@ package io.zeebe.gateway.impl.job;
 
 import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.PrimitiveIterator.OfInt;
 import java.util.stream.IntStream;
@@ -25,6 +26,10 @@ public final class PartitionIdIterator implements Iterator<Integer> {
             .iterator();
   }
 
+  public PartitionIdIterator(final int[] partitionIds, final int partitionsCount) {
+    iterator = Arrays.stream(partitionIds, 0, partitionsCount).iterator();
+  }
+
   @Override
   public boolean hasNext() {
     return iterator.hasNext();
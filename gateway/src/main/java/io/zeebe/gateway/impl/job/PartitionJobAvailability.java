@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
+
+import io.zeebe.gateway.metrics.JobActivationMetrics;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks per job type and partition whether jobs are available, fed by the jobs available
+ * notifications of the brokers and by the results of the job activations. It is used to order the
+ * partitions of a job activation: partitions which notified new jobs are queried first, the other
+ * partitions are queried next, and partitions which returned no jobs for a number of consecutive
+ * activations are cold and skipped, until they are notified or the cold timeout is over.
+ *
+ * <p>The state is accessed by the long polling actor and by the responses of the broker client, so
+ * it is thread-safe. It is a heuristic, concurrent updates of the same partition may be lost.
+ */
+public final class PartitionJobAvailability {
+
+  static final int EMPTY_RESPONSES_UNTIL_COLD = 3;
+  static final Duration COLD_TIMEOUT = Duration.ofSeconds(5);
+
+  private final Map<String, Map<Integer, PartitionState>> jobTypeState = new ConcurrentHashMap<>();
+  private final JobActivationMetrics metrics;
+  private final LongSupplier clock;
+
+  public PartitionJobAvailability(final JobActivationMetrics metrics) {
+    this(metrics, ActorClock::currentTimeMillis);
+  }
+
+  PartitionJobAvailability(final JobActivationMetrics metrics, final LongSupplier clock) {
+    this.metrics = metrics;
+    this.clock = clock;
+  }
+
+  public void jobsAvailable(final String jobType, final int partitionId) {
+    getState(jobType, partitionId).markAvailable();
+  }
+
+  public void jobsActivated(final String jobType, final int partitionId) {
+    metrics.jobsActivated(jobType);
+    getState(jobType, partitionId).markActivated();
+  }
+
+  public void noJobsActivated(final String jobType, final int partitionId) {
+    metrics.noJobsActivated(jobType);
+    getState(jobType, partitionId).markEmpty(clock.getAsLong());
+  }
+
+  /**
+   * Returns the partitions to query for jobs of the given type. Within the available and the other
+   * partitions, the order is round robin from the given start index.
+   */
+  public PartitionIdIterator partitionIds(
+      final String jobType, final int startIndex, final int partitionsCount) {
+    final Map<Integer, PartitionState> partitions = jobTypeState.get(jobType);
+    if (partitions == null) {
+      return new PartitionIdIterator(startIndex, partitionsCount);
+    }
+
+    final long now = clock.getAsLong();
+    final int[] partitionIds = new int[partitionsCount];
+    final int[] otherPartitionIds = new int[partitionsCount];
+    int availableCount = 0;
+    int otherCount = 0;
+
+    for (int index = 0; index < partitionsCount; index++) {
+      final int partitionId = ((index + startIndex) % partitionsCount) + START_PARTITION_ID;
+      final PartitionState state = partitions.get(partitionId);
+
+      if (state == null) {
+        otherPartitionIds[otherCount++] = partitionId;
+      } else if (state.isAvailable()) {
+        partitionIds[availableCount++] = partitionId;
+      } else if (state.isCold(now)) {
+        metrics.partitionSkipped(jobType);
+      } else {
+        otherPartitionIds[otherCount++] = partitionId;
+      }
+    }
+
+    System.arraycopy(otherPartitionIds, 0, partitionIds, availableCount, otherCount);
+    return new PartitionIdIterator(partitionIds, availableCount + otherCount);
+  }
+
+  private PartitionState getState(final String jobType, final int partitionId) {
+    return jobTypeState
+        .computeIfAbsent(jobType, type -> new ConcurrentHashMap<>())
+        .computeIfAbsent(partitionId, id -> new PartitionState());
+  }
+
+  private static final class PartitionState {
+    private volatile boolean available;
+    private volatile int emptyResponses;
+    private volatile long coldUntil;
+
+    private void markAvailable() {
+      available = true;
+      emptyResponses = 0;
+      coldUntil = 0;
+    }
+
+    private void markActivated() {
+      // the notified jobs may be consumed now, the partition is queried in round robin again
+      available = false;
+      emptyResponses = 0;
+      coldUntil = 0;
+    }
+
+    private void markEmpty(final long now) {
+      available = false;
+      emptyResponses++;
+      if (emptyResponses >= EMPTY_RESPONSES_UNTIL_COLD) {
+        coldUntil = now + COLD_TIMEOUT.toMillis();
+      }
+    }
+
+    private boolean isAvailable() {
+      return available;
+    }
+
+    private boolean isCold(final long now) {
+      return emptyResponses >= EMPTY_RESPONSES_UNTIL_COLD && now < coldUntil;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class JobActivationMetrics {
+
+  private static final String RESULT_JOBS = "jobs";
+  private static final String RESULT_EMPTY = "empty";
+
+  private static final Counter ROUND_TRIPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_round_trips_total")
+          .help(
+              "Number of job activation requests sent to the partitions, by result; the round trips"
+                  + " with an empty result are wasted")
+          .labelNames("type", "result")
+          .register();
+
+  private static final Counter SKIPPED_PARTITIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_skipped_partitions_total")
+          .help("Number of partitions skipped on job activation because they have no jobs recently")
+          .labelNames("type")
+          .register();
+
+  public void jobsActivated(final String type) {
+    ROUND_TRIPS.labels(type, RESULT_JOBS).inc();
+  }
+
+  public void noJobsActivated(final String type) {
+    ROUND_TRIPS.labels(type, RESULT_EMPTY).inc();
+  }
+
+  public void partitionSkipped(final String type) {
+    SKIPPED_PARTITIONS.labels(type).inc();
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.zeebe.gateway.RequestMapper;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import io.zeebe.gateway.impl.broker.request.BrokerJobBatchRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.JobResult;
+import io.zeebe.msgpack.value.DocumentValue;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.Collection;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long FIRST_PARTITION_JOB = Protocol.encodePartitionId(1, 1);
+  private static final long SECOND_PARTITION_JOB = Protocol.encodePartitionId(2, 1);
+  private static final long OTHER_FIRST_PARTITION_JOB = Protocol.encodePartitionId(1, 2);
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // given
+    new JobBatchStub().registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        newRequest(FIRST_PARTITION_JOB, SECOND_PARTITION_JOB, OTHER_FIRST_PARTITION_JOB);
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getJobKey)
+        .containsExactly(FIRST_PARTITION_JOB, SECOND_PARTITION_JOB, OTHER_FIRST_PARTITION_JOB);
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getCode)
+        .containsOnly(Status.Code.OK.value());
+
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .allSatisfy(
+            brokerRequest ->
+                assertThat(((BrokerJobBatchRequest) brokerRequest).getIntent())
+                    .isEqualTo(JobIntent.COMPLETE));
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(brokerRequest -> ((BrokerJobBatchRequest) brokerRequest).getJobsCount())
+        .containsExactlyInAnyOrder(2, 1);
+  }
+
+  @Test
+  public void shouldMapRejectionToJobResult() {
+    // given
+    new JobBatchStub().rejectJob(SECOND_PARTITION_JOB).registerWith(brokerClient);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(newRequest(FIRST_PARTITION_JOB, SECOND_PARTITION_JOB));
+
+    // then
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+    assertThat(response.getResults(1).getMessage()).contains(JobBatchStub.REJECTION_REASON);
+  }
+
+  @Test
+  public void shouldFailJobsOfFailedPartition() {
+    // given
+    new JobBatchStub().exhaustPartition(1).registerWith(brokerClient);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(
+            newRequest(FIRST_PARTITION_JOB, SECOND_PARTITION_JOB, OTHER_FIRST_PARTITION_JOB));
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getCode)
+        .containsExactly(
+            Status.Code.RESOURCE_EXHAUSTED.value(),
+            Status.Code.OK.value(),
+            Status.Code.RESOURCE_EXHAUSTED.value());
+  }
+
+  @Test
+  public void shouldSplitJobsOfPartitionWhichDontFitIntoOneMessage() {
+    // given
+    final int commandLength =
+        RequestMapper.toCompleteJobsRequests(
+                newRequest(FIRST_PARTITION_JOB), partitionId -> Integer.MAX_VALUE)
+            .iterator()
+            .next()
+            .getBatchLength();
+    final CompleteJobsRequest request =
+        newRequest(FIRST_PARTITION_JOB, SECOND_PARTITION_JOB, OTHER_FIRST_PARTITION_JOB);
+
+    // when
+    final Collection<BrokerJobBatchRequest> brokerRequests =
+        RequestMapper.toCompleteJobsRequests(
+            request, partitionId -> commandLength + commandLength / 2);
+
+    // then
+    assertThat(brokerRequests)
+        .extracting(
+            BrokerJobBatchRequest::getPartitionId, r -> r.getJobKey(0), r -> r.getJobIndex(0))
+        .containsExactly(
+            tuple(1, FIRST_PARTITION_JOB, 0),
+            tuple(2, SECOND_PARTITION_JOB, 1),
+            tuple(1, OTHER_FIRST_PARTITION_JOB, 2));
+  }
+
+  @Test
+  public void shouldSplitJobsByMaxMessageSizeOfPartitionLeader() {
+    // given
+    new JobBatchStub().registerWith(brokerClient);
+
+    final int commandLength =
+        RequestMapper.toCompleteJobsRequests(
+                newRequest(FIRST_PARTITION_JOB), partitionId -> Integer.MAX_VALUE)
+            .iterator()
+            .next()
+            .getBatchLength();
+    final BrokerClusterStateImpl topology =
+        (BrokerClusterStateImpl) brokerClient.getTopologyManager().getTopology();
+    topology.setBrokerMaxMessageSizeIfPresent(0, commandLength + commandLength / 2);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(newRequest(FIRST_PARTITION_JOB, OTHER_FIRST_PARTITION_JOB));
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobResult::getCode)
+        .containsOnly(Status.Code.OK.value());
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(brokerRequest -> ((BrokerJobBatchRequest) brokerRequest).getJobsCount())
+        .containsExactly(1, 1);
+  }
+
+  @Test
+  public void shouldSerializeValuesOfJobs() {
+    // given
+    final BrokerJobBatchRequest brokerRequest =
+        RequestMapper.toCompleteJobsRequests(
+                newRequest(FIRST_PARTITION_JOB, OTHER_FIRST_PARTITION_JOB),
+                partitionId -> Integer.MAX_VALUE)
+            .iterator()
+            .next();
+
+    // when
+    brokerRequest.serializeValue();
+
+    // then
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[brokerRequest.getLength()]);
+    brokerRequest.write(buffer, 0);
+    final ExecuteCommandBatchRequest batchRequest = new ExecuteCommandBatchRequest();
+    batchRequest.wrap(buffer, 0, buffer.capacity());
+
+    assertThat(batchRequest.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    assertThat(batchRequest.getCommandsCount()).isEqualTo(2);
+    assertThat(batchRequest.getKey(0)).isEqualTo(FIRST_PARTITION_JOB);
+    assertThat(batchRequest.getKey(1)).isEqualTo(OTHER_FIRST_PARTITION_JOB);
+
+    final JobRecord job = new JobRecord();
+    job.wrap(batchRequest.getValue(1));
+    assertThat(job.getVariablesBuffer()).isEqualTo(DocumentValue.EMPTY_DOCUMENT);
+  }
+
+  @Test
+  public void shouldRejectEmptyRequest() {
+    // given
+    new JobBatchStub().registerWith(brokerClient);
+
+    // when / then
+    assertThatThrownBy(() -> client.completeJobs(CompleteJobsRequest.getDefaultInstance()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+  }
+
+  private static CompleteJobsRequest newRequest(final long... jobKeys) {
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    for (final long jobKey : jobKeys) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables("{}"));
+    }
+    return request.build();
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.Status;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.request.BrokerJobBatchRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.record.intent.JobIntent;
+import org.junit.Test;
+
+public final class FailJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    new JobBatchStub().registerWith(brokerClient);
+
+    final long firstJob = Protocol.encodePartitionId(1, 1);
+    final long secondJob = Protocol.encodePartitionId(1, 2);
+    final FailJobsRequest request =
+        FailJobsRequest.newBuilder()
+            .addJobs(
+                FailJobRequest.newBuilder()
+                    .setJobKey(firstJob)
+                    .setRetries(2)
+                    .setErrorMessage("failed"))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(secondJob).setRetries(0))
+            .build();
+
+    // when
+    final FailJobsResponse response = client.failJobs(request);
+
+    // then
+    assertThat(response.getResultsCount()).isEqualTo(2);
+    assertThat(response.getResults(0).getJobKey()).isEqualTo(firstJob);
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(response.getResults(1).getJobKey()).isEqualTo(secondJob);
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.OK.value());
+
+    final BrokerJobBatchRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getPartitionId()).isEqualTo(1);
+    assertThat(brokerRequest.getIntent()).isEqualTo(JobIntent.FAIL);
+    assertThat(brokerRequest.getJobsCount()).isEqualTo(2);
+    assertThat(brokerRequest.getJobKey(0)).isEqualTo(firstJob);
+    assertThat(brokerRequest.getJobKey(1)).isEqualTo(secondJob);
+  }
+}
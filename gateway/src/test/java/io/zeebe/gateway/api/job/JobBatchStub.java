@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.zeebe.gateway.impl.broker.request.BrokerJobBatchRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerError;
+import io.zeebe.gateway.impl.broker.response.BrokerErrorResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.ErrorCode;
+import io.zeebe.protocol.record.RejectionType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class JobBatchStub extends JobRequestStub
+    implements RequestStub<BrokerJobBatchRequest, BrokerResponse<List<BrokerResponse<JobRecord>>>> {
+
+  public static final String REJECTION_REASON = "no job found";
+  public static final String ERROR_MESSAGE = "too many requests";
+
+  private final Set<Long> rejectedJobKeys = new HashSet<>();
+  private final Set<Integer> exhaustedPartitions = new HashSet<>();
+
+  public JobBatchStub rejectJob(final long jobKey) {
+    rejectedJobKeys.add(jobKey);
+    return this;
+  }
+
+  public JobBatchStub exhaustPartition(final int partitionId) {
+    exhaustedPartitions.add(partitionId);
+    return this;
+  }
+
+  @Override
+  public BrokerResponse<List<BrokerResponse<JobRecord>>> handle(final BrokerJobBatchRequest request)
+      throws Exception {
+    if (exhaustedPartitions.contains(request.getPartitionId())) {
+      return new BrokerErrorResponse<>(
+          new BrokerError(ErrorCode.RESOURCE_EXHAUSTED, ERROR_MESSAGE));
+    }
+
+    final List<BrokerResponse<JobRecord>> responses = new ArrayList<>();
+    for (int i = 0; i < request.getJobsCount(); i++) {
+      final long jobKey = request.getJobKey(i);
+      if (rejectedJobKeys.contains(jobKey)) {
+        final BrokerRejection rejection =
+            new BrokerRejection(
+                request.getIntent(), jobKey, RejectionType.NOT_FOUND, REJECTION_REASON);
+        responses.add(new BrokerRejectionResponse<>(rejection));
+      } else {
+        responses.add(new BrokerResponse<>(buildDefaultValue(), request.getPartitionId(), jobKey));
+      }
+    }
+
+    return new BrokerResponse<>(responses, request.getPartitionId(), -1);
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerJobBatchRequest.class, this);
+  }
+}
@@ -8,8 +8,10 @@
 package io.zeebe.gateway.api.job;
 
 import static io.zeebe.test.util.TestUtil.waitUntil;
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
@@ -17,23 +19,37 @@ import static org.mockito.Mockito.verify;
 
 import io.grpc.stub.StreamObserver;
 import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.impl.broker.request.BrokerTimeOutJobRequest;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.data.job.JobStreamPush;
+import io.zeebe.protocol.impl.data.job.JobStreamRegistration;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public final class LongPollingActivateJobsTest {
 
   private static final String TYPE = "test";
+  private static final int JOB_RETRIES = 3;
 
   private static final long LONG_POLLING_TIMEOUT = 5000;
   private static final long PROBE_TIMEOUT = 20000;
@@ -93,6 +109,24 @@ public final class LongPollingActivateJobsTest {
     verify(responseSpy, timeout(1000).times(1)).onCompleted();
   }
 
+  @Test
+  public void shouldUnblockRequestWhenJobsAvailableOnLegacyTopic() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    final StreamObserver<ActivateJobsResponse> responseSpy = request.getResponseObserver();
+
+    handler.activateJobs(request);
+
+    // when
+    waitUntil(() -> request.hasScheduledTimer());
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailableOnLegacyTopic(TYPE);
+
+    // then
+    verify(responseSpy, timeout(2000).times(1)).onNext(any());
+    verify(responseSpy, timeout(1000).times(1)).onCompleted();
+  }
+
   @Test
   public void shouldBlockOnlyAfterForwardingUntilThreshold() throws Exception {
     // when
@@ -131,7 +165,8 @@ public final class LongPollingActivateJobsTest {
     brokerClient.notifyJobsAvailable(TYPE);
 
     // then
-    verify(stub, timeout(2000).times(2 * amount * partitionsCount)).handle(any());
+    // the partitions are cold after the empty responses, only the notified ones are queried
+    verify(stub, timeout(2000).atLeast(amount * partitionsCount + amount)).handle(any());
   }
 
   @Test
@@ -323,6 +358,180 @@ public final class LongPollingActivateJobsTest {
     assertThat(request.isTimedOut()).isFalse();
   }
 
+  @Test
+  public void shouldRegisterJobStreamWhenBlocked() {
+    // given
+    handler = newJobPushHandler();
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+
+    // when
+    handler.activateJobs(request);
+    waitUntil(() -> request.hasScheduledTimer());
+
+    // then
+    waitUntil(() -> !brokerClient.getJobStreamRegistrations().isEmpty());
+    final JobStreamRegistration registration = brokerClient.getJobStreamRegistrations().get(0);
+    assertThat(registration.getStreamId()).isEqualTo(request.getJobStreamId());
+    assertThat(bufferAsString(registration.getType())).isEqualTo(TYPE);
+    assertThat(registration.getMaxJobsToActivate()).isEqualTo(request.getMaxJobsToActivate());
+  }
+
+  @Test
+  public void shouldCompleteRequestWithPushedJobs() {
+    // given
+    handler = newJobPushHandler();
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> !brokerClient.getJobStreamRegistrations().isEmpty());
+    final long streamId = brokerClient.getJobStreamRegistrations().get(0).getStreamId();
+
+    // when
+    brokerClient.pushJobs(newJobStreamPush(streamId, 2));
+
+    // then
+    final ArgumentCaptor<ActivateJobsResponse> response =
+        ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(request.getResponseObserver(), timeout(1000).times(1)).onNext(response.capture());
+    verify(request.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+    assertThat(response.getValue().getJobsCount()).isEqualTo(2);
+    assertThat(brokerClient.getRemovedJobStreams()).containsExactly(streamId);
+  }
+
+  @Test
+  public void shouldHandOverPushedJobsOfRemovedStream() {
+    // given
+    handler = newJobPushHandler();
+    final List<LongPollingActivateJobsRequest> requests =
+        activateJobsAndWaitUntilBlocked(FAILED_RESPONSE_THRESHOLD);
+    final LongPollingActivateJobsRequest firstRequest = requests.get(0);
+    final long streamId = firstRequest.getJobStreamId();
+    brokerClient.pushJobs(newJobStreamPush(streamId, 1));
+    verify(firstRequest.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+
+    // when
+    brokerClient.pushJobs(newJobStreamPush(streamId, 1));
+
+    // then
+    final LongPollingActivateJobsRequest secondRequest = requests.get(1);
+    verify(secondRequest.getResponseObserver(), timeout(1000).times(1)).onNext(any());
+    verify(secondRequest.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+  }
+
+  @Test
+  public void shouldReturnPushedJobsIfWorkerOfBlockedRequestDiffers() {
+    // given
+    handler = newJobPushHandler();
+    final List<LongPollingActivateJobsRequest> requests =
+        activateJobsAndWaitUntilBlocked(FAILED_RESPONSE_THRESHOLD);
+    final LongPollingActivateJobsRequest firstRequest = requests.get(0);
+    final long streamId = firstRequest.getJobStreamId();
+    brokerClient.pushJobs(newJobStreamPush(streamId, 1));
+    verify(firstRequest.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+
+    // when
+    brokerClient.pushJobs(newJobStreamPush(streamId, 1, "other-worker"));
+
+    // then
+    waitUntil(() -> getTimeOutJobRequests().size() == 1);
+    final BrokerTimeOutJobRequest timeOutJobRequest = getTimeOutJobRequests().get(0);
+    assertThat(timeOutJobRequest.getKey()).isEqualTo(0);
+    assertThat(timeOutJobRequest.getIntent()).isEqualTo(JobIntent.TIME_OUT);
+    verify(requests.get(1).getResponseObserver(), never()).onNext(any());
+  }
+
+  @Test
+  public void shouldReturnPushedJobsIfBlockedRequestCannotTakeAll() {
+    // given
+    handler = newJobPushHandler();
+    final List<LongPollingActivateJobsRequest> requests =
+        activateJobsAndWaitUntilBlocked(FAILED_RESPONSE_THRESHOLD);
+    final LongPollingActivateJobsRequest firstRequest = requests.get(0);
+    final long streamId = firstRequest.getJobStreamId();
+    brokerClient.pushJobs(newJobStreamPush(streamId, 1));
+    verify(firstRequest.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+
+    // when
+    final int jobsCount = firstRequest.getMaxJobsToActivate() + 1;
+    brokerClient.pushJobs(newJobStreamPush(streamId, jobsCount));
+
+    // then
+    waitUntil(() -> getTimeOutJobRequests().size() == jobsCount);
+    verify(requests.get(1).getResponseObserver(), never()).onNext(any());
+  }
+
+  @Test
+  public void shouldRemoveJobStreamAfterRequestTimeout() {
+    // given
+    handler = newJobPushHandler();
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> !brokerClient.getJobStreamRegistrations().isEmpty());
+    final long streamId = brokerClient.getJobStreamRegistrations().get(0).getStreamId();
+
+    // when
+    actorClock.addTime(Duration.ofMillis(LONG_POLLING_TIMEOUT));
+    waitUntil(() -> request.isTimedOut());
+
+    // then
+    waitUntil(() -> brokerClient.getRemovedJobStreams().contains(streamId));
+    assertThat(request.hasJobStream()).isFalse();
+  }
+
+  private LongPollingActivateJobsHandler newJobPushHandler() {
+    final LongPollingActivateJobsHandler jobPushHandler =
+        LongPollingActivateJobsHandler.newBuilder()
+            .setBrokerClient(brokerClient)
+            .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+            .setProbeTimeoutMillis(PROBE_TIMEOUT)
+            .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+            .setJobPushEnabled(true)
+            .build();
+    actorSchedulerRule.submitActor(jobPushHandler);
+    return jobPushHandler;
+  }
+
+  private JobStreamPush newJobStreamPush(final long streamId, final int amount) {
+    // the requests of the tests have the default worker and timeout
+    return newJobStreamPush(streamId, amount, "");
+  }
+
+  private JobStreamPush newJobStreamPush(
+      final long streamId, final int amount, final String worker) {
+    final JobBatchRecord jobBatch = new JobBatchRecord();
+    jobBatch.setType(TYPE).setWorker(worker).setTimeout(0).setMaxJobsToActivate(amount);
+    for (int i = 0; i < amount; i++) {
+      jobBatch.jobKeys().add().setValue(i);
+      jobBatch.jobs().add().setType(TYPE).setWorker(worker).setRetries(JOB_RETRIES);
+    }
+
+    final DirectBuffer value = writeToBuffer(jobBatch);
+    final ExecuteCommandResponse response =
+        new ExecuteCommandResponse()
+            .setPartitionId(1)
+            .setKey(ActivateJobsStub.JOB_BATCH_KEY)
+            .setRecordType(RecordType.EVENT)
+            .setValueType(ValueType.JOB_BATCH)
+            .setIntent(JobBatchIntent.ACTIVATED)
+            .setValue(value, 0, value.capacity());
+
+    final JobStreamPush push = new JobStreamPush();
+    push.setStreamId(streamId).setResponse(writeToBuffer(response));
+    return push;
+  }
+
+  private List<BrokerTimeOutJobRequest> getTimeOutJobRequests() {
+    return brokerClient.getBrokerRequests().stream()
+        .filter(BrokerTimeOutJobRequest.class::isInstance)
+        .map(BrokerTimeOutJobRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+
+  private static DirectBuffer writeToBuffer(final BufferWriter writer) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(buffer, 0);
+    return buffer;
+  }
+
   private List<LongPollingActivateJobsRequest> activateJobsAndWaitUntilBlocked(final int amount) {
     return IntStream.range(0, amount)
         .boxed()
@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway.api.util;
 
+import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.gateway.cmd.BrokerErrorException;
@@ -18,22 +19,31 @@ import io.zeebe.gateway.impl.broker.BrokerResponseConsumer;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.data.job.JobStreamPush;
+import io.zeebe.protocol.impl.data.job.JobStreamRegistration;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private BiConsumer<String, Integer> jobsAvailableHandler;
+  private Consumer<String> legacyJobsAvailableHandler;
+  private Consumer<JobStreamPush> jobStreamPushHandler;
+  private final List<JobStreamRegistration> jobStreamRegistrations = new ArrayList<>();
+  private final List<Long> removedJobStreams = new ArrayList<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
-  private final List<BrokerRequest> brokerRequests = new ArrayList<>();
+  private final List<BrokerRequest> brokerRequests = new CopyOnWriteArrayList<>();
 
   public StubbedBrokerClient() {}
 
@@ -91,10 +101,36 @@ public final class StubbedBrokerClient implements BrokerClient {
 
   @Override
   public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
+      final String topic, final BiConsumer<String, Integer> handler) {
     this.jobsAvailableHandler = handler;
   }
 
+  @Override
+  public void subscribeLegacyJobAvailableNotification(
+      final String topic, final Consumer<String> handler) {
+    this.legacyJobsAvailableHandler = handler;
+  }
+
+  @Override
+  public void registerJobStream(final JobStreamRegistration registration) {
+    final byte[] bytes = new byte[registration.getLength()];
+    registration.write(new UnsafeBuffer(bytes), 0);
+
+    final JobStreamRegistration copy = new JobStreamRegistration();
+    copy.wrap(new UnsafeBuffer(bytes));
+    jobStreamRegistrations.add(copy);
+  }
+
+  @Override
+  public void removeJobStream(final long streamId) {
+    removedJobStreams.add(streamId);
+  }
+
+  @Override
+  public void subscribeJobStreamPush(final Consumer<JobStreamPush> handler) {
+    jobStreamPushHandler = handler;
+  }
+
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
       void registerHandler(
           final Class<?> requestType, final RequestHandler<RequestT, ResponseT> requestHandler) {
@@ -102,7 +138,34 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    final int partitionsCount = topologyManager.getTopology().getPartitionsCount();
+    for (int offset = 0; offset < partitionsCount; offset++) {
+      notifyJobsAvailable(type, START_PARTITION_ID + offset);
+    }
+  }
+
+  public void notifyJobsAvailable(final String type, final int partitionId) {
+    jobsAvailableHandler.accept(type, partitionId);
+  }
+
+  public void notifyJobsAvailableOnLegacyTopic(final String type) {
+    legacyJobsAvailableHandler.accept(type);
+  }
+
+  public void pushJobs(final JobStreamPush push) {
+    jobStreamPushHandler.accept(push);
+  }
+
+  public List<JobStreamRegistration> getJobStreamRegistrations() {
+    return jobStreamRegistrations;
+  }
+
+  public List<Long> getRemovedJobStreams() {
+    return removedJobStreams;
+  }
+
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
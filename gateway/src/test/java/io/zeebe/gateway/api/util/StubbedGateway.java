@@ -12,6 +12,7 @@ import io.grpc.Server;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.zeebe.gateway.EndpointManager;
+import io.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
@@ -39,7 +40,9 @@ public final class StubbedGateway {
 
   public void start() throws IOException {
     actorScheduler.submitActor(longPollingHandler);
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, longPollingHandler);
+    final EndpointManager endpointManager =
+        new EndpointManager(
+            brokerClient, longPollingHandler, (int) NetworkCfg.DEFAULT_MAX_MESSAGE_SIZE.toBytes());
     final InProcessServerBuilder serverBuilder =
         InProcessServerBuilder.forName(SERVER_NAME).addService(endpointManager);
     server = serverBuilder.build();
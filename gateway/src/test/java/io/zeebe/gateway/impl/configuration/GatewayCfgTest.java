@@ -45,6 +45,7 @@ public final class GatewayCfgTest {
         .setPrivateKeyPath("privateKeyPath");
     CUSTOM_CFG.getMonitoring().setEnabled(true).setHost("monitoringHost").setPort(1234);
     CUSTOM_CFG.getThreads().setManagementThreads(100);
+    CUSTOM_CFG.getLongPolling().setJobPushEnabled(true);
   }
 
   private final Map<String, String> environment = new HashMap<>();
@@ -121,6 +122,7 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.network.port", "5432");
     setEnv("zeebe.gateway.cluster.contactPoint", "broker:432");
     setEnv("zeebe.gateway.threads.managementThreads", "32");
+    setEnv("zeebe.gateway.longPolling.jobPushEnabled", "true");
     setEnv("zeebe.gateway.cluster.requestTimeout", Duration.ofMinutes(43).toString());
     setEnv("zeebe.gateway.cluster.clusterName", "envCluster");
     setEnv("zeebe.gateway.cluster.memberId", "envMember");
@@ -159,6 +161,7 @@ public final class GatewayCfgTest {
         .setHost("envHost")
         .setPort(12345);
     expected.getThreads().setManagementThreads(32);
+    expected.getLongPolling().setJobPushEnabled(true);
     expected.getMonitoring().setEnabled(true).setHost("monitorHost").setPort(231);
     expected
         .getSecurity()
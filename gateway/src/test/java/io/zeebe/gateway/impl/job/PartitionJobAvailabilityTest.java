@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.metrics.JobActivationMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class PartitionJobAvailabilityTest {
+
+  private static final String TYPE = "test";
+  private static final int PARTITIONS_COUNT = 3;
+
+  private long currentTime;
+  private PartitionJobAvailability availability;
+
+  @Before
+  public void setUp() {
+    currentTime = 0;
+    availability = new PartitionJobAvailability(new JobActivationMetrics(), () -> currentTime);
+  }
+
+  @Test
+  public void shouldQueryAllPartitionsRoundRobinForUnknownType() {
+    // when
+    final List<Integer> partitionIds = partitionIds(1);
+
+    // then
+    assertThat(partitionIds).containsExactly(2, 3, 1);
+  }
+
+  @Test
+  public void shouldQueryAvailablePartitionsFirst() {
+    // given
+    availability.jobsAvailable(TYPE, 3);
+
+    // when
+    final List<Integer> partitionIds = partitionIds(0);
+
+    // then
+    assertThat(partitionIds).containsExactly(3, 1, 2);
+  }
+
+  @Test
+  public void shouldQueryEmptyPartitionsAfterAvailablePartitions() {
+    // given
+    availability.noJobsActivated(TYPE, 1);
+    availability.jobsAvailable(TYPE, 2);
+
+    // when
+    final List<Integer> partitionIds = partitionIds(0);
+
+    // then
+    assertThat(partitionIds).containsExactly(2, 1, 3);
+  }
+
+  @Test
+  public void shouldQueryRoundRobinAfterJobsActivated() {
+    // given
+    availability.jobsAvailable(TYPE, 1);
+    availability.jobsAvailable(TYPE, 3);
+
+    // when
+    availability.jobsActivated(TYPE, 1);
+
+    // then
+    assertThat(partitionIds(1)).containsExactly(3, 2, 1);
+  }
+
+  @Test
+  public void shouldSkipColdPartitions() {
+    // given
+    makeCold(2);
+
+    // when
+    final List<Integer> partitionIds = partitionIds(0);
+
+    // then
+    assertThat(partitionIds).containsExactly(1, 3);
+  }
+
+  @Test
+  public void shouldQueryColdPartitionAfterTimeout() {
+    // given
+    makeCold(2);
+
+    // when
+    currentTime += PartitionJobAvailability.COLD_TIMEOUT.toMillis();
+
+    // then
+    assertThat(partitionIds(0)).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void shouldQueryColdPartitionWhenJobsAvailable() {
+    // given
+    makeCold(2);
+
+    // when
+    availability.jobsAvailable(TYPE, 2);
+
+    // then
+    assertThat(partitionIds(0)).containsExactly(2, 1, 3);
+  }
+
+  @Test
+  public void shouldTrackJobTypesSeparately() {
+    // given
+    makeCold(2);
+
+    // when
+    final PartitionIdIterator iterator = availability.partitionIds("other", 0, PARTITIONS_COUNT);
+
+    // then
+    assertThat(toList(iterator)).containsExactly(1, 2, 3);
+  }
+
+  private void makeCold(final int partitionId) {
+    for (int i = 0; i < PartitionJobAvailability.EMPTY_RESPONSES_UNTIL_COLD; i++) {
+      availability.noJobsActivated(TYPE, partitionId);
+    }
+  }
+
+  private List<Integer> partitionIds(final int startIndex) {
+    return toList(availability.partitionIds(TYPE, startIndex, PARTITIONS_COUNT));
+  }
+
+  private static List<Integer> toList(final PartitionIdIterator iterator) {
+    final List<Integer> partitionIds = new ArrayList<>();
+    iterator.forEachRemaining(partitionIds::add);
+    return partitionIds;
+  }
+}
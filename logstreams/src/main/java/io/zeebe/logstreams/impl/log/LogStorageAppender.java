@@ -27,29 +27,53 @@ import io.zeebe.util.health.FailureListener;
 import io.zeebe.util.health.HealthMonitorable;
 import io.zeebe.util.health.HealthStatus;
 import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.sched.channel.ChannelSubscription;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import org.agrona.concurrent.UnsafeBuffer;
+import java.util.concurrent.TimeoutException;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
-/** Consume the write buffer and append the blocks to the distributedlog. */
+/**
+ * Consume the write buffer and append the blocks to the distributedlog.
+ *
+ * <p>The blocks are not copied: the storage gets a view on the peeked block of the write buffer,
+ * which is only released once the storage has written it. Hence, only one block is waiting for its
+ * write at a time. This only serializes the local write, which the storage does on a single thread
+ * anyway: the block is released before it is replicated and committed, so several blocks are
+ * replicated at the same time, bounded by the append limiter. The writers keep filling the write
+ * buffer meanwhile, so the next block is usually bigger.
+ *
+ * <p>If the storage does not report the write of the block within the append timeout, e.g. because
+ * the append got lost on a leader change, then the appender fails, as on a write error. The block
+ * is not released then, since the storage may still read it; it is only released by its write
+ * callback.
+ */
 public final class LogStorageAppender extends Actor implements HealthMonitorable {
 
   public static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
+  public static final Duration DEFAULT_APPEND_TIMEOUT = Duration.ofSeconds(30);
   private static final Map<String, AlgorithmCfg> ALGORITHM_CFG =
       Map.of("vegas", new AppenderVegasCfg(), "gradient2", new AppenderGradient2Cfg());
 
   private final String name;
   private final Subscription writeBufferSubscription;
   private final int maxAppendBlockSize;
+  private final Duration appendTimeout;
   private final LogStorage logStorage;
   private final AppendLimiter appendEntryLimiter;
   private final AppendBackpressureMetrics appendBackpressureMetrics;
   private final Environment env;
   private final LoggedEventImpl positionReader = new LoggedEventImpl();
+  private final BlockPeek blockPeek = new BlockPeek();
+  private ChannelSubscription writeBufferConsumer;
+  private Listener inFlightListener;
+  private ScheduledTimer appendTimeoutTimer;
   private FailureListener failureListener;
   private final ActorFuture<Void> closeFuture;
 
@@ -59,11 +83,28 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
       final LogStorage logStorage,
       final Subscription writeBufferSubscription,
       final int maxBlockSize) {
+    this(
+        name,
+        partitionId,
+        logStorage,
+        writeBufferSubscription,
+        maxBlockSize,
+        DEFAULT_APPEND_TIMEOUT);
+  }
+
+  LogStorageAppender(
+      final String name,
+      final int partitionId,
+      final LogStorage logStorage,
+      final Subscription writeBufferSubscription,
+      final int maxBlockSize,
+      final Duration appendTimeout) {
     this.env = new Environment();
     this.name = name;
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     this.maxAppendBlockSize = maxBlockSize;
+    this.appendTimeout = appendTimeout;
     appendBackpressureMetrics = new AppendBackpressureMetrics(partitionId);
 
     final boolean isBackpressureEnabled =
@@ -103,17 +144,18 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
   }
 
   private void appendBlock(final BlockPeek blockPeek) {
-    final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
-    final int bytes = rawBuffer.remaining();
-    final ByteBuffer copiedBuffer = ByteBuffer.allocate(bytes).put(rawBuffer).flip();
-    final Positions positions = readPositions(copiedBuffer);
+    final Positions positions = readPositions(blockPeek.getBuffer());
 
     // Commit position is the position of the last event.
     appendBackpressureMetrics.newEntryToAppend();
     if (appendEntryLimiter.tryAcquire(positions.highest)) {
+      // the block stays peeked until it is written, so we stop consuming until then
+      writeBufferConsumer.cancel();
+
       final var listener = new Listener(positions);
-      appendToStorage(copiedBuffer, positions, listener);
-      blockPeek.markCompleted();
+      inFlightListener = listener;
+      appendTimeoutTimer = actor.runDelayed(appendTimeout, () -> onAppendTimeout(listener));
+      appendToStorage(blockPeek.getRawBuffer().slice(), positions, listener);
     } else {
       appendBackpressureMetrics.deferred();
       LOG.trace(
@@ -136,7 +178,7 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
 
   @Override
   protected void onActorStarting() {
-    actor.consume(writeBufferSubscription, this::onWriteBufferAvailable);
+    consumeWriteBuffer();
   }
 
   @Override
@@ -163,8 +205,11 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
     closeFuture.complete(null);
   }
 
+  private void consumeWriteBuffer() {
+    writeBufferConsumer = actor.consume(writeBufferSubscription, this::onWriteBufferAvailable);
+  }
+
   private void onWriteBufferAvailable() {
-    final BlockPeek blockPeek = new BlockPeek();
     if (writeBufferSubscription.peekBlock(blockPeek, maxAppendBlockSize, true) > 0) {
       appendBlock(blockPeek);
     } else {
@@ -172,15 +217,43 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
     }
   }
 
-  private Positions readPositions(final ByteBuffer buffer) {
-    final var view = new UnsafeBuffer(buffer);
+  private void onBlockWritten(final Listener listener) {
+    if (listener != inFlightListener) {
+      return;
+    }
+
+    inFlightListener = null;
+    if (appendTimeoutTimer != null) {
+      appendTimeoutTimer.cancel();
+      appendTimeoutTimer = null;
+    }
+
+    blockPeek.markCompleted();
+    consumeWriteBuffer();
+  }
+
+  private void onAppendTimeout(final Listener listener) {
+    if (listener != inFlightListener) {
+      return;
+    }
+    appendTimeoutTimer = null;
+
+    // the block is not released, the storage may still hold a view on it
+    onFailure(
+        new TimeoutException(
+            String.format(
+                "Expected to append block with last event position %d within %s, but it was not written",
+                listener.positions.highest, appendTimeout)));
+  }
+
+  private Positions readPositions(final DirectBuffer block) {
     final var positions = new Positions();
     var offset = 0;
     do {
-      positionReader.wrap(view, offset);
+      positionReader.wrap(block, offset);
       positions.accept(positionReader.getPosition());
       offset += positionReader.getLength();
-    } while (offset < view.capacity());
+    } while (offset < block.capacity());
 
     return positions;
   }
@@ -221,11 +294,15 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
     }
 
     @Override
-    public void onWrite(final long address) {}
+    public void onWrite(final long address) {
+      actor.run(() -> onBlockWritten(this));
+    }
 
     @Override
     public void onWriteError(final Throwable error) {
       LOG.error("Failed to append block with last event position {}.", positions.highest, error);
+      // the block is released, it is not retried
+      actor.run(() -> onBlockWritten(this));
       if (error instanceof NoSuchElementException) {
         // Not a failure. It is probably during transition to follower.
         return;
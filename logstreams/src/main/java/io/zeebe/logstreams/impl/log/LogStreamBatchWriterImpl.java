@@ -86,6 +86,11 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public int getBatchLength() {
+    return eventLength + (eventCount * HEADER_BLOCK_LENGTH);
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -169,6 +174,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
+    eventBuffer.putLong(eventBufferOffset, sourceEventPosition, Protocol.ENDIANNESS);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, metadataLength, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -215,7 +223,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   }
 
   private long claimBatchForEvents() {
-    final int batchLength = eventLength + (eventCount * HEADER_BLOCK_LENGTH);
+    final int batchLength = getBatchLength();
 
     long claimedPosition = -1;
     do {
@@ -237,6 +245,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
+      final long sourcePosition = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int metadataLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -258,7 +269,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       if (sourceIndex >= 0 && sourceIndex < i) {
         setSourceEventPosition(writeBuffer, bufferOffset, positions[sourceIndex]);
       } else {
-        setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+        setSourceEventPosition(writeBuffer, bufferOffset, sourcePosition);
       }
 
       setKey(writeBuffer, bufferOffset, key);
@@ -17,7 +17,10 @@ import org.agrona.DirectBuffer;
  * <p>Note that the log entry data is buffered until {@link #tryWrite()} is called.
  */
 public interface LogStreamBatchWriter extends LogStreamWriter {
-  /** Set the source event for all log entries. */
+  /**
+   * Set the source event for all following log entries. The position is kept per log entry, so the
+   * entries of one batch can refer to different source events.
+   */
   LogStreamBatchWriter sourceRecordPosition(long position);
 
   /** Returns the builder to add a new log entry to the batch. */
@@ -25,6 +28,9 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /** Returns the length of all log entries which are added to the batch, including the headers. */
+  int getBatchLength();
+
   /** Discard all non-written batch data. */
   void reset();
 
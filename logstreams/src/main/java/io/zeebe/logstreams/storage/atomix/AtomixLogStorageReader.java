@@ -121,7 +121,8 @@ public final class AtomixLogStorageReader implements LogStorageReader {
 
     final var index = zeebeIndexMapping.lookupPosition(position);
     final long result;
-    if (index == -1) {
+    if (index < low) {
+      // either not indexed yet or already compacted
       result = low;
     } else {
       result = index;
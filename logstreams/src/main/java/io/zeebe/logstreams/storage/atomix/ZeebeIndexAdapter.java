@@ -7,26 +7,27 @@
  */
 package io.zeebe.logstreams.storage.atomix;
 
-import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegmentDescriptor;
+import io.atomix.storage.journal.JournalSegmentFile;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
-import io.atomix.storage.journal.index.SparseJournalIndex;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Keeps track of the {@link ZeebeSegmentIndex} of each journal segment. The journal creates the
+ * index of a segment via {@link #forSegment(JournalSegmentFile, JournalSegmentDescriptor)}, the
+ * index is persisted next to the segment file and removed together with the segment.
+ */
 public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping {
 
-  private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
+  private final ConcurrentNavigableMap<Long, ZeebeSegmentIndex> segmentIndexes =
       new ConcurrentSkipListMap<>();
-  private final SparseJournalIndex sparseJournalIndex;
   private final int density;
 
   private ZeebeIndexAdapter(final int density) {
     this.density = density;
-    sparseJournalIndex = new SparseJournalIndex(density);
   }
 
   public static ZeebeIndexAdapter ofDensity(final int density) {
@@ -34,67 +35,52 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
   }
 
   @Override
-  public void index(final Indexed indexedEntry, final int position) {
-    final var index = indexedEntry.index();
-    if (index % density == 0) {
-      if (indexedEntry.type() == ZeebeEntry.class) {
-        final ZeebeEntry zeebeEntry = (ZeebeEntry) indexedEntry.entry();
-        final var lowestPosition = zeebeEntry.lowestPosition();
+  public JournalIndex forSegment(
+      final JournalSegmentFile file, final JournalSegmentDescriptor descriptor) {
+    final var segmentIndex = new ZeebeSegmentIndex(this, file, descriptor, density);
+    segmentIndexes.put(segmentIndex.firstIndex(), segmentIndex);
+    return segmentIndex;
+  }
 
-        positionIndexMapping.put(lowestPosition, index);
-        indexPositionMapping.put(index, lowestPosition);
-      }
+  @Override
+  public void index(final Indexed indexedEntry, final int position) {
+    final var segmentIndex = segmentIndexes.floorEntry(indexedEntry.index());
+    if (segmentIndex != null) {
+      segmentIndex.getValue().index(indexedEntry, position);
     }
-
-    sparseJournalIndex.index(indexedEntry, position);
   }
 
   @Override
   public Position lookup(final long index) {
-    return sparseJournalIndex.lookup(index);
+    final var segmentIndex = segmentIndexes.floorEntry(index);
+    return segmentIndex != null ? segmentIndex.getValue().lookup(index) : null;
   }
 
   @Override
   public void truncate(final long index) {
-    final var higherEntry = indexPositionMapping.higherEntry(index);
-
-    if (higherEntry != null) {
-
-      final var higherIndex = higherEntry.getKey();
-      final var higherPosition = higherEntry.getValue();
-
-      indexPositionMapping.tailMap(higherIndex).clear();
-      positionIndexMapping.tailMap(higherPosition).clear();
-    }
-
-    sparseJournalIndex.truncate(index);
+    final var segmentIndex = segmentIndexes.floorEntry(index);
+    final var fromIndex = segmentIndex != null ? segmentIndex.getKey() : Long.MIN_VALUE;
+    segmentIndexes.tailMap(fromIndex).values().forEach(s -> s.truncate(index));
   }
 
   @Override
   public void compact(final long index) {
-    final var lowerEntry = indexPositionMapping.lowerEntry(index);
-
-    if (lowerEntry != null) {
-
-      final var lowerIndex = lowerEntry.getKey();
-      final var lowerPosition = lowerEntry.getValue();
-
-      indexPositionMapping.headMap(lowerIndex).clear();
-      positionIndexMapping.headMap(lowerPosition).clear();
-    }
-
-    sparseJournalIndex.compact(index);
+    // segment indexes are removed together with their segments
   }
 
   @Override
   public long lookupPosition(final long position) {
-    long index = -1L;
-
-    final var lowerEntry = positionIndexMapping.floorEntry(position);
-    if (lowerEntry != null) {
-      index = lowerEntry.getValue();
+    for (final ZeebeSegmentIndex segmentIndex : segmentIndexes.descendingMap().values()) {
+      final var index = segmentIndex.lookupPosition(position);
+      if (index != -1) {
+        return index;
+      }
     }
 
-    return index;
+    return -1L;
+  }
+
+  void remove(final ZeebeSegmentIndex segmentIndex) {
+    segmentIndexes.remove(segmentIndex.firstIndex(), segmentIndex);
   }
 }
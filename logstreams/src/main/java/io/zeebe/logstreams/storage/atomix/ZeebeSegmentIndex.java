@@ -0,0 +1,340 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegmentDescriptor;
+import io.atomix.storage.journal.JournalSegmentFile;
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+
+/**
+ * Index of a single journal segment, which is stored in a memory mapped file next to the segment
+ * file. This means the index survives restarts and doesn't need to be rebuilt by reading the whole
+ * segment.
+ *
+ * <p>The file starts with a header, which identifies the segment it belongs to:
+ *
+ * <ul>
+ *   <li>64-bit segment id
+ *   <li>64-bit first index of the segment
+ *   <li>32-bit index density
+ *   <li>32-bit reserved
+ * </ul>
+ *
+ * <p>The header is followed by fixed size entries, ordered by index:
+ *
+ * <ul>
+ *   <li>64-bit index of the entry
+ *   <li>64-bit lowest position of the entry, or -1 if the entry is not a {@link ZeebeEntry}
+ *   <li>64-bit offset of the entry in the segment file
+ * </ul>
+ *
+ * <p>The index is written by the single journal writer, but can be read concurrently by multiple
+ * readers. The entry count is volatile to publish newly written entries to the readers.
+ */
+final class ZeebeSegmentIndex implements JournalIndex {
+
+  static final int HEADER_LENGTH = 2 * Long.BYTES + 2 * Integer.BYTES;
+  static final int ENTRY_LENGTH = 3 * Long.BYTES;
+
+  private static final int INDEX_OFFSET = 0;
+  private static final int POSITION_OFFSET = Long.BYTES;
+  private static final int FILE_OFFSET_OFFSET = 2 * Long.BYTES;
+  // the smallest possible entry in a segment consists of the length, the checksum and one byte
+  private static final int MIN_SEGMENT_ENTRY_LENGTH = 2 * Integer.BYTES + 1;
+  private static final long NO_POSITION = -1L;
+
+  private final ZeebeIndexAdapter adapter;
+  private final File file;
+  private final long segmentId;
+  private final long firstIndex;
+  private final int density;
+  private final int capacity;
+  private final MappedByteBuffer buffer;
+
+  private volatile int count;
+
+  ZeebeSegmentIndex(
+      final ZeebeIndexAdapter adapter,
+      final JournalSegmentFile segmentFile,
+      final JournalSegmentDescriptor descriptor,
+      final int density) {
+    this.adapter = adapter;
+    this.file = segmentFile.indexFile();
+    this.segmentId = descriptor.id();
+    this.firstIndex = descriptor.index();
+    this.density = density;
+    this.capacity = capacityOf(descriptor, density);
+    this.buffer = map();
+    this.count = recoverCount();
+  }
+
+  long firstIndex() {
+    return firstIndex;
+  }
+
+  @Override
+  public void index(final Indexed indexedEntry, final int position) {
+    final long index = indexedEntry.index();
+    if (index % density != 0) {
+      return;
+    }
+
+    final long lowestPosition =
+        indexedEntry.type() == ZeebeEntry.class
+            ? ((ZeebeEntry) indexedEntry.entry()).lowestPosition()
+            : NO_POSITION;
+
+    int currentCount = count;
+    if (currentCount > 0 && indexAt(currentCount - 1) >= index) {
+      // the entry is indexed again, e.g. when the writer is reset, which is a no-op as long as the
+      // entry didn't change; otherwise the log was truncated and everything after it is invalid
+      final int slot = floorSlot(index, currentCount);
+      if (slot >= 0
+          && indexAt(slot) == index
+          && fileOffsetAt(slot) == position
+          && positionAt(slot) == lowestPosition) {
+        return;
+      }
+
+      truncate(index - 1);
+      currentCount = count;
+    }
+
+    if (currentCount >= capacity) {
+      // can only happen if the segment contains more entries than expected; the index just gets
+      // sparser at the end of the segment
+      return;
+    }
+
+    final int offset = entryOffset(currentCount);
+    buffer.putLong(offset + INDEX_OFFSET, index);
+    buffer.putLong(offset + POSITION_OFFSET, lowestPosition);
+    buffer.putLong(offset + FILE_OFFSET_OFFSET, position);
+    count = currentCount + 1;
+  }
+
+  @Override
+  public Position lookup(final long index) {
+    final int currentCount = count;
+    final int slot = floorSlot(index, currentCount);
+    return slot >= 0 ? new Position(indexAt(slot), (int) fileOffsetAt(slot)) : null;
+  }
+
+  /**
+   * Returns the index of the last entry, which has a lowest position lower or equal to the given
+   * position. Entries which are no {@link ZeebeEntry} are skipped.
+   *
+   * @param position the position to look up
+   * @return the index of the found entry, or -1 if no such entry exists in this segment
+   */
+  long lookupPosition(final long position) {
+    int low = 0;
+    int high = count - 1;
+    long result = -1L;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+
+      // find the nearest entry at or before mid which belongs to a ZeebeEntry
+      int probe = mid;
+      while (probe >= low && positionAt(probe) == NO_POSITION) {
+        probe--;
+      }
+
+      if (probe < low) {
+        low = mid + 1;
+      } else if (positionAt(probe) <= position) {
+        result = indexAt(probe);
+        low = mid + 1;
+      } else {
+        high = probe - 1;
+      }
+    }
+
+    return result;
+  }
+
+  @Override
+  public void truncate(final long index) {
+    final int currentCount = count;
+    final int newCount = floorSlot(index, currentCount) + 1;
+    if (newCount >= currentCount) {
+      return;
+    }
+
+    // publish the new count first, so readers don't see the removed entries anymore
+    count = newCount;
+    clear(newCount, currentCount);
+  }
+
+  @Override
+  public void compact(final long index) {
+    // the segment index is deleted together with the segment, so there is nothing to compact
+  }
+
+  @Override
+  public boolean isSegmentIndex() {
+    return true;
+  }
+
+  @Override
+  public void close() {
+    adapter.remove(this);
+    // the buffer is not unmapped explicitly, as concurrent readers might still access it; it is
+    // released as soon as it is garbage collected
+    buffer.force();
+  }
+
+  @Override
+  public void delete() {
+    adapter.remove(this);
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ZeebeSegmentIndex{"
+        + "file="
+        + file
+        + ", firstIndex="
+        + firstIndex
+        + ", count="
+        + count
+        + '}';
+  }
+
+  private MappedByteBuffer map() {
+    final long length = HEADER_LENGTH + (long) capacity * ENTRY_LENGTH;
+
+    try (final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        final FileChannel channel = raf.getChannel()) {
+      if (raf.length() != length || !hasMatchingHeader(channel)) {
+        // the index file is missing or belongs to an older segment with the same name
+        raf.setLength(0);
+        raf.setLength(length);
+        channel.write(header(), 0);
+      }
+
+      return channel.map(MapMode.READ_WRITE, 0, length);
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private boolean hasMatchingHeader(final FileChannel channel) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    channel.read(header, 0);
+    header.flip();
+    return header.equals(header());
+  }
+
+  private ByteBuffer header() {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    header.putLong(segmentId).putLong(firstIndex).putInt(density).putInt(0);
+    return header.flip();
+  }
+
+  /**
+   * Returns the count of valid entries in the index file. An entry is valid if its index is higher
+   * than the index of the previous entry and its offset lies in the segment. The file is only
+   * written back by the OS, so after a crash the tail of the file might be incomplete; everything
+   * after the first invalid entry is cleared.
+   */
+  private int recoverCount() {
+    long previousIndex = firstIndex - 1;
+    long previousOffset = JournalSegmentDescriptor.BYTES - 1;
+    int validCount = 0;
+
+    while (validCount < capacity) {
+      final long index = indexAt(validCount);
+      final long offset = fileOffsetAt(validCount);
+      if (index <= previousIndex || offset <= previousOffset) {
+        break;
+      }
+
+      previousIndex = index;
+      previousOffset = offset;
+      validCount++;
+    }
+
+    int usedCount = validCount;
+    while (usedCount < capacity && indexAt(usedCount) != 0) {
+      usedCount++;
+    }
+    clear(validCount, usedCount);
+
+    return validCount;
+  }
+
+  private void clear(final int fromSlot, final int toSlot) {
+    for (int offset = entryOffset(fromSlot); offset < entryOffset(toSlot); offset += Long.BYTES) {
+      buffer.putLong(offset, 0L);
+    }
+  }
+
+  /** @return the slot of the last entry with an index lower or equal to the given index, or -1 */
+  private int floorSlot(final long index, final int currentCount) {
+    int low = 0;
+    int high = currentCount - 1;
+    int result = -1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (indexAt(mid) <= index) {
+        result = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return result;
+  }
+
+  private long indexAt(final int slot) {
+    return buffer.getLong(entryOffset(slot) + INDEX_OFFSET);
+  }
+
+  private long positionAt(final int slot) {
+    return buffer.getLong(entryOffset(slot) + POSITION_OFFSET);
+  }
+
+  private long fileOffsetAt(final int slot) {
+    return buffer.getLong(entryOffset(slot) + FILE_OFFSET_OFFSET);
+  }
+
+  private static int entryOffset(final int slot) {
+    return HEADER_LENGTH + slot * ENTRY_LENGTH;
+  }
+
+  private static int capacityOf(final JournalSegmentDescriptor descriptor, final int density) {
+    final long maxEntries =
+        Math.min(
+            descriptor.maxEntries(),
+            (descriptor.maxSegmentSize() - JournalSegmentDescriptor.BYTES)
+                / MIN_SEGMENT_ENTRY_LENGTH);
+    final long maxIndexedEntries = maxEntries / density + 1;
+    return (int) Math.min(maxIndexedEntries, (Integer.MAX_VALUE - HEADER_LENGTH) / ENTRY_LENGTH);
+  }
+}
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.zeebe.dispatcher.Dispatcher;
 import io.zeebe.dispatcher.Dispatchers;
 import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.LogStorage.AppendListener;
 import io.zeebe.logstreams.spi.LogStorageReader;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.health.HealthStatus;
@@ -21,7 +22,9 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import org.junit.After;
 import org.junit.Before;
@@ -93,6 +96,31 @@ public final class LogStorageAppenderHealthTest {
     waitUntil(() -> appender.getHealthStatus() == HealthStatus.UNHEALTHY);
   }
 
+  @Test
+  public void shouldFailActorWithoutReleasingBlockWhenWriteTimesOut() {
+    // given
+    final var subscription = dispatcher.openSubscription("timingOut");
+    appender =
+        new LogStorageAppender(
+            "timingOutAppender",
+            PARTITION_ID,
+            failingLogStorage,
+            subscription,
+            MAX_FRAGMENT_SIZE,
+            Duration.ofMillis(100));
+    final var lostListener = new AtomicReference<AppendListener>();
+    failingLogStorage.onNextAppend((pos, listener) -> lostListener.set(listener));
+
+    // when
+    writer.value(wrapString("value")).tryWrite();
+    schedulerRule.submitActor(appender).join();
+    waitUntil(() -> lostListener.get() != null);
+
+    // then
+    waitUntil(() -> appender.getHealthStatus() == HealthStatus.UNHEALTHY);
+    assertThat(subscription.getPosition()).isLessThan(dispatcher.getPublisherPosition());
+  }
+
   @Test
   public void shouldBeHealthyWhenNoExceptions() throws InterruptedException {
     // given
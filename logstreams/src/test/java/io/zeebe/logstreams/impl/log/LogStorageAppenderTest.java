@@ -136,6 +136,48 @@ public final class LogStorageAppenderTest {
     }
   }
 
+  @Test
+  public void shouldAppendNextBlockOnceWritten() throws InterruptedException {
+    // given
+    final var values = List.of(new Value(1), new Value(2));
+    final var firstLatch = new CountDownLatch(1);
+    final var secondLatch = new CountDownLatch(2);
+    logStorageRule.setPositionListener(
+        i -> {
+          firstLatch.countDown();
+          secondLatch.countDown();
+        });
+    schedulerRule.submitActor(appender).join();
+
+    // when
+    final var lowestPosition = writer.valueWriter(values.get(0)).tryWrite();
+    firstLatch.await(5, TimeUnit.SECONDS);
+    final var highestPosition = writer.valueWriter(values.get(1)).tryWrite();
+    secondLatch.await(5, TimeUnit.SECONDS);
+
+    // then
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(lowestPosition),
+            eq(lowestPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(highestPosition),
+            eq(highestPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+
+    final Value expected = new Value();
+    assertThat(reader.seek(lowestPosition)).isTrue();
+    for (final var value : values) {
+      assertThat(reader.hasNext()).isTrue();
+      reader.next().readValue(expected);
+      assertThat(expected).isEqualTo(value);
+    }
+  }
+
   private static final class Value implements BufferWriter, BufferReader {
     private int value;
 
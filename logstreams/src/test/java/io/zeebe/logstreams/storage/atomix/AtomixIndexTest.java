@@ -12,16 +12,23 @@ import static org.junit.Assert.assertNull;
 
 import io.atomix.raft.storage.log.entry.InitializeEntry;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegmentDescriptor;
+import io.atomix.storage.journal.JournalSegmentFile;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
+import java.io.File;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class AtomixIndexTest {
 
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void shouldNotFindIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex index = newIndexAdapter(5);
 
     // when
     final Position position = index.lookup(1);
@@ -33,7 +40,7 @@ public class AtomixIndexTest {
   @Test
   public void shouldFindIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex index = newIndexAdapter(5);
 
     // when
     index.index(asIndexedEntry(1), 2);
@@ -50,7 +57,7 @@ public class AtomixIndexTest {
   @Test
   public void shouldFindLowerIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex index = newIndexAdapter(5);
     // index entries
     index.index(asIndexedEntry(1), 2);
     index.index(asIndexedEntry(2), 4);
@@ -71,7 +78,7 @@ public class AtomixIndexTest {
   @Test
   public void shouldFindNextIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex index = newIndexAdapter(5);
     // index entries
     index.index(asIndexedEntry(1), 2);
     index.index(asIndexedEntry(2), 4);
@@ -94,7 +101,7 @@ public class AtomixIndexTest {
   @Test
   public void shouldTruncateIndex() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex index = newIndexAdapter(5);
     // index entries
     index.index(asIndexedEntry(1), 2);
     index.index(asIndexedEntry(2), 4);
@@ -120,7 +127,7 @@ public class AtomixIndexTest {
   @Test
   public void shouldTruncateCompleteIndex() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex index = newIndexAdapter(5);
     // index entries
     index.index(asIndexedEntry(1), 2);
     index.index(asIndexedEntry(2), 4);
@@ -147,7 +154,7 @@ public class AtomixIndexTest {
   @Test
   public void shouldNotCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex index = newIndexAdapter(5);
     // index entries
     index.index(asIndexedEntry(1), 2);
     index.index(asIndexedEntry(2), 4);
@@ -171,9 +178,11 @@ public class AtomixIndexTest {
   }
 
   @Test
-  public void shouldCompactIndex() {
+  public void shouldRemoveIndexWithSegment() {
     // given - every 5 index is added
-    final JournalIndex index = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter index = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex firstSegmentIndex = newSegmentIndex(index, 1, 1);
+    newSegmentIndex(index, 2, 10);
     // index entries
     index.index(asIndexedEntry(1), 2);
     index.index(asIndexedEntry(2), 4);
@@ -187,7 +196,8 @@ public class AtomixIndexTest {
     index.index(asIndexedEntry(10), 20);
 
     // when
-    index.compact(11);
+    firstSegmentIndex.close();
+    firstSegmentIndex.delete();
 
     // then
     assertNull(index.lookup(4));
@@ -200,6 +210,27 @@ public class AtomixIndexTest {
     assertEquals(20, index.lookup(12).position());
   }
 
+  private ZeebeIndexAdapter newIndexAdapter(final int density) {
+    final ZeebeIndexAdapter indexAdapter = ZeebeIndexAdapter.ofDensity(density);
+    newSegmentIndex(indexAdapter, 1, 1);
+    return indexAdapter;
+  }
+
+  private JournalIndex newSegmentIndex(
+      final ZeebeIndexAdapter indexAdapter, final long segmentId, final long firstIndex) {
+    final var segmentFile =
+        new JournalSegmentFile(
+            new File(temporaryFolder.getRoot(), "journal-" + segmentId + ".log"));
+    final var descriptor =
+        JournalSegmentDescriptor.builder()
+            .withId(segmentId)
+            .withIndex(firstIndex)
+            .withMaxSegmentSize(1024 * 1024)
+            .withMaxEntries(1024)
+            .build();
+    return indexAdapter.forSegment(segmentFile, descriptor);
+  }
+
   private static Indexed asIndexedEntry(final long index) {
     return new Indexed(index, new InitializeEntry(0, System.currentTimeMillis()), 0);
   }
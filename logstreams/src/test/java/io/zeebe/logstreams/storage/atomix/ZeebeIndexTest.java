@@ -12,15 +12,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.atomix.raft.storage.log.entry.InitializeEntry;
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegmentDescriptor;
+import io.atomix.storage.journal.JournalSegmentFile;
+import io.atomix.storage.journal.index.JournalIndex;
+import java.io.File;
 import java.nio.ByteBuffer;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ZeebeIndexTest {
 
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void shouldNotFindIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
 
     // when
     final var index = zeebeIndexAdapter.lookupPosition(1L);
@@ -32,7 +40,7 @@ public class ZeebeIndexTest {
   @Test
   public void shouldFindIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
 
     // when
     zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
@@ -51,7 +59,7 @@ public class ZeebeIndexTest {
   @Test
   public void shouldNotAddToIndexWhenNotCorrectType() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
 
     // when
     zeebeIndexAdapter.index(
@@ -67,7 +75,7 @@ public class ZeebeIndexTest {
   @Test
   public void shouldFindLowerIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
     // index entries
     zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
     zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
@@ -90,7 +98,7 @@ public class ZeebeIndexTest {
   @Test
   public void shouldFindNextIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
     // index entries
     zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
     zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
@@ -115,7 +123,7 @@ public class ZeebeIndexTest {
   @Test
   public void shouldTruncateIndex() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
     // index entries
     zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
     zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
@@ -142,7 +150,7 @@ public class ZeebeIndexTest {
   @Test
   public void shouldTruncateCompleteIndex() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
     // index entries
     zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
     zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
@@ -169,7 +177,7 @@ public class ZeebeIndexTest {
   @Test
   public void shouldNotCompactIndex() {
     // given - every 5 index is added
-    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(5);
     // index entries
     zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
     zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
@@ -194,9 +202,11 @@ public class ZeebeIndexTest {
   }
 
   @Test
-  public void shouldCompactIndex() {
+  public void shouldRemoveIndexWithSegment() {
     // given - every 5 index is added
     final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex firstSegmentIndex = newSegmentIndex(zeebeIndexAdapter, 1, 1);
+    newSegmentIndex(zeebeIndexAdapter, 2, 10);
     // index entries
     zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
     zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
@@ -210,7 +220,8 @@ public class ZeebeIndexTest {
     zeebeIndexAdapter.index(asZeebeEntry(10, 45), 20);
 
     // when
-    zeebeIndexAdapter.compact(11);
+    firstSegmentIndex.close();
+    firstSegmentIndex.delete();
 
     // then
     assertThat(zeebeIndexAdapter.lookupPosition(21)).isEqualTo(-1);
@@ -220,6 +231,118 @@ public class ZeebeIndexTest {
     assertThat(zeebeIndexAdapter.lookupPosition(46)).isEqualTo(10);
   }
 
+  @Test
+  public void shouldFindPositionInPreviousSegment() {
+    // given - every 5 index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    newSegmentIndex(zeebeIndexAdapter, 1, 1);
+    newSegmentIndex(zeebeIndexAdapter, 2, 8);
+
+    // when
+    zeebeIndexAdapter.index(asZeebeEntry(5, 20), 10);
+    zeebeIndexAdapter.index(asZeebeEntry(10, 45), 20);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupPosition(19)).isEqualTo(-1);
+    assertThat(zeebeIndexAdapter.lookupPosition(20)).isEqualTo(5);
+    assertThat(zeebeIndexAdapter.lookupPosition(44)).isEqualTo(5);
+    assertThat(zeebeIndexAdapter.lookupPosition(45)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldSkipEntriesWithoutPosition() {
+    // given - every index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(1);
+
+    // when
+    zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
+    zeebeIndexAdapter.index(
+        new Indexed<>(2, new InitializeEntry(0, System.currentTimeMillis()), 10), 4);
+    zeebeIndexAdapter.index(
+        new Indexed<>(3, new InitializeEntry(0, System.currentTimeMillis()), 10), 6);
+    zeebeIndexAdapter.index(asZeebeEntry(4, 10), 8);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupPosition(9)).isEqualTo(1);
+    assertThat(zeebeIndexAdapter.lookupPosition(10)).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldTruncateIndexWhenEntryIsOverwritten() {
+    // given - every index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = newIndexAdapter(1);
+    zeebeIndexAdapter.index(asZeebeEntry(1, 1), 64);
+    zeebeIndexAdapter.index(asZeebeEntry(2, 5), 128);
+    zeebeIndexAdapter.index(asZeebeEntry(3, 10), 192);
+
+    // when
+    zeebeIndexAdapter.index(asZeebeEntry(2, 7), 128);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupPosition(6)).isEqualTo(1);
+    assertThat(zeebeIndexAdapter.lookupPosition(7)).isEqualTo(2);
+    assertThat(zeebeIndexAdapter.lookupPosition(10)).isEqualTo(2);
+    assertThat(zeebeIndexAdapter.lookup(3).index()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRecoverIndexFromFile() {
+    // given - every 5 index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex segmentIndex = newSegmentIndex(zeebeIndexAdapter, 1, 1);
+    segmentIndex.index(asZeebeEntry(5, 20), 64);
+    segmentIndex.index(asZeebeEntry(10, 45), 128);
+    segmentIndex.close();
+
+    // when
+    final ZeebeIndexAdapter recoveredIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    newSegmentIndex(recoveredIndexAdapter, 1, 1);
+
+    // then
+    assertThat(recoveredIndexAdapter.lookupPosition(31)).isEqualTo(5);
+    assertThat(recoveredIndexAdapter.lookupPosition(46)).isEqualTo(10);
+    assertThat(recoveredIndexAdapter.lookup(12).index()).isEqualTo(10);
+    assertThat(recoveredIndexAdapter.lookup(12).position()).isEqualTo(128);
+  }
+
+  @Test
+  public void shouldNotRecoverIndexOfOtherSegment() {
+    // given - every 5 index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    final JournalIndex segmentIndex = newSegmentIndex(zeebeIndexAdapter, 1, 1);
+    segmentIndex.index(asZeebeEntry(5, 20), 64);
+    segmentIndex.close();
+
+    // when - the segment was recreated with a different first index
+    final ZeebeIndexAdapter recoveredIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    newSegmentIndex(recoveredIndexAdapter, 1, 3);
+
+    // then
+    assertThat(recoveredIndexAdapter.lookupPosition(31)).isEqualTo(-1);
+    assertThat(recoveredIndexAdapter.lookup(12)).isNull();
+  }
+
+  private ZeebeIndexAdapter newIndexAdapter(final int density) {
+    final ZeebeIndexAdapter indexAdapter = ZeebeIndexAdapter.ofDensity(density);
+    newSegmentIndex(indexAdapter, 1, 1);
+    return indexAdapter;
+  }
+
+  private JournalIndex newSegmentIndex(
+      final ZeebeIndexAdapter indexAdapter, final long segmentId, final long firstIndex) {
+    final var segmentFile =
+        new JournalSegmentFile(
+            new File(temporaryFolder.getRoot(), "journal-" + segmentId + ".log"));
+    final var descriptor =
+        JournalSegmentDescriptor.builder()
+            .withId(segmentId)
+            .withIndex(firstIndex)
+            .withMaxSegmentSize(1024 * 1024)
+            .withMaxEntries(1024)
+            .build();
+    return indexAdapter.forSegment(segmentFile, descriptor);
+  }
+
   private static Indexed asZeebeEntry(final long index, final long lowestPos) {
     return new Indexed(
         index,
@@ -14,16 +14,35 @@ import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
+  private static final int[] EMPTY_KEY_INDEX = new int[0];
+  private static final int INITIAL_KEY_INDEX_CAPACITY = 8;
+
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> undeclaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>();
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table of the declared properties by their key, which is used to find the
+  // property of a decoded key; a slot contains the index of the property + 1, or 0 if it is empty
+  private int[] keyIndex = EMPTY_KEY_INDEX;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+
+    // keep the load factor below 0.5, such that the probe sequences are short
+    if (declaredProperties.size() * 2 > keyIndex.length) {
+      keyIndex = new int[Math.max(INITIAL_KEY_INDEX_CAPACITY, keyIndex.length * 2)];
+      for (int i = 0; i < declaredProperties.size(); i++) {
+        indexProperty(i);
+      }
+    } else {
+      indexProperty(declaredProperties.size() - 1);
+    }
+
     return this;
   }
 
@@ -90,17 +109,7 @@ public class ObjectValue extends BaseValue {
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
+      BaseProperty<? extends BaseValue> prop = getDeclaredProperty(decodedKey);
 
       if (prop == null) {
         prop = newUndeclaredProperty(decodedKey);
@@ -186,4 +195,57 @@ public class ObjectValue extends BaseValue {
     }
     return length;
   }
+
+  private void indexProperty(final int propertyIndex) {
+    final StringValue key = declaredProperties.get(propertyIndex).getKey();
+    final int mask = keyIndex.length - 1;
+
+    int slot = hashKey(key) & mask;
+    while (keyIndex[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    keyIndex[slot] = propertyIndex + 1;
+  }
+
+  private BaseProperty<? extends BaseValue> getDeclaredProperty(final StringValue key) {
+    if (declaredProperties.isEmpty()) {
+      return null;
+    }
+
+    final int mask = keyIndex.length - 1;
+
+    int slot = hashKey(key) & mask;
+    int propertyIndex;
+    while ((propertyIndex = keyIndex[slot]) != 0) {
+      final BaseProperty<? extends BaseValue> declaredProperty =
+          declaredProperties.get(propertyIndex - 1);
+      if (declaredProperty.getKey().equals(key)) {
+        return declaredProperty;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return null;
+  }
+
+  /**
+   * Hashes the length and the first, middle and last byte of the key, so the hash is computed in
+   * constant time. Keys with the same hash are compared completely by the lookup.
+   */
+  private static int hashKey(final StringValue key) {
+    final int length = key.getLength();
+    if (length == 0) {
+      return 0;
+    }
+
+    final DirectBuffer bytes = key.getValue();
+    int hash = length;
+    hash = 31 * hash + bytes.getByte(0);
+    hash = 31 * hash + bytes.getByte(length >> 1);
+    hash = 31 * hash + bytes.getByte(length - 1);
+
+    // spread the bits, since the lowest bits select the slot
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
 }
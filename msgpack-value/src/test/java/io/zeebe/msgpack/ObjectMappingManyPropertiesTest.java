@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.msgpack;
+
+import static io.zeebe.msgpack.MsgPackUtil.asMap;
+import static io.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.zeebe.msgpack.property.LongProperty;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ObjectMappingManyPropertiesTest {
+
+  private static final int PROPERTY_COUNT = 20;
+
+  // keys with the same length, first, middle and last byte
+  private static final String COLLIDING_KEY_1 = "aXcb";
+  private static final String COLLIDING_KEY_2 = "aYcb";
+  private static final String UNDECLARED_COLLIDING_KEY = "aZcb";
+
+  @Test
+  public void shouldDeserializePropertiesInAnyOrder() {
+    // given
+    final ManyPropertiesPOJO pojo = new ManyPropertiesPOJO();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(PROPERTY_COUNT + 2);
+
+              w.writeString(wrapString(COLLIDING_KEY_2));
+              w.writeInteger(200);
+
+              for (int i = PROPERTY_COUNT - 1; i >= 0; i--) {
+                w.writeString(wrapString("property" + i));
+                w.writeInteger(i);
+              }
+
+              w.writeString(wrapString(COLLIDING_KEY_1));
+              w.writeInteger(100);
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    for (int i = 0; i < PROPERTY_COUNT; i++) {
+      assertThat(pojo.properties[i].getValue()).isEqualTo(i);
+    }
+    assertThat(pojo.collidingProperty1.getValue()).isEqualTo(100);
+    assertThat(pojo.collidingProperty2.getValue()).isEqualTo(200);
+  }
+
+  @Test
+  public void shouldKeepUndeclaredPropertyWithCollidingKey() {
+    // given
+    final ManyPropertiesPOJO pojo = new ManyPropertiesPOJO();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              w.writeString(wrapString(UNDECLARED_COLLIDING_KEY));
+              w.writeInteger(300);
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.collidingProperty1.getValue()).isEqualTo(1);
+    assertThat(pojo.collidingProperty2.getValue()).isEqualTo(2);
+
+    final UnsafeBuffer resultBuffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(resultBuffer, 0);
+
+    final Map<String, Object> msgPackMap = asMap(resultBuffer, 0, resultBuffer.capacity());
+    assertThat(msgPackMap)
+        .hasSize(PROPERTY_COUNT + 3)
+        .contains(
+            entry(COLLIDING_KEY_1, 1L),
+            entry(COLLIDING_KEY_2, 2L),
+            entry(UNDECLARED_COLLIDING_KEY, 300L));
+  }
+
+  private static final class ManyPropertiesPOJO extends UnpackedObject {
+
+    private final LongProperty[] properties = new LongProperty[PROPERTY_COUNT];
+    private final LongProperty collidingProperty1 = new LongProperty(COLLIDING_KEY_1, 1);
+    private final LongProperty collidingProperty2 = new LongProperty(COLLIDING_KEY_2, 2);
+
+    private ManyPropertiesPOJO() {
+      for (int i = 0; i < PROPERTY_COUNT; i++) {
+        properties[i] = new LongProperty("property" + i, -1);
+        declareProperty(properties[i]);
+      }
+
+      declareProperty(collidingProperty1).declareProperty(collidingProperty2);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.data.job;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.BinaryProperty;
+import io.zeebe.msgpack.property.LongProperty;
+import org.agrona.DirectBuffer;
+
+/**
+ * Pushes jobs which are activated by a broker for a job stream to the gateway which registered the
+ * stream, see {@link JobStreamRegistration}. The jobs are the response of the job batch activate
+ * command, as it is sent to the gateway for an activate jobs request.
+ */
+public final class JobStreamPush extends UnpackedObject {
+
+  public static final String SUBJECT = "job-stream-push";
+
+  private final LongProperty streamIdProp = new LongProperty("streamId");
+  private final BinaryProperty responseProp = new BinaryProperty("response");
+
+  public JobStreamPush() {
+    declareProperty(streamIdProp).declareProperty(responseProp);
+  }
+
+  public long getStreamId() {
+    return streamIdProp.getValue();
+  }
+
+  public JobStreamPush setStreamId(final long streamId) {
+    streamIdProp.setValue(streamId);
+    return this;
+  }
+
+  public DirectBuffer getResponse() {
+    return responseProp.getValue();
+  }
+
+  public JobStreamPush setResponse(final DirectBuffer response) {
+    responseProp.setValue(response);
+    return this;
+  }
+}
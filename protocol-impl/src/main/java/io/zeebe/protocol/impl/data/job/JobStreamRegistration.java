@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.data.job;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.ArrayProperty;
+import io.zeebe.msgpack.property.IntegerProperty;
+import io.zeebe.msgpack.property.LongProperty;
+import io.zeebe.msgpack.property.StringProperty;
+import io.zeebe.msgpack.value.StringValue;
+import io.zeebe.msgpack.value.ValueArray;
+import org.agrona.DirectBuffer;
+
+/**
+ * Registers a blocked activate jobs request of a gateway as a job stream on the brokers. When jobs
+ * of the given type become available, a broker activates up to the maximum number of jobs of the
+ * request and pushes them once to the gateway, see {@link JobStreamPush}. The push completes the
+ * request, so the stream is removed afterwards.
+ */
+public final class JobStreamRegistration extends UnpackedObject {
+
+  public static final String REGISTER_SUBJECT = "job-stream-register";
+  public static final String REMOVE_SUBJECT = "job-stream-remove";
+
+  private final LongProperty streamIdProp = new LongProperty("streamId");
+  private final IntegerProperty maxJobsToActivateProp = new IntegerProperty("maxJobsToActivate");
+  private final StringProperty typeProp = new StringProperty("type");
+  private final StringProperty workerProp = new StringProperty("worker", "");
+  private final LongProperty timeoutProp = new LongProperty("timeout");
+  private final ArrayProperty<StringValue> variablesProp =
+      new ArrayProperty<>("variables", new StringValue());
+
+  public JobStreamRegistration() {
+    declareProperty(streamIdProp)
+        .declareProperty(maxJobsToActivateProp)
+        .declareProperty(typeProp)
+        .declareProperty(workerProp)
+        .declareProperty(timeoutProp)
+        .declareProperty(variablesProp);
+  }
+
+  public long getStreamId() {
+    return streamIdProp.getValue();
+  }
+
+  public JobStreamRegistration setStreamId(final long streamId) {
+    streamIdProp.setValue(streamId);
+    return this;
+  }
+
+  public int getMaxJobsToActivate() {
+    return maxJobsToActivateProp.getValue();
+  }
+
+  public JobStreamRegistration setMaxJobsToActivate(final int maxJobsToActivate) {
+    maxJobsToActivateProp.setValue(maxJobsToActivate);
+    return this;
+  }
+
+  public DirectBuffer getType() {
+    return typeProp.getValue();
+  }
+
+  public JobStreamRegistration setType(final DirectBuffer type) {
+    typeProp.setValue(type);
+    return this;
+  }
+
+  public DirectBuffer getWorker() {
+    return workerProp.getValue();
+  }
+
+  public JobStreamRegistration setWorker(final DirectBuffer worker) {
+    workerProp.setValue(worker);
+    return this;
+  }
+
+  public long getTimeout() {
+    return timeoutProp.getValue();
+  }
+
+  public JobStreamRegistration setTimeout(final long timeout) {
+    timeoutProp.setValue(timeout);
+    return this;
+  }
+
+  public ValueArray<StringValue> variables() {
+    return variablesProp;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.data.job;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.IntegerProperty;
+import io.zeebe.msgpack.property.StringProperty;
+import org.agrona.DirectBuffer;
+
+/**
+ * Notifies the gateways that jobs of a type are available on a partition, e.g. because a job is
+ * created or failed with retries left.
+ */
+public final class JobsAvailableNotification extends UnpackedObject {
+
+  public static final String TOPIC = "jobsAvailableOnPartition";
+
+  /**
+   * The topic of the previous release, on which the notification is only the job type. The brokers
+   * still publish on it for one release, so that gateways of the previous release keep getting
+   * notified during a rolling update.
+   */
+  public static final String LEGACY_TOPIC = "jobsAvailable";
+
+  private final IntegerProperty partitionIdProp = new IntegerProperty("partitionId");
+  private final StringProperty typeProp = new StringProperty("type");
+
+  public JobsAvailableNotification() {
+    declareProperty(partitionIdProp).declareProperty(typeProp);
+  }
+
+  public int getPartitionId() {
+    return partitionIdProp.getValue();
+  }
+
+  public JobsAvailableNotification setPartitionId(final int partitionId) {
+    partitionIdProp.setValue(partitionId);
+    return this;
+  }
+
+  public DirectBuffer getType() {
+    return typeProp.getValue();
+  }
+
+  public JobsAvailableNotification setType(final String type) {
+    typeProp.setValue(type);
+    return this;
+  }
+}
@@ -48,6 +48,7 @@ import org.slf4j.Logger;
 public final class BrokerInfo implements BufferReader, BufferWriter {
 
   private static final String BROKER_INFO_PROPERTY_NAME = "brokerInfo";
+  private static final String MAX_MESSAGE_SIZE_PROPERTY_NAME = "maxMessageSize";
   private static final DirectBuffer COMMAND_API_NAME = wrapString("commandApi");
 
   private static final Logger LOG = Loggers.PROTOCOL_LOGGER;
@@ -70,6 +71,8 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
   private int clusterSize;
   private int replicationFactor;
   private DirectBuffer version = new UnsafeBuffer();
+  // not encoded, but published as a separate member property, which older versions ignore
+  private int maxMessageSize;
 
   public BrokerInfo() {
     reset();
@@ -88,6 +91,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     replicationFactor = replicationFactorNullValue();
     addresses.clear();
     version.wrap(0, 0);
+    maxMessageSize = 0;
     clearPartitions();
 
     return this;
@@ -146,6 +150,19 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     this.version.wrap(buffer, offset, length);
   }
 
+  /**
+   * @return the max size of a message which the broker accepts, e.g. of the commands of a batch
+   *     request, or 0 if the broker doesn't publish it
+   */
+  public int getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
+  public BrokerInfo setMaxMessageSize(final int maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+    return this;
+  }
+
   public Map<DirectBuffer, DirectBuffer> getAddresses() {
     return addresses;
   }
@@ -338,7 +355,14 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
   public static BrokerInfo fromProperties(final Properties properties) {
     final String property = properties.getProperty(BROKER_INFO_PROPERTY_NAME);
     if (property != null) {
-      return readFromString(property);
+      final BrokerInfo brokerInfo = readFromString(property);
+
+      final String maxMessageSize = properties.getProperty(MAX_MESSAGE_SIZE_PROPERTY_NAME);
+      if (maxMessageSize != null) {
+        brokerInfo.setMaxMessageSize(Integer.parseInt(maxMessageSize));
+      }
+
+      return brokerInfo;
     } else {
       return null;
     }
@@ -355,6 +379,11 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
 
   public void writeIntoProperties(final Properties memberProperties) {
     memberProperties.setProperty(BROKER_INFO_PROPERTY_NAME, writeToString());
+
+    if (maxMessageSize > 0) {
+      memberProperties.setProperty(
+          MAX_MESSAGE_SIZE_PROPERTY_NAME, Integer.toString(maxMessageSize));
+    }
   }
 
   private String writeToString() {
@@ -408,6 +437,8 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
         + partitionLeaderTerms
         + ", version="
         + BufferUtil.bufferAsString(version)
+        + ", maxMessageSize="
+        + maxMessageSize
         + '}';
   }
 }
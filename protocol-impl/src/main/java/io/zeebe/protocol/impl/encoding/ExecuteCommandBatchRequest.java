@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import static io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.zeebe.protocol.record.MessageHeaderDecoder;
+import io.zeebe.protocol.record.MessageHeaderEncoder;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A batch of commands with the same value type and intent for one partition, e.g. to complete many
+ * jobs with one request.
+ */
+public final class ExecuteCommandBatchRequest implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchRequestDecoder bodyDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+  private final LongArrayList keys = new LongArrayList();
+  private final List<DirectBuffer> values = new ArrayList<>();
+  private int partitionId;
+  private ValueType valueType;
+  private Intent intent;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    valueType = ValueType.NULL_VAL;
+    intent = Intent.UNKNOWN;
+    keys.clear();
+    values.clear();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public ValueType getValueType() {
+    return valueType;
+  }
+
+  public ExecuteCommandBatchRequest setValueType(final ValueType valueType) {
+    this.valueType = valueType;
+    return this;
+  }
+
+  public Intent getIntent() {
+    return intent;
+  }
+
+  public ExecuteCommandBatchRequest setIntent(final Intent intent) {
+    this.intent = intent;
+    return this;
+  }
+
+  public ExecuteCommandBatchRequest addCommand(
+      final long key, final DirectBuffer buffer, final int offset, final int length) {
+    keys.addLong(key);
+    values.add(new UnsafeBuffer(buffer, offset, length));
+    return this;
+  }
+
+  public int getCommandsCount() {
+    return keys.size();
+  }
+
+  public long getKey(final int index) {
+    return keys.getLong(index);
+  }
+
+  public DirectBuffer getValue(final int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, int offset, final int length) {
+    reset();
+
+    final int frameEnd = offset + length;
+
+    headerDecoder.wrap(buffer, offset);
+
+    offset += headerDecoder.encodedLength();
+
+    bodyDecoder.wrap(buffer, offset, headerDecoder.blockLength(), headerDecoder.version());
+
+    partitionId = bodyDecoder.partitionId();
+    valueType = bodyDecoder.valueType();
+    intent = Intent.fromProtocolValue(valueType, bodyDecoder.intent());
+
+    final CommandsDecoder commandsDecoder = bodyDecoder.commands();
+    while (commandsDecoder.hasNext()) {
+      commandsDecoder.next();
+
+      final long key = commandsDecoder.key();
+      final DirectBuffer value = new UnsafeBuffer(0, 0);
+      commandsDecoder.wrapValue(value);
+
+      keys.addLong(key);
+      values.add(value);
+    }
+
+    assert bodyDecoder.limit() == frameEnd
+        : "Decoder read only to position "
+            + bodyDecoder.limit()
+            + " but expected "
+            + frameEnd
+            + " as final position";
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.sbeHeaderSize();
+
+    for (final DirectBuffer value : values) {
+      length += CommandsEncoder.sbeBlockLength() + CommandsEncoder.valueHeaderLength();
+      length += value.capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    offset += headerEncoder.encodedLength();
+
+    bodyEncoder
+        .wrap(buffer, offset)
+        .partitionId(partitionId)
+        .valueType(valueType)
+        .intent(intent.value());
+
+    final CommandsEncoder commandsEncoder = bodyEncoder.commandsCount(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      final DirectBuffer value = values.get(i);
+      commandsEncoder.next().key(keys.getLong(i)).putValue(value, 0, value.capacity());
+    }
+  }
+}
@@ -15,6 +15,7 @@ import io.zeebe.protocol.record.BrokerInfoEncoder;
 import io.zeebe.protocol.record.PartitionRole;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
@@ -103,6 +104,35 @@ public final class BrokerInfoTest {
     assertThat(brokerInfo.getPartitionRoles()).isEmpty();
   }
 
+  @Test
+  public void shouldWriteMaxMessageSizeIntoProperties() {
+    // given
+    final BrokerInfo brokerInfo = new BrokerInfo(1, "localhost:26501").setMaxMessageSize(1024);
+    final Properties properties = new Properties();
+
+    // when
+    brokerInfo.writeIntoProperties(properties);
+
+    // then
+    final BrokerInfo readBrokerInfo = BrokerInfo.fromProperties(properties);
+    assertThat(readBrokerInfo.getNodeId()).isEqualTo(1);
+    assertThat(readBrokerInfo.getMaxMessageSize()).isEqualTo(1024);
+  }
+
+  @Test
+  public void shouldReadUnknownMaxMessageSizeFromProperties() {
+    // given
+    final BrokerInfo brokerInfo = new BrokerInfo(1, "localhost:26501");
+    final Properties properties = new Properties();
+
+    // when
+    brokerInfo.writeIntoProperties(properties);
+
+    // then
+    final BrokerInfo readBrokerInfo = BrokerInfo.fromProperties(properties);
+    assertThat(readBrokerInfo.getMaxMessageSize()).isZero();
+  }
+
   private void encodeDecode(final BrokerInfo brokerInfo) {
     // encode
     final UnsafeBuffer buffer = new UnsafeBuffer(new byte[brokerInfo.getLength()]);
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ExecuteCommandBatchTest {
+
+  @Test
+  public void shouldEncodeDecodeRequest() {
+    // given
+    final DirectBuffer firstValue = wrapString("first");
+    final DirectBuffer secondValue = wrapString("second");
+
+    final ExecuteCommandBatchRequest request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(3)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETE)
+            .addCommand(12, firstValue, 0, firstValue.capacity())
+            .addCommand(34, secondValue, 0, secondValue.capacity());
+
+    // when
+    final ExecuteCommandBatchRequest decoded = new ExecuteCommandBatchRequest();
+    encodeDecode(request, decoded);
+
+    // then
+    assertThat(decoded.getPartitionId()).isEqualTo(3);
+    assertThat(decoded.getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(decoded.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    assertThat(decoded.getCommandsCount()).isEqualTo(2);
+    assertThat(decoded.getKey(0)).isEqualTo(12);
+    assertThat(decoded.getValue(0)).isEqualTo(firstValue);
+    assertThat(decoded.getKey(1)).isEqualTo(34);
+    assertThat(decoded.getValue(1)).isEqualTo(secondValue);
+  }
+
+  @Test
+  public void shouldEncodeDecodeEmptyRequest() {
+    // given
+    final ExecuteCommandBatchRequest request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(1)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.FAIL);
+
+    // when
+    final ExecuteCommandBatchRequest decoded = new ExecuteCommandBatchRequest();
+    encodeDecode(request, decoded);
+
+    // then
+    assertThat(decoded.getIntent()).isEqualTo(JobIntent.FAIL);
+    assertThat(decoded.getCommandsCount()).isZero();
+  }
+
+  @Test
+  public void shouldEncodeDecodeResponse() {
+    // given
+    final DirectBuffer firstResponse = wrapString("first");
+    final DirectBuffer secondResponse = wrapString("second");
+
+    final ExecuteCommandBatchResponse response =
+        new ExecuteCommandBatchResponse()
+            .setPartitionId(2)
+            .addResponse(firstResponse, 0, firstResponse.capacity())
+            .addResponse(secondResponse, 0, secondResponse.capacity());
+
+    // when
+    final ExecuteCommandBatchResponse decoded = new ExecuteCommandBatchResponse();
+    encodeDecode(response, decoded);
+
+    // then
+    assertThat(decoded.getPartitionId()).isEqualTo(2);
+    assertThat(decoded.getResponsesCount()).isEqualTo(2);
+    assertThat(decoded.getResponse(0)).isEqualTo(firstResponse);
+    assertThat(decoded.getResponse(1)).isEqualTo(secondResponse);
+  }
+
+  private static void encodeDecode(final BufferWriter writer, final BufferReader reader) {
+    final int length = writer.getLength();
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[length]);
+    writer.write(buffer, 0);
+
+    reader.wrap(buffer, 0, length);
+  }
+}
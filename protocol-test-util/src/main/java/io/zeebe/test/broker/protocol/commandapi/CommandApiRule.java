@@ -14,14 +14,19 @@ import static io.zeebe.test.util.TestUtil.waitUntil;
 import io.atomix.cluster.AtomixCluster;
 import io.atomix.cluster.Member;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.test.broker.protocol.MsgPackHelper;
+import io.zeebe.transport.ClientRequest;
 import io.zeebe.transport.ClientTransport;
 import io.zeebe.transport.TransportFactory;
+import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ControlledActorClock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -29,6 +34,8 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.junit.rules.ExternalResource;
 
@@ -99,6 +106,43 @@ public final class CommandApiRule extends ExternalResource {
     throw new IllegalStateException("Node " + nodeId + "not yet available");
   }
 
+  /** Sends the batch of commands to the broker and waits for the responses to all commands. */
+  public ExecuteCommandBatchResponse executeCommandBatch(final ExecuteCommandBatchRequest request) {
+    final var brokerInfo =
+        getBrokerInfoStream()
+            .filter(info -> info.getNodeId() == nodeId)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Node " + nodeId + "not yet available"));
+
+    final ClientRequest clientRequest =
+        new ClientRequest() {
+          @Override
+          public int getPartitionId() {
+            return request.getPartitionId();
+          }
+
+          @Override
+          public int getLength() {
+            return request.getLength();
+          }
+
+          @Override
+          public void write(final MutableDirectBuffer buffer, final int offset) {
+            request.write(buffer, offset);
+          }
+        };
+
+    final DirectBuffer responseBuffer =
+        createClientTransport()
+            .sendRequestWithRetry(
+                brokerInfo::getCommandApiAddress, clientRequest, Duration.ofSeconds(5))
+            .join();
+
+    final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+    response.wrap(BufferUtil.cloneBuffer(responseBuffer), 0, responseBuffer.capacity());
+    return response;
+  }
+
   private ClientTransport createClientTransport() {
     final var atomixCluster = fetchAtomix();
     return new TransportFactory(scheduler)
@@ -29,7 +29,6 @@ import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.client.api.response.DeploymentEvent;
 import io.zeebe.client.api.response.WorkflowInstanceEvent;
 import io.zeebe.client.api.worker.JobWorker;
-import io.zeebe.engine.processor.workflow.job.JobTimeoutTrigger;
 import io.zeebe.model.bpmn.Bpmn;
 import io.zeebe.model.bpmn.BpmnModelInstance;
 import io.zeebe.protocol.record.Record;
@@ -734,16 +733,13 @@ public final class BrokerReprocessingTest {
         clientRule.getClient().getConfiguration().getDefaultJobTimeout();
 
     final ControlledActorClock clock = brokerRule.getClock();
-    final Duration pollingInterval =
-        JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL
-            // this shouldn't be needed but is caused by the fact hat on reprocessing without
-            // a snapshot a new deadline is set for the job
-            // https://github.com/zeebe-io/zeebe/issues/1800
-            .plus(defaultJobTimeout);
+    // the job may be activated again with a new deadline on reprocessing without a snapshot
+    // https://github.com/zeebe-io/zeebe/issues/1800
+    final Duration timeout = defaultJobTimeout.plusMillis(1);
 
     TestUtil.waitUntil(
         () -> {
-          clock.addTime(pollingInterval);
+          clock.addTime(timeout);
           // not using RecordingExporter.jobRecords cause it is blocking
           return RecordingExporter.getRecords().stream()
               .filter(r -> r.getValueType() == ValueType.JOB)
@@ -9,11 +9,13 @@ package io.zeebe.test.exporter;
 
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.ExporterCfg;
+import io.zeebe.exporter.api.BatchExporter;
 import io.zeebe.exporter.api.Exporter;
 import io.zeebe.exporter.api.context.Configuration;
 import io.zeebe.exporter.api.context.Controller;
 import io.zeebe.protocol.record.Record;
 import io.zeebe.test.exporter.record.MockRecord;
+import io.zeebe.test.exporter.record.MockRecordBatch;
 import io.zeebe.test.exporter.record.MockRecordMetadata;
 import io.zeebe.test.exporter.record.MockRecordStream;
 import io.zeebe.test.util.TestConfigurationFactory;
@@ -146,13 +148,19 @@ public class ExporterTestHarness {
   }
 
   /**
-   * Exports the given record, updating the latest position to the position of the record.
+   * Exports the given record, updating the latest position to the position of the record. A {@link
+   * BatchExporter} receives the record as a batch of one record.
    *
    * @param record record to export
    * @return exported record
    */
   public MockRecord export(final MockRecord record) {
-    exporter.export(record);
+    if (exporter instanceof BatchExporter) {
+      // like the broker, pass the record to a batch exporter as a batch, with its raw buffers
+      ((BatchExporter) exporter).exportBatch(new MockRecordBatch(List.of(record)));
+    } else {
+      exporter.export(record);
+    }
     position = record.getPosition();
 
     return record;
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.test.exporter.record;
+
+import io.zeebe.exporter.api.batch.RecordBatch;
+import io.zeebe.exporter.api.batch.RecordView;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A batch of mock records which is passed to {@link
+ * io.zeebe.exporter.api.BatchExporter#exportBatch(RecordBatch)}. Like the batches of the broker,
+ * its views provide the raw buffers of the records, see {@link MockRecordView}.
+ */
+public class MockRecordBatch implements RecordBatch {
+
+  private final List<RecordView> records = new ArrayList<>();
+
+  public MockRecordBatch(final List<MockRecord> records) {
+    for (final MockRecord record : records) {
+      this.records.add(new MockRecordView(record));
+    }
+  }
+
+  @Override
+  public int size() {
+    return records.size();
+  }
+
+  @Override
+  public RecordView get(final int index) {
+    return records.get(index);
+  }
+
+  @Override
+  public long getLastPosition() {
+    return records.isEmpty() ? -1 : records.get(records.size() - 1).getPosition();
+  }
+
+  @Override
+  public Iterator<RecordView> iterator() {
+    return Collections.unmodifiableList(records).iterator();
+  }
+}
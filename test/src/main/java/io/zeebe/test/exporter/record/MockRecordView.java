@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.test.exporter.record;
+
+import io.zeebe.exporter.api.batch.RecordView;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A view on a mock record with raw buffers, encoded like the records of the log: the metadata with
+ * SBE as {@link RecordMetadata}, and the value with MessagePack from the JSON of the value.
+ */
+public class MockRecordView implements RecordView {
+
+  private final MockRecord record;
+  private final DirectBuffer metadataBuffer;
+  private final DirectBuffer valueBuffer;
+
+  public MockRecordView(final MockRecord record) {
+    this.record = record;
+    metadataBuffer = encodeMetadata(record);
+    valueBuffer = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(record.getValue().toJson()));
+  }
+
+  @Override
+  public long getPosition() {
+    return record.getPosition();
+  }
+
+  @Override
+  public long getSourceRecordPosition() {
+    return record.getSourceRecordPosition();
+  }
+
+  @Override
+  public long getKey() {
+    return record.getKey();
+  }
+
+  @Override
+  public long getTimestamp() {
+    return record.getTimestamp();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return record.getPartitionId();
+  }
+
+  @Override
+  public RecordType getRecordType() {
+    return record.getRecordType();
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return record.getValueType();
+  }
+
+  @Override
+  public Intent getIntent() {
+    return record.getIntent();
+  }
+
+  @Override
+  public DirectBuffer getMetadataBuffer() {
+    return metadataBuffer;
+  }
+
+  @Override
+  public DirectBuffer getValueBuffer() {
+    return valueBuffer;
+  }
+
+  @Override
+  public Record<?> getRecord() {
+    return record;
+  }
+
+  private static DirectBuffer encodeMetadata(final MockRecord record) {
+    final RecordMetadata metadata =
+        new RecordMetadata()
+            .recordType(record.getRecordType())
+            .valueType(record.getValueType())
+            .intent(record.getIntent())
+            .rejectionType(record.getRejectionType())
+            .rejectionReason(record.getRejectionReason())
+            .protocolVersion(Protocol.PROTOCOL_VERSION);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[metadata.getLength()]);
+    metadata.write(buffer, 0);
+    return buffer;
+  }
+}
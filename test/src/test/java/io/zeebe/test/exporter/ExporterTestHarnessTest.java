@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.test.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.exporter.api.BatchExporter;
+import io.zeebe.exporter.api.batch.RecordBatch;
+import io.zeebe.exporter.api.batch.RecordView;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.test.exporter.record.MockRecord;
+import io.zeebe.test.exporter.record.MockRecordMetadata;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class ExporterTestHarnessTest {
+
+  @Test
+  public void shouldExportRecordAsBatchWithRawBuffersToBatchExporter() throws Exception {
+    // given
+    final TestBatchExporter exporter = new TestBatchExporter();
+    final ExporterTestHarness harness = new ExporterTestHarness(exporter);
+    harness.configure("batch");
+    harness.open();
+
+    // when
+    final MockRecord record =
+        harness.export(
+            r ->
+                r.setMetadata(
+                    new MockRecordMetadata()
+                        .setRecordType(RecordType.EVENT)
+                        .setValueType(ValueType.JOB)
+                        .setIntent(JobIntent.CREATED)));
+
+    // then
+    assertThat(exporter.batches).hasSize(1);
+    final RecordBatch batch = exporter.batches.get(0);
+    assertThat(batch.size()).isEqualTo(1);
+    assertThat(batch.getLastPosition()).isEqualTo(record.getPosition());
+
+    final RecordView view = batch.get(0);
+    assertThat(view.getRecord()).isSameAs(record);
+
+    final RecordMetadata metadata = new RecordMetadata();
+    metadata.wrap(view.getMetadataBuffer(), 0, view.getMetadataBuffer().capacity());
+    assertThat(metadata.getRecordType()).isEqualTo(RecordType.EVENT);
+    assertThat(metadata.getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(metadata.getIntent()).isEqualTo(JobIntent.CREATED);
+
+    assertThat(MsgPackConverter.convertToJson(view.getValueBuffer()))
+        .isEqualTo(record.getValue().toJson());
+  }
+
+  private static final class TestBatchExporter implements BatchExporter {
+
+    private final List<RecordBatch> batches = new ArrayList<>();
+
+    @Override
+    public void export(final Record record) {
+      throw new UnsupportedOperationException("Expected the records to be exported in batches");
+    }
+
+    @Override
+    public void exportBatch(final RecordBatch batch) {
+      batches.add(batch);
+    }
+  }
+}
@@ -9,16 +9,62 @@ package io.zeebe.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.CRC32;
 
 public final class ChecksumUtil {
 
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
   private ChecksumUtil() {}
 
+  /** computes a checksum for the remaining bytes of the buffer, without changing its position */
+  public static long createChecksum(final ByteBuffer buffer) {
+    final CRC32 checksumGenerator = new CRC32();
+    checksumGenerator.update(buffer.duplicate());
+    return checksumGenerator.getValue();
+  }
+
+  /** computes a checksum for the file, without reading the whole file into memory */
+  public static long createChecksum(final Path path) throws IOException {
+    return createChecksum(path, 0, Long.MAX_VALUE);
+  }
+
+  /**
+   * computes a checksum for the given range of the file, without reading the whole range into
+   * memory; the range is cut off at the end of the file
+   */
+  public static long createChecksum(final Path path, final long offset, final long length)
+      throws IOException {
+    final CRC32 checksumGenerator = new CRC32();
+    final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long position = offset;
+      long remaining = length;
+      while (remaining > 0) {
+        buffer.limit((int) Math.min(buffer.capacity(), remaining));
+        final int read = channel.read(buffer, position);
+        if (read < 0) {
+          break;
+        }
+
+        buffer.flip();
+        checksumGenerator.update(buffer);
+        buffer.clear();
+        position += read;
+        remaining -= read;
+      }
+    }
+
+    return checksumGenerator.getValue();
+  }
+
   /** computes a checksum for the files, in the order they're presented */
   public static long createCombinedChecksum(final List<Path> paths) throws IOException {
     final CRC32 checksumGenerator = new CRC32();
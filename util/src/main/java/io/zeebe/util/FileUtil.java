@@ -18,6 +18,7 @@ import java.io.RandomAccessFile;
 import java.nio.channels.FileChannel;
 import java.nio.file.CopyOption;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
@@ -25,6 +26,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Predicate;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
@@ -118,17 +120,37 @@ public final class FileUtil {
 
   public static void copySnapshot(final Path runtimeDirectory, final Path snapshotDirectory)
       throws Exception {
-    Files.walkFileTree(snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory));
+    Files.walkFileTree(
+        snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory, file -> false));
+  }
+
+  /**
+   * Recreates the snapshot in the runtime directory, like {@link #copySnapshot(Path, Path)}, but
+   * hard links the files which are never modified instead of copying them. All other files are
+   * copied, as are all files if the directories are on different file systems.
+   *
+   * @param runtimeDirectory the directory to recreate the snapshot in
+   * @param snapshotDirectory the directory of the snapshot
+   * @param isImmutable returns true for the files of the snapshot which are never modified
+   */
+  public static void linkSnapshot(
+      final Path runtimeDirectory, final Path snapshotDirectory, final Predicate<Path> isImmutable)
+      throws IOException {
+    Files.walkFileTree(
+        snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory, isImmutable));
   }
 
   public static final class SnapshotCopier extends SimpleFileVisitor<Path> {
 
     private final Path targetPath;
     private final Path sourcePath;
+    private final Predicate<Path> isLinkable;
+    private boolean canLink = true;
 
-    SnapshotCopier(final Path sourcePath, final Path targetPath) {
+    SnapshotCopier(final Path sourcePath, final Path targetPath, final Predicate<Path> isLinkable) {
       this.sourcePath = sourcePath;
       this.targetPath = targetPath;
+      this.isLinkable = isLinkable;
     }
 
     @Override
@@ -142,6 +164,11 @@ public final class FileUtil {
         return SKIP_SUBTREE; // skip processing
       }
 
+      if (dir.equals(sourcePath)) {
+        // hard links can't span file systems
+        canLink = Files.getFileStore(dir).equals(Files.getFileStore(newDirectory));
+      }
+
       return CONTINUE;
     }
 
@@ -150,7 +177,11 @@ public final class FileUtil {
       final Path newFile = targetPath.resolve(sourcePath.relativize(file));
 
       try {
-        Files.copy(file, newFile);
+        if (canLink && isLinkable.test(file)) {
+          linkOrCopy(file, newFile);
+        } else {
+          Files.copy(file, newFile);
+        }
       } catch (final IOException ioException) {
         LOG.error("Problem on copying {} to {}.", file, newFile, ioException);
       }
@@ -158,6 +189,18 @@ public final class FileUtil {
       return CONTINUE;
     }
 
+    private void linkOrCopy(final Path file, final Path newFile) throws IOException {
+      try {
+        Files.createLink(newFile, file);
+      } catch (final FileAlreadyExistsException e) {
+        throw e;
+      } catch (final UnsupportedOperationException | FileSystemException e) {
+        LOG.debug("Failed to link {} to {}, copying all remaining files instead", file, newFile, e);
+        canLink = false;
+        Files.copy(file, newFile);
+      }
+    }
+
     @Override
     public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
       LOG.error("Problem on copying snapshot to runtime.", exc);
@@ -9,6 +9,8 @@ package io.zeebe.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import org.junit.Before;
@@ -95,4 +97,32 @@ public class ChecksumUtilTest {
     // then
     assertThat(actual).isNotEqualTo(expectedChecksum);
   }
+
+  @Test
+  public void shouldGenerateSameChecksumForFileAndBuffer() throws Exception {
+    // given
+    final var buffer = ByteBuffer.wrap(Files.readAllBytes(exampleFile));
+
+    // when
+    final var fileChecksum = ChecksumUtil.createChecksum(exampleFile);
+    final var bufferChecksum = ChecksumUtil.createChecksum(buffer);
+
+    // then
+    assertThat(fileChecksum).isEqualTo(bufferChecksum);
+    assertThat(buffer.position()).isZero();
+  }
+
+  @Test
+  public void shouldGenerateSameChecksumForFileRangeAndBuffer() throws Exception {
+    // given
+    final var content = Files.readAllBytes(exampleFile);
+    final var buffer = ByteBuffer.wrap(content, 2, content.length - 3);
+
+    // when
+    final var rangeChecksum = ChecksumUtil.createChecksum(exampleFile, 2, content.length - 3);
+    final var bufferChecksum = ChecksumUtil.createChecksum(buffer);
+
+    // then
+    assertThat(rangeChecksum).isEqualTo(bufferChecksum);
+  }
 }
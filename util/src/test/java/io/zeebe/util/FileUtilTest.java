@@ -12,7 +12,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -47,6 +49,25 @@ public final class FileUtilTest {
         .isInstanceOf(NoSuchFileException.class);
   }
 
+  @Test
+  public void shouldLinkImmutableFilesOfSnapshot() throws IOException {
+    // given
+    final Path snapshot = tempFolder.newFolder("snapshot").toPath();
+    final Path runtime = tempFolder.getRoot().toPath().resolve("runtime");
+    Files.writeString(snapshot.resolve("000001.sst"), "sst");
+    Files.writeString(snapshot.resolve("CURRENT"), "current");
+
+    // when
+    FileUtil.linkSnapshot(runtime, snapshot, file -> file.toString().endsWith(".sst"));
+
+    // then
+    assertThat(runtime.resolve("000001.sst")).hasContent("sst");
+    assertThat(runtime.resolve("CURRENT")).hasContent("current");
+    assertThat(Files.isSameFile(runtime.resolve("000001.sst"), snapshot.resolve("000001.sst")))
+        .isTrue();
+    assertThat(Files.isSameFile(runtime.resolve("CURRENT"), snapshot.resolve("CURRENT"))).isFalse();
+  }
+
   @Test
   public void shouldCreateParentDirectory() {
     // given
@@ -89,6 +89,18 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void whileTrue(KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family, starting at the given key or
+   * at the next greater key, if the given key doesn't exist. The ordering depends on the key. The
+   * visitor can indicate via the return value, whether the iteration should continue or not.
+   *
+   * <p>Similar to {@link #whileTrue(KeyValuePairVisitor)}.
+   *
+   * @param startAtKey the key to start the iteration at
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileTrue(KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the key-value pairs, which are stored in the column family. The ordering depends on the
    * key. The visitor can indicate via the return value, whether the iteration should continue or
@@ -52,4 +52,12 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<ColumnFamilyType>> extend
   void createSnapshot(File snapshotDir);
 
   DbContext createContext();
+
+  /**
+   * Samples the internal statistics of the database, e.g. the estimated count of keys per column
+   * family, and publishes them as metrics.
+   *
+   * @param partitionId the id of the partition, whose state is stored in the database
+   */
+  void exportMetrics(int partitionId);
 }
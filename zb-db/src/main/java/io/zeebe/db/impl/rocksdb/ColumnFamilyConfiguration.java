@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+/**
+ * Tunes a single column family. Options which are not set (i.e. null) fall back to the options of
+ * the configuration this one is merged into, see {@link #merge(ColumnFamilyConfiguration)}.
+ */
+public final class ColumnFamilyConfiguration {
+  private Integer prefixLength;
+  private Double bloomFilterBitsPerKey;
+  private Long writeBufferSize;
+  private Integer maxWriteBufferNumber;
+
+  /**
+   * @return the length of the fixed key prefix which is used for prefix seeks and prefix bloom
+   *     filters, or null if the keys of the column family have no fixed prefix
+   */
+  public Integer getPrefixLength() {
+    return prefixLength;
+  }
+
+  /**
+   * Sets the length of the fixed key prefix. Must not be greater than the shortest prefix the
+   * column family is iterated with, and must only be set for column families which are not iterated
+   * across prefixes in key order.
+   */
+  public ColumnFamilyConfiguration setPrefixLength(final Integer prefixLength) {
+    this.prefixLength = prefixLength;
+    return this;
+  }
+
+  /** @return the bits per key of the bloom filter, where 0 disables the bloom filter */
+  public Double getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public ColumnFamilyConfiguration setBloomFilterBitsPerKey(final Double bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  /** @return the max size of a single memtable in bytes */
+  public Long getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  public ColumnFamilyConfiguration setWriteBufferSize(final Long writeBufferSize) {
+    this.writeBufferSize = writeBufferSize;
+    return this;
+  }
+
+  /** @return the max count of memtables, including the ones which are flushed */
+  public Integer getMaxWriteBufferNumber() {
+    return maxWriteBufferNumber;
+  }
+
+  public ColumnFamilyConfiguration setMaxWriteBufferNumber(final Integer maxWriteBufferNumber) {
+    this.maxWriteBufferNumber = maxWriteBufferNumber;
+    return this;
+  }
+
+  /**
+   * Returns a new configuration, which uses the options of the given overrides where they are set
+   * and the options of this configuration otherwise.
+   *
+   * @param overrides the options which take precedence
+   * @return the merged configuration
+   */
+  public ColumnFamilyConfiguration merge(final ColumnFamilyConfiguration overrides) {
+    return new ColumnFamilyConfiguration()
+        .setPrefixLength(override(overrides.prefixLength, prefixLength))
+        .setBloomFilterBitsPerKey(override(overrides.bloomFilterBitsPerKey, bloomFilterBitsPerKey))
+        .setWriteBufferSize(override(overrides.writeBufferSize, writeBufferSize))
+        .setMaxWriteBufferNumber(override(overrides.maxWriteBufferNumber, maxWriteBufferNumber));
+  }
+
+  private static <T> T override(final T override, final T value) {
+    return override != null ? override : value;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyConfiguration{"
+        + "prefixLength="
+        + prefixLength
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", writeBufferSize="
+        + writeBufferSize
+        + ", maxWriteBufferNumber="
+        + maxWriteBufferNumber
+        + '}';
+  }
+}
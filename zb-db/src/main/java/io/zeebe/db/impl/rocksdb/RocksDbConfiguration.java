@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configures the databases which are created by a {@link ZeebeRocksDbFactory}: the memory budget
+ * which is shared by all of them, and the options of each column family.
+ */
+public final class RocksDbConfiguration {
+  public static final long DEFAULT_MEMORY_LIMIT = 512L * 1024 * 1024;
+  public static final double DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+
+  private final Map<String, ColumnFamilyConfiguration> columnFamilies = new HashMap<>();
+  private long memoryLimit = DEFAULT_MEMORY_LIMIT;
+
+  /**
+   * @return the max memory in bytes which is used by the block cache and the memtables of all
+   *     databases together
+   */
+  public long getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  public RocksDbConfiguration setMemoryLimit(final long memoryLimit) {
+    this.memoryLimit = memoryLimit;
+    return this;
+  }
+
+  /**
+   * Returns the options of the given column family, which are the options specific to it on top of
+   * the default options.
+   *
+   * @param name the name of the column family
+   * @return the options of the column family
+   */
+  public ColumnFamilyConfiguration getColumnFamily(final String name) {
+    final var defaults =
+        new ColumnFamilyConfiguration().setBloomFilterBitsPerKey(DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
+    return defaults.merge(columnFamilies.getOrDefault(name, new ColumnFamilyConfiguration()));
+  }
+
+  /** @return the column families with specific options, by name */
+  public Map<String, ColumnFamilyConfiguration> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  /**
+   * Sets options specific to the given column family, which take precedence over the options
+   * already set for it.
+   *
+   * @param name the name of the column family
+   * @param overrides the options to set
+   * @return this configuration
+   */
+  public RocksDbConfiguration overrideColumnFamily(
+      final String name, final ColumnFamilyConfiguration overrides) {
+    columnFamilies.merge(name, overrides, ColumnFamilyConfiguration::merge);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksDbConfiguration{"
+        + "memoryLimit="
+        + memoryLimit
+        + ", columnFamilies="
+        + columnFamilies
+        + '}';
+  }
+}
@@ -14,30 +14,79 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
-
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Creates RocksDB databases, with one column family per constant of the given enum.
+ *
+ * <p>All databases of a factory share one LRU block cache, which also accounts for the memory of
+ * their memtables, such that they don't exceed the configured memory limit together.
+ */
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  // the share of the memory limit which can be used by memtables before they are flushed
+  private static final double WRITE_BUFFER_MEMORY_RATIO = 0.25;
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
   static {
     RocksDB.loadLibrary();
   }
 
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
+  private final RocksDbConfiguration configuration;
+  private final Cache blockCache;
+  private final WriteBufferManager writeBufferManager;
 
-  private ZeebeRocksDbFactory(final Class<ColumnFamilyType> columnFamilyTypeClass) {
+  private ZeebeRocksDbFactory(
+      final Class<ColumnFamilyType> columnFamilyTypeClass,
+      final RocksDbConfiguration configuration) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
+    this.configuration = configuration;
+
+    final var columnFamilyNames =
+        Arrays.stream(columnFamilyTypeClass.getEnumConstants())
+            .map(Enum::name)
+            .collect(Collectors.toSet());
+    for (final var name : configuration.getColumnFamilies().keySet()) {
+      if (!columnFamilyNames.contains(name)) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected configured column family to be one of %s, but was '%s'",
+                columnFamilyNames, name));
+      }
+    }
+
+    // the cache and the manager are shared by all databases, and live as long as the factory
+    blockCache = new LRUCache(configuration.getMemoryLimit());
+    writeBufferManager =
+        new WriteBufferManager(
+            (long) (configuration.getMemoryLimit() * WRITE_BUFFER_MEMORY_RATIO), blockCache);
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass);
+    return newFactory(columnFamilyTypeClass, new RocksDbConfiguration());
+  }
+
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, configuration);
   }
 
   @Override
@@ -45,29 +94,33 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return open(
         pathName,
         Arrays.stream(columnFamilyTypeClass.getEnumConstants())
-            .map(c -> c.name().toLowerCase().getBytes())
+            .map(Enum::name)
             .collect(Collectors.toList()));
   }
 
   private ZeebeTransactionDb<ColumnFamilyType> open(
-      final File dbDirectory, final List<byte[]> columnFamilyNames) {
+      final File dbDirectory, final List<String> columnFamilyNames) {
 
     final ZeebeTransactionDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
 
       // column family options have to be closed as last
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
-
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(columnFamilyNames, closeables);
+      // detailed timers are not collected, as they are too costly on the write path
+      final Statistics statistics = new Statistics();
+      statistics.setStatsLevel(StatsLevel.EXCEPT_DETAILED_TIMERS);
+      closeables.add(statistics);
+
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
               .setErrorIfExists(false)
               .setCreateIfMissing(true)
-              .setParanoidChecks(true);
+              .setParanoidChecks(true)
+              .setWriteBufferManager(writeBufferManager)
+              .setStatistics(statistics);
       closeables.add(dbOptions);
 
       db =
@@ -76,7 +129,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
               dbDirectory.getAbsolutePath(),
               columnFamilyDescriptors,
               closeables,
-              columnFamilyTypeClass);
+              columnFamilyTypeClass,
+              statistics);
 
     } catch (final RocksDBException e) {
       throw new RuntimeException("Unexpected error occurred trying to open the database", e);
@@ -85,22 +139,58 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      final List<byte[]> columnFamilyNames, final ColumnFamilyOptions columnFamilyOptions) {
+      final List<String> columnFamilyNames, final List<AutoCloseable> closeables) {
     final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
 
     if (columnFamilyNames != null && !columnFamilyNames.isEmpty()) {
-      for (final byte[] name : columnFamilyNames) {
+      for (final String name : columnFamilyNames) {
+        final ColumnFamilyOptions columnFamilyOptions =
+            createColumnFamilyOptions(configuration.getColumnFamily(name), closeables);
         final ColumnFamilyDescriptor columnFamilyDescriptor =
-            new ColumnFamilyDescriptor(name, columnFamilyOptions);
+            new ColumnFamilyDescriptor(name.toLowerCase().getBytes(), columnFamilyOptions);
         columnFamilyDescriptors.add(columnFamilyDescriptor);
       }
     }
     return columnFamilyDescriptors;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions() {
-    // Options which are used on all column families
-    return new ColumnFamilyOptions()
-        .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst);
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final ColumnFamilyConfiguration columnFamily, final List<AutoCloseable> closeables) {
+    // index and filter blocks are cached as well, to stay within the memory limit
+    final var tableConfig =
+        new BlockBasedTableConfig()
+            .setBlockCache(blockCache)
+            .setCacheIndexAndFilterBlocks(true)
+            .setPinL0FilterAndIndexBlocksInCache(true);
+
+    final var bloomFilterBitsPerKey = columnFamily.getBloomFilterBitsPerKey();
+    if (bloomFilterBitsPerKey != null && bloomFilterBitsPerKey > 0) {
+      final var bloomFilter = new BloomFilter(bloomFilterBitsPerKey, false);
+      closeables.add(bloomFilter);
+      tableConfig.setFilterPolicy(bloomFilter);
+    }
+
+    final var options =
+        new ColumnFamilyOptions()
+            .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
+            .setTableFormatConfig(tableConfig);
+    closeables.add(options);
+
+    final var prefixLength = columnFamily.getPrefixLength();
+    if (prefixLength != null && prefixLength > 0) {
+      options
+          .useFixedLengthPrefixExtractor(prefixLength)
+          .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+    }
+
+    if (columnFamily.getWriteBufferSize() != null) {
+      options.setWriteBufferSize(columnFamily.getWriteBufferSize());
+    }
+
+    if (columnFamily.getMaxWriteBufferNumber() != null) {
+      options.setMaxWriteBufferNumber(columnFamily.getMaxWriteBufferNumber());
+    }
+
+    return options;
   }
 }
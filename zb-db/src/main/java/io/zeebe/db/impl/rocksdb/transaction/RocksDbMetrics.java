@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import io.prometheus.client.Gauge;
+import io.zeebe.db.impl.rocksdb.Loggers;
+import java.util.Locale;
+import java.util.Map;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+import org.slf4j.Logger;
+
+/**
+ * Samples the properties of each column family and the statistics of a RocksDB instance, and
+ * publishes them as gauges. The statistics are cumulative since the database was opened.
+ */
+final class RocksDbMetrics {
+
+  /** The properties which are sampled per column family, see {@link RocksDB#getLongProperty}. */
+  static final String[] COLUMN_FAMILY_PROPERTIES = {
+    "rocksdb.estimate-num-keys",
+    "rocksdb.cur-size-all-mem-tables",
+    "rocksdb.live-sst-files-size",
+    "rocksdb.estimate-live-data-size",
+    "rocksdb.estimate-pending-compaction-bytes",
+    "rocksdb.num-immutable-mem-table",
+    "rocksdb.num-running-flushes",
+    "rocksdb.num-running-compactions",
+    "rocksdb.actual-delayed-write-rate",
+    "rocksdb.is-write-stopped"
+  };
+
+  /**
+   * The tickers which are sampled from the statistics; the write amplification is the ratio of the
+   * flushed and compacted bytes to the written bytes.
+   */
+  static final TickerType[] TICKERS = {
+    TickerType.BLOCK_CACHE_HIT,
+    TickerType.BLOCK_CACHE_MISS,
+    TickerType.BLOOM_FILTER_USEFUL,
+    TickerType.MEMTABLE_HIT,
+    TickerType.MEMTABLE_MISS,
+    TickerType.BYTES_WRITTEN,
+    TickerType.BYTES_READ,
+    TickerType.FLUSH_WRITE_BYTES,
+    TickerType.COMPACT_READ_BYTES,
+    TickerType.COMPACT_WRITE_BYTES,
+    TickerType.STALL_MICROS
+  };
+
+  private static final Gauge COLUMN_FAMILY_PROPERTY =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_column_family_property")
+          .help("Properties of the RocksDB column families, e.g. the estimated count of keys")
+          .labelNames("partition", "columnFamily", "property")
+          .register();
+
+  private static final Gauge STATISTICS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_statistics")
+          .help("Cumulative statistics of the RocksDB instance, e.g. the block cache hits")
+          .labelNames("partition", "ticker")
+          .register();
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+
+  private final String partitionIdLabel;
+  private final RocksDB db;
+  private final Map<String, ColumnFamilyHandle> columnFamilies;
+  private final Statistics statistics;
+
+  RocksDbMetrics(
+      final int partitionId,
+      final RocksDB db,
+      final Map<String, ColumnFamilyHandle> columnFamilies,
+      final Statistics statistics) {
+    partitionIdLabel = String.valueOf(partitionId);
+    this.db = db;
+    this.columnFamilies = columnFamilies;
+    this.statistics = statistics;
+  }
+
+  void export() {
+    try {
+      exportColumnFamilyProperties();
+    } catch (final RocksDBException e) {
+      LOG.debug("Failed to sample the properties of the column families", e);
+    }
+
+    if (statistics != null) {
+      exportStatistics();
+    }
+  }
+
+  /** Removes the gauges of the partition, such that a closed database isn't reported anymore. */
+  void close() {
+    for (final var columnFamilyLabel : columnFamilies.keySet()) {
+      for (final String property : COLUMN_FAMILY_PROPERTIES) {
+        COLUMN_FAMILY_PROPERTY.remove(partitionIdLabel, columnFamilyLabel, property);
+      }
+    }
+
+    if (statistics != null) {
+      for (final TickerType ticker : TICKERS) {
+        STATISTICS.remove(partitionIdLabel, ticker.name().toLowerCase(Locale.ROOT));
+      }
+    }
+  }
+
+  private void exportColumnFamilyProperties() throws RocksDBException {
+    for (final var columnFamily : columnFamilies.entrySet()) {
+      final var columnFamilyLabel = columnFamily.getKey();
+      for (final String property : COLUMN_FAMILY_PROPERTIES) {
+        final long value = db.getLongProperty(columnFamily.getValue(), property);
+        COLUMN_FAMILY_PROPERTY.labels(partitionIdLabel, columnFamilyLabel, property).set(value);
+      }
+    }
+  }
+
+  private void exportStatistics() {
+    for (final TickerType ticker : TICKERS) {
+      STATISTICS
+          .labels(partitionIdLabel, ticker.name().toLowerCase(Locale.ROOT))
+          .set(statistics.getTickerCount(ticker));
+    }
+  }
+}
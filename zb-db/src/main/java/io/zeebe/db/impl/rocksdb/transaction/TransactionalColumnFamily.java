@@ -84,6 +84,12 @@ class TransactionalColumnFamily<
     whileTrue(context, visitor);
   }
 
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    transactionDb.whileTrue(handle, context, startAtKey, keyInstance, valueInstance, visitor);
+  }
+
   @Override
   public void whileTrue(
       final DbContext context,
@@ -21,7 +21,9 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -36,6 +38,7 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
+import org.rocksdb.Statistics;
 import org.rocksdb.Transaction;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
@@ -52,22 +55,30 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
+  private final ReadOptions totalOrderReadOptions;
+  private final Statistics statistics;
   private final WriteOptions defaultWriteOptions;
+  private RocksDbMetrics metrics;
 
   protected ZeebeTransactionDb(
       final OptimisticTransactionDB optimisticTransactionDB,
       final EnumMap<ColumnFamilyNames, Long> columnFamilyMap,
       final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap,
-      final List<AutoCloseable> closables) {
+      final List<AutoCloseable> closables,
+      final Statistics statistics) {
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.columnFamilyMap = columnFamilyMap;
     this.handelToEnumMap = handelToEnumMap;
     this.closables = closables;
+    this.statistics = statistics;
 
     prefixReadOptions = new ReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
+    // iterating over a whole column family must not be restricted by its prefix extractor
+    totalOrderReadOptions = new ReadOptions().setTotalOrderSeek(true);
+    closables.add(totalOrderReadOptions);
     defaultWriteOptions = new WriteOptions();
     closables.add(defaultWriteOptions);
   }
@@ -78,7 +89,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final String path,
           final List<ColumnFamilyDescriptor> columnFamilyDescriptors,
           final List<AutoCloseable> closables,
-          final Class<ColumnFamilyNames> columnFamilyTypeClass)
+          final Class<ColumnFamilyNames> columnFamilyTypeClass,
+          final Statistics statistics)
           throws RocksDBException {
     final EnumMap<ColumnFamilyNames, Long> columnFamilyMap = new EnumMap<>(columnFamilyTypeClass);
 
@@ -97,7 +109,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     }
 
     return new ZeebeTransactionDb<>(
-        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, closables);
+        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, closables, statistics);
   }
 
   private static long getNativeHandle(final RocksObject object) {
@@ -123,6 +135,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return new TransactionalColumnFamily<>(this, columnFamily, context, keyInstance, valueInstance);
   }
 
+  @Override
+  public void exportMetrics(final int partitionId) {
+    if (metrics == null) {
+      final Map<String, ColumnFamilyHandle> columnFamilies = new HashMap<>();
+      columnFamilyMap.forEach(
+          (columnFamily, handle) ->
+              columnFamilies.put(columnFamily.name(), handelToEnumMap.get(handle)));
+      metrics =
+          new RocksDbMetrics(partitionId, optimisticTransactionDB, columnFamilies, statistics);
+    }
+
+    metrics.export();
+  }
+
   @Override
   public void createSnapshot(final File snapshotDir) {
     try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
@@ -269,7 +295,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
             for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
               context.wrapKeyView(iterator.key());
               context.wrapValueView(iterator.value());
@@ -289,7 +315,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
             boolean shouldVisitNext = true;
             for (iterator.seekToFirst(); iterator.isValid() && shouldVisitNext; iterator.next()) {
               shouldVisitNext = visit(context, keyInstance, valueInstance, visitor, iterator);
@@ -298,6 +324,37 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         });
   }
 
+  public <KeyType extends DbKey, ValueType extends DbValue> void whileTrue(
+      final long columnFamilyHandle,
+      final DbContext context,
+      final KeyType startAtKey,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    context.withPrefixKeyBuffer(
+        startAtKeyBuffer ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
+                    startAtKey.write(startAtKeyBuffer, 0);
+
+                    boolean shouldVisitNext = true;
+                    for (RocksDbInternal.seek(
+                            iterator,
+                            getNativeHandle(iterator),
+                            startAtKeyBuffer.byteArray(),
+                            startAtKey.getLength());
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      shouldVisitNext =
+                          visit(context, keyInstance, valueInstance, visitor, iterator);
+                    }
+                  }
+                }));
+  }
+
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
       final long columnFamilyHandle,
       final DbContext context,
@@ -393,7 +450,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
             iterator.seekToFirst();
             final boolean hasEntry = iterator.isValid();
             isEmpty.set(!hasEntry);
@@ -404,6 +461,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   @Override
   public void close() {
+    if (metrics != null) {
+      metrics.close();
+      metrics = null;
+    }
+
     // Correct order of closing
     // 1. transaction
     // 2. options
@@ -8,11 +8,17 @@
 package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -58,4 +64,66 @@ public final class ZeebeRocksDbFactoryTest {
     firstDb.close();
     secondDb.close();
   }
+
+  @Test
+  public void shouldRejectOptionsOfUnknownColumnFamily() {
+    // given
+    final RocksDbConfiguration configuration =
+        new RocksDbConfiguration()
+            .overrideColumnFamily("UNKNOWN", new ColumnFamilyConfiguration().setPrefixLength(8));
+
+    // when - then
+    assertThatThrownBy(
+            () -> ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class, configuration))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("UNKNOWN");
+  }
+
+  @Test
+  public void shouldIterateOverColumnFamilyWithPrefixExtractor() throws Exception {
+    // given
+    final RocksDbConfiguration configuration =
+        new RocksDbConfiguration()
+            .setMemoryLimit(16 * 1024 * 1024)
+            .overrideColumnFamily(
+                DefaultColumnFamily.DEFAULT.name(),
+                new ColumnFamilyConfiguration().setPrefixLength(Long.BYTES));
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class, configuration);
+
+    try (final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(temporaryFolder.newFolder())) {
+      final DbLong firstKey = new DbLong();
+      final DbLong secondKey = new DbLong();
+      final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(firstKey, secondKey);
+      final DbLong value = new DbLong();
+      final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily =
+          db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+
+      for (long prefix = 1; prefix <= 3; prefix++) {
+        for (long suffix = 1; suffix <= 2; suffix++) {
+          firstKey.wrapLong(prefix);
+          secondKey.wrapLong(suffix);
+          value.wrapLong(prefix * 10 + suffix);
+          columnFamily.put(key, value);
+        }
+      }
+
+      // when
+      final List<Long> prefixedValues = new ArrayList<>();
+      firstKey.wrapLong(2);
+      columnFamily.whileEqualPrefix(
+          firstKey,
+          (k, v) -> {
+            prefixedValues.add(v.getValue());
+          });
+
+      final List<Long> allValues = new ArrayList<>();
+      columnFamily.forEach(v -> allValues.add(v.getValue()));
+
+      // then
+      assertThat(prefixedValues).containsExactly(21L, 22L);
+      assertThat(allValues).containsExactly(11L, 12L, 21L, 22L, 31L, 32L);
+      assertThat(columnFamily.isEmpty()).isFalse();
+    }
+  }
 }
@@ -9,6 +9,7 @@ package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.prometheus.client.CollectorRegistry;
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
@@ -113,4 +114,67 @@ public final class ZeebeRocksDbTest {
     assertThat(dbString).isNotNull();
     assertThat(dbString.toString()).isEqualTo("bar");
   }
+
+  @Test
+  public void shouldExportMetrics() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class);
+    final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(temporaryFolder.newFolder());
+
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    columnFamily.put(key, value);
+
+    // when
+    db.exportMetrics(123);
+
+    // then
+    final Double estimatedKeys =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_column_family_property",
+            new String[] {"partition", "columnFamily", "property"},
+            new String[] {"123", "DEFAULT", "rocksdb.estimate-num-keys"});
+    assertThat(estimatedKeys).isEqualTo(1.0);
+
+    final Double bytesWritten =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_statistics",
+            new String[] {"partition", "ticker"},
+            new String[] {"123", "bytes_written"});
+    assertThat(bytesWritten).isPositive();
+
+    db.close();
+  }
+
+  @Test
+  public void shouldRemoveMetricsOnClose() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class);
+    final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(temporaryFolder.newFolder());
+    db.exportMetrics(456);
+
+    // when
+    db.close();
+
+    // then
+    final Double estimatedKeys =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_column_family_property",
+            new String[] {"partition", "columnFamily", "property"},
+            new String[] {"456", "DEFAULT", "rocksdb.estimate-num-keys"});
+    assertThat(estimatedKeys).isNull();
+
+    final Double bytesWritten =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_statistics",
+            new String[] {"partition", "ticker"},
+            new String[] {"456", "bytes_written"});
+    assertThat(bytesWritten).isNull();
+  }
 }